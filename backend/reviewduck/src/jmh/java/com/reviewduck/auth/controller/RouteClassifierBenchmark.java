@@ -0,0 +1,60 @@
+package com.reviewduck.auth.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * 인증 없이 허용할 요청인지 판별하는 비용을 실제 요청과 비슷한 경로 구성으로 잰다.
+ * 허용되는 조회, 허용되지 않는 조회, 쓰기 요청이 섞여 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteClassifierBenchmark {
+
+    private static final RouteClassifier CLASSIFIER = RouteClassifier.of("GET", URIPattern.values(), "member");
+
+    private HttpServletRequest[] requests;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        requests = new HttpServletRequest[] {
+            request("GET", "/api/reviews/public/timeline", "cursor", "abc"),
+            request("GET", "/api/reviews", "member", "1"),
+            request("GET", "/api/reviews", "page", "1"),
+            request("GET", "/api/review-forms/ABCD1234"),
+            request("GET", "/api/review-forms", "member", "1"),
+            request("GET", "/api/templates/trend"),
+            request("GET", "/api/members/12"),
+            request("GET", "/api/members/me"),
+            request("POST", "/api/reviews/3/likes"),
+            request("PUT", "/api/review-forms/ABCD1234")
+        };
+    }
+
+    @Benchmark
+    public boolean matchesMixedRequests() {
+        HttpServletRequest request = requests[index];
+        index = (index + 1) % requests.length;
+        return CLASSIFIER.matches(request);
+    }
+
+    private HttpServletRequest request(String method, String uri, String... params) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        for (int i = 0; i < params.length; i += 2) {
+            request.addParameter(params[i], params[i + 1]);
+        }
+        return request;
+    }
+}
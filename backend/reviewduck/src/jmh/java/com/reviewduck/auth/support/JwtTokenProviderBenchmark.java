@@ -0,0 +1,139 @@
+package com.reviewduck.auth.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.dto.MemberDto;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * access token 의 발급과 검증 비용, 인증된 요청에서 사용자 정보를 얻는 비용을 잰다.
+ * 사용자 정보를 얻는 두 경로는 인터셉터와 argument resolver 가 하던 일을 그대로 따른다.
+ * 이전 방식은 토큰을 세 번 파싱하고 매번 회원을 조회했고, 지금 방식은 검증 결과를 요청 속성과 캐시에서 재사용한다.
+ * 회원 조회는 MySQL 대신 H2 메모리 DB 를 사용하므로, 실제 차이는 측정값보다 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "cmV2aWV3ZHVjay1iZW5jaG1hcmstYWNjZXNzLWtleQ==";
+    private static final String REFRESH_SECRET_KEY = "cmV2aWV3ZHVjay1iZW5jaG1hcmstcmVmcmVzaC1rZXk=";
+    private static final long MEMBER_ID = 1L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Cache<Long, MemberDto> principalCache;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(60 * 60 * 1000, 14 * 24 * 60 * 60 * 1000L, SECRET_KEY,
+            REFRESH_SECRET_KEY, 10_000);
+        accessToken = jwtTokenProvider.createAccessToken(String.valueOf(MEMBER_ID));
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:member;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table member (id bigint primary key, social_id varchar(255), "
+            + "social_nickname varchar(255), nickname varchar(255), profile_url varchar(255))");
+        jdbcTemplate.update("insert into member values (?, '1', 'jason', '제이슨', 'testUrl1')", MEMBER_ID);
+
+        principalCache = Caffeine.newBuilder().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(String.valueOf(MEMBER_ID));
+    }
+
+    @Benchmark
+    public boolean validateSignature() {
+        return jwtTokenProvider.isInvalidToken(accessToken, SECRET_KEY);
+    }
+
+    @Benchmark
+    public long verifyCachedAccessToken() {
+        return jwtTokenProvider.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public MemberDto resolvePrincipalBefore(AuthorizedRequest authorizedRequest) {
+        MockHttpServletRequest request = authorizedRequest.request;
+
+        // AuthInterceptor: 서명 검증
+        validateAccessToken(AuthorizationExtractor.extract(request));
+
+        // AuthenticationPrincipalArgumentResolver: 서명 검증, payload 파싱, 회원 조회
+        String token = AuthorizationExtractor.extract(request);
+        validateAccessToken(token);
+        long memberId = Long.parseLong(
+            Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody().getSubject());
+        return MemberDto.from(findMemberById(memberId));
+    }
+
+    @Benchmark
+    public MemberDto resolvePrincipalAfter(AuthorizedRequest authorizedRequest) {
+        MockHttpServletRequest request = authorizedRequest.request;
+
+        // AuthInterceptor
+        AuthenticatedMember.resolveMemberId(request, jwtTokenProvider);
+
+        // AuthenticationPrincipalArgumentResolver: MemberService.findPrincipal 의 principalCacheStore
+        long memberId = AuthenticatedMember.resolveMemberId(request, jwtTokenProvider);
+        return principalCache.get(memberId, id -> MemberDto.from(findMemberById(id)));
+    }
+
+    private void validateAccessToken(String token) {
+        if (jwtTokenProvider.isInvalidToken(token, SECRET_KEY)) {
+            throw new AuthorizationException("인증되지 않은 사용자입니다.");
+        }
+    }
+
+    private Member findMemberById(long memberId) {
+        return jdbcTemplate.queryForObject(
+            "select id, social_id, social_nickname, nickname, profile_url from member where id = ?",
+            (rs, rowNum) -> new Member(rs.getLong("id"), rs.getString("social_id"), rs.getString("social_nickname"),
+                rs.getString("nickname"), rs.getString("profile_url")),
+            memberId);
+    }
+
+    /**
+     * 검증 결과를 요청 속성에 남기므로 매 호출마다 새 요청을 만든다. 두 경로 모두 같은 요청을 받는다.
+     */
+    @State(Scope.Thread)
+    public static class AuthorizedRequest {
+
+        private MockHttpServletRequest request;
+
+        @Setup(Level.Invocation)
+        public void setUp(JwtTokenProviderBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/api/reviews/1");
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + benchmark.accessToken);
+        }
+    }
+}
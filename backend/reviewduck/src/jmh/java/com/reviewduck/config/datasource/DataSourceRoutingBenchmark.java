@@ -0,0 +1,63 @@
+package com.reviewduck.config.datasource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 여러 요청 스레드가 동시에 라우팅 대상을 고를 때의 비용을 잰다.
+ * 커넥션은 열지 않으므로 대상 선택과 선택 횟수 기록만 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class DataSourceRoutingBenchmark {
+
+    private DataSourceSelector selector;
+
+    @Setup
+    public void setUp() {
+        selector = new DataSourceSelector("SOURCE", "REPLICA", "REPLICA");
+    }
+
+    @Benchmark
+    public String selectorGetOne() {
+        return selector.getOne();
+    }
+
+    @Benchmark
+    public String loadBalancerSelect(Balancer balancer) {
+        return balancer.loadBalancer.select();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Balancer {
+
+        @Param({"ROUND_ROBIN", "LEAST_OUTSTANDING", "EWMA_LATENCY"})
+        private RoutingStrategy strategy;
+
+        private ReplicaLoadBalancer loadBalancer;
+
+        @Setup
+        public void setUp() {
+            loadBalancer = new ReplicaLoadBalancer(
+                new RoutingTarget("SOURCE", new DriverManagerDataSource("jdbc:h2:mem:source"), 1),
+                List.of(new RoutingTarget("REPLICA1", new DriverManagerDataSource("jdbc:h2:mem:replica1"), 2),
+                    new RoutingTarget("REPLICA2", new DriverManagerDataSource("jdbc:h2:mem:replica2"), 2)),
+                strategy, dataSource -> 0, 5, new DataSourceMetrics(new SimpleMeterRegistry()));
+        }
+    }
+}
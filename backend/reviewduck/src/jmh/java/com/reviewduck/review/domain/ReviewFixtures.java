@@ -0,0 +1,55 @@
+package com.reviewduck.review.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+
+/**
+ * DB 없이 벤치마크에서 사용할 회고를 만든다. 저장된 엔티티처럼 보이도록 id 와 수정 시각을 직접 채운다.
+ */
+public class ReviewFixtures {
+
+    private static final Member MEMBER = new Member(1L, "1", "panda", "제이슨", "profileUrl");
+
+    public static ReviewForm createReviewForm(int questionCount) {
+        List<ReviewFormQuestionCreateDto> questions = IntStream.range(0, questionCount)
+            .mapToObj(i -> new ReviewFormQuestionCreateDto("질문" + i, "질문 설명" + i))
+            .collect(Collectors.toUnmodifiableList());
+
+        ReviewForm reviewForm = new ReviewForm(MEMBER, "회고 폼 제목", questions);
+        ReflectionTestUtils.setField(reviewForm, "id", 1L);
+        List<ReviewFormQuestion> reviewFormQuestions = reviewForm.getQuestions();
+        for (int i = 0; i < reviewFormQuestions.size(); i++) {
+            ReflectionTestUtils.setField(reviewFormQuestions.get(i), "id", (long)i + 1);
+        }
+        return reviewForm;
+    }
+
+    public static Review createReview(long id, ReviewForm reviewForm) {
+        List<QuestionAnswerCreateDto> answers = reviewForm.getQuestions().stream()
+            .map(question -> new QuestionAnswerCreateDto(question, question.getValue() + "에 대한 답변을 길게 적어 두었다."))
+            .collect(Collectors.toUnmodifiableList());
+
+        Review review = new Review("회고 제목" + id, MEMBER, reviewForm, answers, false);
+        ReflectionTestUtils.setField(review, "id", id);
+        ReflectionTestUtils.setField(review, "updatedAt", LocalDateTime.now());
+        List<QuestionAnswer> questionAnswers = review.getQuestionAnswers();
+        for (int i = 0; i < questionAnswers.size(); i++) {
+            ReflectionTestUtils.setField(questionAnswers.get(i), "id", id * 1000 + i);
+        }
+        return review;
+    }
+
+    public static List<Review> createReviews(int reviewCount, ReviewForm reviewForm) {
+        return IntStream.rangeClosed(1, reviewCount)
+            .mapToObj(id -> createReview(id, reviewForm))
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
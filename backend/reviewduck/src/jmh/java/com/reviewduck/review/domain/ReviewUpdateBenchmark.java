@@ -0,0 +1,67 @@
+package com.reviewduck.review.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.reviewduck.review.dto.service.QuestionAnswerUpdateDto;
+
+/**
+ * 답변이 많은 회고를 수정할 때 기존 답변을 찾아 고치고 순서를 맞추는 비용을 잰다.
+ * 매 호출마다 두 가지 수정 요청을 번갈아 적용해, 항상 답변 내용과 순서가 바뀌도록 한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewUpdateBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int answerCount;
+
+    private Review review;
+    private List<QuestionAnswerUpdateDto> unchanged;
+    private List<QuestionAnswerUpdateDto> editedAndReversed;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        ReviewForm reviewForm = ReviewFixtures.createReviewForm(answerCount);
+        review = ReviewFixtures.createReview(1L, reviewForm);
+
+        unchanged = review.getQuestionAnswers().stream()
+            .map(questionAnswer -> new QuestionAnswerUpdateDto(questionAnswer.getReviewFormQuestion(),
+                questionAnswer.getAnswerValue()))
+            .collect(Collectors.toUnmodifiableList());
+
+        List<QuestionAnswerUpdateDto> edited = new ArrayList<>();
+        for (QuestionAnswerUpdateDto dto : unchanged) {
+            edited.add(new QuestionAnswerUpdateDto(dto.getReviewFormQuestion(), dto.getAnswerValue() + " 수정"));
+        }
+        Collections.reverse(edited);
+        editedAndReversed = List.copyOf(edited);
+    }
+
+    @Benchmark
+    public Review updateUnchanged() {
+        review.update(false, "회고 제목", unchanged);
+        return review;
+    }
+
+    @Benchmark
+    public Review updateEditedAndReordered() {
+        toggle = !toggle;
+        review.update(false, "회고 제목", toggle ? editedAndReversed : unchanged);
+        return review;
+    }
+}
@@ -0,0 +1,77 @@
+package com.reviewduck.review.dto.controller.response;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.domain.ReviewFixtures;
+
+/**
+ * 회고 목록 한 페이지를 응답 DTO 로 바꾸고 JSON 으로 직렬화하는 비용을 잰다.
+ * 한 페이지의 회고 수는 기본 페이지 크기와 같고, 질문 수만 바꿔 가며 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewResponseBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final long MEMBER_ID = 1L;
+
+    @Param({"5", "20", "50"})
+    private int questionCount;
+
+    private List<Review> reviews;
+    private PageImpl<Review> page;
+    private TimelineReviewsResponse timelineResponse;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        reviews = ReviewFixtures.createReviews(PAGE_SIZE, ReviewFixtures.createReviewForm(questionCount));
+        page = new PageImpl<>(reviews, PageRequest.of(0, PAGE_SIZE), 1_000);
+        timelineResponse = TimelineReviewsResponse.of(page, MEMBER_ID);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<ReviewAbstractResponse> createResponseFrom(Display display) {
+        return ReviewDisplayBuilder.of(display.displayType).createResponseFrom(MEMBER_ID, reviews);
+    }
+
+    @Benchmark
+    public ReviewResponse reviewResponseOf() {
+        return ReviewResponse.of(MEMBER_ID, reviews.get(0));
+    }
+
+    @Benchmark
+    public TimelineReviewsResponse timelineResponseOf() {
+        return TimelineReviewsResponse.of(page, MEMBER_ID);
+    }
+
+    @Benchmark
+    public byte[] serializeTimelineResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(timelineResponse);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Display {
+
+        @Param({"list", "sheet"})
+        private String displayType;
+    }
+}
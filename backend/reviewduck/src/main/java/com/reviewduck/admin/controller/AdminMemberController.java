@@ -1,20 +1,31 @@
 package com.reviewduck.admin.controller;
 
+import static com.reviewduck.common.vo.PageConstant.*;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.reviewduck.admin.dto.AdminMemberDto;
 import com.reviewduck.admin.dto.response.AdminMemberResponse;
 import com.reviewduck.admin.dto.response.AdminMembersResponse;
+import com.reviewduck.admin.dto.response.AdminPageResponse;
+import com.reviewduck.admin.service.AdminExportService;
 import com.reviewduck.admin.service.AdminMemberService;
+import com.reviewduck.admin.vo.AdminPageCondition;
+import com.reviewduck.admin.vo.ExportFormat;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.common.util.Logging;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -27,25 +38,44 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminMemberController {
 
     private final AdminMemberService adminMemberService;
+    private final AdminExportService adminExportService;
 
     @Operation(summary = "가입한 사용자를 전원 조회한다")
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public AdminMembersResponse findAllMembers(@AdminAuthenticationPrincipal AdminMemberDto member) {
 
-        Logging.info("api/admin/members", "GET", "");
-
         return adminMemberService.findAllMembers();
     }
 
+    @Operation(summary = "가입한 사용자를 페이지 단위로 조회한다")
+    @GetMapping("/page")
+    @ResponseStatus(HttpStatus.OK)
+    public AdminPageResponse<AdminMemberResponse> findMemberPage(@AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return adminMemberService.findMemberPage(AdminPageCondition.of(cursor, size, null, from, to, null));
+    }
+
+    @Operation(summary = "가입한 사용자를 모두 내보낸다")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(@AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(value = "format", required = false) String format) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ExportResponses.of(exportFormat, "members",
+            outputStream -> adminExportService.exportMembers(exportFormat, outputStream));
+    }
+
     @Operation(summary = "단일 사용자를 조회한다")
     @GetMapping("/{memberId}")
     @ResponseStatus(HttpStatus.OK)
     public AdminMemberResponse findMember(@AdminAuthenticationPrincipal AdminMemberDto member,
         @PathVariable long memberId) {
 
-        Logging.info("api/admin/members" + memberId, "GET", "");
-
         return adminMemberService.findMember(memberId);
     }
 
@@ -55,8 +85,6 @@ public class AdminMemberController {
     @Transactional
     public void deleteMember(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long memberId) {
 
-        Logging.info("api/admin/members/" + memberId, "DELETE", "");
-
         adminMemberService.deleteMember(memberId);
     }
 }
@@ -1,8 +1,12 @@
 package com.reviewduck.admin.controller;
 
-import static com.reviewduck.common.util.Logging.*;
+import static com.reviewduck.common.vo.PageConstant.*;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,13 +15,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.reviewduck.admin.dto.AdminMemberDto;
+import com.reviewduck.admin.dto.response.AdminPageResponse;
+import com.reviewduck.admin.dto.response.AdminReviewInfoResponse;
 import com.reviewduck.admin.dto.response.AdminReviewResponse;
 import com.reviewduck.admin.dto.response.AdminReviewsResponse;
+import com.reviewduck.admin.service.AdminExportService;
 import com.reviewduck.admin.service.AdminReviewService;
+import com.reviewduck.admin.vo.AdminPageCondition;
+import com.reviewduck.admin.vo.ExportFormat;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.common.util.Logging;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -30,25 +39,48 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminReviewController {
 
     private final AdminReviewService adminReviewService;
+    private final AdminExportService adminExportService;
 
     @Operation(summary = "작성된 회고 답변을 모두 조회한다")
     @GetMapping("/reviews")
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewsResponse findAllReviews(@AdminAuthenticationPrincipal AdminMemberDto member) {
 
-        Logging.info("api/admin/reviews", "GET", "");
-
         return adminReviewService.findAllReviews();
     }
 
+    @Operation(summary = "작성된 회고 답변을 페이지 단위로 조회한다")
+    @GetMapping("/reviews/page")
+    @ResponseStatus(HttpStatus.OK)
+    public AdminPageResponse<AdminReviewInfoResponse> findReviewPage(
+        @AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
+        @RequestParam(required = false) Long memberId,
+        @RequestParam(required = false) Long reviewFormId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return adminReviewService.findReviewPage(AdminPageCondition.of(cursor, size, memberId, from, to, null),
+            reviewFormId);
+    }
+
+    @Operation(summary = "작성된 회고 답변을 모두 내보낸다")
+    @GetMapping("/reviews/export")
+    public ResponseEntity<StreamingResponseBody> exportReviews(@AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(value = "format", required = false) String format) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ExportResponses.of(exportFormat, "reviews",
+            outputStream -> adminExportService.exportReviews(exportFormat, outputStream));
+    }
+
     @Operation(summary = "단일 회고 답변을 조회한다")
     @GetMapping("/reviews/{reviewId}")
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewResponse findReview(@AdminAuthenticationPrincipal AdminMemberDto member,
         @PathVariable long reviewId) {
 
-        Logging.info("api/admin/reviews/" + reviewId, "GET", "");
-
         return adminReviewService.findReview(reviewId);
     }
 
@@ -58,8 +90,6 @@ public class AdminReviewController {
     public AdminReviewsResponse findMemberReviews(@AdminAuthenticationPrincipal AdminMemberDto member,
         @RequestParam(value = "memberId") long memberId) {
 
-        info("/api/reviews?memberId=" + memberId, "GET", "");
-
         return adminReviewService.findMemberReviews(memberId);
     }
 
@@ -69,8 +99,6 @@ public class AdminReviewController {
     @ResponseStatus(HttpStatus.OK)
     public void deleteReview(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long reviewId) {
 
-        Logging.info("api/admin/reviews/" + reviewId, "DELETE", "");
-
         adminReviewService.deleteReview(reviewId);
     }
 }
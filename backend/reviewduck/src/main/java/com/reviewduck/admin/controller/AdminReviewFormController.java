@@ -1,8 +1,12 @@
 package com.reviewduck.admin.controller;
 
-import static com.reviewduck.common.util.Logging.*;
+import static com.reviewduck.common.vo.PageConstant.*;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,13 +15,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.reviewduck.admin.dto.AdminMemberDto;
+import com.reviewduck.admin.dto.response.AdminPageResponse;
+import com.reviewduck.admin.dto.response.AdminReviewFormInfoResponse;
 import com.reviewduck.admin.dto.response.AdminReviewFormResponse;
 import com.reviewduck.admin.dto.response.AdminReviewFormsResponse;
+import com.reviewduck.admin.service.AdminExportService;
 import com.reviewduck.admin.service.AdminReviewFormService;
+import com.reviewduck.admin.vo.AdminPageCondition;
+import com.reviewduck.admin.vo.ExportFormat;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.common.util.Logging;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -30,25 +39,48 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminReviewFormController {
 
     private final AdminReviewFormService adminReviewFormService;
+    private final AdminExportService adminExportService;
 
     @Operation(summary = "생성된 회고 폼을 모두 조회한다")
     @GetMapping("/review-forms")
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewFormsResponse findAllReviewForms(@AdminAuthenticationPrincipal AdminMemberDto member) {
 
-        Logging.info("api/admin/review-forms", "GET", "");
-
         return adminReviewFormService.findAllReviewForms();
     }
 
+    @Operation(summary = "생성된 회고 폼을 페이지 단위로 조회한다")
+    @GetMapping("/review-forms/page")
+    @ResponseStatus(HttpStatus.OK)
+    public AdminPageResponse<AdminReviewFormInfoResponse> findReviewFormPage(
+        @AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
+        @RequestParam(required = false) Long memberId,
+        @RequestParam(required = false) Boolean isActive,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return adminReviewFormService.findReviewFormPage(
+            AdminPageCondition.of(cursor, size, memberId, from, to, isActive));
+    }
+
+    @Operation(summary = "생성된 회고 폼을 모두 내보낸다")
+    @GetMapping("/review-forms/export")
+    public ResponseEntity<StreamingResponseBody> exportReviewForms(@AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(value = "format", required = false) String format) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ExportResponses.of(exportFormat, "review-forms",
+            outputStream -> adminExportService.exportReviewForms(exportFormat, outputStream));
+    }
+
     @Operation(summary = "사용자가 작성한 회고 폼을 모두 조회한다.")
     @GetMapping(value = "/review-forms", params = "memberId")
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewFormsResponse findMemberReviewForms(@AdminAuthenticationPrincipal AdminMemberDto member,
         @RequestParam(value = "memberId") long memberId) {
 
-        info("/api/review-forms?memberId=" + memberId, "GET", "");
-
         return adminReviewFormService.findMemberReviewForms(memberId);
     }
 
@@ -56,11 +88,11 @@ public class AdminReviewFormController {
     @GetMapping("/review-forms/{reviewFormCode}")
     @ResponseStatus(HttpStatus.OK)
     public AdminReviewFormResponse findReviewForm(@AdminAuthenticationPrincipal AdminMemberDto member,
-        @PathVariable String reviewFormCode) {
+        @PathVariable String reviewFormCode,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int reviewSize) {
 
-        Logging.info("api/admin/review-forms/" + reviewFormCode, "GET", "");
-
-        return adminReviewFormService.findReviewForm(reviewFormCode);
+        return adminReviewFormService.findReviewForm(reviewFormCode,
+            AdminPageCondition.of(null, reviewSize, null, null, null, null));
     }
 
     @Transactional
@@ -69,8 +101,6 @@ public class AdminReviewFormController {
     @ResponseStatus(HttpStatus.OK)
     public void deleteReviewForm(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long reviewFormId) {
 
-        Logging.info("api/admin/review-forms/" + reviewFormId, "DELETE", "");
-
         adminReviewFormService.deleteReviewForm(reviewFormId);
     }
 }
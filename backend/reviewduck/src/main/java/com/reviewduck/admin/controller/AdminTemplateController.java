@@ -1,8 +1,12 @@
 package com.reviewduck.admin.controller;
 
-import static com.reviewduck.common.util.Logging.*;
+import static com.reviewduck.common.vo.PageConstant.*;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,11 +15,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.reviewduck.admin.dto.AdminMemberDto;
+import com.reviewduck.admin.dto.response.AdminPageResponse;
+import com.reviewduck.admin.dto.response.AdminTemplateInfoResponse;
 import com.reviewduck.admin.dto.response.AdminTemplateResponse;
 import com.reviewduck.admin.dto.response.AdminTemplatesResponse;
+import com.reviewduck.admin.service.AdminExportService;
 import com.reviewduck.admin.service.AdminTemplateService;
+import com.reviewduck.admin.vo.AdminPageCondition;
+import com.reviewduck.admin.vo.ExportFormat;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,25 +39,46 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminTemplateController {
 
     private final AdminTemplateService adminTemplateService;
+    private final AdminExportService adminExportService;
 
     @Operation(summary = "생성된 템플릿을 모두 조회한다")
     @GetMapping()
     @ResponseStatus(HttpStatus.OK)
     public AdminTemplatesResponse findAllTemplates(@AdminAuthenticationPrincipal AdminMemberDto member) {
 
-        info("api/admin/templates", "GET", "");
-
         return adminTemplateService.findAllTemplates();
     }
 
+    @Operation(summary = "생성된 템플릿을 페이지 단위로 조회한다")
+    @GetMapping("/page")
+    @ResponseStatus(HttpStatus.OK)
+    public AdminPageResponse<AdminTemplateInfoResponse> findTemplatePage(
+        @AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
+        @RequestParam(required = false) Long memberId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return adminTemplateService.findTemplatePage(AdminPageCondition.of(cursor, size, memberId, from, to, null));
+    }
+
+    @Operation(summary = "생성된 템플릿을 모두 내보낸다")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTemplates(@AdminAuthenticationPrincipal AdminMemberDto member,
+        @RequestParam(value = "format", required = false) String format) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return ExportResponses.of(exportFormat, "templates",
+            outputStream -> adminExportService.exportTemplates(exportFormat, outputStream));
+    }
+
     @Operation(summary = "단일 템플릿을 조회한다")
     @GetMapping("/{templateId}")
     @ResponseStatus(HttpStatus.OK)
     public AdminTemplateResponse findTemplate(@AdminAuthenticationPrincipal AdminMemberDto member,
         @PathVariable long templateId) {
 
-        info("api/admin/templates/" + templateId, "GET", "");
-
         return adminTemplateService.findTemplate(templateId);
     }
 
@@ -57,8 +88,6 @@ public class AdminTemplateController {
     public AdminTemplatesResponse findMemberTemplates(@AdminAuthenticationPrincipal AdminMemberDto member,
         @RequestParam(value = "memberId") long memberId) {
 
-        info("/api/templates?memberId=" + memberId, "GET", "");
-
         return adminTemplateService.findMemberTemplates(memberId);
     }
 
@@ -68,8 +97,6 @@ public class AdminTemplateController {
     @ResponseStatus(HttpStatus.OK)
     public void deleteTemplate(@AdminAuthenticationPrincipal AdminMemberDto member, @PathVariable long templateId) {
 
-        info("api/admin/templates/" + templateId, "DELETE", "");
-
         adminTemplateService.deleteTemplate(templateId);
     }
 }
@@ -0,0 +1,26 @@
+package com.reviewduck.admin.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.reviewduck.admin.vo.ExportFormat;
+
+final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> of(ExportFormat format, String name, StreamingResponseBody body) {
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename(format.getFileName(name))
+            .build();
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .body(body);
+    }
+}
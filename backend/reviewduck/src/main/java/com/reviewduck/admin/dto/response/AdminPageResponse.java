@@ -0,0 +1,32 @@
+package com.reviewduck.admin.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * nextCursor: 다음 페이지를 조회할 때 cursor 로 전달하는 값, 마지막 페이지이면 null
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class AdminPageResponse<T> {
+
+    private Long nextCursor;
+    private List<T> contents;
+
+    public static <T> AdminPageResponse<T> of(Slice<T> slice, Function<T, Long> idExtractor) {
+        List<T> contents = slice.getContent();
+
+        Long nextCursor = null;
+        if (slice.hasNext()) {
+            nextCursor = idExtractor.apply(contents.get(contents.size() - 1));
+        }
+
+        return new AdminPageResponse<>(nextCursor, contents);
+    }
+}
@@ -1,7 +1,6 @@
 package com.reviewduck.admin.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.reviewduck.review.domain.Answer;
 import com.reviewduck.review.domain.QuestionAnswer;
 import com.reviewduck.review.domain.ReviewFormQuestion;
 
@@ -22,8 +21,7 @@ public class AdminQuestionAnswerResponse {
 
     public static AdminQuestionAnswerResponse from(QuestionAnswer questionAnswer) {
         ReviewFormQuestion question = questionAnswer.getReviewFormQuestion();
-        Answer answer = questionAnswer.getAnswer();
         return new AdminQuestionAnswerResponse(question.getId(), question.getId(), question.getValue(),
-            answer.getId(), answer.getValue());
+            questionAnswer.getAnswerId(), questionAnswer.getAnswerValue());
     }
 }
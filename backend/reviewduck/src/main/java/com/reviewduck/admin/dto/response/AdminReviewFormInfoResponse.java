@@ -4,11 +4,10 @@ import java.time.LocalDateTime;
 
 import com.reviewduck.review.domain.ReviewForm;
 
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
 @Getter
 public class AdminReviewFormInfoResponse {
 
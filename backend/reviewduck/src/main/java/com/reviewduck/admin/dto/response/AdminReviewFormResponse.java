@@ -3,7 +3,6 @@ package com.reviewduck.admin.dto.response;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
 import com.reviewduck.review.dto.controller.response.ReviewFormQuestionResponse;
 
@@ -18,18 +17,17 @@ public class AdminReviewFormResponse {
     private AdminReviewFormInfoResponse reviewFormInfo;
     private List<ReviewFormQuestionResponse> questions;
     private List<AdminReviewInfoResponse> reviews;
+    private Long nextReviewCursor;
 
-    public static AdminReviewFormResponse of(ReviewForm reviewForm, List<Review> reviews) {
+    public static AdminReviewFormResponse of(ReviewForm reviewForm,
+        AdminPageResponse<AdminReviewInfoResponse> reviews) {
         AdminReviewFormInfoResponse reviewFormInfoResponse = AdminReviewFormInfoResponse.from(reviewForm);
 
         List<ReviewFormQuestionResponse> questionResponses = reviewForm.getQuestions().stream()
             .map(ReviewFormQuestionResponse::from)
             .collect(Collectors.toUnmodifiableList());
 
-        List<AdminReviewInfoResponse> reviewResponses = reviews.stream()
-            .map(AdminReviewInfoResponse::from)
-            .collect(Collectors.toUnmodifiableList());
-
-        return new AdminReviewFormResponse(reviewFormInfoResponse, questionResponses, reviewResponses);
+        return new AdminReviewFormResponse(reviewFormInfoResponse, questionResponses, reviews.getContents(),
+            reviews.getNextCursor());
     }
 }
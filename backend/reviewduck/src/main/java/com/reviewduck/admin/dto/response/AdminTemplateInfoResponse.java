@@ -5,11 +5,10 @@ import java.time.LocalDateTime;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.template.domain.Template;
 
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor
 @Getter
 public class AdminTemplateInfoResponse {
 
@@ -0,0 +1,10 @@
+package com.reviewduck.admin.exception;
+
+import com.reviewduck.common.exception.CustomException;
+
+public class AdminException extends CustomException {
+
+    public AdminException(String message) {
+        super(message);
+    }
+}
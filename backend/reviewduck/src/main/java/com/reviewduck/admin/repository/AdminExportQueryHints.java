@@ -0,0 +1,14 @@
+package com.reviewduck.admin.repository;
+
+/**
+ * 전체 데이터를 내보내는 조회에 사용하는 값
+ * MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 번에 메모리에 올리지 않고 한 행씩 읽는다.
+ * 결과를 읽는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로, 출력에 필요한 연관 엔티티는 모두 fetch join 한다.
+ */
+public final class AdminExportQueryHints {
+
+    public static final String STREAMING_FETCH_SIZE = "-2147483648";
+
+    private AdminExportQueryHints() {
+    }
+}
@@ -1,10 +1,21 @@
 package com.reviewduck.admin.repository;
 
+import static com.reviewduck.admin.repository.AdminExportQueryHints.*;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
+import com.reviewduck.admin.dto.response.AdminMemberResponse;
 import com.reviewduck.member.domain.Member;
 
 public interface AdminMemberRepository extends Repository<Member, Long> {
@@ -13,5 +24,22 @@ public interface AdminMemberRepository extends Repository<Member, Long> {
 
     List<Member> findAll();
 
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = STREAMING_FETCH_SIZE),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheable", value = "false")
+    })
+    @Query("select m from Member m")
+    Stream<Member> streamAll();
+
+    @Query("select new com.reviewduck.admin.dto.response.AdminMemberResponse("
+        + "m.id, m.socialId, m.socialNickname, m.nickname, m.profileUrl, m.createdAt, m.updatedAt) "
+        + "from Member m "
+        + "where m.id < :cursor "
+        + "and (:from is null or m.createdAt >= :from) "
+        + "and (:to is null or m.createdAt < :to) "
+        + "order by m.id desc")
+    Slice<AdminMemberResponse> findPage(long cursor, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
     Optional<Member> findById(Long memberId);
 }
@@ -1,19 +1,67 @@
 package com.reviewduck.admin.repository;
 
+import static com.reviewduck.admin.repository.AdminExportQueryHints.*;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
+import com.reviewduck.admin.dto.response.AdminReviewFormInfoResponse;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.domain.ReviewForm;
 
 public interface AdminReviewFormRepository extends Repository<ReviewForm, Long> {
 
+    String PAGE_SELECT = "select new com.reviewduck.admin.dto.response.AdminReviewFormInfoResponse("
+        + "rf.id, m.id, m.profileUrl, m.nickname, rf.code, rf.title, rf.isActive, rf.createdAt, rf.updatedAt) "
+        + "from ReviewForm rf join rf.member m ";
+    String PAGE_CONDITION = "rf.id < :cursor "
+        + "and (:isActive is null or rf.isActive = :isActive) "
+        + "and (:from is null or rf.createdAt >= :from) "
+        + "and (:to is null or rf.createdAt < :to) "
+        + "order by rf.id desc";
+
     List<ReviewForm> findAll();
 
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = STREAMING_FETCH_SIZE),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheable", value = "false")
+    })
+    @Query("select rf from ReviewForm rf join fetch rf.member")
+    Stream<ReviewForm> streamAll();
+
     List<ReviewForm> findAllByMember(Member member);
 
+    /**
+     * 작성자가 주어지면 (member_id, id) 인덱스를 따라 읽도록 작성자 조건이 있는 쿼리를 따로 사용한다.
+     * 활성 여부와 생성일은 어느 쪽이든 id 순서로 읽은 행을 거르는 조건이다.
+     */
+    default Slice<AdminReviewFormInfoResponse> findPage(long cursor, Long memberId, Boolean isActive,
+        LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (memberId != null) {
+            return findPageByMember(cursor, memberId, isActive, from, to, pageable);
+        }
+        return findPageByCursor(cursor, isActive, from, to, pageable);
+    }
+
+    @Query(PAGE_SELECT + "where " + PAGE_CONDITION)
+    Slice<AdminReviewFormInfoResponse> findPageByCursor(long cursor, Boolean isActive, LocalDateTime from,
+        LocalDateTime to, Pageable pageable);
+
+    @Query(PAGE_SELECT + "where rf.member.id = :memberId and " + PAGE_CONDITION)
+    Slice<AdminReviewFormInfoResponse> findPageByMember(long cursor, long memberId, Boolean isActive,
+        LocalDateTime from, LocalDateTime to, Pageable pageable);
+
     ReviewForm findByCode(String reviewFormCode);
 
     Optional<ReviewForm> findById(long reviewFormId);
@@ -1,21 +1,81 @@
 package com.reviewduck.admin.repository;
 
+import static com.reviewduck.admin.repository.AdminExportQueryHints.*;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
+import com.reviewduck.admin.dto.response.AdminReviewInfoResponse;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.domain.Review;
-import com.reviewduck.review.domain.ReviewForm;
 
 public interface AdminReviewRepository extends Repository<Review, Long> {
 
+    String PAGE_SELECT = "select new com.reviewduck.admin.dto.response.AdminReviewInfoResponse("
+        + "r.id, m.id, m.profileUrl, m.nickname, rf.code, rf.title, r.createdAt, r.updatedAt) "
+        + "from Review r join r.member m join r.reviewForm rf ";
+    String PAGE_CONDITION = "r.id < :cursor "
+        + "and (:from is null or r.createdAt >= :from) "
+        + "and (:to is null or r.createdAt < :to) "
+        + "order by r.id desc";
+
     List<Review> findAll();
 
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = STREAMING_FETCH_SIZE),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheable", value = "false")
+    })
+    @Query("select r from Review r join fetch r.member join fetch r.reviewForm")
+    Stream<Review> streamAll();
+
     List<Review> findAllByMember(Member member);
 
-    List<Review> findAllByReviewForm(ReviewForm reviewForm);
+    /**
+     * 관리자 목록 조회용 쿼리
+     * 엔티티 대신 목록에 표시하는 컬럼만 조회하고, 이전 페이지의 마지막 id 부터 id 순서대로 읽는다.
+     * 작성자와 회고 폼 조건은 "값이 없으면 무시" 하는 식으로 쓰면 인덱스를 고를 수 없으므로,
+     * 주어진 조건마다 쿼리를 나누어 (member_id, id), (review_form_id, id) 인덱스를 따라 읽게 한다.
+     */
+    default Slice<AdminReviewInfoResponse> findPage(long cursor, Long memberId, Long reviewFormId,
+        LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (memberId != null && reviewFormId != null) {
+            return findPageByMemberAndReviewForm(cursor, memberId, reviewFormId, from, to, pageable);
+        }
+        if (memberId != null) {
+            return findPageByMember(cursor, memberId, from, to, pageable);
+        }
+        if (reviewFormId != null) {
+            return findPageByReviewForm(cursor, reviewFormId, from, to, pageable);
+        }
+        return findPageByCursor(cursor, from, to, pageable);
+    }
+
+    @Query(PAGE_SELECT + "where " + PAGE_CONDITION)
+    Slice<AdminReviewInfoResponse> findPageByCursor(long cursor, LocalDateTime from, LocalDateTime to,
+        Pageable pageable);
+
+    @Query(PAGE_SELECT + "where r.member.id = :memberId and " + PAGE_CONDITION)
+    Slice<AdminReviewInfoResponse> findPageByMember(long cursor, long memberId, LocalDateTime from,
+        LocalDateTime to, Pageable pageable);
+
+    @Query(PAGE_SELECT + "where r.reviewForm.id = :reviewFormId and " + PAGE_CONDITION)
+    Slice<AdminReviewInfoResponse> findPageByReviewForm(long cursor, long reviewFormId, LocalDateTime from,
+        LocalDateTime to, Pageable pageable);
+
+    @Query(PAGE_SELECT + "where r.reviewForm.id = :reviewFormId and r.member.id = :memberId and " + PAGE_CONDITION)
+    Slice<AdminReviewInfoResponse> findPageByMemberAndReviewForm(long cursor, long memberId, long reviewFormId,
+        LocalDateTime from, LocalDateTime to, Pageable pageable);
 
     Optional<Review> findById(Long reviewId);
 
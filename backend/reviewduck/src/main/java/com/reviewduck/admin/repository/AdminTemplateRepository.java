@@ -1,19 +1,66 @@
 package com.reviewduck.admin.repository;
 
+import static com.reviewduck.admin.repository.AdminExportQueryHints.*;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
+import com.reviewduck.admin.dto.response.AdminTemplateInfoResponse;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.template.domain.Template;
 
 public interface AdminTemplateRepository extends Repository<Template, Long> {
 
+    String PAGE_SELECT = "select new com.reviewduck.admin.dto.response.AdminTemplateInfoResponse("
+        + "t.id, m.id, m.profileUrl, m.nickname, t.templateTitle, t.templateDescription, t.usedCount, "
+        + "t.createdAt, t.updatedAt) "
+        + "from Template t join t.member m ";
+    String PAGE_CONDITION = "t.id < :cursor "
+        + "and (:from is null or t.createdAt >= :from) "
+        + "and (:to is null or t.createdAt < :to) "
+        + "order by t.id desc";
+
     List<Template> findAll();
 
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = STREAMING_FETCH_SIZE),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheable", value = "false")
+    })
+    @Query("select t from Template t join fetch t.member")
+    Stream<Template> streamAll();
+
     List<Template> findAllByMember(Member member);
 
+    /**
+     * 작성자가 주어지면 (member_id, id) 인덱스를 따라 읽도록 작성자 조건이 있는 쿼리를 따로 사용한다.
+     */
+    default Slice<AdminTemplateInfoResponse> findPage(long cursor, Long memberId, LocalDateTime from,
+        LocalDateTime to, Pageable pageable) {
+        if (memberId != null) {
+            return findPageByMember(cursor, memberId, from, to, pageable);
+        }
+        return findPageByCursor(cursor, from, to, pageable);
+    }
+
+    @Query(PAGE_SELECT + "where " + PAGE_CONDITION)
+    Slice<AdminTemplateInfoResponse> findPageByCursor(long cursor, LocalDateTime from, LocalDateTime to,
+        Pageable pageable);
+
+    @Query(PAGE_SELECT + "where t.member.id = :memberId and " + PAGE_CONDITION)
+    Slice<AdminTemplateInfoResponse> findPageByMember(long cursor, long memberId, LocalDateTime from,
+        LocalDateTime to, Pageable pageable);
+
     Optional<Template> findById(Long templateId);
 
     void deleteById(Long templateId);
@@ -0,0 +1,83 @@
+package com.reviewduck.admin.service;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.admin.dto.response.AdminMemberResponse;
+import com.reviewduck.admin.dto.response.AdminReviewFormInfoResponse;
+import com.reviewduck.admin.dto.response.AdminReviewInfoResponse;
+import com.reviewduck.admin.dto.response.AdminTemplateInfoResponse;
+import com.reviewduck.admin.repository.AdminMemberRepository;
+import com.reviewduck.admin.repository.AdminReviewFormRepository;
+import com.reviewduck.admin.repository.AdminReviewRepository;
+import com.reviewduck.admin.repository.AdminTemplateRepository;
+import com.reviewduck.admin.vo.ExportFormat;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * 전체 데이터를 한 번에 메모리에 올리지 않고, DB 에서 한 행씩 읽으면서 바로 응답으로 내보낸다.
+ * 읽은 엔티티가 영속성 컨텍스트에 쌓이지 않도록 일정 행마다 응답을 내보내고 영속성 컨텍스트를 비운다.
+ */
+@Service
+@AllArgsConstructor
+@Transactional(readOnly = true)
+public class AdminExportService {
+
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final AdminMemberRepository adminMemberRepository;
+    private final AdminReviewFormRepository adminReviewFormRepository;
+    private final AdminReviewRepository adminReviewRepository;
+    private final AdminTemplateRepository adminTemplateRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void exportMembers(ExportFormat format, OutputStream outputStream) {
+        try (Stream<?> members = adminMemberRepository.streamAll().map(AdminMemberResponse::from)) {
+            export(members, format, outputStream);
+        }
+    }
+
+    public void exportReviewForms(ExportFormat format, OutputStream outputStream) {
+        try (Stream<?> reviewForms = adminReviewFormRepository.streamAll().map(AdminReviewFormInfoResponse::from)) {
+            export(reviewForms, format, outputStream);
+        }
+    }
+
+    public void exportReviews(ExportFormat format, OutputStream outputStream) {
+        try (Stream<?> reviews = adminReviewRepository.streamAll().map(AdminReviewInfoResponse::from)) {
+            export(reviews, format, outputStream);
+        }
+    }
+
+    public void exportTemplates(ExportFormat format, OutputStream outputStream) {
+        try (Stream<?> templates = adminTemplateRepository.streamAll().map(AdminTemplateInfoResponse::from)) {
+            export(templates, format, outputStream);
+        }
+    }
+
+    private void export(Stream<?> rows, ExportFormat format, OutputStream outputStream) {
+        ExportWriter writer = new ExportWriter(format, objectMapper, outputStream);
+
+        int count = 0;
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.write(iterator.next());
+            count++;
+
+            if (count % CLEAR_INTERVAL == 0) {
+                writer.flush();
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+    }
+}
@@ -1,43 +1,92 @@
 package com.reviewduck.admin.service;
 
 import java.util.List;
+import java.util.Objects;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.reviewduck.admin.dto.response.AdminMemberResponse;
 import com.reviewduck.admin.dto.response.AdminMembersResponse;
+import com.reviewduck.admin.dto.response.AdminPageResponse;
 import com.reviewduck.admin.repository.AdminMemberRepository;
+import com.reviewduck.admin.vo.AdminPageCondition;
 import com.reviewduck.common.exception.NotFoundException;
+import com.reviewduck.common.util.TransactionUtils;
+import com.reviewduck.config.cache.CacheType;
 import com.reviewduck.member.domain.Member;
-
-import lombok.AllArgsConstructor;
+import com.reviewduck.review.service.ReviewFormCache;
+import com.reviewduck.review.service.ReviewFormParticipantService;
+import com.reviewduck.template.repository.TemplateRepository;
+import com.reviewduck.template.service.TemplateListCache;
 
 @Service
-@AllArgsConstructor
 @Transactional(readOnly = true)
 public class AdminMemberService {
 
     private final AdminMemberRepository adminMemberRepository;
+    private final ReviewFormParticipantService reviewFormParticipantService;
+    private final ReviewFormCache reviewFormCache;
+    private final TemplateRepository templateRepository;
+    private final TemplateListCache templateListCache;
+    private final Cache memberCache;
+    private final Cache templateCache;
+
+    public AdminMemberService(AdminMemberRepository adminMemberRepository,
+        ReviewFormParticipantService reviewFormParticipantService, ReviewFormCache reviewFormCache,
+        TemplateRepository templateRepository, TemplateListCache templateListCache, CacheManager cacheManager) {
+        this.adminMemberRepository = adminMemberRepository;
+        this.reviewFormParticipantService = reviewFormParticipantService;
+        this.reviewFormCache = reviewFormCache;
+        this.templateRepository = templateRepository;
+        this.templateListCache = templateListCache;
+        this.memberCache = Objects.requireNonNull(cacheManager.getCache(CacheType.MemberCache.getCacheName()));
+        this.templateCache = Objects.requireNonNull(cacheManager.getCache(CacheType.TemplateCache.getCacheName()));
+    }
 
     public AdminMembersResponse findAllMembers() {
         List<Member> members = adminMemberRepository.findAll();
         return AdminMembersResponse.from(members);
     }
 
+    public AdminPageResponse<AdminMemberResponse> findMemberPage(AdminPageCondition condition) {
+        Slice<AdminMemberResponse> members = adminMemberRepository.findPage(condition.getCursor(),
+            condition.getFrom(), condition.getTo(), condition.toPageable());
+        return AdminPageResponse.of(members, AdminMemberResponse::getId);
+    }
+
     @Cacheable(value = "memberCacheStore", key = "#memberId")
     public AdminMemberResponse findMember(long memberId) {
         Member foundMember = findMemberById(memberId);
         return AdminMemberResponse.from(foundMember);
     }
 
+    /**
+     * 삭제하면 닉네임과 프로필, socialId 를 지우므로, 이전 정보가 들어 있는 socialId 별 사용자 정보와 회고 폼,
+     * 작성한 템플릿의 캐시도 커밋되면 함께 제거한다.
+     */
     @Transactional
-    @CacheEvict(value = "memberCacheStore", allEntries = true)
+    @Caching(evict = {
+        @CacheEvict(value = "memberCacheStore", allEntries = true),
+        @CacheEvict(value = "principalCacheStore", key = "#memberId")
+    })
     public void deleteMember(Long memberId) {
         Member targetMember = findMemberById(memberId);
+        String socialId = targetMember.getSocialId();
         targetMember.deleteAllInfo();
+
+        TransactionUtils.afterCommit(() -> memberCache.evict(socialId));
+        reviewFormCache.evictAll(reviewFormParticipantService.findReviewFormCodesShowing(memberId));
+
+        List<Long> templateIds = templateRepository.findIdsByMemberId(memberId);
+        TransactionUtils.afterCommit(() -> templateIds.forEach(templateCache::evict));
+        templateListCache.creatorUpdated(templateIds);
     }
 
     public Member findMemberById(long memberId) {
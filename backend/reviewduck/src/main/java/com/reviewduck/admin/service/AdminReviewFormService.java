@@ -2,16 +2,22 @@ package com.reviewduck.admin.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reviewduck.admin.dto.response.AdminPageResponse;
+import com.reviewduck.admin.dto.response.AdminReviewFormInfoResponse;
 import com.reviewduck.admin.dto.response.AdminReviewFormResponse;
 import com.reviewduck.admin.dto.response.AdminReviewFormsResponse;
+import com.reviewduck.admin.dto.response.AdminReviewInfoResponse;
 import com.reviewduck.admin.repository.AdminReviewFormRepository;
+import com.reviewduck.admin.vo.AdminPageCondition;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
-import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.service.ReviewCountService;
+import com.reviewduck.review.service.ReviewFormCache;
 
 import lombok.AllArgsConstructor;
 
@@ -23,6 +29,8 @@ public class AdminReviewFormService {
     private final AdminMemberService adminMemberService;
     private final AdminReviewService adminReviewService;
     private final AdminReviewFormRepository adminReviewFormRepository;
+    private final ReviewCountService reviewCountService;
+    private final ReviewFormCache reviewFormCache;
 
     public AdminReviewFormsResponse findAllReviewForms() {
         List<ReviewForm> reviewForms = adminReviewFormRepository.findAll();
@@ -36,9 +44,20 @@ public class AdminReviewFormService {
         return AdminReviewFormsResponse.from(reviewForms);
     }
 
-    public AdminReviewFormResponse findReviewForm(String reviewFormCode) {
+    public AdminPageResponse<AdminReviewFormInfoResponse> findReviewFormPage(AdminPageCondition condition) {
+        Slice<AdminReviewFormInfoResponse> reviewForms = adminReviewFormRepository.findPage(condition.getCursor(),
+            condition.getMemberId(), condition.getIsActive(), condition.getFrom(), condition.getTo(),
+            condition.toPageable());
+        return AdminPageResponse.of(reviewForms, AdminReviewFormInfoResponse::getId);
+    }
+
+    /**
+     * 회고 폼에 작성된 회고는 첫 페이지만 함께 반환하고, 나머지는 회고 목록 조회에 회고 폼 id 를 넘겨 이어서 조회한다.
+     */
+    public AdminReviewFormResponse findReviewForm(String reviewFormCode, AdminPageCondition reviewCondition) {
         ReviewForm reviewForm = findByCode(reviewFormCode);
-        List<Review> reviews = adminReviewService.findAllByReviewForm(reviewForm);
+        AdminPageResponse<AdminReviewInfoResponse> reviews = adminReviewService.findReviewPage(reviewCondition,
+            reviewForm.getId());
 
         return AdminReviewFormResponse.of(reviewForm, reviews);
     }
@@ -47,6 +66,10 @@ public class AdminReviewFormService {
     public void deleteReviewForm(long reviewFormId) {
         ReviewForm reviewForm = findById(reviewFormId);
         adminReviewFormRepository.delete(reviewForm);
+        reviewFormCache.evict(reviewForm.getCode());
+        if (reviewForm.isActive()) {
+            reviewCountService.decreaseReviewFormCount(reviewForm);
+        }
     }
 
     ReviewForm findByCode(String reviewFormCode) {
@@ -2,16 +2,25 @@ package com.reviewduck.admin.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reviewduck.admin.dto.response.AdminPageResponse;
+import com.reviewduck.admin.dto.response.AdminReviewInfoResponse;
 import com.reviewduck.admin.dto.response.AdminReviewResponse;
 import com.reviewduck.admin.dto.response.AdminReviewsResponse;
 import com.reviewduck.admin.repository.AdminReviewRepository;
+import com.reviewduck.admin.vo.AdminPageCondition;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.domain.Review;
-import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.service.LegacyAnswerReadMode;
+import com.reviewduck.review.service.ReviewCountService;
+import com.reviewduck.review.service.ReviewFormCache;
+import com.reviewduck.review.service.ReviewFormParticipantService;
+import com.reviewduck.review.service.ReviewSearchEngine;
+import com.reviewduck.review.service.ReviewTrendRanking;
 
 import lombok.AllArgsConstructor;
 
@@ -22,12 +31,25 @@ public class AdminReviewService {
 
     private final AdminMemberService adminMemberService;
     private final AdminReviewRepository adminReviewRepository;
+    private final ReviewCountService reviewCountService;
+    private final ReviewTrendRanking reviewTrendRanking;
+    private final ReviewFormCache reviewFormCache;
+    private final ReviewFormParticipantService reviewFormParticipantService;
+    private final ReviewSearchEngine reviewSearchEngine;
+    private final LegacyAnswerReadMode legacyAnswerReadMode;
 
     public AdminReviewsResponse findAllReviews() {
         List<Review> reviews = adminReviewRepository.findAll();
+        reviews.forEach(legacyAnswerReadMode::apply);
         return AdminReviewsResponse.from(reviews);
     }
 
+    public AdminPageResponse<AdminReviewInfoResponse> findReviewPage(AdminPageCondition condition, Long reviewFormId) {
+        Slice<AdminReviewInfoResponse> reviews = adminReviewRepository.findPage(condition.getCursor(),
+            condition.getMemberId(), reviewFormId, condition.getFrom(), condition.getTo(), condition.toPageable());
+        return AdminPageResponse.of(reviews, AdminReviewInfoResponse::getId);
+    }
+
     public AdminReviewResponse findReview(long reviewId) {
         Review review = findById(reviewId);
         return AdminReviewResponse.from(review);
@@ -37,6 +59,7 @@ public class AdminReviewService {
         Member member = adminMemberService.findMemberById(memberId);
 
         List<Review> reviews = adminReviewRepository.findAllByMember(member);
+        reviews.forEach(legacyAnswerReadMode::apply);
         return AdminReviewsResponse.from(reviews);
     }
 
@@ -44,14 +67,16 @@ public class AdminReviewService {
     public void deleteReview(long reviewId) {
         Review review = findById(reviewId);
         adminReviewRepository.delete(review);
-    }
-
-    public List<Review> findAllByReviewForm(ReviewForm reviewForm) {
-        return adminReviewRepository.findAllByReviewForm(reviewForm);
+        reviewCountService.decreaseReviewCount(review);
+        reviewFormParticipantService.leave(review);
+        reviewTrendRanking.remove(reviewId);
+        reviewSearchEngine.remove(reviewId);
+        reviewFormCache.evict(review.getReviewForm().getCode());
     }
 
     Review findById(long reviewId) {
         return adminReviewRepository.findById(reviewId)
+            .map(legacyAnswerReadMode::apply)
             .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
     }
 }
@@ -3,15 +3,21 @@ package com.reviewduck.admin.service;
 import java.util.List;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reviewduck.admin.dto.response.AdminPageResponse;
+import com.reviewduck.admin.dto.response.AdminTemplateInfoResponse;
 import com.reviewduck.admin.dto.response.AdminTemplateResponse;
 import com.reviewduck.admin.dto.response.AdminTemplatesResponse;
 import com.reviewduck.admin.repository.AdminTemplateRepository;
+import com.reviewduck.admin.vo.AdminPageCondition;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.service.TemplateCountService;
+import com.reviewduck.template.service.TemplateListCache;
 
 import lombok.AllArgsConstructor;
 
@@ -22,12 +28,20 @@ public class AdminTemplateService {
 
     private final AdminMemberService adminMemberService;
     private final AdminTemplateRepository adminTemplateRepository;
+    private final TemplateCountService templateCountService;
+    private final TemplateListCache templateListCache;
 
     public AdminTemplatesResponse findAllTemplates() {
-        List<Template> templates = adminTemplateRepository.findAll();;
+        List<Template> templates = adminTemplateRepository.findAll();
         return AdminTemplatesResponse.from(templates);
     }
 
+    public AdminPageResponse<AdminTemplateInfoResponse> findTemplatePage(AdminPageCondition condition) {
+        Slice<AdminTemplateInfoResponse> templates = adminTemplateRepository.findPage(condition.getCursor(),
+            condition.getMemberId(), condition.getFrom(), condition.getTo(), condition.toPageable());
+        return AdminPageResponse.of(templates, AdminTemplateInfoResponse::getId);
+    }
+
     public AdminTemplateResponse findTemplate(long templateId) {
         Template template = findById(templateId);
         return AdminTemplateResponse.from(template);
@@ -45,6 +59,8 @@ public class AdminTemplateService {
     public void deleteTemplate(long templateId) {
         Template template = findById(templateId);
         adminTemplateRepository.deleteById(template.getId());
+        templateCountService.decreaseTemplateCount(template);
+        templateListCache.deleted(template);
     }
 
     private Template findById(long templateId) {
@@ -0,0 +1,101 @@
+package com.reviewduck.admin.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewduck.admin.vo.ExportFormat;
+
+/**
+ * 내보내기 응답을 한 행씩 출력한다.
+ * NDJSON 은 한 줄에 하나의 JSON 객체를, CSV 는 첫 행의 필드 이름을 헤더로 출력한 뒤 한 줄에 하나의 행을 출력한다.
+ */
+class ExportWriter {
+
+    private static final char CSV_DELIMITER = ',';
+    private static final String LINE_SEPARATOR = "\n";
+    // 스프레드시트에서 수식으로 해석되는 문자로 시작하는 값
+    private static final String FORMULA_PREFIXES = "=+-@";
+
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+    private boolean isHeaderWritten;
+
+    ExportWriter(ExportFormat format, ObjectMapper objectMapper, OutputStream outputStream) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    void write(Object row) {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsv(objectMapper.valueToTree(row));
+                return;
+            }
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(JsonNode row) throws IOException {
+        if (!isHeaderWritten) {
+            writeCsvLine(row.fieldNames());
+            isHeaderWritten = true;
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = row.fields();
+        boolean isFirst = true;
+        while (fields.hasNext()) {
+            if (!isFirst) {
+                writer.write(CSV_DELIMITER);
+            }
+            JsonNode value = fields.next().getValue();
+            writer.write(value.isNull() ? "" : escape(value.asText()));
+            isFirst = false;
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeCsvLine(Iterator<String> values) throws IOException {
+        boolean isFirst = true;
+        while (values.hasNext()) {
+            if (!isFirst) {
+                writer.write(CSV_DELIMITER);
+            }
+            writer.write(escape(values.next()));
+            isFirst = false;
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private String escape(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(CSV_DELIMITER) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
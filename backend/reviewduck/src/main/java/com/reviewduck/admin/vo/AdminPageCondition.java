@@ -0,0 +1,71 @@
+package com.reviewduck.admin.vo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.reviewduck.admin.exception.AdminException;
+
+import lombok.Getter;
+
+/**
+ * 관리자 목록의 키셋 페이지 조회 조건
+ * cursor: 이전 페이지의 마지막 id, 이 값보다 작은 id 부터 조회한다. (없으면 처음부터)
+ * memberId, from, to, isActive: 값이 없으면 해당 조건으로 거르지 않는다.
+ * from, to 는 생성일 기준이며 to 로 지정한 날짜까지 포함한다.
+ */
+@Getter
+public class AdminPageCondition {
+
+    private static final int MAX_SIZE = 100;
+
+    private final long cursor;
+    private final int size;
+    private final Long memberId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Boolean isActive;
+
+    private AdminPageCondition(long cursor, int size, Long memberId, LocalDateTime from, LocalDateTime to,
+        Boolean isActive) {
+        this.cursor = cursor;
+        this.size = size;
+        this.memberId = memberId;
+        this.from = from;
+        this.to = to;
+        this.isActive = isActive;
+    }
+
+    public static AdminPageCondition of(Long cursor, int size, Long memberId, LocalDate from, LocalDate to,
+        Boolean isActive) {
+        validateSize(size);
+        validateDateRange(from, to);
+
+        return new AdminPageCondition(
+            cursor == null ? Long.MAX_VALUE : cursor,
+            size,
+            memberId,
+            from == null ? null : from.atStartOfDay(),
+            to == null ? null : to.plusDays(1).atStartOfDay(),
+            isActive
+        );
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(0, size);
+    }
+
+    private static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new AdminException("한 페이지에는 1개 이상 " + MAX_SIZE + "개 이하로 조회할 수 있습니다.");
+        }
+    }
+
+    private static void validateDateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new AdminException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+    }
+}
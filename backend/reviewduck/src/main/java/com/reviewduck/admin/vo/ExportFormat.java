@@ -0,0 +1,37 @@
+package com.reviewduck.admin.vo;
+
+import java.util.Arrays;
+
+/**
+ * ex) format=csv
+ * param: 요청으로 받는 format query에 해당하는 query value
+ * contentType: 응답의 Content-Type
+ */
+public enum ExportFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String param;
+    private final String contentType;
+
+    ExportFormat(String param, String contentType) {
+        this.param = param;
+        this.contentType = contentType;
+    }
+
+    public static ExportFormat from(String input) {
+        return Arrays.stream(values())
+            .filter(it -> it.param.equals(input))
+            .findAny()
+            .orElse(NDJSON);
+    }
+
+    public String getFileName(String name) {
+        return name + "." + param;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
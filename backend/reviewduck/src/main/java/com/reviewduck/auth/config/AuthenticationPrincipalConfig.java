@@ -32,6 +32,8 @@ public class AuthenticationPrincipalConfig implements WebMvcConfigurer {
             .excludePathPatterns("/api/login/**")
             .excludePathPatterns("/api/review-forms/*/reviews")
             .excludePathPatterns("/api/reviews/public")
+            .excludePathPatterns("/api/reviews/public/timeline")
+            .excludePathPatterns("/api/reviews/search")
             .excludePathPatterns("/api/reviews/*/likes");
     }
 
@@ -13,7 +13,7 @@ import com.reviewduck.admin.dto.AdminMemberDto;
 import com.reviewduck.admin.service.AdminMemberService;
 import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.auth.support.AdminAuthenticationPrincipal;
-import com.reviewduck.auth.support.AuthorizationExtractor;
+import com.reviewduck.auth.support.AuthenticatedMember;
 import com.reviewduck.auth.support.JwtTokenProvider;
 import com.reviewduck.member.domain.Member;
 
@@ -36,30 +36,19 @@ public class AdminAuthenticationPrincipalArgumentResolver implements HandlerMeth
 
         HttpServletRequest request = (HttpServletRequest)webRequest.getNativeRequest();
 
-        String token = extractToken(request);
-        Member member = resolveMemberFromToken(token);
+        validateAuthorization(request);
+        long memberId = AuthenticatedMember.resolveMemberId(request, jwtTokenProvider);
+        Member member = adminMemberService.findMemberById(memberId);
 
         return createAdmin(member);
     }
 
-    private String extractToken(HttpServletRequest request) {
-        validateAuthorization(request);
-        return AuthorizationExtractor.extract(request);
-    }
-
     private void validateAuthorization(HttpServletRequest request) {
         if (request.getHeader(HttpHeaders.AUTHORIZATION) == null) {
             throw new AuthorizationException("권한이 없는 사용자입니다.");
         }
     }
 
-    private Member resolveMemberFromToken(String token) {
-        jwtTokenProvider.validateAccessToken(token);
-
-        long memberId = Long.parseLong(jwtTokenProvider.getAccessTokenPayload(token));
-        return adminMemberService.findMemberById(memberId);
-    }
-
     private AdminMemberDto createAdmin(Member member) {
         AdminMemberDto memberDto = AdminMemberDto.from(member);
 
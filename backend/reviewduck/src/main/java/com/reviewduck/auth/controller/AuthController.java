@@ -1,7 +1,5 @@
 package com.reviewduck.auth.controller;
 
-import static com.reviewduck.common.util.Logging.*;
-
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
@@ -39,8 +37,6 @@ public class AuthController {
     @ResponseStatus(HttpStatus.OK)
     public TokenResponse login(@RequestBody @Valid LoginRequest request, HttpServletResponse response) {
 
-        info("/api/login", "POST", request.toString());
-
         TokensDto tokensDto = authService.createTokens(request);
 
         ResponseCookie cookie = createRefreshTokenCookie(tokensDto.getRefreshToken(), SEVEN_DAYS);
@@ -55,8 +51,6 @@ public class AuthController {
     public TokenResponse refresh(@CookieValue(value = "refreshToken", required = false) Cookie cookie,
         HttpServletResponse response) {
 
-        info("/api/login/refresh", "POST", "");
-
         validateCookie(cookie);
 
         String refreshToken = cookie.getValue();
@@ -73,8 +67,6 @@ public class AuthController {
     @ResponseStatus(HttpStatus.OK)
     public void logout(HttpServletResponse response) {
 
-        info("/api/logout", "POST", "");
-
         ResponseCookie cookie = createRefreshTokenCookie("", 0);
 
         response.setHeader("Set-Cookie", cookie.toString());
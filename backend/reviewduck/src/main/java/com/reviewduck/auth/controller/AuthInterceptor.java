@@ -1,23 +1,25 @@
 package com.reviewduck.auth.controller;
 
-import java.util.Arrays;
-
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import com.reviewduck.auth.support.AuthorizationExtractor;
+import com.reviewduck.auth.support.AuthenticatedMember;
 import com.reviewduck.auth.support.JwtTokenProvider;
 
-import lombok.AllArgsConstructor;
-
-@AllArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
 
+    private static final RouteClassifier AUTHENTICATION_NOT_REQUIRED = RouteClassifier.of(
+        HttpMethod.GET.toString(), URIPattern.values(), "member");
+
     private final JwtTokenProvider jwtTokenProvider;
 
+    public AuthInterceptor(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
         Object handler) {
@@ -38,15 +40,10 @@ public class AuthInterceptor implements HandlerInterceptor {
     }
 
     private boolean isAuthenticationNotRequired(HttpServletRequest request) {
-
-        return Arrays.stream(URIPattern.values())
-            .anyMatch(pattern -> pattern.match(request, "member"))
-            && request.getMethod().equals(HttpMethod.GET.toString());
-
+        return AUTHENTICATION_NOT_REQUIRED.matches(request);
     }
 
     public void validateToken(HttpServletRequest request) {
-        String token = AuthorizationExtractor.extract(request);
-        jwtTokenProvider.validateAccessToken(token);
+        AuthenticatedMember.resolveMemberId(request, jwtTokenProvider);
     }
 }
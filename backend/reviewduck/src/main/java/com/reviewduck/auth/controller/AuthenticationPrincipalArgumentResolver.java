@@ -9,10 +9,9 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import com.reviewduck.auth.support.AuthenticatedMember;
 import com.reviewduck.auth.support.AuthenticationPrincipal;
-import com.reviewduck.auth.support.AuthorizationExtractor;
 import com.reviewduck.auth.support.JwtTokenProvider;
-import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.dto.MemberDto;
 import com.reviewduck.member.service.MemberService;
 
@@ -44,20 +43,11 @@ public class AuthenticationPrincipalArgumentResolver implements HandlerMethodArg
             return MemberDto.getMemberNotLogin();
         }
 
-        String token = AuthorizationExtractor.extract(request);
-        Member member = resolveMemberFromToken(token);
-
-        return MemberDto.from(member);
+        long memberId = AuthenticatedMember.resolveMemberId(request, jwtTokenProvider);
+        return memberService.findPrincipal(memberId);
     }
 
     private boolean isUnauthorized(HttpServletRequest request) {
         return request.getHeader(HttpHeaders.AUTHORIZATION) == null;
     }
-
-    private Member resolveMemberFromToken(String token) {
-        jwtTokenProvider.validateAccessToken(token);
-
-        long memberId = Long.parseLong(jwtTokenProvider.getAccessTokenPayload(token));
-        return memberService.findById(memberId);
-    }
 }
@@ -0,0 +1,168 @@
+package com.reviewduck.auth.controller;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청이 미리 등록한 경로 중 하나와 일치하는지 판단한다.
+ * 서버가 시작될 때 HTTP 메서드별로 경로 세그먼트 트라이를 만들어 두고,
+ * 요청 URI 를 잘라내지 않고 세그먼트 위치만 옮기며 따라가므로 판단하는 동안 객체를 생성하지 않는다.
+ * 파라미터 조건은 경로가 끝까지 일치한 노드에서만 검사한다.
+ */
+public class RouteClassifier {
+
+    private static final char SEPARATOR = '/';
+    private static final String NUMBER_SEGMENT = "{id}";
+    private static final String CODE_SEGMENT = "{code}";
+    private static final String PREFIX_WILDCARD = "*";
+
+    private final Map<String, Node> roots = new HashMap<>();
+    private final String paramName;
+
+    private RouteClassifier(String paramName) {
+        this.paramName = paramName;
+    }
+
+    public static RouteClassifier of(String method, URIPattern[] patterns, String paramName) {
+        RouteClassifier classifier = new RouteClassifier(paramName);
+        for (URIPattern pattern : patterns) {
+            classifier.add(method, pattern.getPath(), pattern.getContainsParam());
+        }
+        return classifier;
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        Node root = roots.get(request.getMethod());
+        if (root == null) {
+            return false;
+        }
+
+        String uri = request.getRequestURI();
+        if (uri == null || uri.isEmpty() || uri.charAt(0) != SEPARATOR) {
+            return false;
+        }
+        return root.matchesChildren(uri, 1, request, paramName);
+    }
+
+    private void add(String method, String path, BiPredicate<Map<String, String[]>, String> condition) {
+        Node node = roots.computeIfAbsent(method, key -> new Node(SegmentType.ROOT, ""));
+
+        String[] segments = path.substring(1).split(String.valueOf(SEPARATOR), -1);
+        for (int i = 0; i < segments.length; i++) {
+            node = node.getOrAddChild(toNode(segments[i], i == segments.length - 1));
+        }
+        node.addCondition(condition);
+    }
+
+    private Node toNode(String segment, boolean isLast) {
+        if (isLast && segment.endsWith(PREFIX_WILDCARD)) {
+            return new Node(SegmentType.PREFIX, segment.substring(0, segment.length() - PREFIX_WILDCARD.length()));
+        }
+        if (NUMBER_SEGMENT.equals(segment)) {
+            return new Node(SegmentType.NUMBER, segment);
+        }
+        if (CODE_SEGMENT.equals(segment)) {
+            return new Node(SegmentType.CODE, segment);
+        }
+        return new Node(SegmentType.LITERAL, segment);
+    }
+
+    private enum SegmentType {
+        ROOT, LITERAL, NUMBER, CODE, PREFIX
+    }
+
+    private static class Node {
+
+        private final SegmentType type;
+        private final String value;
+        private Node[] children = new Node[0];
+        private BiPredicate<Map<String, String[]>, String> condition;
+
+        private Node(SegmentType type, String value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        private Node getOrAddChild(Node node) {
+            for (Node child : children) {
+                if (child.type == node.type && child.value.equals(node.value)) {
+                    return child;
+                }
+            }
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = node;
+            return node;
+        }
+
+        private void addCondition(BiPredicate<Map<String, String[]>, String> condition) {
+            if (this.condition == null) {
+                this.condition = condition;
+                return;
+            }
+            this.condition = this.condition.or(condition);
+        }
+
+        /**
+         * start 부터 시작하는 세그먼트와 일치하는 자식 노드를 따라간다.
+         */
+        private boolean matchesChildren(String uri, int start, HttpServletRequest request, String paramName) {
+            int end = uri.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = uri.length();
+            }
+
+            for (Node child : children) {
+                if (child.type == SegmentType.PREFIX) {
+                    if (uri.startsWith(child.value, start) && child.test(request, paramName)) {
+                        return true;
+                    }
+                    continue;
+                }
+
+                if (!child.matchesSegment(uri, start, end)) {
+                    continue;
+                }
+                if (end == uri.length()) {
+                    if (child.test(request, paramName)) {
+                        return true;
+                    }
+                    continue;
+                }
+                if (child.matchesChildren(uri, end + 1, request, paramName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesSegment(String uri, int start, int end) {
+            int length = end - start;
+            if (type == SegmentType.LITERAL) {
+                return length == value.length() && uri.regionMatches(start, value, 0, length);
+            }
+            if (length == 0) {
+                return false;
+            }
+
+            for (int i = start; i < end; i++) {
+                char c = uri.charAt(i);
+                boolean isDigit = '0' <= c && c <= '9';
+                if (type == SegmentType.NUMBER && !isDigit) {
+                    return false;
+                }
+                if (type == SegmentType.CODE && !isDigit && !('A' <= c && c <= 'Z')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean test(HttpServletRequest request, String paramName) {
+            return condition != null && condition.test(request.getParameterMap(), paramName);
+        }
+    }
+}
@@ -1,34 +1,31 @@
 package com.reviewduck.auth.controller;
 
 import java.util.Map;
-import java.util.function.BiFunction;
-import java.util.regex.Pattern;
-
-import javax.servlet.http.HttpServletRequest;
+import java.util.function.BiPredicate;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 로그인하지 않아도 조회할 수 있는 요청의 경로와 파라미터 조건
+ * 경로는 '/' 로 구분한 세그먼트로 표현한다.
+ * {id} 는 숫자, {code} 는 숫자와 대문자로만 이루어진 세그먼트이고, 마지막 세그먼트 끝의 * 는 이후의 모든 문자와 일치한다.
+ */
 @Getter
 @AllArgsConstructor
 public enum URIPattern {
 
-    TemplateFindRequestPattern(Pattern.compile("/api/templates.*"), (params, paramName) -> true),
+    TemplateFindRequestPattern("/api/templates*", (params, paramName) -> true),
 
-    MemberReviewFormFindRequestPattern(Pattern.compile("/api/review-forms"), Map::containsKey),
+    MemberReviewFormFindRequestPattern("/api/review-forms", Map::containsKey),
 
-    MemberReviewFindRequestPattern(Pattern.compile("/api/reviews"),
+    MemberReviewFindRequestPattern("/api/reviews",
         (params, paramName) -> params.containsKey(paramName) || params.isEmpty()),
 
-    MemberFindRequestPattern(Pattern.compile("/api/members/[0-9]+"), (params, paramName) -> true),
-
-    ReviewFormFindRequestPattern(Pattern.compile("/api/review-forms/[0-9A-Z]+"), (params, paramName) -> true);
+    MemberFindRequestPattern("/api/members/{id}", (params, paramName) -> true),
 
-    private final Pattern pattern;
-    private final BiFunction<Map<String, String[]>, String, Boolean> containsParam;
+    ReviewFormFindRequestPattern("/api/review-forms/{code}", (params, paramName) -> true);
 
-    public boolean match(HttpServletRequest request, String paramName) {
-        return pattern.matcher(request.getRequestURI()).matches()
-            && containsParam.apply(request.getParameterMap(), paramName);
-    }
+    private final String path;
+    private final BiPredicate<Map<String, String[]>, String> containsParam;
 }
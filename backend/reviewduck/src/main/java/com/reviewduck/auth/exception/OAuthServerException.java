@@ -0,0 +1,10 @@
+package com.reviewduck.auth.exception;
+
+import com.reviewduck.common.exception.CustomException;
+
+public class OAuthServerException extends CustomException {
+
+    public OAuthServerException(String message) {
+        super(message);
+    }
+}
@@ -1,24 +1,24 @@
 package com.reviewduck.auth.service;
 
+import java.util.Objects;
 import java.util.Optional;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.reviewduck.auth.dto.request.GithubTokenRequest;
 import com.reviewduck.auth.dto.request.LoginRequest;
 import com.reviewduck.auth.dto.response.GithubMemberResponse;
-import com.reviewduck.auth.dto.response.GithubTokenResponse;
 import com.reviewduck.auth.dto.service.TokensDto;
 import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.support.GithubOAuthClient;
 import com.reviewduck.auth.support.JwtTokenProvider;
+import com.reviewduck.common.util.TransactionUtils;
+import com.reviewduck.config.cache.CacheType;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
 
@@ -27,31 +27,30 @@ import com.reviewduck.member.repository.MemberRepository;
 public class AuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
+    private final GithubOAuthClient githubOAuthClient;
     private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache principalCache;
 
-    @Value("${security.oauth2.client-id}")
-    private String clientId;
-
-    @Value("${security.oauth2.client-secret}")
-    private String clientSecret;
-
-    public AuthService(JwtTokenProvider jwtTokenProvider, ObjectMapper objectMapper,
-        RestTemplate restTemplate, MemberRepository memberRepository) {
+    public AuthService(JwtTokenProvider jwtTokenProvider, GithubOAuthClient githubOAuthClient,
+        MemberRepository memberRepository, PlatformTransactionManager transactionManager, CacheManager cacheManager) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.objectMapper = objectMapper;
-        this.restTemplate = restTemplate;
+        this.githubOAuthClient = githubOAuthClient;
         this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.principalCache = Objects.requireNonNull(cacheManager.getCache(CacheType.PrincipalCache.getCacheName()));
     }
 
-    @Transactional
+    /**
+     * 깃허브와 통신하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 깃허브 정보를 가져오고,
+     * 사용자 정보를 저장할 때만 트랜잭션을 연다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokensDto createTokens(LoginRequest loginRequest) {
-        String githubAccessToken = getGithubAccessToken(loginRequest.getCode());
-        GithubMemberResponse githubMemberResponse = getGithubMemberResponse(githubAccessToken);
-
-        Member loginMember = login(githubMemberResponse);
+        String githubAccessToken = githubOAuthClient.getAccessToken(loginRequest.getCode());
+        GithubMemberResponse githubMemberResponse = githubOAuthClient.getMember(githubAccessToken);
 
+        Member loginMember = Objects.requireNonNull(transactionTemplate.execute(status -> login(githubMemberResponse)));
         return generateTokens(loginMember.getId());
     }
 
@@ -71,56 +70,6 @@ public class AuthService {
         return new TokensDto(accessToken, refreshToken);
     }
 
-    private String getGithubAccessToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        headers.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-        GithubTokenRequest accessTokenRequest = new GithubTokenRequest(clientId, clientSecret, code);
-
-        HttpEntity<GithubTokenRequest> httpEntity = new HttpEntity<>(accessTokenRequest, headers);
-        GithubTokenResponse githubTokenResponse = restTemplate.exchange(
-            "https://github.com/login/oauth/access_token",
-            HttpMethod.POST,
-            httpEntity,
-            GithubTokenResponse.class
-        ).getBody();
-
-        validateTokenResponse(githubTokenResponse);
-        return githubTokenResponse.getAccessToken();
-    }
-
-    private void validateTokenResponse(GithubTokenResponse githubTokenResponse) {
-        if (githubTokenResponse != null && githubTokenResponse.getAccessToken() == null) {
-            throw new AuthorizationException("깃허브 로그인이 실패했습니다.");
-        }
-    }
-
-    private GithubMemberResponse getGithubMemberResponse(String githubAccessToken) {
-        String token = "token " + githubAccessToken;
-
-        HttpHeaders httpHeaders = new HttpHeaders();
-        httpHeaders.add(HttpHeaders.AUTHORIZATION, token);
-        httpHeaders.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
-        HttpEntity<Void> httpEntity = new HttpEntity<>(httpHeaders);
-
-        GithubMemberResponse githubMemberResponse = restTemplate.exchange(
-            "https://api.github.com/user",
-            HttpMethod.GET,
-            httpEntity,
-            GithubMemberResponse.class,
-            objectMapper
-        ).getBody();
-
-        validateMemberResponse(githubMemberResponse);
-        return githubMemberResponse;
-    }
-
-    private void validateMemberResponse(GithubMemberResponse githubMemberResponse) {
-        if (githubMemberResponse == null) {
-            throw new AuthorizationException("깃허브 유저 정보 가져오기가 실패했습니다.");
-        }
-    }
-
     private Member login(GithubMemberResponse githubMemberResponse) {
         Optional<Member> member = memberRepository.findBySocialId(githubMemberResponse.getSocialId());
         if (member.isEmpty()) {
@@ -129,6 +78,7 @@ public class AuthService {
 
         Member foundMember = member.get();
         foundMember.updateSocialInfo(githubMemberResponse.getSocialNickname(), githubMemberResponse.getAvatarUrl());
+        TransactionUtils.afterCommit(() -> principalCache.evict(foundMember.getId()));
         return foundMember;
     }
 }
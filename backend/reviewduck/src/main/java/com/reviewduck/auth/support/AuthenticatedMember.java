@@ -0,0 +1,40 @@
+package com.reviewduck.auth.support;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 요청의 access token 을 검증한 결과를 요청 속성에 저장해, 같은 요청 안에서 토큰을 다시 검증하지 않도록 한다.
+ */
+public class AuthenticatedMember {
+
+    private static final String MEMBER_ID_ATTRIBUTE = AuthenticatedMember.class.getName() + ".memberId";
+
+    public static long resolveMemberId(HttpServletRequest request, JwtTokenProvider jwtTokenProvider) {
+        Object memberId = request.getAttribute(MEMBER_ID_ATTRIBUTE);
+        if (memberId != null) {
+            return (Long)memberId;
+        }
+
+        String token = AuthorizationExtractor.extract(request);
+        long verifiedMemberId = jwtTokenProvider.verifyAccessToken(token);
+        request.setAttribute(MEMBER_ID_ATTRIBUTE, verifiedMemberId);
+        return verifiedMemberId;
+    }
+
+    /**
+     * 현재 요청에서 이미 검증한 회원 id 를 반환한다. 요청 밖이거나 아직 토큰을 검증하지 않았으면 비어 있다.
+     */
+    public static Optional<Long> findResolvedMemberId() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(
+            (Long)requestAttributes.getAttribute(MEMBER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,155 @@
+package com.reviewduck.auth.support;
+
+import java.net.ConnectException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.reviewduck.auth.dto.request.GithubTokenRequest;
+import com.reviewduck.auth.dto.response.GithubMemberResponse;
+import com.reviewduck.auth.dto.response.GithubTokenResponse;
+import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.exception.OAuthServerException;
+import com.reviewduck.common.util.CircuitBreaker;
+
+/**
+ * 깃허브 OAuth 서버와 통신한다.
+ * 깃허브가 응답하지 않거나 5xx 로 응답하면 무작위로 조금씩 기다리며 정해진 횟수만큼 다시 시도하고,
+ * 실패가 이어지면 잠시 호출을 막는다.
+ * 인증 코드는 한 번만 사용할 수 있으므로, 토큰 발급 요청은 서버에 연결하지 못한 경우에만 다시 시도한다.
+ */
+@Component
+public class GithubOAuthClient {
+
+    private static final String UNAVAILABLE_MESSAGE = "깃허브 로그인을 일시적으로 사용할 수 없습니다.";
+
+    private final RestTemplate restTemplate;
+    private final String clientId;
+    private final String clientSecret;
+    private final String tokenUrl;
+    private final String userUrl;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final CircuitBreaker circuitBreaker;
+
+    public GithubOAuthClient(RestTemplate restTemplate,
+        @Value("${security.oauth2.client-id}") String clientId,
+        @Value("${security.oauth2.client-secret}") String clientSecret,
+        @Value("${security.oauth2.github.token-url:https://github.com/login/oauth/access_token}") String tokenUrl,
+        @Value("${security.oauth2.github.user-url:https://api.github.com/user}") String userUrl,
+        @Value("${security.oauth2.github.max-attempts:2}") int maxAttempts,
+        @Value("${security.oauth2.github.retry-backoff:100}") long retryBackoffMillis,
+        @Value("${security.oauth2.github.failure-threshold:5}") int failureThreshold,
+        @Value("${security.oauth2.github.open-duration:30000}") long openDurationMillis) {
+        this.restTemplate = restTemplate;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.tokenUrl = tokenUrl;
+        this.userUrl = userUrl;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMillis);
+    }
+
+    public String getAccessToken(String code) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        headers.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        HttpEntity<GithubTokenRequest> httpEntity = new HttpEntity<>(
+            new GithubTokenRequest(clientId, clientSecret, code), headers);
+
+        GithubTokenResponse githubTokenResponse = call(
+            () -> restTemplate.exchange(tokenUrl, HttpMethod.POST, httpEntity, GithubTokenResponse.class).getBody(),
+            this::isConnectionFailure
+        );
+
+        if (githubTokenResponse == null || githubTokenResponse.getAccessToken() == null) {
+            throw new AuthorizationException("깃허브 로그인이 실패했습니다.");
+        }
+        return githubTokenResponse.getAccessToken();
+    }
+
+    public GithubMemberResponse getMember(String githubAccessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.AUTHORIZATION, "token " + githubAccessToken);
+        headers.add(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        HttpEntity<Void> httpEntity = new HttpEntity<>(headers);
+
+        GithubMemberResponse githubMemberResponse = call(
+            () -> restTemplate.exchange(userUrl, HttpMethod.GET, httpEntity, GithubMemberResponse.class).getBody(),
+            e -> true
+        );
+
+        if (githubMemberResponse == null) {
+            throw new AuthorizationException("깃허브 유저 정보 가져오기가 실패했습니다.");
+        }
+        return githubMemberResponse;
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    private <T> T call(Supplier<T> request, Predicate<RestClientException> retryable) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new OAuthServerException(UNAVAILABLE_MESSAGE);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T response = request.get();
+                circuitBreaker.onSuccess();
+                return response;
+            } catch (ResourceAccessException | HttpServerErrorException e) {
+                if (attempt < maxAttempts && retryable.test(e) && backOff(attempt)) {
+                    continue;
+                }
+                circuitBreaker.onFailure();
+                throw new OAuthServerException(UNAVAILABLE_MESSAGE);
+            } catch (RestClientException e) {
+                // 4xx 응답은 깃허브가 정상적으로 처리한 결과이므로 실패로 세지 않는다.
+                circuitBreaker.onSuccess();
+                throw new AuthorizationException("깃허브 로그인이 실패했습니다.");
+            } catch (RuntimeException e) {
+                // 예상하지 못한 예외도 실패로 알려야 시험 호출이 결과 없이 끝나 차단 상태에 머무르지 않는다.
+                circuitBreaker.onFailure();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 여러 요청이 같은 순간에 다시 시도하지 않도록, 시도할수록 늘어나는 대기 시간의 절반에서 전부 사이를 무작위로 기다린다.
+     * 기다리는 동안 인터럽트되면 더 시도하지 않는다.
+     */
+    private boolean backOff(int attempt) {
+        long maxDelayMillis = retryBackoffMillis * attempt;
+        if (maxDelayMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelayMillis / 2, maxDelayMillis + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isConnectionFailure(RestClientException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof ConnectException || cause instanceof ConnectTimeoutException;
+    }
+}
@@ -1,10 +1,14 @@
 package com.reviewduck.auth.support;
 
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.reviewduck.auth.exception.AuthorizationException;
 
 import io.jsonwebtoken.Claims;
@@ -21,14 +25,22 @@ public class JwtTokenProvider {
     private final String secretKey;
     private final String refreshSecretKey;
 
+    // 검증을 마친 access token 과 사용자 id. 토큰의 만료 시각이 지나면 캐시에서도 제거된다.
+    private final Cache<String, VerifiedToken> verifiedAccessTokens;
+
     public JwtTokenProvider(@Value("${security.jwt.token.expire-length}") long validityInMilliseconds,
         @Value("${security.jwt.refresh-token.expire-length}") long refreshValidityInMilliseconds,
         @Value("${security.jwt.token.secret-key}") String secretKey,
-        @Value("${security.jwt.refresh-token.secret-key}") String refreshSecretKey) {
+        @Value("${security.jwt.refresh-token.secret-key}") String refreshSecretKey,
+        @Value("${security.jwt.token.cache-size:10000}") long verifiedTokenCacheSize) {
         this.validityInMilliseconds = validityInMilliseconds;
         this.refreshValidityInMilliseconds = refreshValidityInMilliseconds;
         this.secretKey = secretKey;
         this.refreshSecretKey = refreshSecretKey;
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedTokenCacheSize)
+            .expireAfter(new VerifiedTokenExpiry())
+            .build();
     }
 
     public String createAccessToken(String payload) {
@@ -57,11 +69,6 @@ public class JwtTokenProvider {
             .compact();
     }
 
-    public String getAccessTokenPayload(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token)
-            .getBody().getSubject();
-    }
-
     public String getRefreshTokenPayload(String token) {
         return Jwts.parser().setSigningKey(refreshSecretKey).parseClaimsJws(token)
             .getBody().getSubject();
@@ -77,9 +84,19 @@ public class JwtTokenProvider {
         }
     }
 
-    public void validateAccessToken(String token) {
+    /**
+     * access token 을 검증하고 사용자 id 를 반환한다.
+     * 한 번 검증한 토큰은 만료될 때까지 서명을 다시 검증하지 않는다.
+     */
+    public long verifyAccessToken(String token) {
         validateNullToken(token);
-        validateInvalidToken(token, secretKey);
+
+        VerifiedToken verifiedToken = verifiedAccessTokens.getIfPresent(token);
+        if (verifiedToken == null || verifiedToken.isExpired()) {
+            verifiedToken = parseAccessToken(token);
+            verifiedAccessTokens.put(token, verifiedToken);
+        }
+        return verifiedToken.memberId;
     }
 
     public void validateRefreshToken(String token) {
@@ -98,4 +115,56 @@ public class JwtTokenProvider {
             throw new AuthorizationException("인증되지 않은 사용자입니다.");
         }
     }
+
+    private VerifiedToken parseAccessToken(String token) {
+        try {
+            Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            if (expiration == null || expiration.before(new Date())) {
+                throw new AuthorizationException("인증되지 않은 사용자입니다.");
+            }
+            return new VerifiedToken(Long.parseLong(claims.getSubject()), expiration.getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthorizationException("인증되지 않은 사용자입니다.");
+        }
+    }
+
+    private static class VerifiedToken {
+
+        private final long memberId;
+        private final long expiresAt;
+
+        private VerifiedToken(long memberId, long expiresAt) {
+            this.memberId = memberId;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return expiresAt <= System.currentTimeMillis();
+        }
+
+        private long getRemainingNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verifiedToken, long currentTime) {
+            return verifiedToken.getRemainingNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verifiedToken, long currentTime,
+            long currentDuration) {
+            return verifiedToken.getRemainingNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verifiedToken, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -1,12 +1,18 @@
 package com.reviewduck.common.controller;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.reviewduck.common.dto.CacheMetricsResponse;
+import com.reviewduck.common.dto.CacheTierMetricsResponse;
+import com.reviewduck.config.cache.TwoTierCache;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.AllArgsConstructor;
@@ -20,21 +26,61 @@ public class CacheController {
     @Operation(summary = "Member Cache Metric을 조회한다.")
     @GetMapping("/metrics/cache/member")
     public CacheMetricsResponse getMemberCacheMetrics() {
-        CacheStats stats = ((CaffeineCache)cacheManager.getCache("memberCacheStore")).getNativeCache().stats();
-        return CacheMetricsResponse.from(stats);
+        return CacheMetricsResponse.from(getLocalStats("memberCacheStore"));
+    }
+
+    @Operation(summary = "Principal Cache Metric을 조회한다.")
+    @GetMapping("/metrics/cache/principal")
+    public CacheMetricsResponse getPrincipalCacheMetrics() {
+        return CacheMetricsResponse.from(getLocalStats("principalCacheStore"));
     }
 
     @Operation(summary = "Template Cache Metric을 조회한다.")
     @GetMapping("/metrics/cache/template")
     public CacheMetricsResponse getTemplateCacheMetrics() {
-        CacheStats stats = ((CaffeineCache)cacheManager.getCache("templateCacheStore")).getNativeCache().stats();
-        return CacheMetricsResponse.from(stats);
+        return CacheMetricsResponse.from(getLocalStats("templateCacheStore"));
     }
 
     @Operation(summary = "Template list Cache Metric을 조회한다.")
     @GetMapping("/metrics/cache/templates")
     public CacheMetricsResponse getTemplatesCacheMetrics() {
-        CacheStats stats = ((CaffeineCache)cacheManager.getCache("templatesCacheStore")).getNativeCache().stats();
-        return CacheMetricsResponse.from(stats);
+        return CacheMetricsResponse.from(getLocalStats("templatesCacheStore"));
+    }
+
+    @Operation(summary = "Template summary Cache Metric을 조회한다.")
+    @GetMapping("/metrics/cache/template-summary")
+    public CacheMetricsResponse getTemplateSummaryCacheMetrics() {
+        return CacheMetricsResponse.from(getLocalStats("templateSummaryCacheStore"));
+    }
+
+    @Operation(summary = "Template search Cache Metric을 조회한다.")
+    @GetMapping("/metrics/cache/template-search")
+    public CacheMetricsResponse getTemplateSearchCacheMetrics() {
+        return CacheMetricsResponse.from(getLocalStats("templateSearchCacheStore"));
+    }
+
+    @Operation(summary = "Review Form Cache Metric을 조회한다.")
+    @GetMapping("/metrics/cache/review-form")
+    public CacheMetricsResponse getReviewFormCacheMetrics() {
+        return CacheMetricsResponse.from(getLocalStats("reviewFormCacheStore"));
+    }
+
+    @Operation(summary = "공유 캐시의 L1, L2 계층별 Metric을 조회한다.")
+    @GetMapping("/metrics/cache/tiers")
+    public List<CacheTierMetricsResponse> getCacheTierMetrics() {
+        return cacheManager.getCacheNames().stream()
+            .map(cacheManager::getCache)
+            .filter(TwoTierCache.class::isInstance)
+            .map(TwoTierCache.class::cast)
+            .map(cache -> CacheTierMetricsResponse.of(cache.getName(), cache.getStats()))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * 서버 내부 Caffeine 캐시(L1)의 통계를 조회한다.
+     */
+    private CacheStats getLocalStats(String cacheName) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        return ((com.github.benmanes.caffeine.cache.Cache<?, ?>)cache.getNativeCache()).stats();
     }
 }
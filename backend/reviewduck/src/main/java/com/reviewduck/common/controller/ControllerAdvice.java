@@ -1,7 +1,5 @@
 package com.reviewduck.common.controller;
 
-import static com.reviewduck.common.util.Logging.*;
-
 import javax.validation.ConstraintViolationException;
 
 import org.springframework.http.HttpStatus;
@@ -15,10 +13,17 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.exception.OAuthServerException;
 import com.reviewduck.common.dto.ErrorResponse;
 import com.reviewduck.common.exception.CustomException;
 import com.reviewduck.common.exception.NotFoundException;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클라이언트의 잘못으로 생긴 4xx 는 WARN 으로 메시지만, 예상하지 못한 5xx 는 ERROR 로 스택 트레이스와 함께 남긴다.
+ */
+@Slf4j
 @RestControllerAdvice
 public class ControllerAdvice {
 
@@ -26,7 +31,7 @@ public class ControllerAdvice {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleCustomException(Exception e) {
 
-        error(e.getMessage());
+        log.warn("message={}", e.getMessage());
 
         return new ErrorResponse(e.getMessage());
     }
@@ -35,7 +40,7 @@ public class ControllerAdvice {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleParameter(MethodArgumentNotValidException e) {
 
-        error(e.getMessage());
+        log.warn("message={}", e.getMessage());
 
         StringBuilder message = new StringBuilder();
 
@@ -50,7 +55,7 @@ public class ControllerAdvice {
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleNotFoundException(Exception e) {
 
-        error(e.getMessage());
+        log.warn("message={}", e.getMessage());
 
         return new ErrorResponse(e.getMessage());
     }
@@ -59,7 +64,16 @@ public class ControllerAdvice {
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public ErrorResponse handleAuthorizationException(Exception e) {
 
-        error(e.getMessage());
+        log.warn("message={}", e.getMessage());
+
+        return new ErrorResponse(e.getMessage());
+    }
+
+    @ExceptionHandler(OAuthServerException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleOAuthServerException(Exception e) {
+
+        log.warn("message={}", e.getMessage());
 
         return new ErrorResponse(e.getMessage());
     }
@@ -73,7 +87,7 @@ public class ControllerAdvice {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleHttpMessageNotReadableException(Exception e) {
 
-        error(e.getMessage());
+        log.warn("message={}", e.getMessage());
 
         return new ErrorResponse("파라미터 정보가 올바르지 않습니다.");
     }
@@ -82,7 +96,7 @@ public class ControllerAdvice {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErrorResponse handleException(Exception e) {
 
-        error(e.getMessage());
+        log.error("예상치 못한 오류가 발생했습니다.", e);
 
         return new ErrorResponse("예상치 못한 오류가 발생하였습니다.");
     }
@@ -23,4 +23,11 @@ public abstract class BaseDate {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /**
+     * 자식 엔티티만 바뀌어 자신은 UPDATE 대상이 아닐 때도 수정 시각이 갱신되도록 한다.
+     */
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
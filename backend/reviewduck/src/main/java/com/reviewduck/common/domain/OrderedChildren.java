@@ -0,0 +1,53 @@
+package com.reviewduck.common.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 순서가 있는 자식 엔티티 목록을 요청 목록과 같아지도록 맞춘다.
+ * 기존 자식은 key 로 만든 Map 에서 찾아 내용만 갱신하고, 찾지 못한 요청은 새 자식으로 만든다.
+ * 요청에 없는 자식은 목록에서 빠지므로 orphanRemoval 로 삭제된다.
+ * position 은 값이 달라진 자식에만 기록하므로, 바뀌지 않은 자식에는 UPDATE 가 실행되지 않는다.
+ */
+public final class OrderedChildren {
+
+    private OrderedChildren() {
+    }
+
+    public static <E extends Positioned, R> void sync(List<E> children, List<R> requests,
+        Function<E, ?> childKey, Function<R, ?> requestKey, BiConsumer<E, R> updater, Function<R, E> creator) {
+        Map<Object, E> childrenByKey = new HashMap<>();
+        for (E child : children) {
+            childrenByKey.put(childKey.apply(child), child);
+        }
+
+        List<E> synced = new ArrayList<>(requests.size());
+        for (R request : requests) {
+            Object key = requestKey.apply(request);
+            E child = key == null ? null : childrenByKey.remove(key);
+            if (child == null) {
+                synced.add(creator.apply(request));
+                continue;
+            }
+            updater.accept(child, request);
+            synced.add(child);
+        }
+
+        children.clear();
+        children.addAll(synced);
+        arrange(children);
+    }
+
+    public static void arrange(List<? extends Positioned> children) {
+        for (int index = 0; index < children.size(); index++) {
+            Positioned child = children.get(index);
+            if (child.getPosition() != index) {
+                child.setPosition(index);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.reviewduck.common.domain;
+
+/**
+ * 부모 엔티티의 목록 안에서 순서를 position 컬럼으로 저장하는 자식 엔티티
+ */
+public interface Positioned {
+
+    int getPosition();
+
+    void setPosition(int position);
+}
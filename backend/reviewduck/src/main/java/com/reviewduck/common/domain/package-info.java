@@ -0,0 +1,17 @@
+/**
+ * 엔티티 id 는 @GeneratedValue(generator = "pooled_sequence") 로 이 생성기를 사용한다.
+ * 시퀀스 이름은 엔티티 테이블 이름 뒤에 _seq 를 붙여 정한다. (ReservePoolSequenceGenerator 참고)
+ */
+@GenericGenerator(
+    name = "pooled_sequence",
+    strategy = "com.reviewduck.config.datasource.ReservePoolSequenceGenerator",
+    parameters = {
+        @Parameter(name = SequenceStyleGenerator.FORCE_TBL_PARAM, value = "true"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+        @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    })
+package com.reviewduck.common.domain;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
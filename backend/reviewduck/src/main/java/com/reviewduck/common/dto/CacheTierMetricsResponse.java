@@ -0,0 +1,26 @@
+package com.reviewduck.common.dto;
+
+import com.reviewduck.config.cache.TwoTierCache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class CacheTierMetricsResponse {
+
+    private String cacheName;
+    private long requestCount;
+    private long l1HitCount;
+    private double l1HitRate;
+    private long l2HitCount;
+    private double l2HitRate;
+    private long missCount;
+    private long refreshCount;
+
+    public static CacheTierMetricsResponse of(String cacheName, TwoTierCache.TwoTierCacheStats stats) {
+        return new CacheTierMetricsResponse(cacheName, stats.getRequestCount(), stats.getL1HitCount(),
+            stats.getL1HitRate(), stats.getL2HitCount(), stats.getL2HitRate(), stats.getMissCount(), stats.getRefreshCount());
+    }
+}
@@ -0,0 +1,85 @@
+package com.reviewduck.common.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 요청마다 메서드, uri, 응답 상태와 처리 시간을 INFO 로 한 줄 남긴다.
+ * 요청 본문은 DEBUG 가 켜져 있을 때만 payload-sample-rate 비율로 골라 max-payload-length 까지만 남기며,
+ * 로그인 요청의 본문은 인증 코드가 들어 있으므로 남기지 않는다.
+ * INFO 가 꺼져 있으면 요청을 감싸지 않고 바로 넘긴다.
+ */
+@Slf4j
+@Component
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String LOGIN_PREFIX = "/api/login";
+
+    private final int maxPayloadLength;
+    private final double payloadSampleRate;
+
+    public RequestLoggingFilter(@Value("${logging.request.max-payload-length:1000}") int maxPayloadLength,
+        @Value("${logging.request.payload-sample-rate:1.0}") double payloadSampleRate) {
+        this.maxPayloadLength = maxPayloadLength;
+        this.payloadSampleRate = payloadSampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !log.isInfoEnabled() || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        boolean logPayload = log.isDebugEnabled() && hasLoggablePayload(request) && isSampled();
+        HttpServletRequest loggedRequest = logPayload
+            ? new ContentCachingRequestWrapper(request, maxPayloadLength)
+            : request;
+
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(loggedRequest, response);
+        } finally {
+            log.info("method={} uri={} query={} status={} elapsed={}ms", request.getMethod(),
+                request.getRequestURI(), request.getQueryString(), response.getStatus(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            if (logPayload) {
+                log.debug("method={} uri={} payload={}", request.getMethod(), request.getRequestURI(),
+                    readPayload((ContentCachingRequestWrapper)loggedRequest));
+            }
+        }
+    }
+
+    private boolean hasLoggablePayload(HttpServletRequest request) {
+        return request.getContentLength() != 0 && !request.getRequestURI().startsWith(LOGIN_PREFIX);
+    }
+
+    private boolean isSampled() {
+        return payloadSampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < payloadSampleRate;
+    }
+
+    private String readPayload(ContentCachingRequestWrapper request) {
+        byte[] content = request.getContentAsByteArray();
+        String payload = new String(content, 0, Math.min(content.length, maxPayloadLength), StandardCharsets.UTF_8);
+        if (request.getContentLength() > maxPayloadLength) {
+            return payload + "...(" + request.getContentLength() + " bytes)";
+        }
+        return payload;
+    }
+}
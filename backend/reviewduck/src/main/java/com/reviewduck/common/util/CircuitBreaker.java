@@ -0,0 +1,63 @@
+package com.reviewduck.common.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 서버 호출이 연속으로 실패하면 일정 시간 동안 호출을 막는다.
+ * 차단 시간이 지나면 한 번의 시험 호출만 허용하고, 성공하면 다시 모든 호출을 허용한다.
+ */
+public class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this(failureThreshold, openDurationMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openDurationMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출할 수 있으면 true 를 반환한다. true 를 받은 호출은 반드시 onSuccess 나 onFailure 로 결과를 알려야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
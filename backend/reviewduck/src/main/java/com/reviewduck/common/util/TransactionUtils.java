@@ -0,0 +1,54 @@
+package com.reviewduck.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+    private static final ThreadLocal<Boolean> RUNNING_AFTER_COMMIT = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * 진행 중인 쓰기 트랜잭션이 커밋되기 직전에 그 트랜잭션 안에서 작업을 실행한다.
+     * 쓰기 트랜잭션 밖이거나 이미 커밋 이후 단계라면 등록하지 않고 false 를 반환한다.
+     */
+    public static boolean beforeCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || RUNNING_AFTER_COMMIT.get()) {
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                task.run();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 이후에 작업을 실행한다.
+     * 트랜잭션 밖이나 다른 커밋 이후 작업 안에서 호출되면 즉시 실행한다.
+     * 커밋 이후 단계에서 새로 등록한 작업은 호출되지 않기 때문이다.
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || RUNNING_AFTER_COMMIT.get()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                RUNNING_AFTER_COMMIT.set(true);
+                try {
+                    task.run();
+                } finally {
+                    RUNNING_AFTER_COMMIT.set(false);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.reviewduck.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 회고 답변처럼 한 번에 여러 행을 저장하는 경우 insert, update 를 JDBC 배치로 묶어 보낸다.
+ * 설정 파일에 같은 속성이 있으면 설정 파일의 값을 따른다.
+ */
+@Configuration
+public class HibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -1,23 +1,38 @@
 package com.reviewduck.config.cache;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
 public class CacheConfig {
 
+    /**
+     * 여러 서버가 공유하는 캐시는 L1(Caffeine) 과 L2 저장소로 구성하고, 무효화 로그로 다른 서버에 제거를 전파한다.
+     * 아직 L2CacheStore 구현은 없으므로, 빈을 따로 등록하지 않으면 공유 캐시는 서버별 L1 과 무효화 로그만으로 동작한다.
+     * 이때도 제거할 때마다 cache_invalidation 에 한 행을 기록하고, 각 서버는 이 테이블을 주기적으로 읽는다.
+     */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(ObjectProvider<L2CacheStore> l2CacheStoreProvider,
+        CacheInvalidationPublisher cacheInvalidationPublisher, CacheRefresher cacheRefresher) {
+        L2CacheStore l2CacheStore = l2CacheStoreProvider.getIfAvailable(() -> {
+            log.info("L2 캐시 저장소가 없어 공유 캐시는 L1 과 무효화 로그만 사용합니다.");
+            return new NoOpL2CacheStore();
+        });
 
-        List<CaffeineCache> caches = Arrays.stream(CacheType.values())
-            .map(CacheType::buildCache)
+        List<Cache> caches = Arrays.stream(CacheType.values())
+            .map(cacheType -> buildCache(cacheType, l2CacheStore, cacheInvalidationPublisher, cacheRefresher))
             .collect(Collectors.toUnmodifiableList());
 
         SimpleCacheManager cacheManager = new SimpleCacheManager();
@@ -25,4 +40,14 @@ public class CacheConfig {
 
         return cacheManager;
     }
+
+    private Cache buildCache(CacheType cacheType, L2CacheStore l2CacheStore,
+        CacheInvalidationPublisher cacheInvalidationPublisher, CacheRefresher cacheRefresher) {
+        if (!cacheType.isShared()) {
+            return cacheType.buildCache();
+        }
+        return new TwoTierCache(cacheType.buildCache(), l2CacheStore, cacheInvalidationPublisher,
+            Duration.ofSeconds(cacheType.getDuration()), Duration.ofSeconds(cacheType.getRefreshAfter()),
+            cacheRefresher);
+    }
 }
@@ -0,0 +1,13 @@
+package com.reviewduck.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    private final long id;
+    private final String cacheName;
+    private final String cacheKey;
+}
@@ -0,0 +1,12 @@
+package com.reviewduck.config.cache;
+
+/**
+ * 캐시가 아닌 서버별 메모리 상태를 무효화 로그로 다른 서버와 맞출 때 사용한다.
+ * 이 서버에서 기록한 무효화도 전달되므로, 전달받은 key 는 DB 에서 다시 읽어 반영해야 한다.
+ */
+public interface CacheInvalidationListener {
+
+    String getCacheName();
+
+    void onInvalidation(String key);
+}
@@ -0,0 +1,93 @@
+package com.reviewduck.config.cache;
+
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.common.util.TransactionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 무효화 내역을 DB 에 기록하고 조회한다.
+ * 각 서버는 이 로그를 주기적으로 읽어 다른 서버에서 발생한 무효화를 자신의 캐시에 반영한다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationLog implements CacheInvalidationPublisher {
+
+    private static final RowMapper<CacheInvalidation> ROW_MAPPER = (rs, rowNum) -> new CacheInvalidation(
+        rs.getLong("id"), rs.getString("cache_name"), rs.getString("cache_key"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public CacheInvalidationLog(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 변경 사항이 커밋되기 전에 다른 서버가 이전 값을 다시 캐싱하지 않도록, 기록은 변경 사항과 함께 또는 그 뒤에 보이게 한다.
+     * 쓰기 트랜잭션 안이라면 커밋 직전에 같은 트랜잭션으로 기록해, 커넥션을 쥔 채로 커넥션을 하나 더 얻지 않는다.
+     * 그 밖의 경우에는 커밋 이후에 새 트랜잭션으로 기록한다.
+     */
+    @Override
+    public void publish(String cacheName, String key) {
+        if (TransactionUtils.beforeCommit(() -> insert(cacheName, key))) {
+            return;
+        }
+        TransactionUtils.afterCommit(
+            () -> newTransactionTemplate.executeWithoutResult(status -> insert(cacheName, key)));
+    }
+
+    /**
+     * lastId 이후의 기록을 id 순서대로 limit 개까지 조회한다.
+     */
+    public List<CacheInvalidation> findAfter(long lastId, int limit) {
+        return jdbcTemplate.query("select id, cache_name, cache_key from cache_invalidation "
+                + "where id > ? order by id limit ?",
+            ROW_MAPPER, lastId, limit);
+    }
+
+    /**
+     * 최근 lookbackSeconds 초 동안 기록된 것 중 id 가 upToId 이하인 기록을 최근 순서로 limit 개까지 조회한다.
+     * auto increment 값은 커밋 순서와 다를 수 있어, lastId 보다 작은 id 로 늦게 커밋된 기록을 이것으로 다시 찾는다.
+     */
+    public List<CacheInvalidation> findRecent(long upToId, int lookbackSeconds, int limit) {
+        return jdbcTemplate.query("select id, cache_name, cache_key from cache_invalidation "
+                + "where created_at >= now(3) - interval ? second and id <= ? "
+                + "order by created_at desc limit ?",
+            ROW_MAPPER, lookbackSeconds, upToId, limit);
+    }
+
+    public long findLastId() {
+        Long lastId = jdbcTemplate.queryForObject("select max(id) from cache_invalidation", Long.class);
+        if (lastId == null) {
+            return 0;
+        }
+        return lastId;
+    }
+
+    public int deleteOlderThan(int retentionMinutes) {
+        return jdbcTemplate.update("delete from cache_invalidation where created_at < now(3) - interval ? minute",
+            retentionMinutes);
+    }
+
+    private void insert(String cacheName, String key) {
+        try {
+            jdbcTemplate.update(
+                "insert into cache_invalidation (cache_name, cache_key, created_at) values (?, ?, now(3))",
+                cacheName, key);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 기록에 실패했습니다. cacheName={}, key={}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.reviewduck.config.cache;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 무효화 로그를 주기적으로 읽어 이 서버의 캐시에 반영한다.
+ * 이 서버가 기록한 무효화도 함께 반영하므로, 커밋 직전에 다시 캐싱된 이전 값도 한 번 더 제거된다.
+ * 새 기록은 lastId 이후부터 id 순서로 끝까지 읽고, 늦게 커밋된 기록은 최근 기록을 따로 다시 읽어 찾는다.
+ * 캐시 이름이 같은 CacheInvalidationListener 가 있으면 그 리스너에도 전달한다.
+ * 공유 캐시는 레플리카에서 읽어 다시 채워지므로, 무효화 직후 아직 복제되지 않은 이전 값이 다시 캐싱될 수 있다.
+ * 그래서 레플리카가 라우팅에서 빠지기 전까지 뒤처질 수 있는 시간(max-lag-seconds + probe-interval)이 지나면 한 번 더 제거한다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPoller {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CacheInvalidationLog cacheInvalidationLog;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<CacheInvalidationListener> listeners;
+    private final int lookbackSeconds;
+    private final int retentionMinutes;
+    private final long replayDelayMillis;
+
+    private final Map<Long, Long> recentlyApplied = new LinkedHashMap<>();
+    private final Deque<Replay> replays = new ArrayDeque<>();
+    private volatile boolean ready = false;
+    private long lastId;
+
+    public CacheInvalidationPoller(CacheInvalidationLog cacheInvalidationLog, CacheManager cacheManager,
+        ObjectProvider<CacheInvalidationListener> listeners,
+        @Value("${cache.invalidation.lookback-seconds:5}") int lookbackSeconds,
+        @Value("${cache.invalidation.retention-minutes:60}") int retentionMinutes,
+        @Value("#{${spring.datasource.routing.max-lag-seconds:5} * 1000"
+            + " + ${spring.datasource.routing.probe-interval:5000}}") long replayDelayMillis) {
+        this.cacheInvalidationLog = cacheInvalidationLog;
+        this.cacheManager = cacheManager;
+        this.listeners = listeners;
+        this.lookbackSeconds = lookbackSeconds;
+        this.retentionMinutes = retentionMinutes;
+        this.replayDelayMillis = replayDelayMillis;
+    }
+
+    /**
+     * 서버가 시작되기 전의 무효화는 이미 비어있는 캐시에 반영할 필요가 없으므로 마지막 기록부터 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        lastId = cacheInvalidationLog.findLastId();
+        ready = true;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval:1000}")
+    public synchronized void poll() {
+        if (!ready) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            replayDueBy(now);
+            applyAll(cacheInvalidationLog.findRecent(lastId, lookbackSeconds, BATCH_SIZE), now);
+
+            List<CacheInvalidation> invalidations;
+            do {
+                invalidations = cacheInvalidationLog.findAfter(lastId, BATCH_SIZE);
+                applyAll(invalidations, now);
+            } while (invalidations.size() == BATCH_SIZE);
+
+            forgetAppliedBefore(now - lookbackSeconds * 2000L);
+        } catch (DataAccessException e) {
+            log.warn("캐시 무효화 로그를 읽지 못했습니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval:600000}")
+    public void cleanUp() {
+        try {
+            cacheInvalidationLog.deleteOlderThan(retentionMinutes);
+        } catch (DataAccessException e) {
+            log.warn("오래된 캐시 무효화 로그를 삭제하지 못했습니다.", e);
+        }
+    }
+
+    private void applyAll(List<CacheInvalidation> invalidations, long now) {
+        for (CacheInvalidation invalidation : invalidations) {
+            lastId = Math.max(lastId, invalidation.getId());
+            if (recentlyApplied.putIfAbsent(invalidation.getId(), now) == null) {
+                apply(invalidation);
+            }
+        }
+    }
+
+    private void apply(CacheInvalidation invalidation) {
+        Cache cache = cacheManager.getCache(invalidation.getCacheName());
+        if (cache instanceof TwoTierCache) {
+            ((TwoTierCache)cache).evictLocally(invalidation.getCacheKey());
+            replays.addLast(new Replay((TwoTierCache)cache, invalidation.getCacheKey(),
+                System.currentTimeMillis() + replayDelayMillis));
+        }
+        listeners.orderedStream()
+            .filter(listener -> listener.getCacheName().equals(invalidation.getCacheName()))
+            .forEach(listener -> listener.onInvalidation(invalidation.getCacheKey()));
+    }
+
+    /**
+     * 리스너는 전달받은 key 를 소스에서 다시 읽으므로 캐시에서만 한 번 더 제거한다.
+     */
+    private void replayDueBy(long time) {
+        while (!replays.isEmpty() && replays.peekFirst().dueAt <= time) {
+            Replay replay = replays.pollFirst();
+            replay.cache.evictLocally(replay.cacheKey);
+        }
+    }
+
+    private void forgetAppliedBefore(long time) {
+        Iterator<Long> appliedAt = recentlyApplied.values().iterator();
+        while (appliedAt.hasNext() && appliedAt.next() < time) {
+            appliedAt.remove();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Replay {
+
+        private final TwoTierCache cache;
+        private final String cacheKey;
+        private final long dueAt;
+    }
+}
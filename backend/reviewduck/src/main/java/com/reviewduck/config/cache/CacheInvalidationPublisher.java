@@ -0,0 +1,10 @@
+package com.reviewduck.config.cache;
+
+/**
+ * 캐시 무효화를 다른 서버에 전파한다.
+ * key 가 null 이면 해당 캐시 전체를 무효화한다.
+ */
+public interface CacheInvalidationPublisher {
+
+    void publish(String cacheName, String key);
+}
@@ -0,0 +1,48 @@
+package com.reviewduck.config.cache;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료가 가까운 캐시 값을 백그라운드에서 다시 로드한다.
+ * 로더는 요청 스레드의 트랜잭션 밖에서 실행되므로 읽기 전용 트랜잭션 안에서 실행한다.
+ * 대기열이 가득 차면 작업을 거절하고, 해당 값은 만료된 뒤 요청 스레드에서 다시 로드된다.
+ */
+@Component
+public class CacheRefresher implements Executor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    public CacheRefresher(PlatformTransactionManager transactionManager,
+        @Value("${cache.refresh.pool-size:2}") int poolSize,
+        @Value("${cache.refresh.queue-capacity:100}") int queueCapacity) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("cache-refresh-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(() -> transactionTemplate.executeWithoutResult(status -> task.run()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
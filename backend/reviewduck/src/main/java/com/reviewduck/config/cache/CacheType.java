@@ -14,13 +14,22 @@ import lombok.Getter;
 @Getter
 public enum CacheType {
 
-    MemberCache("memberCacheStore", 10 * 60, 150),
-    TemplateCache("templateCacheStore", 10 * 60, 300),
-    TemplatesCache("templatesCacheStore", 60, 100);
+    MemberCache("memberCacheStore", 10 * 60, 8 * 60, 150, true),
+    PrincipalCache("principalCacheStore", 10 * 60, 8 * 60, 10000, true),
+    TemplateCache("templateCacheStore", 10 * 60, 8 * 60, 300, true),
+    TemplatesCache("templatesCacheStore", 60, 45, 100, true),
+    TemplateSummaryCache("templateSummaryCacheStore", 5 * 60, 0, 1000, true),
+    TemplateSearchCache("templateSearchCacheStore", 60, 45, 100, true),
+    CountCache("countCacheStore", 5 * 60, 0, 1000, false),
+    ReviewFormCache("reviewFormCacheStore", 5 * 60, 0, 500, true);
 
     private final String cacheName;
     private final long duration;
+    // 로더와 함께 조회할 때 이 시간(초)이 지난 값은 만료 전에 백그라운드에서 갱신한다. 0 이면 갱신하지 않는다.
+    private final long refreshAfter;
     private final long maxSize;
+    // 여러 서버가 공유해야 하는 캐시인지 여부. 공유 캐시는 무효화 로그를 사용하고, L2 저장소가 있으면 함께 사용한다.
+    private final boolean shared;
 
     public CaffeineCache buildCache() {
         return new CaffeineCache(cacheName, Caffeine.newBuilder()
@@ -0,0 +1,23 @@
+package com.reviewduck.config.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@Getter
+public class CountKey {
+
+    private final String type;
+    private final String target;
+
+    public static CountKey of(String type, Object target) {
+        return new CountKey(type, String.valueOf(target));
+    }
+
+    public boolean isTypeOf(String type) {
+        return this.type.equals(type);
+    }
+}
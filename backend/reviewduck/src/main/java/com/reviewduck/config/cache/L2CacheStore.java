@@ -0,0 +1,18 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+
+/**
+ * 여러 서버가 함께 사용하는 2차 캐시 저장소
+ * 키는 서버 간에 주고받을 수 있도록 문자열로 변환해서 전달한다.
+ */
+public interface L2CacheStore {
+
+    Object get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, Duration timeToLive);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
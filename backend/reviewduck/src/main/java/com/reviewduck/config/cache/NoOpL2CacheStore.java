@@ -0,0 +1,27 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+
+/**
+ * 공유 L2 저장소가 설정되지 않았을 때 사용하는 빈 저장소
+ * 서버 내부에 L1 을 한 벌 더 두면 메모리만 두 배로 쓰고 적중률도 의미가 없으므로, 아무것도 저장하지 않는다.
+ */
+public class NoOpL2CacheStore implements L2CacheStore {
+
+    @Override
+    public Object get(String cacheName, String key) {
+        return null;
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration timeToLive) {
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+    }
+
+    @Override
+    public void clear(String cacheName) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.reviewduck.config.cache;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import com.reviewduck.common.util.TransactionUtils;
+
+/**
+ * 목록 화면에 표시하는 전체 개수를 캐싱한다.
+ * 쓰기 작업이 커밋되면 이미 캐싱된 개수만 증감시키고, 증감으로 맞출 수 없는 개수는 캐시에서 제거한다.
+ * 만료된 개수는 다음 조회 시 count 쿼리로 다시 보정되므로 전체 개수는 근사값이다.
+ */
+@Component
+public class TotalCountCache {
+
+    private final CaffeineCache cache;
+
+    public TotalCountCache(CacheManager cacheManager) {
+        this.cache = (CaffeineCache)Objects.requireNonNull(
+            cacheManager.getCache(CacheType.CountCache.getCacheName()));
+    }
+
+    public long get(CountKey key, Supplier<Long> counter) {
+        return Objects.requireNonNull(cache.get(key, counter::get));
+    }
+
+    public void increase(CountKey key) {
+        adjust(key, 1);
+    }
+
+    public void decrease(CountKey key) {
+        adjust(key, -1);
+    }
+
+    public void evictIf(Predicate<CountKey> condition) {
+        TransactionUtils.afterCommit(() -> nativeMap().keySet().removeIf(key -> condition.test((CountKey)key)));
+    }
+
+    private void adjust(CountKey key, long delta) {
+        TransactionUtils.afterCommit(
+            () -> nativeMap().computeIfPresent(key, (k, count) -> Math.max(0L, (Long)count + delta)));
+    }
+
+    private ConcurrentMap<Object, Object> nativeMap() {
+        return cache.getNativeCache().asMap();
+    }
+}
@@ -0,0 +1,292 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 내부의 Caffeine 캐시(L1)와 서버 간에 공유하는 L2 저장소를 차례로 조회하는 캐시
+ * L2 저장소 빈이 없으면 L2 는 아무것도 저장하지 않으므로, L1 과 무효화 로그만으로 동작한다. (CacheConfig 참고)
+ * 값을 제거하면 L1, L2 에서 모두 제거하고 무효화 로그에 기록해 다른 서버의 L1 도 비우도록 한다.
+ * L1 도 L2 와 같은 문자열 키로 저장해, 다른 서버에서 전파된 키를 그대로 제거할 수 있게 한다.
+ * 로더와 함께 조회하면 같은 키의 동시 미스는 한 번만 로드하고,
+ * refreshAfter 가 지난 값은 기존 값을 돌려주면서 백그라운드에서 미리 갱신한다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final CaffeineCache local;
+    private final L2CacheStore l2CacheStore;
+    private final CacheInvalidationPublisher publisher;
+    private final Duration timeToLive;
+    private final Duration refreshAfter;
+    private final Executor refreshExecutor;
+
+    private final Map<Object, Boolean> refreshingKeys = new ConcurrentHashMap<>();
+    private final Object invalidationLock = new Object();
+    private long invalidationCount;
+
+    private final LongAdder l1HitCount = new LongAdder();
+    private final LongAdder l2HitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+
+    public TwoTierCache(CaffeineCache local, L2CacheStore l2CacheStore, CacheInvalidationPublisher publisher,
+        Duration timeToLive, Duration refreshAfter, Executor refreshExecutor) {
+        super(true);
+        this.local = local;
+        this.l2CacheStore = l2CacheStore;
+        this.publisher = publisher;
+        this.timeToLive = timeToLive;
+        this.refreshAfter = refreshAfter;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    public CaffeineCache getLocalCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = toL2Key(key);
+        Object value = localCache().getIfPresent(cacheKey);
+        if (value != null) {
+            l1HitCount.increment();
+            return value;
+        }
+
+        value = l2CacheStore.get(getName(), cacheKey);
+        if (value != null) {
+            l2HitCount.increment();
+            localCache().put(cacheKey, value);
+            return value;
+        }
+
+        missCount.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            refreshIfStale(key, valueLoader);
+            return (T)fromStoreValue(value);
+        }
+
+        Object loaded = localCache().get(toL2Key(key), cacheKey -> {
+            Object storeValue = toStoreValue(load(valueLoader, key));
+            l2CacheStore.put(getName(), cacheKey, storeValue, timeToLive);
+            return storeValue;
+        });
+        return (T)fromStoreValue(loaded);
+    }
+
+    /**
+     * 직접 저장한 값이 그보다 먼저 시작된 백그라운드 갱신의 값으로 덮이지 않도록 무효화와 같이 센다.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = toL2Key(key);
+        Object storeValue = toStoreValue(value);
+        synchronized (invalidationLock) {
+            invalidationCount++;
+            localCache().put(cacheKey, storeValue);
+        }
+        l2CacheStore.put(getName(), cacheKey, storeValue, timeToLive);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toL2Key(key);
+        synchronized (invalidationLock) {
+            invalidationCount++;
+            localCache().invalidate(cacheKey);
+        }
+        l2CacheStore.evict(getName(), cacheKey);
+        publisher.publish(getName(), cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (invalidationLock) {
+            invalidationCount++;
+            localCache().invalidateAll();
+        }
+        l2CacheStore.clear(getName());
+        publisher.publish(getName(), null);
+    }
+
+    /**
+     * 다른 서버에서 전파된 무효화를 이 서버에만 반영한다.
+     */
+    public void evictLocally(String key) {
+        synchronized (invalidationLock) {
+            invalidationCount++;
+            if (key == null) {
+                localCache().invalidateAll();
+            } else {
+                localCache().invalidate(key);
+            }
+        }
+
+        if (key == null) {
+            l2CacheStore.clear(getName());
+            return;
+        }
+        l2CacheStore.evict(getName(), key);
+    }
+
+    /**
+     * 이 서버의 L1 에 있는 키 중 조건에 맞는 키를 이 서버에서만 제거한다.
+     * L2 는 키를 나열할 수 없으므로 L1 에서 찾은 키만 L2 에서도 제거한다.
+     */
+    public void evictLocallyIf(Predicate<String> keyPredicate) {
+        List<String> keys = localCache().asMap().keySet().stream()
+            .map(String.class::cast)
+            .filter(keyPredicate)
+            .collect(Collectors.toUnmodifiableList());
+        keys.forEach(this::evictLocally);
+    }
+
+    public TwoTierCacheStats getStats() {
+        return new TwoTierCacheStats(l1HitCount.sum(), l2HitCount.sum(), missCount.sum(), refreshCount.sum());
+    }
+
+    /**
+     * 같은 키의 갱신은 한 번에 하나만 실행한다.
+     * 갱신하는 동안 무효화나 저장이 일어났다면 이미 지난 값이므로 저장하지 않는다.
+     */
+    private void refreshIfStale(Object key, Callable<?> valueLoader) {
+        if (!isStale(key) || refreshingKeys.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+
+        long expectedInvalidationCount = currentInvalidationCount();
+        try {
+            refreshExecutor.execute(() -> refresh(key, valueLoader, expectedInvalidationCount));
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader, long expectedInvalidationCount) {
+        try {
+            String cacheKey = toL2Key(key);
+            Object storeValue = toStoreValue(valueLoader.call());
+            synchronized (invalidationLock) {
+                if (invalidationCount != expectedInvalidationCount) {
+                    return;
+                }
+                localCache().put(cacheKey, storeValue);
+            }
+            l2CacheStore.put(getName(), cacheKey, storeValue, timeToLive);
+            refreshCount.increment();
+        } catch (Exception e) {
+            log.warn("캐시 갱신에 실패했습니다. cache={}, key={}", getName(), key, e);
+        } finally {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private boolean isStale(Object key) {
+        if (refreshAfter.isZero()) {
+            return false;
+        }
+        String cacheKey = toL2Key(key);
+        return localCache().policy().expireAfterWrite()
+            .map(expiration -> expiration.ageOf(cacheKey, TimeUnit.MILLISECONDS).orElse(0L) >= refreshAfter.toMillis())
+            .orElse(false);
+    }
+
+    private long currentInvalidationCount() {
+        synchronized (invalidationLock) {
+            return invalidationCount;
+        }
+    }
+
+    private Cache<Object, Object> localCache() {
+        return local.getNativeCache();
+    }
+
+    /**
+     * 서로 다른 타입의 키가 같은 문자열이 되지 않도록 타입 이름을 붙인다. (ex. Long:1, String:1)
+     */
+    private String toL2Key(Object key) {
+        return key.getClass().getSimpleName() + ":" + key;
+    }
+
+    private <T> T load(Callable<T> valueLoader, Object key) {
+        try {
+            return valueLoader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @Getter
+    public static class TwoTierCacheStats {
+
+        private final long l1HitCount;
+        private final long l2HitCount;
+        private final long missCount;
+        private final long refreshCount;
+
+        public long getRequestCount() {
+            return l1HitCount + l2HitCount + missCount;
+        }
+
+        public double getL1HitRate() {
+            return rate(l1HitCount, getRequestCount());
+        }
+
+        /**
+         * L1 에서 찾지 못해 L2 까지 조회한 요청 중 L2 에서 찾은 비율
+         */
+        public double getL2HitRate() {
+            return rate(l2HitCount, l2HitCount + missCount);
+        }
+
+        /**
+         * 조회가 없었던 계층은 적중한 것이 아니므로 0 으로 보고한다.
+         */
+        private double rate(long count, long total) {
+            if (total == 0) {
+                return 0;
+            }
+            return (double)count / total;
+        }
+    }
+}
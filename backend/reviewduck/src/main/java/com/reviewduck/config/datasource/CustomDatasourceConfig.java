@@ -2,39 +2,82 @@ package com.reviewduck.config.datasource;
 
 import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
+import com.reviewduck.auth.support.AuthenticatedMember;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @Configuration(proxyBeanMethods = false)
 public class CustomDatasourceConfig {
 
     @Bean
-    public DataSource routingDataSource(
+    public ReplicaDataSources replicaDataSources(Environment environment) {
+        Map<String, HikariDataSource> dataSources = Binder.get(environment)
+            .bind("spring.datasource.replicas", Bindable.mapOf(String.class, HikariDataSource.class))
+            .orElse(Map.of());
+        return new ReplicaDataSources(Map.<String, DataSource>copyOf(dataSources));
+    }
+
+    @Bean
+    public ReplicaLoadBalancer replicaLoadBalancer(
         @Qualifier(SOURCE) final DataSource sourceDataSource,
-        @Qualifier(REPLICA) final DataSource replicaDataSource
+        @Qualifier(REPLICA) final DataSource replicaDataSource,
+        final ReplicaDataSources replicaDataSources,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${spring.datasource.routing.strategy:LEAST_OUTSTANDING}") final RoutingStrategy strategy,
+        @Value("${spring.datasource.routing.source-weight:1}") final int sourceWeight,
+        @Value("${spring.datasource.routing.replica-weight:2}") final int replicaWeight,
+        @Value("${spring.datasource.routing.max-lag-seconds:5}") final long maxLagSeconds
     ) {
-        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+        List<RoutingTarget> replicas = new ArrayList<>();
+        replicas.add(new RoutingTarget(REPLICA, replicaDataSource, replicaWeight));
+        replicaDataSources.getDataSources().forEach((name, dataSource) ->
+            replicas.add(new RoutingTarget(REPLICA + "-" + name, dataSource, replicaWeight)));
 
-        HashMap<Object, Object> dataSourceMap = new HashMap<>();
-        dataSourceMap.put(SOURCE, sourceDataSource);
-        dataSourceMap.put(REPLICA, replicaDataSource);
+        return new ReplicaLoadBalancer(new RoutingTarget(SOURCE, sourceDataSource, sourceWeight), replicas, strategy,
+            new MySqlReplicationLagProbe(), maxLagSeconds,
+            new DataSourceMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new)));
+    }
 
-        routingDataSource.setTargetDataSources(dataSourceMap);
-        routingDataSource.setDefaultTargetDataSource(sourceDataSource);
+    @Bean
+    public SessionWriteTracker sessionWriteTracker(
+        @Value("${spring.datasource.routing.consistency:READ_YOUR_WRITES}") final ReadConsistency consistency,
+        @Value("${spring.datasource.routing.read-your-writes.window:10000}") final long windowMillis,
+        @Value("${spring.datasource.routing.read-your-writes.secret-key:${security.jwt.token.secret-key}}")
+        final String secretKey
+    ) {
+        return new SessionWriteTracker(consistency, AuthenticatedMember::findResolvedMemberId,
+            new WritePositionCookie(secretKey, windowMillis), windowMillis);
+    }
 
-        return routingDataSource;
+    @Bean
+    public DataSource routingDataSource(final ReplicaLoadBalancer replicaLoadBalancer,
+        final SessionWriteTracker sessionWriteTracker) {
+        return new ReplicationRoutingDataSource(replicaLoadBalancer, sessionWriteTracker);
     }
 
     @Primary
     @Bean(name = "dataSource")
-    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
-        return new LazyConnectionDataSourceProxy(routingDataSource);
+    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource,
+        @Qualifier(RESERVE) DataSource reserveDataSource) {
+        return new NestedConnectionDataSource(new LazyConnectionDataSourceProxy(routingDataSource), reserveDataSource);
     }
 }
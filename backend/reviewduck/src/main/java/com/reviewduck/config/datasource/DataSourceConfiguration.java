@@ -3,11 +3,15 @@ package com.reviewduck.config.datasource;
 import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -16,15 +20,19 @@ public class DataSourceConfiguration {
 
     static final String SOURCE = "SOURCE";
     static final String REPLICA = "REPLICA";
+    static final String RESERVE = "RESERVE";
 
     @Bean
     @FlywayDataSource
     @Qualifier(SOURCE)
     @ConfigurationProperties(prefix = "spring.datasource.source.hikari")
     public DataSource sourceDataSource() {
-        return DataSourceBuilder.create()
+        HikariDataSource dataSource = DataSourceBuilder.create()
             .type(HikariDataSource.class)
             .build();
+        // JDBC 배치로 보낸 insert 를 MySQL 에서 여러 행을 한 번에 저장하는 문장으로 바꿔 실행한다.
+        dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+        return dataSource;
     }
 
     @Bean
@@ -35,4 +43,21 @@ public class DataSourceConfiguration {
             .type(HikariDataSource.class)
             .build();
     }
+
+    /**
+     * id 생성기가 바깥 트랜잭션의 커넥션을 쥔 채로 할당 테이블에 접근할 때 쓰는 소스 커넥션 풀
+     * 접속 설정은 소스와 같고, 풀 크기만 spring.datasource.reserve.maximum-pool-size 로 따로 정한다.
+     */
+    @Bean
+    @Qualifier(RESERVE)
+    public DataSource reserveDataSource(Environment environment,
+        @Value("${spring.datasource.reserve.maximum-pool-size:5}") int maximumPoolSize) {
+        HikariDataSource dataSource = Binder.get(environment)
+            .bind("spring.datasource.source.hikari", Bindable.of(HikariDataSource.class))
+            .orElseGet(HikariDataSource::new);
+        dataSource.setPoolName(RESERVE);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(0);
+        return dataSource;
+    }
 }
@@ -0,0 +1,111 @@
+package com.reviewduck.config.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+/**
+ * 라우팅 대상별 커넥션과 쿼리 지표를 기록한다.
+ * 모든 지표에 target 과 함께 요청한 엔드포인트를 http.server.requests 와 같은 uri, method 태그로 붙여,
+ * 느린 엔드포인트가 어느 풀에서 시간을 쓰는지 연결해 볼 수 있게 한다. 요청 밖에서 실행된 작업은 uri 가 none 이다.
+ * 엔드포인트마다 시계열이 늘어나므로 백분위 히스토그램은 커넥션 대기와 점유 시간에만 두고 범위도 제한한다.
+ * 쿼리 실행 시간은 정해 둔 기준 시간별 개수만 남긴다.
+ * 쿼리마다 미터를 새로 만들지 않도록 이름, 대상, 엔드포인트별로 만든 미터를 재사용한다.
+ */
+public class DataSourceMetrics {
+
+    private static final Tags NO_ENDPOINT = Tags.of("uri", "none", "method", "none");
+    private static final Duration MIN_CONNECTION_TIME = Duration.ofMillis(1);
+    private static final Duration MAX_CONNECTION_TIME = Duration.ofSeconds(30);
+    private static final Duration[] STATEMENT_SLOS = {Duration.ofMillis(5), Duration.ofMillis(20),
+        Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(2)};
+
+    @Getter
+    private final MeterRegistry meterRegistry;
+    private final Supplier<Tags> endpointResolver;
+    private final Map<List<Object>, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Timer> timers = new ConcurrentHashMap<>();
+
+    public DataSourceMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, DataSourceMetrics::resolveEndpoint);
+    }
+
+    public DataSourceMetrics(MeterRegistry meterRegistry, Supplier<Tags> endpointResolver) {
+        this.meterRegistry = meterRegistry;
+        this.endpointResolver = endpointResolver;
+    }
+
+    public Tags currentEndpoint() {
+        return endpointResolver.get();
+    }
+
+    public void recordSelection(String target, boolean readOnly, Tags endpoint) {
+        String transaction = readOnly ? "read-only" : "read-write";
+        Counter counter = counters.computeIfAbsent(List.of(target, endpoint, transaction),
+            key -> Counter.builder("datasource.routing.selections")
+                .description("트랜잭션을 보낸 횟수")
+                .tags(endpoint)
+                .tag("target", target)
+                .tag("transaction", transaction)
+                .register(meterRegistry));
+        counter.increment();
+    }
+
+    public void recordAcquisition(String target, Tags endpoint, long elapsedNanos) {
+        connectionTimer("datasource.connection.acquire", "풀에서 커넥션을 얻기까지 기다린 시간", target, endpoint)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHold(String target, Tags endpoint, long elapsedNanos) {
+        connectionTimer("datasource.connection.hold", "커넥션을 얻은 뒤 반납하기까지의 시간", target, endpoint)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordStatement(String target, Tags endpoint, long elapsedNanos) {
+        Timer timer = timers.computeIfAbsent(List.of("datasource.statement", target, endpoint),
+            key -> Timer.builder("datasource.statement")
+                .description("쿼리 실행 시간")
+                .tags(endpoint)
+                .tag("target", target)
+                .serviceLevelObjectives(STATEMENT_SLOS)
+                .register(meterRegistry));
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer connectionTimer(String name, String description, String target, Tags endpoint) {
+        return timers.computeIfAbsent(List.of(name, target, endpoint), key -> Timer.builder(name)
+            .description(description)
+            .tags(endpoint)
+            .tag("target", target)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MIN_CONNECTION_TIME)
+            .maximumExpectedValue(MAX_CONNECTION_TIME)
+            .register(meterRegistry));
+    }
+
+    private static Tags resolveEndpoint() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (!(requestAttributes instanceof ServletRequestAttributes)) {
+            return NO_ENDPOINT;
+        }
+
+        Object pattern = requestAttributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+        String method = ((ServletRequestAttributes)requestAttributes).getRequest().getMethod();
+        return Tags.of("uri", pattern == null ? "UNKNOWN" : pattern.toString(), "method", method);
+    }
+}
@@ -16,9 +16,7 @@ public class DataSourceSelector {
     }
 
     public String getOne() {
-        if (counter.get() >= dataSources.size()) {
-            counter.set(0);
-        }
-        return dataSources.get(counter.getAndIncrement());
+        // 확인과 초기화를 나누면 동시에 호출될 때 범위를 벗어날 수 있으므로, 증가한 값을 나머지 연산으로만 사용한다.
+        return dataSources.get(Math.floorMod(counter.getAndIncrement(), dataSources.size()));
     }
 }
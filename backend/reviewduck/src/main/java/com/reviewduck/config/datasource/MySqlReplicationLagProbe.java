@@ -0,0 +1,29 @@
+package com.reviewduck.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+/**
+ * SHOW REPLICA STATUS 의 Seconds_Behind_Source 로 복제 지연을 조회한다.
+ * 복제 상태가 없으면 소스와 같은 서버로 보고 지연이 없다고 판단하고, 복제가 멈춰 값이 없으면 최대 지연으로 본다.
+ */
+public class MySqlReplicationLagProbe implements ReplicationLagProbe {
+
+    @Override
+    public long lagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? Long.MAX_VALUE : lag;
+        }
+    }
+}
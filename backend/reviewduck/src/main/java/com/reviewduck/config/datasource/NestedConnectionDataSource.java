@@ -0,0 +1,56 @@
+package com.reviewduck.config.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 테이블로 id 를 할당하는 동안 얻는 커넥션만 예비 풀에서 준다.
+ * id 생성기는 바깥 트랜잭션의 커넥션을 쥔 채로 새 커넥션을 얻는데,
+ * 이것을 같은 풀에서 얻으면 풀이 가득 찼을 때 커넥션을 쥔 스레드들이 서로의 반납을 기다리며 멈춘다.
+ * 예비 풀은 ReservePoolSequenceGenerator 의 할당에만 쓰이고, REQUIRES_NEW 트랜잭션을 포함한 나머지 커넥션은 모두 원래 풀에서 얻는다.
+ * 예비 풀의 사용량은 HikariCP 지표의 pool=RESERVE 태그로 확인한다.
+ */
+public class NestedConnectionDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<Boolean> allocatingIds = ThreadLocal.withInitial(() -> false);
+
+    private final DataSource reserveDataSource;
+
+    public NestedConnectionDataSource(DataSource targetDataSource, DataSource reserveDataSource) {
+        super(targetDataSource);
+        this.reserveDataSource = reserveDataSource;
+    }
+
+    /**
+     * 할당이 끝나면 표시를 지우므로, 할당 중에 얻은 커넥션을 닫지 않고 남겨도 이 스레드의 다음 커넥션은 원래 풀에서 얻는다.
+     */
+    static <T> T allocateIds(Supplier<T> allocation) {
+        allocatingIds.set(true);
+        try {
+            return allocation.get();
+        } finally {
+            allocatingIds.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (allocatingIds.get()) {
+            return reserveDataSource.getConnection();
+        }
+        return obtainTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (allocatingIds.get()) {
+            return reserveDataSource.getConnection(username, password);
+        }
+        return obtainTargetDataSource().getConnection(username, password);
+    }
+}
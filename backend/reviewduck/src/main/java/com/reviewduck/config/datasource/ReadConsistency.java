@@ -0,0 +1,17 @@
+package com.reviewduck.config.datasource;
+
+/**
+ * 읽기 전용 트랜잭션이 보장하는 일관성 수준
+ */
+public enum ReadConsistency {
+
+    /**
+     * 복제 지연과 관계없이 레플리카로 보낸다.
+     */
+    EVENTUAL,
+
+    /**
+     * 같은 회원이 방금 커밋한 쓰기를 반영하지 못한 레플리카로는 보내지 않는다.
+     */
+    READ_YOUR_WRITES
+}
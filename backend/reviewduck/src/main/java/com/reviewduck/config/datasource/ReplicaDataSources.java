@@ -0,0 +1,31 @@
+package com.reviewduck.config.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * spring.datasource.replicas.{이름} 으로 추가한 레플리카 데이터소스
+ * 빈으로 등록되지 않으므로 애플리케이션이 종료될 때 직접 닫는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReplicaDataSources implements DisposableBean {
+
+    private final Map<String, DataSource> dataSources;
+
+    @Override
+    public void destroy() {
+        dataSources.values().stream()
+            .filter(HikariDataSource.class::isInstance)
+            .map(HikariDataSource.class::cast)
+            .forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,223 @@
+package com.reviewduck.config.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션을 소스와 레플리카 중 한 곳으로 보낸다.
+ * 복제 지연이 기준을 넘었거나 연결에 실패한 레플리카는 다음 확인에서 회복할 때까지 제외하고,
+ * 사용할 수 있는 레플리카가 없으면 소스로 보낸다.
+ * 확인 시점의 복제 지연으로 각 레플리카가 어느 시각의 커밋까지 반영했는지 추정해, 방금 쓴 내용을 읽어야 하는 요청을 가려 보낸다.
+ * 점수가 같은 대상끼리는 매번 다른 대상부터 비교해 한 곳에 몰리지 않게 한다.
+ */
+@Slf4j
+public class ReplicaLoadBalancer {
+
+    private final RoutingTarget source;
+    private final List<RoutingTarget> replicas;
+    private final List<RoutingTarget> targets;
+    private final Map<String, RoutingTarget> targetsByName = new LinkedHashMap<>();
+    private final RoutingStrategy strategy;
+    private final ReplicationLagProbe lagProbe;
+    private final long maxLagSeconds;
+    private final DataSourceSelector roundRobinSelector;
+    private final AtomicInteger rotation = new AtomicInteger();
+    private final DataSourceMetrics metrics;
+    private final Map<String, Counter> fallbackCounters = new LinkedHashMap<>();
+
+    public ReplicaLoadBalancer(RoutingTarget source, List<RoutingTarget> replicas, RoutingStrategy strategy,
+        ReplicationLagProbe lagProbe, long maxLagSeconds, DataSourceMetrics metrics) {
+        this.source = source;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.lagProbe = lagProbe;
+        this.maxLagSeconds = maxLagSeconds;
+        this.metrics = metrics;
+
+        List<RoutingTarget> allTargets = new ArrayList<>(replicas);
+        allTargets.add(source);
+        this.targets = List.copyOf(allTargets);
+        this.targets.forEach(target -> targetsByName.put(target.getName(), target));
+        this.roundRobinSelector = new DataSourceSelector(weightedNames());
+
+        targets.forEach(target -> registerMetrics(target, metrics.getMeterRegistry()));
+    }
+
+    public Map<Object, Object> getTargetDataSources() {
+        return targets.stream()
+            .collect(Collectors.toMap(RoutingTarget::getName, RoutingTarget::getDataSource));
+    }
+
+    public String getSourceName() {
+        return source.getName();
+    }
+
+    public String select() {
+        return select(Long.MIN_VALUE);
+    }
+
+    /**
+     * writtenAt 에 커밋된 쓰기를 반영한 대상 중에서 고른다. 따라잡은 레플리카가 없으면 소스를 고른다.
+     */
+    public String select(long writtenAt) {
+        RoutingTarget selected = strategy == RoutingStrategy.ROUND_ROBIN
+            ? selectInTurn(writtenAt)
+            : selectByScore(writtenAt);
+        metrics.recordSelection(selected.getName(), true, metrics.currentEndpoint());
+        return selected.getName();
+    }
+
+    /**
+     * 쓰기 트랜잭션은 항상 소스로 보낸다.
+     */
+    public String selectForWrite() {
+        metrics.recordSelection(source.getName(), false, metrics.currentEndpoint());
+        return source.getName();
+    }
+
+    /**
+     * 고른 대상에서 커넥션을 얻는다. 레플리카에 연결하지 못하면 그 레플리카를 제외하고 소스에서 커넥션을 얻는다.
+     * 커넥션을 얻기까지 기다린 시간을 기록하고, 반환한 커넥션이 닫히면 사용 중인 커넥션 수와 사용 시간을 기록한다.
+     */
+    public Connection getConnection(String targetName, ConnectionOpener opener) throws SQLException {
+        RoutingTarget target = targetsByName.getOrDefault(targetName, source);
+        Tags endpoint = metrics.currentEndpoint();
+        try {
+            return open(target, opener, endpoint);
+        } catch (SQLException e) {
+            if (target == source) {
+                throw e;
+            }
+            log.warn("레플리카에 연결하지 못해 소스로 보냅니다. target={}", target.getName(), e);
+            target.evict();
+            fallbackCounters.get(target.getName()).increment();
+            return open(source, opener, endpoint);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.routing.probe-interval:5000}")
+    public void probe() {
+        for (RoutingTarget replica : replicas) {
+            try {
+                long probedAt = System.currentTimeMillis();
+                replica.updateLag(lagProbe.lagSeconds(replica.getDataSource()), maxLagSeconds, probedAt);
+            } catch (SQLException | RuntimeException e) {
+                log.warn("레플리카 상태를 확인하지 못해 제외합니다. target={}", replica.getName(), e);
+                replica.evict();
+            }
+        }
+    }
+
+    private RoutingTarget selectInTurn(long writtenAt) {
+        RoutingTarget target = targetsByName.get(roundRobinSelector.getOne());
+        if (isRoutable(target, false, writtenAt)) {
+            return target;
+        }
+        return selectByScore(writtenAt);
+    }
+
+    private RoutingTarget selectByScore(long writtenAt) {
+        List<RoutingTarget> candidates = findCandidates(false, writtenAt);
+        if (candidates.isEmpty()) {
+            candidates = findCandidates(true, writtenAt);
+        }
+        if (candidates.isEmpty()) {
+            return source;
+        }
+
+        int offset = rotation.getAndIncrement();
+        RoutingTarget selected = null;
+        double selectedScore = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            RoutingTarget candidate = candidates.get(Math.floorMod(offset + i, candidates.size()));
+            double score = strategy.score(candidate);
+            if (score < selectedScore) {
+                selected = candidate;
+                selectedScore = score;
+            }
+        }
+        return selected;
+    }
+
+    private List<RoutingTarget> findCandidates(boolean allowSaturated, long writtenAt) {
+        return targets.stream()
+            .filter(target -> isRoutable(target, allowSaturated, writtenAt))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private boolean isRoutable(RoutingTarget target, boolean allowSaturated, long writtenAt) {
+        return target.isAvailable()
+            && (allowSaturated || !target.isSaturated())
+            && (target == source || target.getCaughtUpAtMillis() >= writtenAt);
+    }
+
+    private Connection open(RoutingTarget target, ConnectionOpener opener, Tags endpoint) throws SQLException {
+        long startedAt = System.nanoTime();
+        Connection connection = opener.open(target.getDataSource());
+        metrics.recordAcquisition(target.getName(), endpoint, System.nanoTime() - startedAt);
+        return TrackedConnection.wrap(connection, target, metrics, endpoint);
+    }
+
+    private String[] weightedNames() {
+        List<String> names = new ArrayList<>();
+        for (int round = 0; round < maxWeight(); round++) {
+            for (RoutingTarget target : targets) {
+                if (round < target.getWeight()) {
+                    names.add(target.getName());
+                }
+            }
+        }
+        return names.toArray(String[]::new);
+    }
+
+    private int maxWeight() {
+        return targets.stream()
+            .mapToInt(RoutingTarget::getWeight)
+            .max()
+            .orElse(1);
+    }
+
+    private void registerMetrics(RoutingTarget target, MeterRegistry meterRegistry) {
+        String name = target.getName();
+        fallbackCounters.put(name, Counter.builder("datasource.routing.fallbacks")
+            .description("연결에 실패해 소스로 대신 보낸 횟수")
+            .tag("target", name)
+            .register(meterRegistry));
+        Gauge.builder("datasource.routing.outstanding", target, RoutingTarget::getOutstanding)
+            .tag("target", name)
+            .register(meterRegistry);
+        Gauge.builder("datasource.routing.latency.ewma", target, RoutingTarget::getLatencyEwmaNanos)
+            .baseUnit("nanoseconds")
+            .tag("target", name)
+            .register(meterRegistry);
+        Gauge.builder("datasource.routing.lag", target, RoutingTarget::getLagSeconds)
+            .baseUnit("seconds")
+            .tag("target", name)
+            .register(meterRegistry);
+        Gauge.builder("datasource.routing.available", target, it -> it.isAvailable() ? 1 : 0)
+            .tag("target", name)
+            .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
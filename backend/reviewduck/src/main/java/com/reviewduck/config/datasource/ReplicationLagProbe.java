@@ -0,0 +1,14 @@
+package com.reviewduck.config.datasource;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+/**
+ * 레플리카가 소스보다 몇 초 뒤처져 있는지 조회한다.
+ */
+@FunctionalInterface
+public interface ReplicationLagProbe {
+
+    long lagSeconds(DataSource dataSource) throws SQLException;
+}
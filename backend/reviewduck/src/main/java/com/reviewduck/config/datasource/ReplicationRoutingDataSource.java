@@ -1,18 +1,59 @@
 package com.reviewduck.config.datasource;
 
-import static com.reviewduck.config.datasource.DataSourceConfiguration.*;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
 
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 읽기 전용 트랜잭션은 로드밸런서가 고른 대상으로, 나머지는 소스로 보낸다.
+ * 소스 커넥션에서 실제로 쓰기 쿼리를 실행하면 커밋 시각을 회원별로 기록해, 같은 회원의 이어지는 읽기가 그 쓰기를 볼 수 있게 한다.
+ */
 public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
 
-    private final DataSourceSelector dataSourceSelector = new DataSourceSelector(REPLICA, REPLICA, SOURCE);
+    private final ReplicaLoadBalancer loadBalancer;
+    private final SessionWriteTracker sessionWriteTracker;
+
+    public ReplicationRoutingDataSource(ReplicaLoadBalancer loadBalancer, SessionWriteTracker sessionWriteTracker) {
+        this.loadBalancer = loadBalancer;
+        this.sessionWriteTracker = sessionWriteTracker;
+        setTargetDataSources(loadBalancer.getTargetDataSources());
+        setDefaultTargetDataSource(loadBalancer.getTargetDataSources().get(loadBalancer.getSourceName()));
+    }
 
     @Override
     protected Object determineCurrentLookupKey() {
         boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!isReadOnly) {
+            return loadBalancer.selectForWrite();
+        }
+
+        return sessionWriteTracker.findLastWrite()
+            .map(writtenAt -> loadBalancer.select(writtenAt))
+            .orElseGet(loadBalancer::select);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String targetName = (String)determineCurrentLookupKey();
+        return recordWrites(targetName, loadBalancer.getConnection(targetName, DataSource::getConnection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        String targetName = (String)determineCurrentLookupKey();
+        return recordWrites(targetName, loadBalancer.getConnection(targetName,
+            dataSource -> dataSource.getConnection(username, password)));
+    }
 
-        return isReadOnly ? dataSourceSelector.getOne() : SOURCE;
+    private Connection recordWrites(String targetName, Connection connection) {
+        if (!targetName.equals(loadBalancer.getSourceName())
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return connection;
+        }
+        return WriteRecordingConnection.wrap(connection, sessionWriteTracker::recordWriteOnCommit);
     }
 }
@@ -0,0 +1,39 @@
+package com.reviewduck.config.datasource;
+
+import java.io.Serializable;
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * 할당 테이블에 접근하는 별도 커넥션을 예비 풀에서 얻는 id 생성기
+ * pooled-lo 최적화기와 함께 쓰면 increment_size 만큼의 id 를 다 쓴 뒤에만 예비 풀을 사용한다.
+ * 모든 엔티티가 하나로 선언된 생성기를 함께 쓰므로, 시퀀스 이름을 따로 주지 않으면 엔티티 테이블 이름 뒤에 _seq 를 붙인다.
+ *
+ * 이전 버전(AUTO_INCREMENT)과 함께 배포되는 동안 이전 버전이 저장한 행은 V25 에서 옮겨 둔 AUTO_INCREMENT 범위의 id 를 받는다.
+ * 이 행들은 id 만으로 정렬하는 관리자 목록에서 가장 최근 행처럼 맨 앞에 나온다.
+ * 회고 타임라인과 템플릿 목록은 작성 시각이나 사용 횟수로 먼저 정렬하므로 그 값이 같은 행끼리의 순서만 달라진다.
+ */
+public class ReservePoolSequenceGenerator extends SequenceStyleGenerator {
+
+    private static final String SEQUENCE_SUFFIX = "_seq";
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        if (params.getProperty(SEQUENCE_PARAM) == null) {
+            String tableName = params.getProperty(PersistentIdentifierGenerator.TABLE);
+            params.setProperty(SEQUENCE_PARAM, tableName + SEQUENCE_SUFFIX);
+        }
+        super.configure(type, params, serviceRegistry);
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return NestedConnectionDataSource.allocateIds(() -> super.generate(session, object));
+    }
+}
@@ -0,0 +1,40 @@
+package com.reviewduck.config.datasource;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 대상을 고르는 기준
+ * 점수가 가장 낮은 대상을 고르며, 가중치가 큰 대상일수록 점수가 낮아진다.
+ */
+public enum RoutingStrategy {
+
+    /**
+     * 가중치 비율대로 차례로 보낸다.
+     */
+    ROUND_ROBIN {
+        @Override
+        double score(RoutingTarget target) {
+            return 0;
+        }
+    },
+
+    /**
+     * 사용 중인 커넥션이 가장 적은 대상으로 보낸다.
+     */
+    LEAST_OUTSTANDING {
+        @Override
+        double score(RoutingTarget target) {
+            return (target.getOutstanding() + 1.0) / target.getWeight();
+        }
+    },
+
+    /**
+     * 최근 커넥션 사용 시간의 지수 이동 평균과 사용 중인 커넥션 수를 함께 고려한다.
+     */
+    EWMA_LATENCY {
+        @Override
+        double score(RoutingTarget target) {
+            return target.getLatencyEwmaNanos() * (target.getOutstanding() + 1.0) / target.getWeight();
+        }
+    };
+
+    abstract double score(RoutingTarget target);
+}
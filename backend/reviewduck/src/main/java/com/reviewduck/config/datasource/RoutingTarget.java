@@ -0,0 +1,80 @@
+package com.reviewduck.config.datasource;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.Getter;
+
+/**
+ * 라우팅 대상 데이터소스와 그 상태
+ * 사용 중인 커넥션 수, 커넥션 사용 시간의 지수 이동 평균, 복제 지연과 사용 가능 여부를 기록한다.
+ * caughtUpAtMillis 는 마지막 확인 시점에 이 대상이 반영했다고 볼 수 있는 가장 늦은 커밋 시각이다.
+ */
+@Getter
+public class RoutingTarget {
+
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final int weight;
+    private final AtomicInteger outstandingCount = new AtomicInteger();
+
+    private volatile double latencyEwmaNanos;
+    private volatile long lagSeconds;
+    private volatile long caughtUpAtMillis = Long.MIN_VALUE;
+    private volatile boolean available = true;
+
+    public RoutingTarget(String name, DataSource dataSource, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("라우팅 가중치는 1 이상이어야 합니다. target=" + name);
+        }
+        this.name = name;
+        this.dataSource = dataSource;
+        this.weight = weight;
+    }
+
+    public int getOutstanding() {
+        return outstandingCount.get();
+    }
+
+    /**
+     * 커넥션을 기다리는 스레드가 있으면 풀이 가득 찬 것으로 본다.
+     */
+    public boolean isSaturated() {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return false;
+        }
+        HikariPoolMXBean pool = ((HikariDataSource)dataSource).getHikariPoolMXBean();
+        return pool != null && pool.getThreadsAwaitingConnection() > 0;
+    }
+
+    void acquire() {
+        outstandingCount.incrementAndGet();
+    }
+
+    synchronized void release(long elapsedNanos) {
+        outstandingCount.decrementAndGet();
+        latencyEwmaNanos = latencyEwmaNanos == 0
+            ? elapsedNanos
+            : latencyEwmaNanos + EWMA_ALPHA * (elapsedNanos - latencyEwmaNanos);
+    }
+
+    void updateLag(long lagSeconds, long maxLagSeconds, long probedAtMillis) {
+        this.lagSeconds = lagSeconds;
+        this.available = lagSeconds <= maxLagSeconds;
+        // 복제 지연은 초 단위로 잘려 나오므로 1초를 더 빼 보수적으로 계산한다.
+        this.caughtUpAtMillis = lagSeconds == Long.MAX_VALUE
+            ? Long.MIN_VALUE
+            : probedAtMillis - TimeUnit.SECONDS.toMillis(lagSeconds + 1);
+    }
+
+    void evict() {
+        this.available = false;
+    }
+}
@@ -0,0 +1,65 @@
+package com.reviewduck.config.datasource;
+
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.reviewduck.common.util.TransactionUtils;
+
+/**
+ * 회원별로 마지막 쓰기 트랜잭션이 커밋된 시각을 기록한다.
+ * 기록은 서버 메모리가 아닌 WritePositionCarrier 에 두므로, 다음 요청을 다른 서버가 받아도 같은 기록을 읽는다.
+ * 기록은 window 동안만 유효하며, 그 안에서 같은 회원의 읽기는 이 시각까지 따라잡은 대상으로만 보낸다.
+ * 요청한 회원을 알 수 없는 트랜잭션은 기록하지 않는다.
+ */
+public class SessionWriteTracker {
+
+    private final ReadConsistency consistency;
+    private final Supplier<Optional<Long>> sessionKeyResolver;
+    private final WritePositionCarrier carrier;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    public SessionWriteTracker(ReadConsistency consistency, Supplier<Optional<Long>> sessionKeyResolver,
+        WritePositionCarrier carrier, long windowMillis) {
+        this(consistency, sessionKeyResolver, carrier, windowMillis, System::currentTimeMillis);
+    }
+
+    public SessionWriteTracker(ReadConsistency consistency, Supplier<Optional<Long>> sessionKeyResolver,
+        WritePositionCarrier carrier, long windowMillis, LongSupplier clock) {
+        this.consistency = consistency;
+        this.sessionKeyResolver = sessionKeyResolver;
+        this.carrier = carrier;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 진행 중인 쓰기 트랜잭션이 커밋되면 현재 회원의 마지막 쓰기 시각을 기록한다.
+     */
+    public void recordWriteOnCommit() {
+        if (consistency != ReadConsistency.READ_YOUR_WRITES) {
+            return;
+        }
+
+        sessionKeyResolver.get().ifPresent(sessionKey -> TransactionUtils.afterCommit(
+            () -> carrier.write(sessionKey, clock.getAsLong())));
+    }
+
+    /**
+     * 현재 회원이 window 안에 커밋한 쓰기가 있으면 그 시각을 반환한다.
+     */
+    public Optional<Long> findLastWrite() {
+        if (consistency != ReadConsistency.READ_YOUR_WRITES) {
+            return Optional.empty();
+        }
+
+        return sessionKeyResolver.get()
+            .flatMap(carrier::read)
+            .filter(writtenAt -> !isExpired(writtenAt));
+    }
+
+    private boolean isExpired(long writtenAt) {
+        return clock.getAsLong() - writtenAt >= windowMillis;
+    }
+}
@@ -0,0 +1,81 @@
+package com.reviewduck.config.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * 라우팅 대상에서 얻은 커넥션을 감싸 사용 중인 커넥션 수, 커넥션을 쥐고 있던 시간과 쿼리 실행 시간을 기록한다.
+ * 지표의 엔드포인트 태그는 커넥션을 얻을 때의 요청으로 정한다.
+ */
+class TrackedConnection implements InvocationHandler {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement",
+        "prepareCall");
+
+    private final Connection connection;
+    private final RoutingTarget target;
+    private final DataSourceMetrics metrics;
+    private final Tags endpoint;
+    private final long acquiredAt = System.nanoTime();
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private TrackedConnection(Connection connection, RoutingTarget target, DataSourceMetrics metrics, Tags endpoint) {
+        this.connection = connection;
+        this.target = target;
+        this.metrics = metrics;
+        this.endpoint = endpoint;
+    }
+
+    static Connection wrap(Connection connection, RoutingTarget target, DataSourceMetrics metrics, Tags endpoint) {
+        target.acquire();
+        return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            new TrackedConnection(connection, target, metrics, endpoint));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+            long heldNanos = System.nanoTime() - acquiredAt;
+            target.release(heldNanos);
+            metrics.recordHold(target.getName(), endpoint, heldNanos);
+        }
+
+        Object result = invokeTarget(connection, method, args);
+        if (STATEMENT_FACTORIES.contains(method.getName()) && result instanceof Statement) {
+            return wrapStatement((Statement)result, method.getReturnType());
+        }
+        return result;
+    }
+
+    private Object wrapStatement(Statement statement, Class<?> statementType) {
+        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {statementType},
+            (proxy, method, args) -> {
+                if (!method.getName().startsWith("execute")) {
+                    return invokeTarget(statement, method, args);
+                }
+
+                long startedAt = System.nanoTime();
+                try {
+                    return invokeTarget(statement, method, args);
+                } finally {
+                    metrics.recordStatement(target.getName(), endpoint, System.nanoTime() - startedAt);
+                }
+            });
+    }
+
+    private static Object invokeTarget(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.reviewduck.config.datasource;
+
+import java.util.Optional;
+
+/**
+ * 회원의 마지막 쓰기 시각을 어느 서버가 요청을 받더라도 읽을 수 있는 곳에 보관한다.
+ */
+public interface WritePositionCarrier {
+
+    void write(long sessionKey, long writtenAt);
+
+    Optional<Long> read(long sessionKey);
+}
@@ -0,0 +1,133 @@
+package com.reviewduck.config.datasource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 마지막 쓰기 시각을 클라이언트 쿠키에 실어 보내, 다음 요청을 어느 서버가 받더라도 같은 기준으로 읽기 대상을 고르게 한다.
+ * 쿠키 값은 "회원 id.쓰기 시각.서명" 이며, 서명이 맞고 현재 회원의 것일 때만 사용한다.
+ * 같은 요청 안에서 이어지는 읽기를 위해 요청 속성에도 함께 저장한다.
+ */
+public class WritePositionCookie implements WritePositionCarrier {
+
+    static final String COOKIE_NAME = "lastWrite";
+
+    private static final String ATTRIBUTE = WritePositionCookie.class.getName() + ".writtenAt";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec signingKey;
+    private final long maxAgeSeconds;
+
+    public WritePositionCookie(String secretKey, long windowMillis) {
+        this.signingKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.maxAgeSeconds = Math.max(1, (windowMillis + 999) / 1000);
+    }
+
+    @Override
+    public void write(long sessionKey, long writtenAt) {
+        ServletRequestAttributes attributes = currentAttributes();
+        if (attributes == null) {
+            return;
+        }
+
+        attributes.getRequest().setAttribute(ATTRIBUTE, writtenAt);
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+
+        String payload = sessionKey + "." + writtenAt;
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, payload + "." + sign(payload))
+            .maxAge(maxAgeSeconds)
+            .path("/")
+            .secure(true)
+            .sameSite("None")
+            .httpOnly(true)
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    @Override
+    public Optional<Long> read(long sessionKey) {
+        ServletRequestAttributes attributes = currentAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        Object writtenInRequest = request.getAttribute(ATTRIBUTE);
+        if (writtenInRequest != null) {
+            return Optional.of((Long)writtenInRequest);
+        }
+        return findCookie(request).flatMap(value -> parse(value, sessionKey));
+    }
+
+    private Optional<String> findCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Long> parse(String value, long sessionKey) {
+        int signatureIndex = value.lastIndexOf('.');
+        if (signatureIndex < 0) {
+            return Optional.empty();
+        }
+
+        String payload = value.substring(0, signatureIndex);
+        byte[] signature = value.substring(signatureIndex + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(signature, sign(payload).getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.empty();
+        }
+
+        String[] fields = payload.split("\\.");
+        try {
+            if (fields.length != 2 || Long.parseLong(fields[0]) != sessionKey) {
+                return Optional.empty();
+            }
+            return Optional.of(Long.parseLong(fields[1]));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("쓰기 시각 쿠키에 서명할 수 없습니다.", e);
+        }
+    }
+
+    private ServletRequestAttributes currentAttributes() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes) {
+            return (ServletRequestAttributes)RequestContextHolder.getRequestAttributes();
+        }
+        return null;
+    }
+}
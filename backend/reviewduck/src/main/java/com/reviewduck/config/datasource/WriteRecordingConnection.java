@@ -0,0 +1,97 @@
+package com.reviewduck.config.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 소스 커넥션을 감싸 쓰기 쿼리를 처음 실행할 때 한 번만 onWrite 를 호출한다.
+ * 쓰기 없이 끝나는 읽기-쓰기 트랜잭션이나 트랜잭션 밖의 조회가 회원의 쓰기로 기록되지 않게 한다.
+ * executeUpdate, executeBatch 계열은 항상 쓰기로 보고, execute 는 insert, update, delete 문일 때만 쓰기로 본다.
+ */
+class WriteRecordingConnection implements InvocationHandler {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement",
+        "prepareCall");
+    private static final Set<String> WRITE_METHODS = Set.of("executeUpdate", "executeLargeUpdate", "executeBatch",
+        "executeLargeBatch");
+    private static final Set<String> WRITE_KEYWORDS = Set.of("insert", "update", "delete", "replace");
+
+    private final Connection connection;
+    private final Runnable onWrite;
+    private final AtomicBoolean written = new AtomicBoolean();
+
+    private WriteRecordingConnection(Connection connection, Runnable onWrite) {
+        this.connection = connection;
+        this.onWrite = onWrite;
+    }
+
+    static Connection wrap(Connection connection, Runnable onWrite) {
+        return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            new WriteRecordingConnection(connection, onWrite));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Object result = invokeTarget(connection, method, args);
+        if (STATEMENT_FACTORIES.contains(method.getName()) && result instanceof Statement) {
+            return wrapStatement((Statement)result, method.getReturnType(), sqlArgument(args));
+        }
+        return result;
+    }
+
+    private Object wrapStatement(Statement statement, Class<?> statementType, String preparedSql) {
+        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {statementType},
+            (proxy, method, args) -> {
+                Object result = invokeTarget(statement, method, args);
+                if (isWrite(method, args, preparedSql) && written.compareAndSet(false, true)) {
+                    onWrite.run();
+                }
+                return result;
+            });
+    }
+
+    private static boolean isWrite(Method method, Object[] args, String preparedSql) {
+        if (WRITE_METHODS.contains(method.getName())) {
+            return true;
+        }
+        if (!method.getName().equals("execute")) {
+            return false;
+        }
+        String sql = sqlArgument(args);
+        if (sql == null) {
+            sql = preparedSql;
+        }
+        return sql != null && WRITE_KEYWORDS.contains(firstKeyword(sql));
+    }
+
+    private static String sqlArgument(Object[] args) {
+        if (args == null || args.length == 0 || !(args[0] instanceof String)) {
+            return null;
+        }
+        return (String)args[0];
+    }
+
+    private static String firstKeyword(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    private static Object invokeTarget(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
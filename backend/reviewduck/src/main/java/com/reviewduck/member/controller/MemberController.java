@@ -1,7 +1,5 @@
 package com.reviewduck.member.controller;
 
-import static com.reviewduck.common.util.Logging.*;
-
 import javax.validation.Valid;
 
 import org.springframework.cache.annotation.CacheEvict;
@@ -37,8 +35,6 @@ public class MemberController {
     public MemberResponse findMemberInfo(@AuthenticationPrincipal MemberDto member,
         @PathVariable String socialId) {
 
-        info("/api/members/" + socialId, "GET", "");
-
         return memberService.findMemberInfo(socialId, member.getId());
     }
 
@@ -47,8 +43,6 @@ public class MemberController {
     @ResponseStatus(HttpStatus.OK)
     public MemberResponse findMyInfo(@AuthenticationPrincipal MemberDto member) {
 
-        info("/api/members/me", "GET", "");
-
         return memberService.findMyInfo(member.getId());
     }
 
@@ -62,8 +56,6 @@ public class MemberController {
     public void updateNickname(@AuthenticationPrincipal MemberDto member, @Valid @RequestBody
         MemberUpdateNicknameRequest request) {
 
-        info("/api/members/me", "PUT", request.toString());
-
         memberService.updateNickname(member.getId(), request.getNickname());
     }
 }
@@ -0,0 +1,36 @@
+package com.reviewduck.member.dto;
+
+import com.reviewduck.member.domain.Member;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 정보 조회 응답 중 조회하는 사용자와 무관한 부분
+ * socialId 별로 캐싱되며, 본인 여부는 요청마다 id 로 판단한다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class MemberInfoDto {
+
+    private final long id;
+    private final String socialId;
+    private final String socialNickname;
+    private final String nickname;
+    private final String profileUrl;
+
+    public static MemberInfoDto from(Member member) {
+        return new MemberInfoDto(
+            member.getId(),
+            member.getSocialId(),
+            member.getSocialNickname(),
+            member.getNickname(),
+            member.getProfileUrl()
+        );
+    }
+
+    public boolean isSameId(long memberId) {
+        return id == memberId;
+    }
+}
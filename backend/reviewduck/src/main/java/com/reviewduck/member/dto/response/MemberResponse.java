@@ -1,6 +1,7 @@
 package com.reviewduck.member.dto.response;
 
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.dto.MemberInfoDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -26,7 +27,7 @@ public class MemberResponse {
         );
     }
 
-    public static MemberResponse of(Member member, long myMemberId) {
+    public static MemberResponse of(MemberInfoDto member, long myMemberId) {
         return new MemberResponse(
             member.isSameId(myMemberId),
             member.getSocialId(),
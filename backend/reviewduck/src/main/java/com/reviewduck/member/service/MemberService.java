@@ -1,44 +1,95 @@
 package com.reviewduck.member.service;
 
 import java.util.List;
+import java.util.Objects;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.reviewduck.common.exception.NotFoundException;
+import com.reviewduck.common.util.TransactionUtils;
+import com.reviewduck.config.cache.CacheType;
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.dto.MemberDto;
+import com.reviewduck.member.dto.MemberInfoDto;
 import com.reviewduck.member.dto.response.MemberResponse;
 import com.reviewduck.member.repository.MemberRepository;
-import com.reviewduck.review.domain.ReviewForm;
-
-import lombok.AllArgsConstructor;
+import com.reviewduck.review.service.ReviewFormCache;
+import com.reviewduck.review.service.ReviewFormParticipantService;
+import com.reviewduck.template.repository.TemplateRepository;
+import com.reviewduck.template.service.TemplateListCache;
 
 @Service
-@AllArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final ReviewFormParticipantService reviewFormParticipantService;
+    private final ReviewFormCache reviewFormCache;
+    private final TemplateRepository templateRepository;
+    private final TemplateListCache templateListCache;
+    private final Cache memberCache;
+    private final Cache templateCache;
+
+    public MemberService(MemberRepository memberRepository, ReviewFormParticipantService reviewFormParticipantService,
+        ReviewFormCache reviewFormCache, TemplateRepository templateRepository, TemplateListCache templateListCache,
+        CacheManager cacheManager) {
+        this.memberRepository = memberRepository;
+        this.reviewFormParticipantService = reviewFormParticipantService;
+        this.reviewFormCache = reviewFormCache;
+        this.templateRepository = templateRepository;
+        this.templateListCache = templateListCache;
+        this.memberCache = Objects.requireNonNull(cacheManager.getCache(CacheType.MemberCache.getCacheName()));
+        this.templateCache = Objects.requireNonNull(cacheManager.getCache(CacheType.TemplateCache.getCacheName()));
+    }
 
-    @Cacheable(value = "memberCacheStore", key = "#socialId")
+    /**
+     * 조회하는 사용자와 무관한 정보만 socialId 별로 캐싱하고, 본인 여부는 요청마다 판단한다.
+     * 같은 사용자를 동시에 조회해도 DB 는 한 번만 조회한다.
+     */
     public MemberResponse findMemberInfo(String socialId, long myMemberId) {
-        Member member = findBySocialId(socialId);
+        MemberInfoDto member = memberCache.get(socialId, () -> MemberInfoDto.from(findBySocialId(socialId)));
         return MemberResponse.of(member, myMemberId);
     }
 
-    @Cacheable(value = "memberCacheStore", key = "#memberId")
+    @Cacheable(value = "memberCacheStore", key = "#memberId", sync = true)
     public MemberResponse findMyInfo(long memberId) {
         Member member = findById(memberId);
         return MemberResponse.from(member);
     }
 
+    /**
+     * 인증된 요청의 사용자 정보를 조회한다. 매 요청마다 DB 를 조회하지 않도록 사용자 id 별로 캐싱한다.
+     */
+    @Cacheable(value = "principalCacheStore", key = "#memberId", sync = true)
+    public MemberDto findPrincipal(long memberId) {
+        return MemberDto.from(findById(memberId));
+    }
+
+    /**
+     * 닉네임은 socialId 별 사용자 정보와 회고 폼, 작성한 템플릿의 캐시에도 들어 있으므로, 커밋되면 함께 제거한다.
+     */
     @Transactional
-    @CacheEvict(value = "memberCacheStore", key = "#memberId")
+    @Caching(evict = {
+        @CacheEvict(value = "memberCacheStore", key = "#memberId"),
+        @CacheEvict(value = "principalCacheStore", key = "#memberId")
+    })
     public void updateNickname(long memberId, String nickname) {
         Member member = findById(memberId);
         member.updateNickname(nickname);
+
+        String socialId = member.getSocialId();
+        TransactionUtils.afterCommit(() -> memberCache.evict(socialId));
+        reviewFormCache.evictAll(reviewFormParticipantService.findReviewFormCodesShowing(memberId));
+
+        List<Long> templateIds = templateRepository.findIdsByMemberId(memberId);
+        TransactionUtils.afterCommit(() -> templateIds.forEach(templateCache::evict));
+        templateListCache.creatorUpdated(templateIds);
     }
 
     public Member findById(long id) {
@@ -1,6 +1,5 @@
 package com.reviewduck.review.controller;
 
-import static com.reviewduck.common.util.Logging.*;
 import static com.reviewduck.common.vo.PageConstant.*;
 
 import javax.validation.Valid;
@@ -24,6 +23,7 @@ import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
 import com.reviewduck.review.dto.controller.response.ReviewEditResponse;
 import com.reviewduck.review.dto.controller.response.ReviewLikesResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsResponse;
+import com.reviewduck.review.dto.controller.response.TimelineReviewsCursorResponse;
 import com.reviewduck.review.dto.controller.response.TimelineReviewsResponse;
 import com.reviewduck.review.service.ReviewService;
 
@@ -42,8 +42,6 @@ public class ReviewController {
     @ResponseStatus(HttpStatus.OK)
     public ReviewEditResponse findById(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId) {
 
-        info("/api/reviews/" + reviewId, "GET", "");
-
         return reviewService.findById(reviewId);
     }
 
@@ -56,8 +54,6 @@ public class ReviewController {
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size
     ) {
 
-        info("/api/reviews?member=" + socialId + "&page=" + page + "&size=" + size, "GET", "");
-
         return reviewService.findAllBySocialId(socialId, member.getId(), page - 1, size);
     }
 
@@ -69,19 +65,37 @@ public class ReviewController {
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
         @RequestParam(required = false, defaultValue = "latest") String sort) {
 
-        info("/api/reviews/public?page=" + page + "&size=" + size + "&sort=" + sort, "GET", "");
-
         return reviewService.findAllPublic(page - 1, size, sort, member.getId());
     }
 
+    @Operation(summary = "비밀글이 아닌 회고 답변을 커서 기반으로 조회한다.")
+    @GetMapping("/public/timeline")
+    @ResponseStatus(HttpStatus.OK)
+    public TimelineReviewsCursorResponse findAllPublicByCursor(@AuthenticationPrincipal MemberDto member,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
+        @RequestParam(required = false, defaultValue = "latest") String sort) {
+
+        return reviewService.findAllPublicByCursor(cursor, size, sort, member.getId());
+    }
+
+    @Operation(summary = "비밀글이 아닌 회고를 제목과 답변 내용으로 검색한다.")
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public TimelineReviewsResponse search(@AuthenticationPrincipal MemberDto member,
+        @RequestParam String query,
+        @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
+
+        return reviewService.search(query, page - 1, size, member.getId());
+    }
+
     @Operation(summary = "회고 답변을 수정한다.")
     @PutMapping("/{reviewId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void update(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId,
         @RequestBody @Valid ReviewUpdateRequest request) {
 
-        info("/api/reviews/" + reviewId, "PUT", request.toString());
-
         reviewService.update(member.getId(), reviewId, request);
     }
 
@@ -90,8 +104,6 @@ public class ReviewController {
     @ResponseStatus(HttpStatus.OK)
     public ReviewLikesResponse likes(@PathVariable long reviewId, @RequestBody @Valid ReviewLikesRequest request) {
 
-        info("/api/reviews/" + reviewId + "/likes", "POST", request.toString());
-
         return reviewService.increaseLikes(reviewId, request.getLikes());
     }
 
@@ -100,8 +112,6 @@ public class ReviewController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@AuthenticationPrincipal MemberDto member, @PathVariable long reviewId) {
 
-        info("/api/reviews/" + reviewId, "DELETE", "");
-
         reviewService.delete(member.getId(), reviewId);
     }
 }
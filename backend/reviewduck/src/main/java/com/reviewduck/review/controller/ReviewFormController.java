@@ -1,7 +1,6 @@
 
 package com.reviewduck.review.controller;
 
-import static com.reviewduck.common.util.Logging.*;
 import static com.reviewduck.common.vo.PageConstant.*;
 
 import javax.validation.Valid;
@@ -25,6 +24,7 @@ import com.reviewduck.review.dto.controller.request.ReviewFormCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormUpdateRequest;
 import com.reviewduck.review.dto.controller.response.MemberReviewFormsResponse;
 import com.reviewduck.review.dto.controller.response.ReviewFormCodeResponse;
+import com.reviewduck.review.dto.controller.response.ReviewFormParticipantsResponse;
 import com.reviewduck.review.dto.controller.response.ReviewFormResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsOfReviewFormResponse;
 import com.reviewduck.review.service.ReviewFormService;
@@ -47,8 +47,6 @@ public class ReviewFormController {
     public ReviewFormCodeResponse createReviewForm(@AuthenticationPrincipal MemberDto member,
         @RequestBody @Valid ReviewFormCreateRequest request) {
 
-        info("/api/review-forms", "POST", request.toString());
-
         return reviewFormService.save(member.getId(), request);
     }
 
@@ -58,8 +56,6 @@ public class ReviewFormController {
     public void createReview(@AuthenticationPrincipal MemberDto member, @PathVariable String reviewFormCode,
         @RequestBody @Valid ReviewCreateRequest request) {
 
-        info("/api/review-forms/" + reviewFormCode, "POST", request.toString());
-
         reviewService.save(member.getId(), reviewFormCode, request);
     }
 
@@ -69,11 +65,20 @@ public class ReviewFormController {
     public ReviewFormResponse findReviewForm(@AuthenticationPrincipal MemberDto member,
         @PathVariable String reviewFormCode) {
 
-        info("/api/review-forms/" + reviewFormCode, "GET", "");
-
         return reviewFormService.findByCode(reviewFormCode, member.getId());
     }
 
+    @Operation(summary = "특정 회고 폼에 회고를 작성한 참여자 중 특정 페이지를 조회한다.")
+    @GetMapping("/{reviewFormCode}/participants")
+    @ResponseStatus(HttpStatus.OK)
+    public ReviewFormParticipantsResponse findParticipants(@AuthenticationPrincipal MemberDto member,
+        @PathVariable String reviewFormCode,
+        @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
+        @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
+
+        return reviewFormService.findParticipantsByCode(reviewFormCode, page - 1, size);
+    }
+
     @Operation(summary = "사용자가 작성한 회고 질문지 중 특정 페이지를 조회한다.")
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
@@ -82,8 +87,6 @@ public class ReviewFormController {
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
 
-        info("/api/review-forms?member=" + socialId + "page=" + page + " size=" + size, "GET", "");
-
         return reviewFormService.findBySocialId(socialId, page - 1, size, member);
     }
 
@@ -96,8 +99,6 @@ public class ReviewFormController {
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
         @RequestParam(required = false, defaultValue = "list") String displayType) {
 
-        info("/api/review-forms/" + reviewFormCode + "/reviews?displayType=" + displayType, "GET", "");
-
         return reviewService.findAllByCode(reviewFormCode, page - 1, size, displayType, member.getId());
     }
 
@@ -108,8 +109,6 @@ public class ReviewFormController {
         @PathVariable String reviewFormCode,
         @RequestBody @Valid ReviewFormUpdateRequest request) {
 
-        info("/api/review-forms/" + reviewFormCode, "PUT", request.toString());
-
         return reviewFormService.update(member.getId(), reviewFormCode, request);
     }
 
@@ -118,8 +117,6 @@ public class ReviewFormController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteReviewForm(@AuthenticationPrincipal MemberDto member, @PathVariable String reviewFormCode) {
 
-        info("/api/review-forms/" + reviewFormCode, "DELETE", "");
-
         reviewFormService.deleteByCode(member.getId(), reviewFormCode);
     }
 }
@@ -8,6 +8,8 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 
+import org.hibernate.annotations.BatchSize;
+
 import com.reviewduck.review.exception.AnswerException;
 
 import lombok.AccessLevel;
@@ -15,13 +17,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@BatchSize(size = 100)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Answer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(nullable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence")
     private Long id;
 
     @Column(name = "answer_value")
@@ -0,0 +1,29 @@
+package com.reviewduck.review.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+import com.reviewduck.review.exception.AnswerException;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * question_answer 테이블에 함께 저장되는 답변 내용
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AnswerContent {
+
+    @Column(name = "answer_value", length = 8000)
+    private String value;
+
+    public AnswerContent(String value) {
+        if (value == null) {
+            throw new AnswerException("답변 작성 중 오류가 발생했습니다.");
+        }
+        this.value = value;
+    }
+}
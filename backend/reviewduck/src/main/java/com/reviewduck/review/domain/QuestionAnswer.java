@@ -2,32 +2,47 @@ package com.reviewduck.review.domain;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
+import javax.persistence.Transient;
+
+import com.reviewduck.common.domain.Positioned;
 
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 답변 내용은 question_answer 테이블의 answer_value 컬럼에 함께 저장한다.
+ * answer 테이블만 수정하는 이전 버전과 함께 배포되는 동안에는 answer 행이 더 최신일 수 있으므로,
+ * 그 기간에 조회한 답변은 서비스에서 answer 행을 우선해서 읽도록 표시한다. (LegacyAnswerReadMode 참고)
+ */
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-public class QuestionAnswer {
+public class QuestionAnswer implements Positioned {
 
     @Id
     @Column(nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence")
     private Long id;
 
     @OneToOne(fetch = FetchType.EAGER)
     private ReviewFormQuestion reviewFormQuestion;
 
-    @OneToOne(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @Embedded
+    private AnswerContent content;
+
+    @Getter(AccessLevel.NONE)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @JoinColumn(name = "answer_id")
     private Answer answer;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,17 +51,64 @@ public class QuestionAnswer {
     @Column(nullable = false)
     private int position = -1;
 
-    public QuestionAnswer(ReviewFormQuestion reviewFormQuestion, Answer answer, Review review) {
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean legacyAnswerPreferred = false;
+
+    public QuestionAnswer(ReviewFormQuestion reviewFormQuestion, String answerValue, Review review) {
         this.reviewFormQuestion = reviewFormQuestion;
-        this.answer = answer;
+        this.content = new AnswerContent(answerValue);
         this.review = review;
     }
 
+    /**
+     * answer 행의 id 와 섞이면 answer_seq 와 question_answer_seq 에서 할당한 id 가 겹칠 수 있으므로 항상 자신의 id 를 사용한다.
+     * 그래서 응답의 답변 id 는 answer 행의 id 가 아닌 question_answer 행의 id 이다.
+     */
+    public long getAnswerId() {
+        return id;
+    }
+
+    /**
+     * 이전 버전이 저장해 answer_value 가 비어 있는 답변은 호환 기간이 끝난 뒤에도 answer 행에서 읽는다.
+     */
+    public String getAnswerValue() {
+        if (answer != null && (legacyAnswerPreferred || content == null)) {
+            return answer.getValue();
+        }
+        return content.getValue();
+    }
+
+    public boolean hasLegacyAnswer() {
+        return answer != null;
+    }
+
+    public void preferLegacyAnswer() {
+        this.legacyAnswerPreferred = true;
+    }
+
     public void setPosition(int position) {
         this.position = position;
     }
 
+    /**
+     * answer 행이 있으면 이전 버전이 읽는 값도 함께 고친다.
+     */
     public void setAnswerValue(String value) {
-        answer.update(value);
+        this.content = new AnswerContent(value);
+        if (answer != null) {
+            answer.update(value);
+        }
+    }
+
+    /**
+     * 롤백에 대비해 answer 테이블에도 같은 내용을 기록한다.
+     */
+    public void writeLegacyAnswer() {
+        if (answer == null) {
+            answer = new Answer(content.getValue());
+            return;
+        }
+        answer.update(content.getValue());
     }
 }
@@ -19,6 +19,7 @@ import javax.persistence.OrderBy;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.reviewduck.common.domain.BaseDate;
+import com.reviewduck.common.domain.OrderedChildren;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
 import com.reviewduck.review.dto.service.QuestionAnswerUpdateDto;
@@ -33,7 +34,7 @@ import lombok.NoArgsConstructor;
 public class Review extends BaseDate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence")
     private Long id;
 
     @Column(nullable = false)
@@ -64,17 +65,22 @@ public class Review extends BaseDate {
         this.reviewForm = reviewForm;
         this.isPrivate = isPrivate;
         this.questionAnswers.addAll(createQuestionAnswers(questionAnswers));
-        sortQuestionAnswers();
+        OrderedChildren.arrange(this.questionAnswers);
     }
 
     public void update(boolean isPrivate, String title, List<QuestionAnswerUpdateDto> questionAnswers) {
-        int oldSize = this.questionAnswers.size();
-        this.questionAnswers.addAll(updateQuestionAnswers(questionAnswers));
-        this.questionAnswers.subList(0, oldSize).clear();
+        List<Object> contentsBefore = snapshotContents();
+        OrderedChildren.sync(this.questionAnswers, questionAnswers,
+            it -> it.getReviewFormQuestion().getId(),
+            dto -> dto.getReviewFormQuestion().getId(),
+            (questionAnswer, dto) -> questionAnswer.setAnswerValue(dto.getAnswerValue()),
+            dto -> new QuestionAnswer(dto.getReviewFormQuestion(), dto.getAnswerValue(), this));
+        if (!contentsBefore.equals(snapshotContents())) {
+            touch();
+        }
 
         this.isPrivate = isPrivate;
         this.title = title;
-        sortQuestionAnswers();
     }
 
     public boolean isMine(long memberId) {
@@ -98,34 +104,19 @@ public class Review extends BaseDate {
         }
     }
 
-    private List<QuestionAnswer> createQuestionAnswers(List<QuestionAnswerCreateDto> questionAnswers) {
-        return questionAnswers.stream()
-            .map(dto -> new QuestionAnswer(dto.getReviewFormQuestion(), dto.getAnswer(), this))
-            .collect(Collectors.toUnmodifiableList());
+    private List<Object> snapshotContents() {
+        List<Object> contents = new ArrayList<>();
+        for (QuestionAnswer questionAnswer : questionAnswers) {
+            contents.add(questionAnswer.getReviewFormQuestion().getId());
+            contents.add(questionAnswer.getAnswerValue());
+        }
+        return contents;
     }
 
-    private List<QuestionAnswer> updateQuestionAnswers(List<QuestionAnswerUpdateDto> questionAnswers) {
+    private List<QuestionAnswer> createQuestionAnswers(List<QuestionAnswerCreateDto> questionAnswers) {
         return questionAnswers.stream()
-            .map(this::createOrUpdateQuestionAnswer)
+            .map(dto -> new QuestionAnswer(dto.getReviewFormQuestion(), dto.getAnswerValue(), this))
             .collect(Collectors.toUnmodifiableList());
     }
 
-    private QuestionAnswer createOrUpdateQuestionAnswer(QuestionAnswerUpdateDto questionAnswer) {
-        QuestionAnswer updatedQuestionAnswer = questionAnswers.stream()
-            .filter(it -> it.getReviewFormQuestion().equals(questionAnswer.getReviewFormQuestion()))
-            .findFirst()
-            .orElseGet(() ->
-                new QuestionAnswer(questionAnswer.getReviewFormQuestion(), new Answer(questionAnswer.getAnswerValue()),
-                    this));
-
-        updatedQuestionAnswer.setAnswerValue(questionAnswer.getAnswerValue());
-        return updatedQuestionAnswer;
-    }
-
-    private void sortQuestionAnswers() {
-        int index = 0;
-        for (QuestionAnswer questionAnswer : questionAnswers) {
-            questionAnswer.setPosition(index++);
-        }
-    }
 }
@@ -3,7 +3,6 @@ package com.reviewduck.review.domain;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.persistence.CascadeType;
@@ -21,6 +20,7 @@ import org.apache.commons.lang3.RandomStringUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.reviewduck.common.domain.BaseDate;
+import com.reviewduck.common.domain.OrderedChildren;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.exception.ReviewFormException;
@@ -37,7 +37,7 @@ import lombok.NoArgsConstructor;
 public class ReviewForm extends BaseDate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence")
     @Column(nullable = false)
     private Long id;
 
@@ -66,7 +66,7 @@ public class ReviewForm extends BaseDate {
         this.member = member;
         this.questions.addAll(createQuestionsFrom(questions));
         this.code = RandomStringUtils.randomAlphanumeric(8).toUpperCase();
-        sortQuestions();
+        OrderedChildren.arrange(this.questions);
     }
 
     public void update(String title, List<ReviewFormQuestionUpdateDto> questions) {
@@ -86,38 +86,12 @@ public class ReviewForm extends BaseDate {
             .collect(Collectors.toUnmodifiableList());
     }
 
-    private void sortQuestions() {
-        int index = 0;
-        for (ReviewFormQuestion reviewFormQuestion : this.questions) {
-            reviewFormQuestion.setPosition(index++);
-        }
-    }
-
     private void updateQuestions(List<ReviewFormQuestionUpdateDto> questions) {
-        int beforeSize = this.questions.size();
-
-        List<ReviewFormQuestion> updatedQuestions = questions.stream()
-            .map(this::createOrUpdateQuestion)
-            .collect(Collectors.toUnmodifiableList());
-        this.questions.addAll(updatedQuestions);
-
-        this.questions.subList(0, beforeSize).clear();
-
-        sortQuestions();
-    }
-
-    private ReviewFormQuestion createOrUpdateQuestion(ReviewFormQuestionUpdateDto question) {
-        Optional<ReviewFormQuestion> existedQuestion = questions.stream()
-            .filter(it -> question.getId() != null && Objects.equals(it.getId(), question.getId()))
-            .findAny();
-
-        if (existedQuestion.isPresent()) {
-            ReviewFormQuestion updatedQuestion = existedQuestion.get();
-            updatedQuestion.update(question.getValue(), question.getDescription());
-            return updatedQuestion;
-        }
-
-        return new ReviewFormQuestion(question.getValue(), question.getDescription(), this);
+        OrderedChildren.sync(this.questions, questions,
+            ReviewFormQuestion::getId,
+            ReviewFormQuestionUpdateDto::getId,
+            (question, dto) -> question.update(dto.getValue(), dto.getDescription()),
+            dto -> new ReviewFormQuestion(dto.getValue(), dto.getDescription(), this));
     }
 
     private void validateWhenCreate(Member member, String title, List<ReviewFormQuestionCreateDto> questions) {
@@ -0,0 +1,45 @@
+package com.reviewduck.review.domain;
+
+import static lombok.AccessLevel.*;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+
+import com.reviewduck.member.domain.Member;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회고 폼에 회고를 작성한 사용자
+ * 회고가 작성, 삭제될 때마다 사용자 별 회고 개수를 갱신하고, 개수가 0이 되면 제거한다.
+ */
+@Entity
+@IdClass(ReviewFormParticipantId.class)
+@NoArgsConstructor(access = PROTECTED)
+@Getter
+public class ReviewFormParticipant {
+
+    @Id
+    @Column(name = "review_form_id")
+    private Long reviewFormId;
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", insertable = false, updatable = false)
+    private Member member;
+
+    private int reviewCount;
+
+    private LocalDateTime createdAt;
+}
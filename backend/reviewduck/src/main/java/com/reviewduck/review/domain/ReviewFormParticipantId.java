@@ -0,0 +1,18 @@
+package com.reviewduck.review.domain;
+
+import static lombok.AccessLevel.*;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ReviewFormParticipantId implements Serializable {
+
+    private Long reviewFormId;
+    private Long memberId;
+}
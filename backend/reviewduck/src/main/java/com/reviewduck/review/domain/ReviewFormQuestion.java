@@ -11,6 +11,7 @@ import javax.persistence.ManyToOne;
 
 import org.hibernate.annotations.SQLDelete;
 
+import com.reviewduck.common.domain.Positioned;
 import com.reviewduck.review.exception.ReviewFormQuestionException;
 
 import lombok.AccessLevel;
@@ -21,10 +22,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @SQLDelete(sql = "update review_form_question set review_form_id = null where id=?")
-public class ReviewFormQuestion {
+public class ReviewFormQuestion implements Positioned {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence")
     @Column(nullable = false)
     private Long id;
 
@@ -1,6 +1,6 @@
 package com.reviewduck.review.dto.controller.response;
 
-import com.reviewduck.review.domain.Answer;
+import com.reviewduck.review.domain.QuestionAnswer;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -13,7 +13,7 @@ public class AnswerResponse {
     private long id;
     private String value;
 
-    public static AnswerResponse from(Answer answer) {
-        return new AnswerResponse(answer.getId(), answer.getValue());
+    public static AnswerResponse from(QuestionAnswer questionAnswer) {
+        return new AnswerResponse(questionAnswer.getAnswerId(), questionAnswer.getAnswerValue());
     }
 }
@@ -3,7 +3,7 @@ package com.reviewduck.review.dto.controller.response;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.reviewduck.member.dto.MemberDto;
 import com.reviewduck.review.domain.ReviewForm;
@@ -21,7 +21,8 @@ public class MemberReviewFormsResponse {
     private boolean isMine;
     private List<MemberReviewFormResponse> reviewForms;
 
-    public static MemberReviewFormsResponse of(Page<ReviewForm> reviewForms, String socialId, MemberDto member) {
+    public static MemberReviewFormsResponse of(Slice<ReviewForm> reviewForms, long numberOfReviewForms, String socialId,
+        MemberDto member) {
         List<MemberReviewFormResponse> reviewFormResponses = reviewForms.getContent().stream()
             .map(MemberReviewFormResponse::from)
             .collect(Collectors.toUnmodifiableList());
@@ -29,7 +30,7 @@ public class MemberReviewFormsResponse {
         boolean isMine = member.getSocialId().equals(socialId);
 
         return new MemberReviewFormsResponse(
-            reviewForms.getTotalElements(), reviewForms.isLast(), isMine, reviewFormResponses);
+            numberOfReviewForms, reviewForms.isLast(), isMine, reviewFormResponses);
     }
 
     public boolean getIsMine() {
@@ -2,9 +2,9 @@ package com.reviewduck.review.dto.controller.response;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import com.reviewduck.review.domain.Answer;
 import com.reviewduck.review.domain.QuestionAnswer;
 import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
@@ -18,8 +18,8 @@ public abstract class ReviewAbstractResponse {
     static List<ReviewContentResponse> getSynchronizedReviewContents(Review review) {
         ReviewForm reviewForm = review.getReviewForm();
 
-        Map<ReviewFormQuestion, Answer> reviewMap = review.getQuestionAnswers().stream()
-            .collect(Collectors.toUnmodifiableMap(QuestionAnswer::getReviewFormQuestion, QuestionAnswer::getAnswer));
+        Map<ReviewFormQuestion, QuestionAnswer> reviewMap = review.getQuestionAnswers().stream()
+            .collect(Collectors.toUnmodifiableMap(QuestionAnswer::getReviewFormQuestion, Function.identity()));
 
         return reviewForm.getQuestions().stream()
             .map(question -> ReviewContentResponse.of(question, reviewMap.getOrDefault(question, null)))
@@ -1,6 +1,5 @@
 package com.reviewduck.review.dto.controller.response;
 
-import com.reviewduck.review.domain.Answer;
 import com.reviewduck.review.domain.QuestionAnswer;
 import com.reviewduck.review.domain.ReviewFormQuestion;
 
@@ -18,14 +17,15 @@ public class ReviewContentResponse {
     public static ReviewContentResponse from(QuestionAnswer questionAnswer) {
         return new ReviewContentResponse(
             ReviewFormQuestionResponse.from(questionAnswer.getReviewFormQuestion()),
-            AnswerResponse.from(questionAnswer.getAnswer())
+            AnswerResponse.from(questionAnswer)
         );
     }
 
-    public static ReviewContentResponse of(ReviewFormQuestion question, Answer answer) {
-        if (answer == null) {
+    public static ReviewContentResponse of(ReviewFormQuestion question, QuestionAnswer questionAnswer) {
+        if (questionAnswer == null) {
             return new ReviewContentResponse(ReviewFormQuestionResponse.from(question), null);
         }
-        return new ReviewContentResponse(ReviewFormQuestionResponse.from(question), AnswerResponse.from(answer));
+        return new ReviewContentResponse(ReviewFormQuestionResponse.from(question),
+            AnswerResponse.from(questionAnswer));
     }
 }
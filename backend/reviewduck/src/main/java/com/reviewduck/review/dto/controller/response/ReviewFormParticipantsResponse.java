@@ -0,0 +1,32 @@
+package com.reviewduck.review.dto.controller.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Slice;
+
+import com.reviewduck.member.domain.Member;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ReviewFormParticipantsResponse {
+
+    private boolean isLastPage;
+    private List<CreatorResponse> participants;
+
+    public static ReviewFormParticipantsResponse from(Slice<Member> participants) {
+        List<CreatorResponse> participantResponses = participants.getContent().stream()
+            .map(CreatorResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        return new ReviewFormParticipantsResponse(participants.isLast(), participantResponses);
+    }
+
+    public boolean getIsLastPage() {
+        return isLastPage;
+    }
+}
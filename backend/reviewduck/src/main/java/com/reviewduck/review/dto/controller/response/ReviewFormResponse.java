@@ -1,11 +1,8 @@
 package com.reviewduck.review.dto.controller.response;
 
-import java.sql.Timestamp;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import com.reviewduck.member.domain.Member;
-import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.service.ReviewFormCacheDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -22,22 +19,14 @@ public class ReviewFormResponse {
     private List<ReviewFormQuestionResponse> questions;
     private List<CreatorResponse> participants;
 
-    public static ReviewFormResponse of(ReviewForm reviewForm, boolean isMine, List<Member> participants) {
-        List<ReviewFormQuestionResponse> reviewFormQuestionResponse = reviewForm.getQuestions().stream()
-            .map(ReviewFormQuestionResponse::from)
-            .collect(Collectors.toUnmodifiableList());
-
-        List<CreatorResponse> participantsResponse = participants.stream()
-            .map(CreatorResponse::from)
-            .collect(Collectors.toUnmodifiableList());
-
+    public static ReviewFormResponse of(ReviewFormCacheDto reviewForm, long memberId) {
         return new ReviewFormResponse(
-            reviewForm.getTitle(),
-            Timestamp.valueOf(reviewForm.getUpdatedAt()).getTime(),
-            CreatorResponse.from(reviewForm.getMember()),
-            isMine,
-            reviewFormQuestionResponse,
-            participantsResponse
+            reviewForm.getReviewFormTitle(),
+            reviewForm.getUpdatedAt(),
+            reviewForm.getCreator(),
+            reviewForm.isCreator(memberId),
+            reviewForm.getQuestions(),
+            reviewForm.getParticipants()
         );
     }
 
@@ -2,7 +2,7 @@ package com.reviewduck.review.dto.controller.response;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.reviewduck.review.domain.Review;
 
@@ -20,11 +20,12 @@ public class ReviewsOfReviewFormResponse {
     private boolean isLastPage;
     private List<ReviewAbstractResponse> reviews;
 
-    public static ReviewsOfReviewFormResponse of(long memberId, Page<Review> reviews, String displayType) {
+    public static ReviewsOfReviewFormResponse of(long memberId, Slice<Review> reviews, long numberOfReviews,
+        String displayType) {
         List<ReviewAbstractResponse> reviewResponses = ReviewDisplayBuilder.of(displayType)
             .createResponseFrom(memberId, reviews.getContent());
 
-        return new ReviewsOfReviewFormResponse(reviews.getTotalElements(), reviews.isLast(), reviewResponses);
+        return new ReviewsOfReviewFormResponse(numberOfReviews, reviews.isLast(), reviewResponses);
     }
 
     public boolean getIsLastPage() {
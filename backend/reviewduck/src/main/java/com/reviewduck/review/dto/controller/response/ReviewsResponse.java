@@ -3,7 +3,7 @@ package com.reviewduck.review.dto.controller.response;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.reviewduck.review.domain.Review;
 
@@ -22,12 +22,12 @@ public class ReviewsResponse {
     private boolean isLastPage;
     private List<ReviewSummaryResponse> reviews;
 
-    public static ReviewsResponse of(Page<Review> reviews, boolean isMine) {
+    public static ReviewsResponse of(Slice<Review> reviews, long numberOfReviews, boolean isMine) {
         List<ReviewSummaryResponse> reviewResponses = reviews.getContent().stream()
             .map(ReviewSummaryResponse::from)
             .collect(Collectors.toUnmodifiableList());
 
-        return new ReviewsResponse(reviews.getTotalElements(), isMine, reviews.isLast(), reviewResponses);
+        return new ReviewsResponse(numberOfReviews, isMine, reviews.isLast(), reviewResponses);
     }
 
     public boolean getIsMine() {
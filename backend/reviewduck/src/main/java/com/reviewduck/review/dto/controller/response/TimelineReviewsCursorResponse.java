@@ -0,0 +1,42 @@
+package com.reviewduck.review.dto.controller.response;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Slice;
+
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.vo.TimelineCursor;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class TimelineReviewsCursorResponse {
+
+    private String nextCursor;
+    private List<ReviewResponse> reviews;
+
+    public static TimelineReviewsCursorResponse of(Slice<Review> reviews, String sortBy, long memberId) {
+        List<Review> content = reviews.getContent();
+
+        String nextCursor = null;
+        if (reviews.hasNext()) {
+            nextCursor = TimelineCursor.encode(content.get(content.size() - 1), sortBy);
+        }
+
+        return of(content, nextCursor, memberId);
+    }
+
+    public static TimelineReviewsCursorResponse of(List<Review> reviews, String nextCursor, long memberId) {
+        List<ReviewResponse> reviewResponses = reviews.stream()
+            .map(review -> ReviewResponse.of(memberId, review))
+            .collect(Collectors.toUnmodifiableList());
+
+        return new TimelineReviewsCursorResponse(nextCursor, reviewResponses);
+    }
+}
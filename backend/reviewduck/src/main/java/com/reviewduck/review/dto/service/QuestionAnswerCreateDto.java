@@ -1,6 +1,5 @@
 package com.reviewduck.review.dto.service;
 
-import com.reviewduck.review.domain.Answer;
 import com.reviewduck.review.domain.ReviewFormQuestion;
 
 import lombok.AllArgsConstructor;
@@ -11,5 +10,5 @@ import lombok.Getter;
 public class QuestionAnswerCreateDto {
 
     private final ReviewFormQuestion reviewFormQuestion;
-    private final Answer answer;
+    private final String answerValue;
 }
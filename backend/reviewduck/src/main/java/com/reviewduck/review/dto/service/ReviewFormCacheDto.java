@@ -0,0 +1,53 @@
+package com.reviewduck.review.dto.service;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.controller.response.CreatorResponse;
+import com.reviewduck.review.dto.controller.response.ReviewFormQuestionResponse;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회고 폼 조회 응답 중 조회하는 사용자와 무관한 부분
+ * 회고 폼 코드 별로 캐싱되며, 작성자 여부는 요청마다 creatorId 로 판단한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewFormCacheDto {
+
+    private final long creatorId;
+    private final String reviewFormTitle;
+    private final long updatedAt;
+    private final CreatorResponse creator;
+    private final List<ReviewFormQuestionResponse> questions;
+    private final List<CreatorResponse> participants;
+
+    public static ReviewFormCacheDto of(ReviewForm reviewForm, List<Member> participants) {
+        List<ReviewFormQuestionResponse> reviewFormQuestionResponse = reviewForm.getQuestions().stream()
+            .map(ReviewFormQuestionResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        List<CreatorResponse> participantsResponse = participants.stream()
+            .map(CreatorResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        return new ReviewFormCacheDto(
+            reviewForm.getMember().getId(),
+            reviewForm.getTitle(),
+            Timestamp.valueOf(reviewForm.getUpdatedAt()).getTime(),
+            CreatorResponse.from(reviewForm.getMember()),
+            reviewFormQuestionResponse,
+            participantsResponse
+        );
+    }
+
+    public boolean isCreator(long memberId) {
+        return creatorId == memberId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.reviewduck.review.dto.service;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewLikesDto {
+
+    private final long id;
+    private final int likes;
+    private final LocalDateTime createdAt;
+    private final boolean isPrivate;
+}
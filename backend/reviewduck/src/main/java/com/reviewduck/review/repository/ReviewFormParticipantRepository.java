@@ -0,0 +1,49 @@
+package com.reviewduck.review.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.domain.ReviewFormParticipant;
+import com.reviewduck.review.domain.ReviewFormParticipantId;
+
+public interface ReviewFormParticipantRepository extends Repository<ReviewFormParticipant, ReviewFormParticipantId> {
+
+    @Query("select m from ReviewFormParticipant p join p.member m "
+        + "where p.reviewFormId = :reviewFormId "
+        + "order by p.createdAt asc, p.memberId asc")
+    List<Member> findMembersByReviewFormId(long reviewFormId);
+
+    @Query("select m from ReviewFormParticipant p join p.member m "
+        + "where p.reviewFormId = :reviewFormId "
+        + "order by p.createdAt asc, p.memberId asc")
+    Slice<Member> findMembersByReviewFormId(long reviewFormId, Pageable pageable);
+
+    @Query(value = "select rf.code from review_form rf where rf.member_id = :memberId "
+        + "union "
+        + "select rf.code from review_form_participant p join review_form rf on rf.id = p.review_form_id "
+        + "where p.member_id = :memberId", nativeQuery = true)
+    List<String> findReviewFormCodesByMemberId(long memberId);
+
+    @Modifying
+    @Query(value = "insert into review_form_participant (review_form_id, member_id, review_count, created_at) "
+        + "values (:reviewFormId, :memberId, 1, :createdAt) "
+        + "on duplicate key update review_count = review_count + 1", nativeQuery = true)
+    void increaseReviewCount(long reviewFormId, long memberId, LocalDateTime createdAt);
+
+    @Modifying
+    @Query(value = "update review_form_participant set review_count = review_count - 1 "
+        + "where review_form_id = :reviewFormId and member_id = :memberId", nativeQuery = true)
+    void decreaseReviewCount(long reviewFormId, long memberId);
+
+    @Modifying
+    @Query(value = "delete from review_form_participant "
+        + "where review_form_id = :reviewFormId and member_id = :memberId and review_count <= 0", nativeQuery = true)
+    void deleteIfNoReview(long reviewFormId, long memberId);
+}
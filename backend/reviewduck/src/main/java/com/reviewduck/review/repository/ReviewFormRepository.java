@@ -2,8 +2,8 @@ package com.reviewduck.review.repository;
 
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
@@ -17,7 +17,9 @@ public interface ReviewFormRepository extends Repository<ReviewForm, Long> {
 
     Optional<ReviewForm> findByCodeAndIsActiveTrue(String code);
 
-    Page<ReviewForm> findByMemberAndIsActiveTrue(Member member, PageRequest pageable);
+    Slice<ReviewForm> findByMemberAndIsActiveTrue(Member member, PageRequest pageable);
+
+    long countByMemberAndIsActiveTrue(Member member);
 
     @Modifying
     @Query("update ReviewForm r set r.isActive = false where r.id = :#{#reviewForm.id}")
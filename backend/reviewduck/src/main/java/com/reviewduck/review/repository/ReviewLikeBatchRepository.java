@@ -0,0 +1,61 @@
+package com.reviewduck.review.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Repository
+public class ReviewLikeBatchRepository {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewLikeBatchRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 회고 id 별로 누적된 좋아요 수를 update ... case 쿼리로 한 번에 반영한다.
+     * updated_at 은 갱신하지 않는다.
+     * 회고가 많으면 쿼리를 나누어 실행하되 하나의 트랜잭션으로 묶어서, 실패하면 아무것도 반영되지 않게 한다.
+     * 그래야 실패한 좋아요를 모두 다시 반영해도 두 번 더해지지 않는다.
+     */
+    public void increaseLikes(Map<Long, Long> likesByReviewId) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(likesByReviewId.entrySet());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < entries.size(); from += MAX_BATCH_SIZE) {
+                int to = Math.min(from + MAX_BATCH_SIZE, entries.size());
+                increaseLikes(entries.subList(from, to));
+            }
+        });
+    }
+
+    private void increaseLikes(List<Map.Entry<Long, Long>> entries) {
+        StringBuilder sql = new StringBuilder("update review set likes = likes + case id");
+        List<Object> parameters = new ArrayList<>();
+
+        for (Map.Entry<Long, Long> entry : entries) {
+            sql.append(" when ? then ?");
+            parameters.add(entry.getKey());
+            parameters.add(entry.getValue());
+        }
+
+        sql.append(" else 0 end where id in (");
+        for (int i = 0; i < entries.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            parameters.add(entries.get(i).getKey());
+        }
+        sql.append(")");
+
+        jdbcTemplate.update(sql.toString(), parameters.toArray());
+    }
+}
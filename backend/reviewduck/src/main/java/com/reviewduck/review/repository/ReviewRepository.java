@@ -1,16 +1,22 @@
 package com.reviewduck.review.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.QueryHint;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.Repository;
 
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.service.ReviewLikesDto;
 
 public interface ReviewRepository extends Repository<Review, Long> {
 
@@ -18,21 +24,96 @@ public interface ReviewRepository extends Repository<Review, Long> {
 
     Optional<Review> findById(long reviewId);
 
-    Page<Review> findByReviewForm(ReviewForm reviewForm, Pageable pageable);
+    @Query("select new com.reviewduck.review.dto.service.ReviewLikesDto(r.id, r.likes, r.createdAt, r.isPrivate) "
+        + "from Review r where r.id = :reviewId")
+    Optional<ReviewLikesDto> findLikesById(long reviewId);
+
+    @Query("select new com.reviewduck.review.dto.service.ReviewLikesDto(r.id, r.likes, r.createdAt, r.isPrivate) "
+        + "from Review r where r.isPrivate = false and r.createdAt >= :createdAt")
+    List<ReviewLikesDto> findAllPublicLikesCreatedAfter(LocalDateTime createdAt);
+
+    @Query("select new com.reviewduck.review.dto.service.ReviewLikesDto(r.id, r.likes, r.createdAt, r.isPrivate) "
+        + "from Review r where r.id in :reviewIds")
+    List<ReviewLikesDto> findAllLikesByIdIn(List<Long> reviewIds);
+
+    Slice<Review> findByReviewForm(ReviewForm reviewForm, Pageable pageable);
+
+    @Query("select r.id from Review r where r.reviewForm = :reviewForm")
+    Slice<Long> findIdsByReviewForm(ReviewForm reviewForm, Pageable pageable);
+
+    long countByReviewForm(ReviewForm reviewForm);
 
     Page<Review> findByIsPrivateFalse(Pageable pageable);
 
     Page<Review> findByIsPrivateFalseAndLikesGreaterThan(Pageable pageable,int likes);
 
-    Page<Review> findByMember(Member member, Pageable pageable);
+    @Query(value = "select r.id from Review r where r.isPrivate = false",
+        countQuery = "select count(r) from Review r where r.isPrivate = false")
+    Page<Long> findIdsByIsPrivateFalse(Pageable pageable);
 
-    Page<Review> findByMemberAndIsPrivateFalse(Member member, Pageable pageable);
+    @Query("select r.id from Review r where r.isPrivate = false "
+        + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id))")
+    Slice<Long> findPublicIdsByCreatedAtCursor(LocalDateTime createdAt, long id, Pageable pageable);
 
-    boolean existsByReviewForm(ReviewForm reviewForm);
+    @Query("select r.id from Review r where r.isPrivate = false "
+        + "and (r.updatedAt < :updatedAt or (r.updatedAt = :updatedAt and r.id < :id))")
+    Slice<Long> findPublicIdsByUpdatedAtCursor(LocalDateTime updatedAt, long id, Pageable pageable);
+
+    /**
+     * 목록 조회용 쿼리
+     * 페이징된 id 목록으로 회고와 작성자, 회고 폼, 질문과 답변을 한 번에 조회한다.
+     * 이전 버전과 함께 배포되는 호환 기간에만 사용하며, 이전 버전이 고친 answer 행도 함께 조회한다.
+     * 반환되는 순서는 보장하지 않으므로 호출하는 쪽에서 id 순서대로 정렬해야 한다.
+     */
+    @Query("select distinct r from Review r "
+        + "left join fetch r.member "
+        + "left join fetch r.reviewForm rf "
+        + "left join fetch rf.member "
+        + "left join fetch r.questionAnswers qa "
+        + "left join fetch qa.reviewFormQuestion "
+        + "left join fetch qa.answer "
+        + "where r.id in :ids "
+        + "order by qa.position asc")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    List<Review> findAllWithLegacyAnswersByIdIn(List<Long> ids);
+
+    /**
+     * 목록 조회용 쿼리
+     * 페이징된 id 목록으로 회고와 작성자, 회고 폼, 질문과 답변을 한 번에 조회한다.
+     * 반환되는 순서는 보장하지 않으므로 호출하는 쪽에서 id 순서대로 정렬해야 한다.
+     */
+    @Query("select distinct r from Review r "
+        + "left join fetch r.member "
+        + "left join fetch r.reviewForm rf "
+        + "left join fetch rf.member "
+        + "left join fetch r.questionAnswers qa "
+        + "left join fetch qa.reviewFormQuestion "
+        + "where r.id in :ids "
+        + "order by qa.position asc")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    List<Review> findAllWithAnswerValuesByIdIn(List<Long> ids);
 
-    @Modifying(clearAutomatically = true)
-    @Query("update Review r set r.likes = r.likes + :likeCount where r.id = :#{#review.id}")
-    void increaseLikes(Review review, int likeCount);
+    @Query("select r.id from Review r where r.isPrivate = false")
+    List<Long> findAllPublicIds();
+
+    @Query("select r.id from Review r where r.isPrivate = false and r.updatedAt >= :updatedAt")
+    List<Long> findPublicIdsUpdatedSince(LocalDateTime updatedAt);
+
+    Slice<Review> findByMember(Member member, Pageable pageable);
+
+    @Query("select r.id from Review r where r.member = :member")
+    Slice<Long> findIdsByMember(Member member, Pageable pageable);
+
+    long countByMember(Member member);
+
+    Slice<Review> findByMemberAndIsPrivateFalse(Member member, Pageable pageable);
+
+    @Query("select r.id from Review r where r.member = :member and r.isPrivate = false")
+    Slice<Long> findIdsByMemberAndIsPrivateFalse(Member member, Pageable pageable);
+
+    long countByMemberAndIsPrivateFalse(Member member);
+
+    boolean existsByReviewForm(ReviewForm reviewForm);
 
     void deleteById(long id);
 }
@@ -0,0 +1,52 @@
+package com.reviewduck.review.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reviewduck.review.domain.QuestionAnswer;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.repository.ReviewRepository;
+
+/**
+ * answer 테이블만 읽고 쓰는 이전 버전과 함께 배포되는 호환 기간에는 answer 행을 우선해 읽어야 한다.
+ * 새로 배포하는 서버는 answer_value 만 읽도록 기본으로 꺼 둔다.
+ * 이전 버전에서 올리는 배포는 review.answer.read-legacy 와 review.answer.legacy-write 를 함께 켜고 배포한다.
+ * 이전 버전이 모두 내려가면 answer 행의 내용을 answer_value 로 한 번 더 옮긴 뒤 두 설정을 끈다.
+ * 두 설정을 끈 버전이 배포된 다음 릴리스에서 answer 테이블과 question_answer.answer_id 컬럼을 지운다.
+ */
+@Component
+public class LegacyAnswerReadMode {
+
+    private final ReviewRepository reviewRepository;
+    private final boolean enabled;
+
+    public LegacyAnswerReadMode(ReviewRepository reviewRepository,
+        @Value("${review.answer.read-legacy:false}") boolean enabled) {
+        this.reviewRepository = reviewRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 호환 기간이 끝나면 answer 행을 조회하지 않는다.
+     */
+    public List<Review> findAllWithContentsByIdIn(List<Long> ids) {
+        if (!enabled) {
+            return reviewRepository.findAllWithAnswerValuesByIdIn(ids);
+        }
+        List<Review> reviews = reviewRepository.findAllWithLegacyAnswersByIdIn(ids);
+        reviews.forEach(this::apply);
+        return reviews;
+    }
+
+    /**
+     * 호환 기간에는 조회한 회고의 답변이 answer 행을 우선해 읽도록 표시한다.
+     */
+    public Review apply(Review review) {
+        if (enabled) {
+            review.getQuestionAnswers().forEach(QuestionAnswer::preferLegacyAnswer);
+        }
+        return review;
+    }
+}
@@ -0,0 +1,30 @@
+package com.reviewduck.review.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reviewduck.review.domain.QuestionAnswer;
+import com.reviewduck.review.domain.Review;
+
+/**
+ * answer 테이블을 읽는 이전 버전과 함께 배포되는 동안에는 새 답변도 answer 테이블에 함께 기록해야 한다.
+ * 새로 배포하는 서버는 question_answer 테이블에만 저장하도록 기본으로 꺼 두고, 호환 기간에만 review.answer.legacy-write 를 켠다.
+ * 함께 켜고 끌 설정은 LegacyAnswerReadMode 를 참고한다.
+ * 설정과 관계없이 answer 행이 이미 있는 답변은 수정할 때 함께 고친다.
+ */
+@Component
+public class LegacyAnswerWriter {
+
+    private final boolean enabled;
+
+    public LegacyAnswerWriter(@Value("${review.answer.legacy-write:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void write(Review review) {
+        if (!enabled) {
+            return;
+        }
+        review.getQuestionAnswers().forEach(QuestionAnswer::writeLegacyAnswer);
+    }
+}
@@ -0,0 +1,48 @@
+package com.reviewduck.review.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색용 토크나이저
+ * 한국어는 형태소 분석 없이도 음절 2-gram 으로 조사가 붙은 단어를 찾을 수 있으므로, 단어를 글자 2개씩 겹쳐 자른다.
+ * 한 글자 단어는 그대로 하나의 토큰이 된다.
+ */
+public final class NgramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NgramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : DELIMITER.split(normalized)) {
+            addGrams(word, tokens);
+        }
+        return tokens;
+    }
+
+    private static void addGrams(String word, List<String> tokens) {
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 0) {
+            return;
+        }
+        if (codePoints.length <= GRAM_SIZE) {
+            tokens.add(word);
+            return;
+        }
+        for (int start = 0; start + GRAM_SIZE <= codePoints.length; start++) {
+            tokens.add(new String(codePoints, start, GRAM_SIZE));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.reviewduck.review.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reviewduck.config.cache.CountKey;
+import com.reviewduck.config.cache.TotalCountCache;
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.repository.ReviewFormRepository;
+import com.reviewduck.review.repository.ReviewRepository;
+
+import lombok.AllArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@AllArgsConstructor
+public class ReviewCountService {
+
+    private static final String REVIEWS_OF_MEMBER = "reviewsOfMember";
+    private static final String PUBLIC_REVIEWS_OF_MEMBER = "publicReviewsOfMember";
+    private static final String REVIEWS_OF_REVIEW_FORM = "reviewsOfReviewForm";
+    private static final String REVIEW_FORMS_OF_MEMBER = "reviewFormsOfMember";
+
+    private final TotalCountCache totalCountCache;
+    private final ReviewRepository reviewRepository;
+    private final ReviewFormRepository reviewFormRepository;
+
+    public long countByMember(Member member) {
+        return totalCountCache.get(CountKey.of(REVIEWS_OF_MEMBER, member.getId()),
+            () -> reviewRepository.countByMember(member));
+    }
+
+    public long countPublicByMember(Member member) {
+        return totalCountCache.get(CountKey.of(PUBLIC_REVIEWS_OF_MEMBER, member.getId()),
+            () -> reviewRepository.countByMemberAndIsPrivateFalse(member));
+    }
+
+    public long countByReviewForm(ReviewForm reviewForm) {
+        return totalCountCache.get(CountKey.of(REVIEWS_OF_REVIEW_FORM, reviewForm.getId()),
+            () -> reviewRepository.countByReviewForm(reviewForm));
+    }
+
+    public long countReviewFormsByMember(Member member) {
+        return totalCountCache.get(CountKey.of(REVIEW_FORMS_OF_MEMBER, member.getId()),
+            () -> reviewFormRepository.countByMemberAndIsActiveTrue(member));
+    }
+
+    public void increaseReviewCount(Review review) {
+        totalCountCache.increase(CountKey.of(REVIEWS_OF_MEMBER, review.getMember().getId()));
+        totalCountCache.increase(CountKey.of(REVIEWS_OF_REVIEW_FORM, review.getReviewForm().getId()));
+        if (!review.isPrivate()) {
+            totalCountCache.increase(CountKey.of(PUBLIC_REVIEWS_OF_MEMBER, review.getMember().getId()));
+        }
+    }
+
+    public void decreaseReviewCount(Review review) {
+        totalCountCache.decrease(CountKey.of(REVIEWS_OF_MEMBER, review.getMember().getId()));
+        totalCountCache.decrease(CountKey.of(REVIEWS_OF_REVIEW_FORM, review.getReviewForm().getId()));
+        if (!review.isPrivate()) {
+            totalCountCache.decrease(CountKey.of(PUBLIC_REVIEWS_OF_MEMBER, review.getMember().getId()));
+        }
+    }
+
+    public void updatePublicReviewCount(Review review, boolean wasPrivate) {
+        if (review.isPrivate() == wasPrivate) {
+            return;
+        }
+
+        CountKey key = CountKey.of(PUBLIC_REVIEWS_OF_MEMBER, review.getMember().getId());
+        if (wasPrivate) {
+            totalCountCache.increase(key);
+            return;
+        }
+        totalCountCache.decrease(key);
+    }
+
+    public void increaseReviewFormCount(ReviewForm reviewForm) {
+        totalCountCache.increase(CountKey.of(REVIEW_FORMS_OF_MEMBER, reviewForm.getMember().getId()));
+    }
+
+    public void decreaseReviewFormCount(ReviewForm reviewForm) {
+        totalCountCache.decrease(CountKey.of(REVIEW_FORMS_OF_MEMBER, reviewForm.getMember().getId()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.reviewduck.review.service;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.reviewduck.common.util.TransactionUtils;
+import com.reviewduck.config.cache.CacheType;
+import com.reviewduck.review.dto.service.ReviewFormCacheDto;
+
+/**
+ * 회고 폼 조회 응답을 회고 폼 코드 별로 캐싱한다.
+ * 회고 폼 수정, 삭제와 참여자 목록을 바꾸는 회고 작성, 삭제가 커밋되면 해당 코드의 캐시를 제거한다.
+ * 캐시에는 작성자와 참여자의 닉네임이 들어 있으므로, 닉네임 변경이 커밋되어도 그 사용자가 표시되는 코드의 캐시를 제거한다.
+ * 커밋 전에 시작된 조회가 제거 이후에 이전 값을 저장하지 않도록, 코드별 무효화 횟수가 조회하는 동안 바뀌면 다시 조회한다.
+ */
+@Component
+public class ReviewFormCache {
+
+    // 코드마다 카운터를 두지 않고 해시로 나눠 쓴다. 다른 코드와 겹치면 한 번 더 조회할 뿐이다.
+    private static final int INVALIDATION_STRIPES = 64;
+
+    private final Cache cache;
+    private final AtomicLongArray invalidationCounts = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public ReviewFormCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheType.ReviewFormCache.getCacheName()));
+    }
+
+    /**
+     * 같은 코드를 동시에 조회해도 loader 는 한 번만 실행한다.
+     * loader 에서 발생한 존재하지 않는 회고 폼 예외는 감싸지 않고 그대로 전달된다.
+     */
+    public ReviewFormCacheDto get(String code, Supplier<ReviewFormCacheDto> loader) {
+        return cache.get(code, () -> load(code, loader));
+    }
+
+    public void evict(String code) {
+        TransactionUtils.afterCommit(() -> evictNow(code));
+    }
+
+    public void evictAll(Collection<String> codes) {
+        TransactionUtils.afterCommit(() -> codes.forEach(this::evictNow));
+    }
+
+    /**
+     * 무효화 횟수를 먼저 올려 진행 중인 조회가 다시 조회하게 한다.
+     * 이미 저장 중인 조회는 캐시의 제거가 저장이 끝난 뒤에 지운다.
+     */
+    private void evictNow(String code) {
+        invalidationCounts.incrementAndGet(stripeOf(code));
+        cache.evict(code);
+    }
+
+    private ReviewFormCacheDto load(String code, Supplier<ReviewFormCacheDto> loader) {
+        int stripe = stripeOf(code);
+        long invalidationCount;
+        ReviewFormCacheDto reviewForm;
+        do {
+            invalidationCount = invalidationCounts.get(stripe);
+            reviewForm = loader.get();
+        } while (invalidationCount != invalidationCounts.get(stripe));
+        return reviewForm;
+    }
+
+    private int stripeOf(String code) {
+        return Math.floorMod(code.hashCode(), INVALIDATION_STRIPES);
+    }
+}
@@ -0,0 +1,62 @@
+package com.reviewduck.review.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.repository.ReviewFormParticipantRepository;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * 회고 폼 별 참여자 목록을 회고 작성, 삭제와 같은 트랜잭션에서 갱신한다.
+ * 회고 폼 조회 시 회고 전체를 훑지 않고 참여자 수만큼만 읽는다.
+ */
+@Service
+@Transactional(readOnly = true)
+@AllArgsConstructor
+public class ReviewFormParticipantService {
+
+    private final ReviewFormParticipantRepository reviewFormParticipantRepository;
+
+    public List<Member> findAllByReviewForm(ReviewForm reviewForm) {
+        return reviewFormParticipantRepository.findMembersByReviewFormId(reviewForm.getId());
+    }
+
+    public Slice<Member> findAllByReviewForm(ReviewForm reviewForm, Pageable pageable) {
+        return reviewFormParticipantRepository.findMembersByReviewFormId(reviewForm.getId(), pageable);
+    }
+
+    /**
+     * 사용자가 작성자나 참여자로 표시되는 회고 폼의 코드를 조회한다.
+     */
+    public List<String> findReviewFormCodesShowing(long memberId) {
+        return reviewFormParticipantRepository.findReviewFormCodesByMemberId(memberId);
+    }
+
+    @Transactional
+    public void join(Review review) {
+        if (review.getReviewForm() == null) {
+            return;
+        }
+        reviewFormParticipantRepository.increaseReviewCount(review.getReviewForm().getId(),
+            review.getMember().getId(), review.getCreatedAt());
+    }
+
+    @Transactional
+    public void leave(Review review) {
+        if (review.getReviewForm() == null) {
+            return;
+        }
+        long reviewFormId = review.getReviewForm().getId();
+        long memberId = review.getMember().getId();
+        reviewFormParticipantRepository.decreaseReviewCount(reviewFormId, memberId);
+        reviewFormParticipantRepository.deleteIfNoReview(reviewFormId, memberId);
+    }
+}
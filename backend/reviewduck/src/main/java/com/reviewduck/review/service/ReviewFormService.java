@@ -2,8 +2,8 @@ package com.reviewduck.review.service;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +19,9 @@ import com.reviewduck.review.dto.controller.request.ReviewFormCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormUpdateRequest;
 import com.reviewduck.review.dto.controller.response.MemberReviewFormsResponse;
 import com.reviewduck.review.dto.controller.response.ReviewFormCodeResponse;
+import com.reviewduck.review.dto.controller.response.ReviewFormParticipantsResponse;
 import com.reviewduck.review.dto.controller.response.ReviewFormResponse;
+import com.reviewduck.review.dto.service.ReviewFormCacheDto;
 import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
 import com.reviewduck.review.dto.service.ServiceDtoConverter;
 import com.reviewduck.review.repository.ReviewFormRepository;
@@ -36,6 +38,9 @@ public class ReviewFormService {
     private final ReviewFormRepository reviewFormRepository;
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
+    private final ReviewCountService reviewCountService;
+    private final ReviewFormCache reviewFormCache;
+    private final ReviewFormParticipantService reviewFormParticipantService;
 
     @Transactional
     public ReviewFormCodeResponse save(long memberId, ReviewFormCreateRequest createRequest) {
@@ -44,10 +49,16 @@ public class ReviewFormService {
     }
 
     public ReviewFormResponse findByCode(String reviewFormCode, long memberId) {
-        ReviewForm reviewForm = getReviewFormByCode(reviewFormCode);
-        List<Member> members = memberRepository.findAllParticipantsByReviewForm(reviewForm);
+        ReviewFormCacheDto reviewForm = reviewFormCache.get(reviewFormCode,
+            () -> loadReviewForm(reviewFormCode));
+        return ReviewFormResponse.of(reviewForm, memberId);
+    }
 
-        return ReviewFormResponse.of(reviewForm, reviewForm.isMine(memberId), members);
+    public ReviewFormParticipantsResponse findParticipantsByCode(String reviewFormCode, int page, int size) {
+        ReviewForm reviewForm = getReviewFormByCode(reviewFormCode);
+        Slice<Member> participants = reviewFormParticipantService.findAllByReviewForm(reviewForm,
+            PageRequest.of(page, size));
+        return ReviewFormParticipantsResponse.from(participants);
     }
 
     public MemberReviewFormsResponse findBySocialId(String socialId, int page, int size, MemberDto member) {
@@ -57,8 +68,9 @@ public class ReviewFormService {
         Sort sort = Sort.by(Sort.Direction.DESC, ReviewFormSortType.LATEST.getSortBy());
         PageRequest pageRequest = PageRequest.of(page, size, sort);
 
-        Page<ReviewForm> reviewForms = reviewFormRepository.findByMemberAndIsActiveTrue(creator, pageRequest);
-        return MemberReviewFormsResponse.of(reviewForms, socialId, member);
+        Slice<ReviewForm> reviewForms = reviewFormRepository.findByMemberAndIsActiveTrue(creator, pageRequest);
+        long numberOfReviewForms = reviewCountService.countReviewFormsByMember(creator);
+        return MemberReviewFormsResponse.of(reviewForms, numberOfReviewForms, socialId, member);
     }
 
     @Transactional
@@ -70,6 +82,7 @@ public class ReviewFormService {
             updateRequest.getReviewFormTitle(),
             ServiceDtoConverter.toReviewFormQuestionUpdateDtos(updateRequest.getQuestions())
         );
+        reviewFormCache.evict(code);
 
         return ReviewFormCodeResponse.from(reviewForm);
     }
@@ -78,6 +91,8 @@ public class ReviewFormService {
     public void deleteByCode(long memberId, String reviewFormCode) {
         ReviewForm reviewForm = getReviewFormByCode(reviewFormCode);
         validateReviewFormIsMine(memberId, reviewForm, "본인이 생성한 회고 폼이 아니면 삭제할 수 없습니다.");
+        reviewCountService.decreaseReviewFormCount(reviewForm);
+        reviewFormCache.evict(reviewFormCode);
         if (reviewRepository.existsByReviewForm(reviewForm)) {
             reviewFormRepository.inactivate(reviewForm);
             return;
@@ -90,7 +105,15 @@ public class ReviewFormService {
         List<ReviewFormQuestionCreateDto> questions = ServiceDtoConverter.toReviewFormQuestionCreateDtos(
             createRequest.getQuestions());
         ReviewForm reviewForm = new ReviewForm(member, createRequest.getReviewFormTitle(), questions);
-        return reviewFormRepository.save(reviewForm);
+        ReviewForm savedReviewForm = reviewFormRepository.save(reviewForm);
+        reviewCountService.increaseReviewFormCount(savedReviewForm);
+        return savedReviewForm;
+    }
+
+    private ReviewFormCacheDto loadReviewForm(String code) {
+        ReviewForm reviewForm = getReviewFormByCode(code);
+        List<Member> members = reviewFormParticipantService.findAllByReviewForm(reviewForm);
+        return ReviewFormCacheDto.of(reviewForm, members);
     }
 
     private ReviewForm getReviewFormByCode(String code) {
@@ -0,0 +1,153 @@
+package com.reviewduck.review.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.reviewduck.config.cache.CacheInvalidationPublisher;
+import com.reviewduck.review.repository.ReviewLikeBatchRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 요청을 메모리에 누적해 두었다가 주기적으로 한 번에 DB 에 반영한다.
+ * 같은 회고에 좋아요가 몰려도 row lock 을 요청마다 잡지 않도록 하기 위함이다.
+ * 반영 전 서버가 비정상 종료되면 마지막 반영 주기(기본 1초) 동안의 좋아요가 유실될 수 있으며,
+ * 정상 종료 시에는 남아있는 좋아요를 모두 반영한다.
+ * 반영한 뒤에는 다른 서버의 인기순 랭킹이 좋아요 수를 다시 읽도록 반영한 회고 id 를 변경 피드로 알린다.
+ */
+@Slf4j
+@Component
+public class ReviewLikeAggregator {
+
+    // cache_invalidation.cache_key 길이 제한
+    private static final int MAX_FEED_KEY_LENGTH = 1000;
+
+    private final ReviewLikeBatchRepository reviewLikeBatchRepository;
+    private final CacheInvalidationPublisher changePublisher;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile Map<Long, LongAdder> pendingLikes = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> flushingLikes = Collections.emptyMap();
+
+    public ReviewLikeAggregator(ReviewLikeBatchRepository reviewLikeBatchRepository,
+        CacheInvalidationPublisher changePublisher, MeterRegistry meterRegistry) {
+        this.reviewLikeBatchRepository = reviewLikeBatchRepository;
+        this.changePublisher = changePublisher;
+
+        Gauge.builder("review.likes.pending", this, ReviewLikeAggregator::countPendingLikes)
+            .description("DB 에 반영되지 않은 좋아요 수")
+            .register(meterRegistry);
+        Gauge.builder("review.likes.pending.reviews", this, ReviewLikeAggregator::countPendingReviews)
+            .description("반영되지 않은 좋아요가 있는 회고 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 수를 누적하고, 아직 DB 에 반영되지 않은 해당 회고의 좋아요 수를 반환한다.
+     */
+    public long add(long reviewId, int likeCount) {
+        lock.readLock().lock();
+        try {
+            LongAdder likes = pendingLikes.computeIfAbsent(reviewId, id -> new LongAdder());
+            likes.add(likeCount);
+            return likes.sum() + flushingLikes.getOrDefault(reviewId, 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${review.likes.flush-interval:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> likesByReviewId = drain();
+        if (likesByReviewId.isEmpty()) {
+            return;
+        }
+
+        try {
+            reviewLikeBatchRepository.increaseLikes(likesByReviewId);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 반영에 실패해 다음 주기에 다시 반영합니다. reviews = {}", likesByReviewId.size(), e);
+            restore(likesByReviewId);
+            return;
+        } finally {
+            flushingLikes = Collections.emptyMap();
+        }
+        publishFlushedIds(likesByReviewId.keySet());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, LongAdder> drained;
+
+        lock.writeLock().lock();
+        try {
+            drained = pendingLikes;
+            pendingLikes = new ConcurrentHashMap<>();
+
+            Map<Long, Long> likesByReviewId = new HashMap<>();
+            drained.forEach((reviewId, likes) -> likesByReviewId.put(reviewId, likes.sum()));
+            flushingLikes = likesByReviewId;
+            return likesByReviewId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void restore(Map<Long, Long> likesByReviewId) {
+        lock.readLock().lock();
+        try {
+            likesByReviewId.forEach((reviewId, likes) ->
+                pendingLikes.computeIfAbsent(reviewId, id -> new LongAdder()).add(likes));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기록 하나에 담을 수 있는 만큼 회고 id 를 쉼표로 이어 보낸다.
+     */
+    private void publishFlushedIds(Set<Long> reviewIds) {
+        StringJoiner ids = new StringJoiner(",");
+        for (Long reviewId : reviewIds) {
+            String id = String.valueOf(reviewId);
+            if (ids.length() > 0 && ids.length() + 1 + id.length() > MAX_FEED_KEY_LENGTH) {
+                changePublisher.publish(ReviewTrendRanking.CHANGE_FEED_NAME, ids.toString());
+                ids = new StringJoiner(",");
+            }
+            ids.add(id);
+        }
+        changePublisher.publish(ReviewTrendRanking.CHANGE_FEED_NAME, ids.toString());
+    }
+
+    private double countPendingLikes() {
+        long pending = pendingLikes.values().stream()
+            .mapToLong(LongAdder::sum)
+            .sum();
+        long flushing = flushingLikes.values().stream()
+            .mapToLong(Long::longValue)
+            .sum();
+        return pending + flushing;
+    }
+
+    private double countPendingReviews() {
+        return pendingLikes.size();
+    }
+}
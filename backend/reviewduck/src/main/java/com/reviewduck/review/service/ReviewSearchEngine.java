@@ -0,0 +1,294 @@
+package com.reviewduck.review.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.common.util.TransactionUtils;
+import com.reviewduck.config.cache.CacheInvalidationListener;
+import com.reviewduck.config.cache.CacheInvalidationPublisher;
+import com.reviewduck.review.domain.QuestionAnswer;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.repository.ReviewRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공개 회고의 제목과 답변을 검색한다.
+ * 시작할 때 로컬 스냅샷이 있으면 읽어 들이고 그 이후에 바뀐 회고만 DB 에서 다시 색인하며, 스냅샷이 없으면 DB 에서 전부 색인한다.
+ * 회고 작성, 수정, 삭제는 트랜잭션이 커밋된 뒤 이 서버의 색인에 바로 반영하고, 캐시 무효화 로그에도 회고 id 를 남긴다.
+ * 각 서버는 무효화 로그로 전달받은 회고를 소스에서 다시 읽어 색인하므로, 다른 서버에서 바뀐 회고도 색인에 반영된다.
+ * 레플리카는 커밋보다 늦을 수 있어, 레플리카에서 읽은 결과로는 회고를 색인에서 지우지 않고 소스에서 다시 확인한다.
+ * review.search.snapshot-path 가 비어 있으면 스냅샷을 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class ReviewSearchEngine implements CacheInvalidationListener {
+
+    public static final String CHANGE_FEED_NAME = "reviewSearchIndex";
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int ANSWER_WEIGHT = 1;
+    private static final int RELOAD_CHUNK_SIZE = 500;
+    // 스냅샷을 쓰는 동안 커밋된 변경을 놓치지 않도록 스냅샷 시각보다 조금 앞선 변경부터 다시 색인한다.
+    private static final long CATCH_UP_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final ReviewRepository reviewRepository;
+    private final LegacyAnswerReadMode legacyAnswerReadMode;
+    private final TransactionTemplate replicaTransactionTemplate;
+    private final TransactionTemplate sourceTransactionTemplate;
+    private final CacheInvalidationPublisher changePublisher;
+    private final Path snapshotPath;
+    private final Timer searchTimer;
+    private final ReviewSearchIndex index = new ReviewSearchIndex();
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean dirty;
+
+    public ReviewSearchEngine(ReviewRepository reviewRepository, LegacyAnswerReadMode legacyAnswerReadMode,
+        PlatformTransactionManager transactionManager, CacheInvalidationPublisher changePublisher,
+        MeterRegistry meterRegistry, @Value("${review.search.snapshot-path:}") String snapshotPath) {
+        this.reviewRepository = reviewRepository;
+        this.legacyAnswerReadMode = legacyAnswerReadMode;
+        this.replicaTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.replicaTransactionTemplate.setReadOnly(true);
+        // 읽기 전용이 아닌 트랜잭션은 소스로 보내진다.
+        this.sourceTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.changePublisher = changePublisher;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+
+        this.searchTimer = Timer.builder("review.search.latency")
+            .description("회고 검색 색인 조회 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("review.search.documents", index, ReviewSearchIndex::size)
+            .description("검색 색인에 포함된 회고 수")
+            .register(meterRegistry);
+    }
+
+    public Page<Long> search(String query, Pageable pageable) {
+        return searchTimer.record(() -> index.search(query, pageable));
+    }
+
+    public void index(Review review) {
+        long reviewId = review.getId();
+        if (review.isPrivate()) {
+            remove(reviewId);
+            return;
+        }
+
+        Map<String, Integer> terms = toTerms(review);
+        TransactionUtils.afterCommit(() -> {
+            index.put(reviewId, terms);
+            dirty = true;
+        });
+        changePublisher.publish(CHANGE_FEED_NAME, String.valueOf(reviewId));
+    }
+
+    public void remove(long reviewId) {
+        TransactionUtils.afterCommit(() -> {
+            index.remove(reviewId);
+            dirty = true;
+        });
+        changePublisher.publish(CHANGE_FEED_NAME, String.valueOf(reviewId));
+    }
+
+    @Override
+    public String getCacheName() {
+        return CHANGE_FEED_NAME;
+    }
+
+    @Override
+    public void onInvalidation(String key) {
+        if (key != null) {
+            pendingIds.add(Long.valueOf(key));
+        }
+    }
+
+    /**
+     * 무효화 로그로 전달받은 회고를 소스에서 다시 읽어 색인한다.
+     * 삭제되었거나 비공개로 바뀐 회고는 색인에서 지운다.
+     */
+    @Scheduled(fixedDelayString = "${review.search.sync-interval:1000}")
+    public void applyChanges() {
+        List<Long> reviewIds = new ArrayList<>(pendingIds);
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        pendingIds.removeAll(reviewIds);
+
+        for (int from = 0; from < reviewIds.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = reviewIds.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, reviewIds.size()));
+            Set<Long> hiddenIds = sourceTransactionTemplate.execute(status -> reload(chunk));
+            if (hiddenIds != null) {
+                hiddenIds.forEach(index::remove);
+            }
+        }
+        dirty = true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Optional<LocalDateTime> snapshotAt = readSnapshot();
+        if (snapshotAt.isEmpty()) {
+            rebuild();
+            return;
+        }
+        synchronize(reviewRepository.findPublicIdsUpdatedSince(snapshotAt.get()));
+    }
+
+    /**
+     * DB 의 공개 회고 전체를 다시 색인한다. 공개 회고가 아닌 회고는 다음 applyChanges 에서 소스로 확인한 뒤 지운다.
+     */
+    public void rebuild() {
+        synchronize(null);
+    }
+
+    @Scheduled(fixedDelayString = "${review.search.snapshot-interval:600000}",
+        initialDelayString = "${review.search.snapshot-interval:600000}")
+    public void writeSnapshotIfChanged() {
+        if (dirty) {
+            writeSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void writeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        dirty = false;
+        try {
+            Path directory = Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path temporaryPath = Files.createTempFile(directory, "review-search", ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath))))) {
+                output.writeLong(System.currentTimeMillis());
+                index.writeSnapshot(output);
+            }
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("검색 색인 스냅샷 저장에 실패했습니다. path={}", snapshotPath, e);
+        }
+    }
+
+    private Optional<LocalDateTime> readSnapshot() {
+        if (snapshotPath == null || !Files.isReadable(snapshotPath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream input = new DataInputStream(
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath))))) {
+            long writtenAt = input.readLong();
+            if (!index.readSnapshot(input)) {
+                return Optional.empty();
+            }
+            Instant catchUpFrom = Instant.ofEpochMilli(writtenAt - CATCH_UP_MARGIN_MILLIS);
+            return Optional.of(LocalDateTime.ofInstant(catchUpFrom, ZoneId.systemDefault()));
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷을 읽지 못해 DB 에서 다시 색인합니다. path={}", snapshotPath, e);
+            index.getReviewIds().forEach(index::remove);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * changedIds 가 null 이면 모든 공개 회고를, 아니면 바뀐 회고와 색인에 없는 공개 회고만 레플리카에서 다시 색인한다.
+     * 레플리카에 없거나 비공개인 회고는 아직 반영되지 않은 것일 수 있어 바로 지우지 않고, applyChanges 가 소스에서 확인하도록 넘긴다.
+     */
+    private void synchronize(List<Long> changedIds) {
+        Set<Long> indexedIds = index.getReviewIds();
+        Set<Long> publicIds = new HashSet<>(reviewRepository.findAllPublicIds());
+
+        indexedIds.stream()
+            .filter(reviewId -> !publicIds.contains(reviewId))
+            .forEach(pendingIds::add);
+
+        List<Long> reloadIds = new ArrayList<>();
+        for (Long reviewId : publicIds) {
+            if (changedIds == null || !indexedIds.contains(reviewId)) {
+                reloadIds.add(reviewId);
+            }
+        }
+        if (changedIds != null) {
+            changedIds.stream()
+                .filter(reviewId -> indexedIds.contains(reviewId) && publicIds.contains(reviewId))
+                .forEach(reloadIds::add);
+        }
+
+        for (int from = 0; from < reloadIds.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = reloadIds.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, reloadIds.size()));
+            Set<Long> hiddenIds = replicaTransactionTemplate.execute(status -> reload(chunk));
+            if (hiddenIds != null) {
+                pendingIds.addAll(hiddenIds);
+            }
+        }
+        dirty = true;
+    }
+
+    /**
+     * 다시 읽은 공개 회고를 색인하고, 없거나 비공개인 회고의 id 를 반환한다.
+     */
+    private Set<Long> reload(List<Long> reviewIds) {
+        Set<Long> hiddenIds = new HashSet<>(reviewIds);
+        for (Review review : legacyAnswerReadMode.findAllWithContentsByIdIn(reviewIds)) {
+            if (!review.isPrivate()) {
+                hiddenIds.remove(review.getId());
+                index.put(review.getId(), toTerms(review));
+            }
+        }
+        return hiddenIds;
+    }
+
+    private Map<String, Integer> toTerms(Review review) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(review.getTitle(), TITLE_WEIGHT, terms);
+        for (QuestionAnswer questionAnswer : review.getQuestionAnswers()) {
+            addTerms(questionAnswer.getAnswerValue(), ANSWER_WEIGHT, terms);
+        }
+        return terms;
+    }
+
+    private void addTerms(String text, int weight, Map<String, Integer> terms) {
+        for (String token : NgramTokenizer.tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+}
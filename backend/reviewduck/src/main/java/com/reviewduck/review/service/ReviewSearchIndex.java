@@ -0,0 +1,211 @@
+package com.reviewduck.review.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 회고 검색을 위한 메모리 역색인
+ * 토큰마다 그 토큰이 나오는 회고 id 와 가중치가 반영된 출현 횟수를 저장하고, BM25 점수가 높은 순서로 회고 id 를 반환한다.
+ * 검색은 읽기 잠금, 색인 변경은 쓰기 잠금 안에서 실행된다.
+ */
+public class ReviewSearchIndex {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MAX_QUERY_TERMS = 32;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public void put(long reviewId, Map<String, Integer> terms) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(reviewId);
+            if (terms.isEmpty()) {
+                return;
+            }
+
+            Document document = new Document(Map.copyOf(terms));
+            documents.put(reviewId, document);
+            totalLength += document.length;
+            document.terms.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(reviewId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long reviewId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(reviewId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Page<Long> search(String query, Pageable pageable) {
+        Set<String> queryTerms = new LinkedHashSet<>(NgramTokenizer.tokenize(query));
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            double averageLength = documents.isEmpty() ? 1 : (double)totalLength / documents.size();
+            queryTerms.stream()
+                .limit(MAX_QUERY_TERMS)
+                .forEach(term -> addScores(term, averageLength, scores));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new PageImpl<>(rank(scores, pageable), pageable, scores.size());
+    }
+
+    public Set<Long> getReviewIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(documents.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeSnapshot(OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        lock.readLock().lock();
+        try {
+            output.writeInt(SNAPSHOT_VERSION);
+            output.writeInt(documents.size());
+            for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+                output.writeLong(entry.getKey());
+                output.writeInt(entry.getValue().terms.size());
+                for (Map.Entry<String, Integer> term : entry.getValue().terms.entrySet()) {
+                    output.writeUTF(term.getKey());
+                    output.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        output.flush();
+    }
+
+    /**
+     * 스냅샷의 내용을 색인에 더한다. 버전이 다른 스냅샷은 읽지 않고 false 를 반환한다.
+     */
+    public boolean readSnapshot(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != SNAPSHOT_VERSION) {
+            return false;
+        }
+
+        int documentCount = input.readInt();
+        for (int i = 0; i < documentCount; i++) {
+            long reviewId = input.readLong();
+            int termCount = input.readInt();
+            Map<String, Integer> terms = new HashMap<>();
+            for (int j = 0; j < termCount; j++) {
+                terms.put(input.readUTF(), input.readInt());
+            }
+            put(reviewId, terms);
+        }
+        return true;
+    }
+
+    private void removeDocument(long reviewId) {
+        Document document = documents.remove(reviewId);
+        if (document == null) {
+            return;
+        }
+
+        totalLength -= document.length;
+        for (String term : document.terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(reviewId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private void addScores(String term, double averageLength, Map<Long, Double> scores) {
+        Map<Long, Integer> posting = postings.get(term);
+        if (posting == null) {
+            return;
+        }
+
+        int documentFrequency = posting.size();
+        double idf = Math.log(1 + (documents.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        posting.forEach((reviewId, frequency) -> {
+            double lengthRatio = documents.get(reviewId).length / averageLength;
+            double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+            scores.merge(reviewId, score, Double::sum);
+        });
+    }
+
+    private List<Long> rank(Map<Long, Double> scores, Pageable pageable) {
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        if (pageable.getOffset() >= scores.size()) {
+            return List.of();
+        }
+
+        Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Double>> topScores = new PriorityQueue<>(byScore);
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            topScores.offer(score);
+            if (topScores.size() > limit) {
+                topScores.poll();
+            }
+        }
+
+        List<Long> rankedIds = new ArrayList<>(topScores.size());
+        while (!topScores.isEmpty()) {
+            rankedIds.add(topScores.poll().getKey());
+        }
+        Collections.reverse(rankedIds);
+        return rankedIds.subList((int)pageable.getOffset(), rankedIds.size());
+    }
+
+    private static class Document {
+
+        private final Map<String, Integer> terms;
+        private final int length;
+
+        Document(Map<String, Integer> terms) {
+            this.terms = terms;
+            this.length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
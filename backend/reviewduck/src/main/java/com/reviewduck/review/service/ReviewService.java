@@ -1,10 +1,16 @@
 package com.reviewduck.review.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,7 +19,6 @@ import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
-import com.reviewduck.review.domain.Answer;
 import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
 import com.reviewduck.review.domain.ReviewFormQuestion;
@@ -26,13 +31,17 @@ import com.reviewduck.review.dto.controller.response.ReviewEditResponseBuilder;
 import com.reviewduck.review.dto.controller.response.ReviewLikesResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsOfReviewFormResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsResponse;
+import com.reviewduck.review.dto.controller.response.TimelineReviewsCursorResponse;
 import com.reviewduck.review.dto.controller.response.TimelineReviewsResponse;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
 import com.reviewduck.review.dto.service.QuestionAnswerUpdateDto;
-import com.reviewduck.review.repository.ReviewFormQuestionRepository;
+import com.reviewduck.review.dto.service.ReviewLikesDto;
+import com.reviewduck.review.exception.ReviewException;
 import com.reviewduck.review.repository.ReviewFormRepository;
 import com.reviewduck.review.repository.ReviewRepository;
 import com.reviewduck.review.vo.ReviewSortType;
+import com.reviewduck.review.vo.TimelineCursor;
+import com.reviewduck.review.vo.TrendCursor;
 
 import lombok.AllArgsConstructor;
 
@@ -41,24 +50,38 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class ReviewService {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
     private final ReviewFormRepository reviewFormRepository;
     private final ReviewRepository reviewRepository;
-    private final ReviewFormQuestionRepository reviewFormQuestionRepository;
     private final MemberRepository memberRepository;
+    private final ReviewCountService reviewCountService;
+    private final ReviewLikeAggregator reviewLikeAggregator;
+    private final ReviewTrendRanking reviewTrendRanking;
+    private final ReviewFormCache reviewFormCache;
+    private final ReviewFormParticipantService reviewFormParticipantService;
+    private final LegacyAnswerWriter legacyAnswerWriter;
+    private final LegacyAnswerReadMode legacyAnswerReadMode;
+    private final ReviewSearchEngine reviewSearchEngine;
 
     @Transactional
     public long save(long memberId, String code, ReviewCreateRequest request) {
         ReviewForm reviewForm = findReviewFormByCode(code);
-        List<QuestionAnswerCreateDto> questionAnswerCreateDtos = getReviewCreateDtos(request);
+        List<QuestionAnswerCreateDto> questionAnswerCreateDtos = getReviewCreateDtos(reviewForm, request);
         Member member = findMemberById(memberId);
         Review review = new Review(request.getTitle(), member, reviewForm, questionAnswerCreateDtos,
             request.getIsPrivate());
-        return reviewRepository.save(review).getId();
+        legacyAnswerWriter.write(review);
+        Review savedReview = reviewRepository.save(review);
+        reviewCountService.increaseReviewCount(savedReview);
+        reviewFormParticipantService.join(savedReview);
+        reviewSearchEngine.index(savedReview);
+        reviewFormCache.evict(code);
+        return savedReview.getId();
     }
 
     public ReviewEditResponse findById(long id) {
-        Review review = reviewRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
+        Review review = findReviewById(id);
         return ReviewEditResponseBuilder.createResponseFrom(review);
     }
 
@@ -67,9 +90,10 @@ public class ReviewService {
 
         Sort sort = Sort.by(Sort.Direction.DESC, ReviewSortType.LATEST.getSortBy());
         PageRequest pageRequest = PageRequest.of(page, size, sort);
-        Page<Review> reviews = getReviewsByOwner(memberId, owner, pageRequest);
+        Slice<Review> reviews = toReviewSlice(getReviewIdsByOwner(memberId, owner, pageRequest));
+        long numberOfReviews = countReviewsByOwner(memberId, owner);
 
-        return ReviewsResponse.of(reviews, owner.isSameId(memberId));
+        return ReviewsResponse.of(reviews, numberOfReviews, owner.isSameId(memberId));
     }
 
     public ReviewsOfReviewFormResponse findAllByCode(String reviewFormCode, int page, int size,
@@ -78,34 +102,79 @@ public class ReviewService {
 
         Sort sort = Sort.by(Sort.Direction.DESC, ReviewSortType.LATEST.getSortBy());
         PageRequest pageRequest = PageRequest.of(page, size, sort);
-        Page<Review> reviews = reviewRepository.findByReviewForm(reviewForm, pageRequest);
+        Slice<Review> reviews = toReviewSlice(reviewRepository.findIdsByReviewForm(reviewForm, pageRequest));
+        long numberOfReviews = reviewCountService.countByReviewForm(reviewForm);
 
-        return ReviewsOfReviewFormResponse.of(memberId, reviews, displayType);
+        return ReviewsOfReviewFormResponse.of(memberId, reviews, numberOfReviews, displayType);
     }
 
     public TimelineReviewsResponse findAllPublic(int page, int size, String sort, long memberId) {
         String sortType = ReviewSortType.getSortBy(sort);
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortType));
-        Page<Review> reviews = getTimelineReviews(sort, pageRequest);
+        Page<Review> reviews = toReviewPage(getTimelineReviewIds(sort, pageRequest));
+        return TimelineReviewsResponse.of(reviews, memberId);
+    }
+
+    public TimelineReviewsResponse search(String query, int page, int size, long memberId) {
+        validateSearchQuery(query);
+        Page<Review> reviews = toReviewPage(reviewSearchEngine.search(query, PageRequest.of(page, size)));
         return TimelineReviewsResponse.of(reviews, memberId);
     }
 
+    public TimelineReviewsCursorResponse findAllPublicByCursor(String cursor, int size, String sort, long memberId) {
+        if (ReviewSortType.isTrend(sort)) {
+            return findTrendByCursor(cursor, size, memberId);
+        }
+
+        String sortType = ReviewSortType.getSortBy(sort);
+        TimelineCursor timelineCursor = TimelineCursor.from(cursor);
+        Sort order = Sort.by(Sort.Direction.DESC, sortType).and(Sort.by(Sort.Direction.DESC, "id"));
+        PageRequest pageRequest = PageRequest.of(0, size, order);
+        Slice<Review> reviews = toReviewSlice(
+            getTimelineReviewIdsByCursor(sortType, timelineCursor, pageRequest));
+        return TimelineReviewsCursorResponse.of(reviews, sortType, memberId);
+    }
+
+    /**
+     * 인기순은 페이지 번호로 조회하는 타임라인과 같은 랭킹에서 읽는다.
+     */
+    private TimelineReviewsCursorResponse findTrendByCursor(String cursor, int size, long memberId) {
+        TrendCursor trendCursor = TrendCursor.from(cursor);
+        Slice<Long> reviewIds = reviewTrendRanking.findSliceAfter(trendCursor.getPosition(), trendCursor.getId(),
+            size);
+
+        String nextCursor = null;
+        List<Long> content = reviewIds.getContent();
+        if (reviewIds.hasNext()) {
+            nextCursor = trendCursor.next(content.size(), content.get(content.size() - 1));
+        }
+        return TimelineReviewsCursorResponse.of(findAllWithContents(content), nextCursor, memberId);
+    }
+
     @Transactional
     public void update(long memberId, long id, ReviewUpdateRequest request) {
         Review review = findReviewById(id);
         validateMyReview(memberId, review, "본인이 생성한 회고가 아니면 수정할 수 없습니다.");
 
-        List<QuestionAnswerUpdateDto> questionAnswerUpdateDtos = getQuestionAnswerUpdateDtos(request);
+        List<QuestionAnswerUpdateDto> questionAnswerUpdateDtos = getQuestionAnswerUpdateDtos(
+            review.getReviewForm(), request);
 
+        boolean wasPrivate = review.isPrivate();
         review.update(request.getIsPrivate(), request.getTitle(), questionAnswerUpdateDtos);
+        legacyAnswerWriter.write(review);
+        reviewCountService.updatePublicReviewCount(review, wasPrivate);
+        if (review.isPrivate()) {
+            reviewTrendRanking.remove(id);
+        }
+        reviewSearchEngine.index(review);
     }
 
-    @Transactional
     public ReviewLikesResponse increaseLikes(long id, int likeCount) {
-        Review review = findReviewById(id);
-        reviewRepository.increaseLikes(review, likeCount);
-        int likes = findReviewById(id).getLikes();
-        return new ReviewLikesResponse(likes);
+        ReviewLikesDto review = reviewRepository.findLikesById(id)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
+        long pendingLikes = reviewLikeAggregator.add(id, likeCount);
+        reviewTrendRanking.like(review, likeCount);
+        return new ReviewLikesResponse((int)(review.getLikes() + pendingLikes));
     }
 
     @Transactional
@@ -114,10 +183,25 @@ public class ReviewService {
         validateMyReview(memberId, review, "본인이 생성한 회고가 아니면 삭제할 수 없습니다.");
 
         reviewRepository.deleteById(id);
+        reviewCountService.decreaseReviewCount(review);
+        reviewFormParticipantService.leave(review);
+        reviewTrendRanking.remove(id);
+        reviewSearchEngine.remove(id);
+        reviewFormCache.evict(review.getReviewForm().getCode());
+    }
+
+    private void validateSearchQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new ReviewException("검색어는 비어있을 수 없습니다.");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new ReviewException("검색어는 " + MAX_SEARCH_QUERY_LENGTH + "자를 넘을 수 없습니다.");
+        }
     }
 
     private Review findReviewById(long id) {
         return reviewRepository.findById(id)
+            .map(legacyAnswerReadMode::apply)
             .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
     }
 
@@ -127,48 +211,103 @@ public class ReviewService {
         }
     }
 
-    private Page<Review> getReviewsByOwner(long memberId, Member owner, PageRequest pageRequest) {
+    private Slice<Long> getReviewIdsByOwner(long memberId, Member owner, PageRequest pageRequest) {
         if (owner.isSameId(memberId)) {
-            return reviewRepository.findByMember(owner, pageRequest);
+            return reviewRepository.findIdsByMember(owner, pageRequest);
         }
-        return reviewRepository.findByMemberAndIsPrivateFalse(owner, pageRequest);
+        return reviewRepository.findIdsByMemberAndIsPrivateFalse(owner, pageRequest);
     }
 
-    private Page<Review> getTimelineReviews(String sort, PageRequest pageRequest) {
+    private long countReviewsByOwner(long memberId, Member owner) {
+        if (owner.isSameId(memberId)) {
+            return reviewCountService.countByMember(owner);
+        }
+        return reviewCountService.countPublicByMember(owner);
+    }
+
+    private Page<Long> getTimelineReviewIds(String sort, PageRequest pageRequest) {
         if (ReviewSortType.isTrend(sort)) {
-            return reviewRepository.findByIsPrivateFalseAndLikesGreaterThan(
-                pageRequest, 50);
+            return reviewTrendRanking.findPage(pageRequest);
+        }
+        return reviewRepository.findIdsByIsPrivateFalse(pageRequest);
+    }
+
+    private Slice<Long> getTimelineReviewIdsByCursor(String sortType, TimelineCursor cursor,
+        PageRequest pageRequest) {
+        if (ReviewSortType.UPDATE.getSortBy().equals(sortType)) {
+            return reviewRepository.findPublicIdsByUpdatedAtCursor(cursor.getTime(), cursor.getId(), pageRequest);
         }
-        return reviewRepository.findByIsPrivateFalse(pageRequest);
+        return reviewRepository.findPublicIdsByCreatedAtCursor(cursor.getTime(), cursor.getId(), pageRequest);
+    }
+
+    /* -- 목록 조회 시 id 로 페이징한 후 연관 Entity 를 한 번에 조회하기 위한 메서드 -- */
+    private Slice<Review> toReviewSlice(Slice<Long> reviewIds) {
+        return new SliceImpl<>(findAllWithContents(reviewIds.getContent()), reviewIds.getPageable(),
+            reviewIds.hasNext());
+    }
+
+    private Page<Review> toReviewPage(Page<Long> reviewIds) {
+        return new PageImpl<>(findAllWithContents(reviewIds.getContent()), reviewIds.getPageable(),
+            reviewIds.getTotalElements());
+    }
+
+    private List<Review> findAllWithContents(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Review> reviews = legacyAnswerReadMode.findAllWithContentsByIdIn(reviewIds).stream()
+            .collect(Collectors.toMap(Review::getId, Function.identity()));
+
+        return reviewIds.stream()
+            .map(reviews::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList());
     }
 
     /* -- Entity 에서 일괄 연관객체 생성을 위한 메서드 --- */
-    private List<QuestionAnswerCreateDto> getReviewCreateDtos(ReviewCreateRequest request) {
+    /*
+     * 질문은 답변마다 조회하지 않고 회고 폼의 질문 목록을 한 번에 불러와 찾는다.
+     * 회고 폼에 속하지 않은 질문은 찾을 수 없으므로 다른 회고 폼의 질문에 답변할 수 없다.
+     */
+    private List<QuestionAnswerCreateDto> getReviewCreateDtos(ReviewForm reviewForm, ReviewCreateRequest request) {
+        Map<Long, ReviewFormQuestion> questions = getQuestionsById(reviewForm);
+
         return request.getContents().stream()
-            .map(this::getReviewCreateDto)
+            .map(content -> getReviewCreateDto(questions, content))
             .collect(Collectors.toUnmodifiableList());
     }
 
-    private QuestionAnswerCreateDto getReviewCreateDto(ReviewContentCreateRequest request) {
-        ReviewFormQuestion reviewFormQuestion = findReviewFormQuestionById(request.getQuestionId());
-        Answer answer = new Answer(request.getAnswer().getValue());
+    private QuestionAnswerCreateDto getReviewCreateDto(Map<Long, ReviewFormQuestion> questions,
+        ReviewContentCreateRequest request) {
+        ReviewFormQuestion reviewFormQuestion = findReviewFormQuestion(questions, request.getQuestionId());
+        String answerValue = request.getAnswer().getValue();
 
-        return new QuestionAnswerCreateDto(reviewFormQuestion, answer);
+        return new QuestionAnswerCreateDto(reviewFormQuestion, answerValue);
     }
 
-    private List<QuestionAnswerUpdateDto> getQuestionAnswerUpdateDtos(ReviewUpdateRequest request) {
+    private List<QuestionAnswerUpdateDto> getQuestionAnswerUpdateDtos(ReviewForm reviewForm,
+        ReviewUpdateRequest request) {
+        Map<Long, ReviewFormQuestion> questions = getQuestionsById(reviewForm);
+
         return request.getContents().stream()
-            .map(this::getReviewUpdateDto)
+            .map(content -> getReviewUpdateDto(questions, content))
             .collect(Collectors.toUnmodifiableList());
     }
 
-    private QuestionAnswerUpdateDto getReviewUpdateDto(ReviewContentUpdateRequest request) {
-        ReviewFormQuestion reviewFormQuestion = findReviewFormQuestionById(request.getQuestionId());
+    private QuestionAnswerUpdateDto getReviewUpdateDto(Map<Long, ReviewFormQuestion> questions,
+        ReviewContentUpdateRequest request) {
+        ReviewFormQuestion reviewFormQuestion = findReviewFormQuestion(questions, request.getQuestionId());
         String answerValue = request.getAnswer().getValue();
 
         return new QuestionAnswerUpdateDto(reviewFormQuestion, answerValue);
     }
 
+    private Map<Long, ReviewFormQuestion> getQuestionsById(ReviewForm reviewForm) {
+        return reviewForm.getQuestions().stream()
+            .collect(Collectors.toMap(ReviewFormQuestion::getId, Function.identity()));
+    }
+
     /* -- 연관 Entity 조회용 메서드 -- */
     private Member findMemberById(long memberId) {
         return memberRepository.findById(memberId)
@@ -185,8 +324,11 @@ public class ReviewService {
             .orElseThrow(() -> new NotFoundException("존재하지 않는 회고 폼입니다."));
     }
 
-    private ReviewFormQuestion findReviewFormQuestionById(long questionId) {
-        return reviewFormQuestionRepository.findById(questionId)
-            .orElseThrow(() -> new NotFoundException("존재하지 않는 질문입니다."));
+    private ReviewFormQuestion findReviewFormQuestion(Map<Long, ReviewFormQuestion> questions, long questionId) {
+        ReviewFormQuestion reviewFormQuestion = questions.get(questionId);
+        if (reviewFormQuestion == null) {
+            throw new NotFoundException("존재하지 않는 질문입니다.");
+        }
+        return reviewFormQuestion;
     }
 }
@@ -0,0 +1,333 @@
+package com.reviewduck.review.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.config.cache.CacheInvalidationListener;
+import com.reviewduck.review.dto.service.ReviewLikesDto;
+import com.reviewduck.review.repository.ReviewRepository;
+
+/**
+ * 인기순 타임라인을 위한 메모리 랭킹
+ * 공개 회고마다 최근 좋아요 속도와 작성 시점을 반영한 점수를 유지하고, 점수가 높은 상위 K개의 회고 id 를 정렬해 둔다.
+ * score = (좋아요 수 + VELOCITY_WEIGHT * 최근 좋아요 속도) * 0.5 ^ (작성 후 경과 시간 / RECENCY_HALF_LIFE)
+ * 최근 좋아요 속도는 좋아요가 눌릴 때마다 증가하고 VELOCITY_HALF_LIFE 마다 절반으로 감소한다.
+ * 좋아요 이벤트로 점수를 갱신하고, 주기적으로 DB 와 비교해 삭제되거나 비공개로 바뀐 회고를 정리한다.
+ * DB 와 비교하는 동안에도 좋아요와 삭제를 그대로 받으므로, 비교 결과는 사용 중인 랭킹에 합친다.
+ * 랭킹은 서버마다 따로 유지하므로, 좋아요를 DB 에 반영한 서버는 반영한 회고 id 를 변경 피드로 알린다. (ReviewLikeAggregator)
+ * 피드를 받은 서버는 해당 회고의 좋아요 수를 소스에서 다시 읽어, 알고 있던 수보다 늘어난 만큼만 반영한다.
+ * 증가량이 아닌 DB 의 값을 기준으로 하므로 같은 기록을 여러 번 받아도 결과가 같다.
+ * 다른 서버의 좋아요는 대략 좋아요 반영 주기와 무효화 로그 폴링 주기, refresh-interval 을 더한 만큼 늦게 반영되고,
+ * 이 서버에 아직 반영되지 않은 좋아요가 있는 동안에는 그 수만큼 가려질 수 있다.
+ * 삭제와 비공개 전환은 피드로 보내지 않아 다음 DB 비교 때 다른 서버에서 정리된다.
+ */
+@Component
+public class ReviewTrendRanking implements CacheInvalidationListener {
+
+    public static final String CHANGE_FEED_NAME = "reviewTrendLikes";
+
+    private static final long WINDOW_DAYS = 30;
+    private static final double VELOCITY_WEIGHT = 2.0;
+    private static final double VELOCITY_HALF_LIFE_MILLIS = TimeUnit.HOURS.toMillis(6);
+    private static final double RECENCY_HALF_LIFE_MILLIS = TimeUnit.DAYS.toMillis(3);
+    // 회고는 삭제 트랜잭션이 커밋되기 전에 랭킹에서 빠지므로, 그 사이에 읽은 DB 결과가 되살리지 않도록 이 시간 동안 기억한다.
+    private static final long REMOVAL_GRACE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate sourceTransactionTemplate;
+    private final Clock clock;
+    private final int maxSize;
+
+    private final Map<Long, TrendEntry> entries = new ConcurrentHashMap<>();
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> removedAt = new ConcurrentHashMap<>();
+    private volatile List<Long> ranking = Collections.emptyList();
+    private volatile boolean dirty;
+
+    @Autowired
+    public ReviewTrendRanking(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager,
+        @Value("${review.trend.max-size:1000}") int maxSize) {
+        this(reviewRepository, transactionManager, Clock.systemDefaultZone(), maxSize);
+    }
+
+    ReviewTrendRanking(ReviewRepository reviewRepository, PlatformTransactionManager transactionManager, Clock clock,
+        int maxSize) {
+        this.reviewRepository = reviewRepository;
+        // 읽기 전용이 아닌 트랜잭션은 소스로 보내진다.
+        this.sourceTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.maxSize = maxSize;
+    }
+
+    public Page<Long> findPage(Pageable pageable) {
+        List<Long> rankedIds = ranking;
+        int from = (int)Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+
+        return new PageImpl<>(rankedIds.subList(from, to), pageable, rankedIds.size());
+    }
+
+    /**
+     * 커서 기반 조회용 쿼리
+     * 이전 페이지의 마지막 회고 다음 순위부터 size 개를 반환하고, 마지막 회고가 순위에서 빠졌으면 position 번째부터 반환한다.
+     */
+    public Slice<Long> findSliceAfter(int position, long lastId, int size) {
+        List<Long> rankedIds = ranking;
+        int lastIndex = rankedIds.indexOf(lastId);
+        int from = lastIndex >= 0 ? lastIndex + 1 : Math.min(position, rankedIds.size());
+        int to = Math.min(from + size, rankedIds.size());
+
+        return new SliceImpl<>(rankedIds.subList(from, to), PageRequest.of(0, size), to < rankedIds.size());
+    }
+
+    public void like(ReviewLikesDto review, int likeCount) {
+        if (review.isPrivate() || likeCount <= 0 || isExpired(review.getCreatedAt())) {
+            return;
+        }
+
+        long now = clock.millis();
+        long createdAt = toMillis(review.getCreatedAt());
+        entries.computeIfAbsent(review.getId(), id -> new TrendEntry(createdAt, review.getLikes()))
+            .like(likeCount, now);
+        dirty = true;
+    }
+
+    @Override
+    public String getCacheName() {
+        return CHANGE_FEED_NAME;
+    }
+
+    /**
+     * 좋아요가 반영된 회고 id 목록을 받는다. (ex. 1,2,3)
+     */
+    @Override
+    public void onInvalidation(String key) {
+        if (key == null) {
+            return;
+        }
+        Arrays.stream(key.split(","))
+            .map(Long::valueOf)
+            .forEach(pendingIds::add);
+    }
+
+    /**
+     * 피드로 전달받은 회고의 좋아요 수를 소스에서 다시 읽어 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${review.trend.refresh-interval:1000}")
+    public void refreshLikes() {
+        List<Long> reviewIds = new ArrayList<>(pendingIds);
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+        pendingIds.removeAll(reviewIds);
+
+        for (int from = 0; from < reviewIds.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = reviewIds.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, reviewIds.size()));
+            List<ReviewLikesDto> reviews = sourceTransactionTemplate.execute(
+                status -> reviewRepository.findAllLikesByIdIn(chunk));
+            if (reviews != null) {
+                reviews.forEach(this::refreshLikes);
+            }
+        }
+    }
+
+    public void remove(long reviewId) {
+        removedAt.put(reviewId, clock.millis());
+        if (entries.remove(reviewId) != null) {
+            dirty = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${review.trend.rank-interval:1000}")
+    public void rankIfChanged() {
+        if (dirty) {
+            rank();
+        }
+    }
+
+    public synchronized void rank() {
+        dirty = false;
+        long now = clock.millis();
+
+        PriorityQueue<RankedReview> topReviews = new PriorityQueue<>(Comparator.comparingDouble(RankedReview::getScore));
+        entries.forEach((reviewId, entry) -> {
+            if (!entry.hasLikes()) {
+                return;
+            }
+            topReviews.offer(new RankedReview(reviewId, entry.score(now)));
+            if (topReviews.size() > maxSize) {
+                topReviews.poll();
+            }
+        });
+
+        List<Long> rankedIds = new ArrayList<>(topReviews.size());
+        while (!topReviews.isEmpty()) {
+            rankedIds.add(topReviews.poll().getReviewId());
+        }
+        Collections.reverse(rankedIds);
+
+        ranking = Collections.unmodifiableList(rankedIds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${review.trend.reconcile-interval:300000}",
+        initialDelayString = "${review.trend.reconcile-interval:300000}")
+    public synchronized void reconcile() {
+        long startedAt = clock.millis();
+        Set<Long> idsBefore = new HashSet<>(entries.keySet());
+        LocalDateTime since = LocalDateTime.now(clock).minusDays(WINDOW_DAYS);
+        List<ReviewLikesDto> reviews = reviewRepository.findAllPublicLikesCreatedAfter(since);
+
+        Set<Long> persistedIds = new HashSet<>();
+        for (ReviewLikesDto review : reviews) {
+            persistedIds.add(review.getId());
+            if (isRecentlyRemoved(review.getId(), startedAt)) {
+                continue;
+            }
+            long createdAt = toMillis(review.getCreatedAt());
+            entries.compute(review.getId(), (reviewId, entry) -> {
+                if (entry == null || !entry.isCreatedAt(createdAt)) {
+                    return new TrendEntry(createdAt, review.getLikes());
+                }
+                entry.reconcileLikes(review.getLikes());
+                return entry;
+            });
+        }
+
+        // DB 를 읽은 뒤에 좋아요로 새로 들어온 회고는 DB 결과에 없을 수 있으므로, 읽기 전부터 있던 회고만 지운다.
+        idsBefore.stream()
+            .filter(reviewId -> !persistedIds.contains(reviewId))
+            .forEach(entries::remove);
+        removedAt.values().removeIf(time -> time < startedAt - REMOVAL_GRACE_MILLIS);
+        rank();
+    }
+
+    /**
+     * 랭킹에 없던 회고는 마지막 DB 비교 이후 작성된 회고이므로, DB 의 좋아요를 모두 최근 좋아요로 본다.
+     */
+    private void refreshLikes(ReviewLikesDto review) {
+        long now = clock.millis();
+        if (review.isPrivate() || isExpired(review.getCreatedAt()) || isRecentlyRemoved(review.getId(), now)) {
+            return;
+        }
+
+        long createdAt = toMillis(review.getCreatedAt());
+        entries.compute(review.getId(), (reviewId, entry) -> {
+            if (entry == null || !entry.isCreatedAt(createdAt)) {
+                entry = new TrendEntry(createdAt, 0);
+            }
+            entry.refreshLikes(review.getLikes(), now);
+            return entry;
+        });
+        dirty = true;
+    }
+
+    private boolean isRecentlyRemoved(long reviewId, long now) {
+        Long time = removedAt.get(reviewId);
+        return time != null && time >= now - REMOVAL_GRACE_MILLIS;
+    }
+
+    private boolean isExpired(LocalDateTime createdAt) {
+        return createdAt.isBefore(LocalDateTime.now(clock).minusDays(WINDOW_DAYS));
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static class TrendEntry {
+
+        private final long createdAt;
+        private long likes;
+        private double velocity;
+        private long velocityUpdatedAt;
+
+        TrendEntry(long createdAt, long likes) {
+            this.createdAt = createdAt;
+            this.likes = likes;
+            this.velocityUpdatedAt = createdAt;
+        }
+
+        synchronized void like(int likeCount, long now) {
+            likes += likeCount;
+            velocity = decayedVelocity(now) + likeCount;
+            velocityUpdatedAt = now;
+        }
+
+        synchronized void refreshLikes(long persistedLikes, long now) {
+            if (persistedLikes > likes) {
+                velocity = decayedVelocity(now) + persistedLikes - likes;
+                velocityUpdatedAt = now;
+                likes = persistedLikes;
+            }
+        }
+
+        synchronized void reconcileLikes(long persistedLikes) {
+            likes = Math.max(likes, persistedLikes);
+        }
+
+        synchronized boolean hasLikes() {
+            return likes > 0;
+        }
+
+        synchronized double score(long now) {
+            double recency = Math.pow(0.5, Math.max(0, now - createdAt) / RECENCY_HALF_LIFE_MILLIS);
+            return (likes + VELOCITY_WEIGHT * decayedVelocity(now)) * recency;
+        }
+
+        boolean isCreatedAt(long createdAt) {
+            return this.createdAt == createdAt;
+        }
+
+        private double decayedVelocity(long now) {
+            return velocity * Math.pow(0.5, Math.max(0, now - velocityUpdatedAt) / VELOCITY_HALF_LIFE_MILLIS);
+        }
+    }
+
+    private static class RankedReview {
+
+        private final long reviewId;
+        private final double score;
+
+        RankedReview(long reviewId, double score) {
+            this.reviewId = reviewId;
+            this.score = score;
+        }
+
+        long getReviewId() {
+            return reviewId;
+        }
+
+        double getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.reviewduck.review.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.exception.ReviewException;
+
+import lombok.Getter;
+
+/**
+ * 타임라인 커서 기반 조회에 사용하는 커서
+ * time: 정렬 기준 시간 (createdAt 또는 updatedAt)
+ * id: 같은 시간을 가진 회고를 구분하기 위한 회고 id
+ * 클라이언트에게는 "time,id" 를 Base64 URL 인코딩한 문자열로 전달한다.
+ */
+@Getter
+public class TimelineCursor {
+
+    private static final String DELIMITER = ",";
+    private static final TimelineCursor FIRST = new TimelineCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+        Long.MAX_VALUE);
+
+    private final LocalDateTime time;
+    private final long id;
+
+    private TimelineCursor(LocalDateTime time, long id) {
+        this.time = time;
+        this.id = id;
+    }
+
+    public static TimelineCursor from(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            return new TimelineCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (RuntimeException e) {
+            throw new ReviewException("올바르지 않은 커서입니다.");
+        }
+    }
+
+    public static String encode(Review review, String sortBy) {
+        LocalDateTime time = ReviewSortType.UPDATE.getSortBy().equals(sortBy)
+            ? review.getUpdatedAt()
+            : review.getCreatedAt();
+        String value = time + DELIMITER + review.getId();
+
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
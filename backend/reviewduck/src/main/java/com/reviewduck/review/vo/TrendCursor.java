@@ -0,0 +1,56 @@
+package com.reviewduck.review.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.reviewduck.review.exception.ReviewException;
+
+import lombok.Getter;
+
+/**
+ * 인기순 타임라인 커서 기반 조회에 사용하는 커서
+ * position: 이전 페이지까지 보여준 회고 수
+ * id: 이전 페이지의 마지막 회고 id
+ * 순위는 조회 사이에도 바뀌므로 마지막 회고 다음부터 이어서 보여주고, 마지막 회고가 순위에서 빠졌으면 position 부터 보여준다.
+ * 클라이언트에게는 "position,id" 를 Base64 URL 인코딩한 문자열로 전달한다.
+ */
+@Getter
+public class TrendCursor {
+
+    private static final String DELIMITER = ",";
+    private static final TrendCursor FIRST = new TrendCursor(0, 0);
+
+    private final int position;
+    private final long id;
+
+    private TrendCursor(int position, long id) {
+        this.position = position;
+        this.id = id;
+    }
+
+    public static TrendCursor from(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            int position = Integer.parseInt(values[0]);
+            if (position < 0) {
+                throw new ReviewException("올바르지 않은 커서입니다.");
+            }
+            return new TrendCursor(position, Long.parseLong(values[1]));
+        } catch (RuntimeException e) {
+            throw new ReviewException("올바르지 않은 커서입니다.");
+        }
+    }
+
+    public String next(int count, long lastId) {
+        String value = (position + count) + DELIMITER + lastId;
+
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,5 @@
 package com.reviewduck.template.controller;
 
-import static com.reviewduck.common.util.Logging.*;
 import static com.reviewduck.common.vo.PageConstant.*;
 
 import javax.validation.Valid;
@@ -48,8 +47,6 @@ public class TemplateController {
     public TemplateIdResponse create(@AuthenticationPrincipal MemberDto member,
         @RequestBody @Valid TemplateCreateRequest request) {
 
-        info("/api/templates", "POST", request.toString());
-
         return templateService.save(member.getId(), request);
     }
 
@@ -60,8 +57,6 @@ public class TemplateController {
         @PathVariable long templateId,
         @RequestBody @Valid ReviewFormCreateRequest request) {
 
-        info("/api/templates/" + templateId + "/review-forms/edited", "POST", request.toString());
-
         return templateService.createReviewFormByTemplate(member.getId(), templateId, request);
     }
 
@@ -71,8 +66,6 @@ public class TemplateController {
     public ReviewFormCodeResponse createReviewFormByTemplate(@AuthenticationPrincipal MemberDto member,
         @PathVariable long templateId) {
 
-        info("/api/templates/" + templateId + "/review-forms", "POST", "");
-
         return templateService.createReviewFormByTemplate(member.getId(), templateId);
     }
 
@@ -84,8 +77,6 @@ public class TemplateController {
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size,
         @RequestParam(required = false, defaultValue = "trend") String sort) {
 
-        info("/api/templates?page=" + page + " size=" + size, "GET", "");
-
         return templateService.findAll(page - 1, size, sort, member.getId());
     }
 
@@ -97,8 +88,6 @@ public class TemplateController {
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
 
-        info("/api/templates?member=" + socialId + " page=" + page + " size=" + size, "GET", "");
-
         return templateService.findAllBySocialId(socialId, page - 1, size, member.getId());
     }
 
@@ -110,8 +99,6 @@ public class TemplateController {
         @RequestParam(required = false, defaultValue = DEFAULT_PAGE) int page,
         @RequestParam(required = false, defaultValue = DEFAULT_SIZE) int size) {
 
-        info("/api/templates/search?query=" + query + " page=" + page + " size=" + size, "GET", "");
-
         return templateService.search(query, page - 1, size, member.getId());
     }
 
@@ -120,8 +107,6 @@ public class TemplateController {
     @ResponseStatus(HttpStatus.OK)
     public TemplateResponse find(@AuthenticationPrincipal MemberDto member, @PathVariable long templateId) {
 
-        info("/api/templates/" + templateId, "GET", "");
-
         return templateService.find(templateId, member.getId());
     }
 
@@ -131,8 +116,6 @@ public class TemplateController {
     public void update(@AuthenticationPrincipal MemberDto member, @PathVariable long templateId,
         @RequestBody @Valid TemplateUpdateRequest request) {
 
-        info("/api/templates/" + templateId, "PUT", "");
-
         templateService.update(member.getId(), templateId, request);
     }
 
@@ -141,8 +124,6 @@ public class TemplateController {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@AuthenticationPrincipal MemberDto member, @PathVariable long templateId) {
 
-        info("/api/templates/" + templateId, "DELETE", "");
-
         templateService.delete(member.getId(), templateId);
     }
 
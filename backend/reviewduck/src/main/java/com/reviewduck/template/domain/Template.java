@@ -2,8 +2,6 @@ package com.reviewduck.template.domain;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.persistence.CascadeType;
@@ -18,6 +16,7 @@ import javax.persistence.OneToMany;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.reviewduck.common.domain.BaseDate;
+import com.reviewduck.common.domain.OrderedChildren;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.template.dto.service.TemplateQuestionCreateDto;
 import com.reviewduck.template.dto.service.TemplateQuestionUpdateDto;
@@ -33,7 +32,7 @@ import lombok.NoArgsConstructor;
 public class Template extends BaseDate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence")
     @Column(nullable = false)
     private Long id;
 
@@ -62,7 +61,7 @@ public class Template extends BaseDate {
         this.templateDescription = templateDescription;
         this.usedCount = userCount;
         this.questions.addAll(createQuestionsFrom(questions));
-        sortQuestions();
+        OrderedChildren.arrange(this.questions);
     }
 
     public Template(Member member, String templateTitle, String templateDescription,
@@ -74,7 +73,7 @@ public class Template extends BaseDate {
         this.templateDescription = templateDescription;
         this.usedCount = 0;
         this.questions.addAll(createQuestionsFrom(questions));
-        sortQuestions();
+        OrderedChildren.arrange(this.questions);
     }
 
     public void update(String templateTitle, String templateDescription, List<TemplateQuestionUpdateDto> questions) {
@@ -96,37 +95,11 @@ public class Template extends BaseDate {
     }
 
     private void updateQuestions(List<TemplateQuestionUpdateDto> questions) {
-        int beforeSize = this.questions.size();
-
-        List<TemplateQuestion> updatedQuestions = questions.stream()
-            .map(this::createOrUpdateQuestion)
-            .collect(Collectors.toUnmodifiableList());
-        this.questions.addAll(updatedQuestions);
-
-        this.questions.subList(0, beforeSize).clear();
-
-        sortQuestions();
-    }
-
-    private TemplateQuestion createOrUpdateQuestion(TemplateQuestionUpdateDto question) {
-        Optional<TemplateQuestion> existedQuestion = questions.stream()
-            .filter(it -> question.getId() != null && Objects.equals(it.getId(), question.getId()))
-            .findAny();
-
-        if (existedQuestion.isPresent()) {
-            TemplateQuestion updatedQuestion = existedQuestion.get();
-            updatedQuestion.update(question.getValue(), question.getDescription());
-            return updatedQuestion;
-        }
-
-        return new TemplateQuestion(question.getValue(), question.getDescription(), this);
-    }
-
-    private void sortQuestions() {
-        int index = 0;
-        for (TemplateQuestion question : questions) {
-            question.setPosition(index++);
-        }
+        OrderedChildren.sync(this.questions, questions,
+            TemplateQuestion::getId,
+            TemplateQuestionUpdateDto::getId,
+            (question, dto) -> question.update(dto.getValue(), dto.getDescription()),
+            dto -> new TemplateQuestion(dto.getValue(), dto.getDescription(), this));
     }
 
     private void validateWhenCreate(Member member, String templateTitle, String templateDescription,
@@ -10,6 +10,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import com.reviewduck.common.domain.Positioned;
 import com.reviewduck.template.exception.TemplateQuestionException;
 
 import lombok.AccessLevel;
@@ -20,10 +21,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Table(name = "template_question")
-public class TemplateQuestion {
+public class TemplateQuestion implements Positioned {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence")
     @Column(nullable = false)
     private Long id;
 
@@ -3,7 +3,7 @@ package com.reviewduck.template.dto.controller.response;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.template.domain.Template;
@@ -21,13 +21,13 @@ public class MemberTemplatesResponse {
     private boolean isMine;
     private List<MemberTemplateResponse> templates;
 
-    public static MemberTemplatesResponse of(Page<Template> templates, boolean isMine) {
+    public static MemberTemplatesResponse of(Slice<Template> templates, long numberOfTemplates, boolean isMine) {
         List<MemberTemplateResponse> memberTemplateResponses = templates.stream()
             .map(MemberTemplateResponse::from)
             .collect(Collectors.toUnmodifiableList());
 
         return new MemberTemplatesResponse(
-            templates.getTotalElements(),
+            numberOfTemplates,
             templates.isLast(),
             isMine,
             memberTemplateResponses);
@@ -1,10 +1,8 @@
 package com.reviewduck.template.dto.controller.response;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import com.reviewduck.member.domain.Member;
-import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.dto.service.TemplateDetailDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,16 +17,12 @@ public class TemplateResponse {
     private CreatorResponse creator;
     private List<TemplateQuestionResponse> questions;
 
-    public static TemplateResponse of(Template template, long memberId) {
-        List<TemplateQuestionResponse> questions = template.getQuestions().stream()
-            .map(TemplateQuestionResponse::from)
-            .collect(Collectors.toUnmodifiableList());
-
+    public static TemplateResponse of(TemplateDetailDto template, long memberId) {
         return new TemplateResponse(
-            template.isMine(memberId),
-            TemplateInfoResponse.from(template),
-            CreatorResponse.from(template.getMember()),
-            questions
+            template.isCreator(memberId),
+            template.getInfo(),
+            template.getCreator(),
+            template.getQuestions()
         );
     }
 
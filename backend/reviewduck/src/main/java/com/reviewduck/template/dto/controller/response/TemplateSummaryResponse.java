@@ -1,7 +1,6 @@
 package com.reviewduck.template.dto.controller.response;
 
-import com.reviewduck.member.domain.Member;
-import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.dto.service.TemplateSummaryDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -15,11 +14,11 @@ public class TemplateSummaryResponse {
     private TemplateInfoResponse info;
     private CreatorResponse creator;
 
-    public static TemplateSummaryResponse of(Template template, long memberId) {
+    public static TemplateSummaryResponse of(TemplateSummaryDto template, long memberId) {
         return new TemplateSummaryResponse(
-            template.isMine(memberId),
-            TemplateInfoResponse.from(template),
-            CreatorResponse.from(template.getMember())
+            template.isCreator(memberId),
+            template.getInfo(),
+            template.getCreator()
         );
     }
 
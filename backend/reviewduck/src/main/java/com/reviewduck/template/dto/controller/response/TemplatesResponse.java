@@ -3,10 +3,7 @@ package com.reviewduck.template.dto.controller.response;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-
-import com.reviewduck.member.domain.Member;
-import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.dto.service.TemplateSummaryDto;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,10 +17,11 @@ public class TemplatesResponse {
     private boolean isLastPage;
     private List<TemplateSummaryResponse> templates;
 
-    public static TemplatesResponse of(Page<Template> templates, long memberId) {
+    public static TemplatesResponse of(List<TemplateSummaryDto> templates, boolean isLastPage, long numberOfTemplates,
+        long memberId) {
         return new TemplatesResponse(
-            templates.getTotalElements(),
-            templates.isLast(),
+            numberOfTemplates,
+            isLastPage,
             templates.stream()
                 .map(template -> TemplateSummaryResponse.of(template, memberId))
                 .collect(Collectors.toUnmodifiableList())
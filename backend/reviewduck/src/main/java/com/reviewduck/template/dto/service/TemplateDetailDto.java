@@ -0,0 +1,44 @@
+package com.reviewduck.template.dto.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.dto.controller.response.CreatorResponse;
+import com.reviewduck.template.dto.controller.response.TemplateInfoResponse;
+import com.reviewduck.template.dto.controller.response.TemplateQuestionResponse;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 템플릿 조회 응답 중 조회하는 사용자와 무관한 부분
+ * 템플릿 id 별로 캐싱되며, 작성자 여부는 요청마다 creatorId 로 판단한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TemplateDetailDto {
+
+    private final long creatorId;
+    private final TemplateInfoResponse info;
+    private final CreatorResponse creator;
+    private final List<TemplateQuestionResponse> questions;
+
+    public static TemplateDetailDto from(Template template) {
+        List<TemplateQuestionResponse> questions = template.getQuestions().stream()
+            .map(TemplateQuestionResponse::from)
+            .collect(Collectors.toUnmodifiableList());
+
+        return new TemplateDetailDto(
+            template.getMember().getId(),
+            TemplateInfoResponse.from(template),
+            CreatorResponse.from(template.getMember()),
+            questions
+        );
+    }
+
+    public boolean isCreator(long memberId) {
+        return creatorId == memberId;
+    }
+}
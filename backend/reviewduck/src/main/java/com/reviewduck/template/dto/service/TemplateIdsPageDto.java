@@ -0,0 +1,31 @@
+package com.reviewduck.template.dto.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Slice;
+
+import com.reviewduck.template.domain.Template;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TemplateIdsPageDto {
+
+    private final List<Long> ids;
+    private final boolean isLastPage;
+
+    public static TemplateIdsPageDto from(Slice<Template> templates) {
+        List<Long> ids = templates.getContent().stream()
+            .map(Template::getId)
+            .collect(Collectors.toUnmodifiableList());
+        return new TemplateIdsPageDto(ids, templates.isLast());
+    }
+
+    public boolean getIsLastPage() {
+        return isLastPage;
+    }
+}
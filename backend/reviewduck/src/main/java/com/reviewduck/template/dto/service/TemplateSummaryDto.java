@@ -0,0 +1,34 @@
+package com.reviewduck.template.dto.service;
+
+import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.dto.controller.response.CreatorResponse;
+import com.reviewduck.template.dto.controller.response.TemplateInfoResponse;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 템플릿 목록에 표시하는 템플릿 요약 중 조회하는 사용자와 무관한 부분
+ * 템플릿 id 별로 캐싱되며, 작성자 여부는 요청마다 creatorId 로 판단한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TemplateSummaryDto {
+
+    private final long creatorId;
+    private final TemplateInfoResponse info;
+    private final CreatorResponse creator;
+
+    public static TemplateSummaryDto from(Template template) {
+        return new TemplateSummaryDto(
+            template.getMember().getId(),
+            TemplateInfoResponse.from(template),
+            CreatorResponse.from(template.getMember())
+        );
+    }
+
+    public boolean isCreator(long memberId) {
+        return creatorId == memberId;
+    }
+}
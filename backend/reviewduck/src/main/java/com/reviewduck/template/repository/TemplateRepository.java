@@ -3,8 +3,8 @@ package com.reviewduck.template.repository;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
@@ -16,19 +16,36 @@ public interface TemplateRepository extends Repository<Template, Long> {
 
     Template save(Template template);
 
-    Page<Template> findAll(Pageable pageable);
+    Slice<Template> findAll(Pageable pageable);
+
+    long count();
+
+    @Query("select t.id from Template t")
+    List<Long> findIds(Pageable pageable);
+
+    @Query("select t from Template t join fetch t.member where t.id in :ids")
+    List<Template> findAllWithMemberByIdIn(List<Long> ids);
 
     Optional<Template> findById(long id);
 
-    Page<Template> findByMember(Pageable pageable, Member member);
+    Slice<Template> findByMember(Pageable pageable, Member member);
+
+    long countByMember(Member member);
 
     List<Template> findAllByMember(Member member);
 
+    @Query("select t.id from Template t where t.member.id = :memberId")
+    List<Long> findIdsByMemberId(long memberId);
+
+    @Query(nativeQuery = true,
+        value = "select * from template where match(template_title) against(:query)"
+    )
+    Slice<Template> findByTemplateTitleContaining(Pageable pageable, String query);
+
     @Query(nativeQuery = true,
-        value = "select * from template where match(template_title) against(:query)",
-        countQuery = "select count(*) from template where match(template_title) against(:query)"
+        value = "select count(*) from template where match(template_title) against(:query)"
     )
-    Page<Template> findByTemplateTitleContaining(Pageable pageable, String query);
+    long countByTemplateTitleContaining(String query);
 
     void delete(Template template);
 
@@ -0,0 +1,58 @@
+package com.reviewduck.template.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.reviewduck.config.cache.CountKey;
+import com.reviewduck.config.cache.TotalCountCache;
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.repository.TemplateRepository;
+import com.reviewduck.template.vo.TemplateSearchKey;
+
+import lombok.AllArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@AllArgsConstructor
+public class TemplateCountService {
+
+    private static final String ALL_TEMPLATES = "allTemplates";
+    private static final String TEMPLATES_OF_MEMBER = "templatesOfMember";
+    private static final String SEARCHED_TEMPLATES = "searchedTemplates";
+
+    private final TotalCountCache totalCountCache;
+    private final TemplateRepository templateRepository;
+
+    public long countAll() {
+        return totalCountCache.get(CountKey.of(ALL_TEMPLATES, ""), templateRepository::count);
+    }
+
+    public long countByMember(Member member) {
+        return totalCountCache.get(CountKey.of(TEMPLATES_OF_MEMBER, member.getId()),
+            () -> templateRepository.countByMember(member));
+    }
+
+    public long countBySearch(String query) {
+        return totalCountCache.get(CountKey.of(SEARCHED_TEMPLATES, query),
+            () -> templateRepository.countByTemplateTitleContaining(query));
+    }
+
+    public void increaseTemplateCount(Template template) {
+        totalCountCache.increase(CountKey.of(ALL_TEMPLATES, ""));
+        totalCountCache.increase(CountKey.of(TEMPLATES_OF_MEMBER, template.getMember().getId()));
+    }
+
+    public void decreaseTemplateCount(Template template) {
+        totalCountCache.decrease(CountKey.of(ALL_TEMPLATES, ""));
+        totalCountCache.decrease(CountKey.of(TEMPLATES_OF_MEMBER, template.getMember().getId()));
+    }
+
+    /**
+     * 제목이 바뀐 템플릿이 검색될 수 있는 검색어의 결과 수만 제거한다. (TemplateListCache 참고)
+     */
+    public void evictSearchCount(String title) {
+        totalCountCache.evictIf(key -> key.isTypeOf(SEARCHED_TEMPLATES)
+            && TemplateSearchKey.mayMatch(key.getTarget(), title));
+    }
+}
@@ -0,0 +1,204 @@
+package com.reviewduck.template.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.reviewduck.common.util.TransactionUtils;
+import com.reviewduck.config.cache.CacheInvalidationListener;
+import com.reviewduck.config.cache.CacheInvalidationPublisher;
+import com.reviewduck.config.cache.CacheType;
+import com.reviewduck.config.cache.TwoTierCache;
+import com.reviewduck.template.domain.Template;
+import com.reviewduck.template.dto.service.TemplateIdsPageDto;
+import com.reviewduck.template.dto.service.TemplateSummaryDto;
+import com.reviewduck.template.vo.TemplateSearchKey;
+import com.reviewduck.template.vo.TemplateSortType;
+
+/**
+ * 템플릿 목록을 정렬 기준별 id 목록과 템플릿별 요약으로 나누어 캐싱한다.
+ * 템플릿이 생성, 삭제되면 커밋 이후에 영향받는 정렬 기준의 id 목록만 제거하고, 제거는 무효화 로그로 다른 서버에도 전파한다.
+ * 커밋 전에 시작된 id 목록 조회가 제거 이후에 이전 목록을 저장하지 않도록, 조회하는 동안 목록이 바뀌면 다시 조회한다.
+ * 검색 결과와 검색 결과 수는 바뀐 템플릿 제목으로 검색될 수 있는 검색어의 것만 제거한다.
+ * 제목은 변경 피드로 전파해 각 서버가 자신의 캐시에서 찾아 제거한다.
+ */
+@Component
+public class TemplateListCache implements CacheInvalidationListener {
+
+    public static final String SEARCH_CHANGE_FEED_NAME = "templateSearchTitle";
+
+    // 정렬 기준별로 앞에서부터 최대 MAX_CACHED_IDS 개의 id 만 캐싱한다.
+    public static final int MAX_CACHED_IDS = 1000;
+
+    private final Cache sortedIdsCache;
+    private final Cache searchIdsCache;
+    private final Cache summaryCache;
+    private final CacheInvalidationPublisher changePublisher;
+    private final TemplateCountService templateCountService;
+    private final AtomicLong sortedIdsGeneration = new AtomicLong();
+
+    public TemplateListCache(CacheManager cacheManager, CacheInvalidationPublisher changePublisher,
+        TemplateCountService templateCountService) {
+        this.sortedIdsCache = getCache(cacheManager, CacheType.TemplatesCache);
+        this.searchIdsCache = getCache(cacheManager, CacheType.TemplateSearchCache);
+        this.summaryCache = getCache(cacheManager, CacheType.TemplateSummaryCache);
+        this.changePublisher = changePublisher;
+        this.templateCountService = templateCountService;
+    }
+
+    public List<Long> getSortedIds(TemplateSortType sortType, Supplier<List<Long>> loader) {
+        return sortedIdsCache.get(sortType, () -> loadSortedIds(loader));
+    }
+
+    public TemplateIdsPageDto getSearchIds(TemplateSearchKey key, Supplier<TemplateIdsPageDto> loader) {
+        return searchIdsCache.get(key, loader::get);
+    }
+
+    /**
+     * ids 순서대로 템플릿 요약을 조회한다.
+     * 캐시에 없는 요약은 loader 로 한 번에 불러오고, 그 사이 삭제된 템플릿은 제외한다.
+     */
+    public List<TemplateSummaryDto> getSummaries(List<Long> ids, Function<List<Long>, List<Template>> loader) {
+        Map<Long, TemplateSummaryDto> summaries = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long id : ids) {
+            TemplateSummaryDto summary = summaryCache.get(id, TemplateSummaryDto.class);
+            if (summary == null) {
+                missedIds.add(id);
+                continue;
+            }
+            summaries.put(id, summary);
+        }
+
+        if (!missedIds.isEmpty()) {
+            putSummaries(loader.apply(missedIds))
+                .forEach(summary -> summaries.put(summary.getInfo().getId(), summary));
+        }
+
+        return ids.stream()
+            .map(summaries::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    public List<TemplateSummaryDto> putSummaries(List<Template> templates) {
+        List<TemplateSummaryDto> summaries = templates.stream()
+            .map(TemplateSummaryDto::from)
+            .collect(Collectors.toUnmodifiableList());
+        summaries.forEach(summary -> summaryCache.put(summary.getInfo().getId(), summary));
+        return summaries;
+    }
+
+    public void added(Template template) {
+        String title = template.getTemplateTitle();
+        TransactionUtils.afterCommit(() -> evictSortedIds(TemplateSortType.values()));
+        titleChanged(title);
+    }
+
+    public void updated(long templateId, String oldTitle, String newTitle) {
+        TransactionUtils.afterCommit(() -> summaryCache.evict(templateId));
+        titleChanged(oldTitle);
+        if (!oldTitle.equals(newTitle)) {
+            titleChanged(newTitle);
+        }
+    }
+
+    /**
+     * 요약에는 작성자의 닉네임과 프로필이 들어 있으므로 작성자 정보가 바뀌면 그 작성자의 템플릿 요약을 제거한다.
+     */
+    public void creatorUpdated(List<Long> templateIds) {
+        TransactionUtils.afterCommit(() -> templateIds.forEach(summaryCache::evict));
+    }
+
+    public void deleted(Template template) {
+        long templateId = template.getId();
+        String title = template.getTemplateTitle();
+        TransactionUtils.afterCommit(() -> {
+            summaryCache.evict(templateId);
+            evictSortedIds(TemplateSortType.values());
+        });
+        titleChanged(title);
+    }
+
+    /**
+     * 사용 횟수가 바뀐 템플릿의 순위는 다른 템플릿의 사용 횟수를 알아야 정할 수 있으므로 인기순 목록만 다시 불러온다.
+     */
+    public void used(long templateId) {
+        TransactionUtils.afterCommit(() -> {
+            summaryCache.evict(templateId);
+            evictSortedIds(TemplateSortType.TREND);
+        });
+    }
+
+    @Override
+    public String getCacheName() {
+        return SEARCH_CHANGE_FEED_NAME;
+    }
+
+    @Override
+    public void onInvalidation(String title) {
+        if (title != null) {
+            evictSearchIdsLocally(title);
+        }
+    }
+
+    /**
+     * 이 서버의 검색 결과는 커밋 직후에 바로 제거하고, 다른 서버에는 변경 피드로 제목을 전달한다.
+     */
+    private void titleChanged(String title) {
+        TransactionUtils.afterCommit(() -> evictSearchIdsLocally(title));
+        changePublisher.publish(SEARCH_CHANGE_FEED_NAME, title);
+    }
+
+    /**
+     * 검색 결과 수도 같은 검색어만 제거해, 목록과 전체 수가 서로 다른 시점의 결과를 보여주지 않게 한다.
+     */
+    private void evictSearchIdsLocally(String title) {
+        Predicate<String> affected = cacheKey -> TemplateSearchKey.queryOf(cacheKey)
+            .map(query -> TemplateSearchKey.mayMatch(query, title))
+            .orElse(true);
+        templateCountService.evictSearchCount(title);
+
+        if (searchIdsCache instanceof TwoTierCache) {
+            ((TwoTierCache)searchIdsCache).evictLocallyIf(affected);
+            return;
+        }
+        searchIdsCache.clear();
+    }
+
+    /**
+     * 세대를 먼저 올려, 그 전에 시작된 조회가 이전 목록을 저장하지 않고 다시 조회하게 한다.
+     * 이미 저장 중인 조회는 캐시의 제거가 저장이 끝난 뒤에 지운다.
+     */
+    private void evictSortedIds(TemplateSortType... sortTypes) {
+        sortedIdsGeneration.incrementAndGet();
+        for (TemplateSortType sortType : sortTypes) {
+            sortedIdsCache.evict(sortType);
+        }
+    }
+
+    private List<Long> loadSortedIds(Supplier<List<Long>> loader) {
+        long generation;
+        List<Long> ids;
+        do {
+            generation = sortedIdsGeneration.get();
+            ids = List.copyOf(loader.get());
+        } while (generation != sortedIdsGeneration.get());
+        return ids;
+    }
+
+    private Cache getCache(CacheManager cacheManager, CacheType cacheType) {
+        return Objects.requireNonNull(cacheManager.getCache(cacheType.getCacheName()));
+    }
+}
@@ -3,19 +3,21 @@ package com.reviewduck.template.service;
 import static com.reviewduck.template.dto.service.ServiceDtoConverter.*;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.common.exception.NotFoundException;
+import com.reviewduck.config.cache.CacheType;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
 import com.reviewduck.review.domain.ReviewForm;
@@ -24,6 +26,7 @@ import com.reviewduck.review.dto.controller.response.ReviewFormCodeResponse;
 import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
 import com.reviewduck.review.dto.service.ServiceDtoConverter;
 import com.reviewduck.review.repository.ReviewFormRepository;
+import com.reviewduck.review.service.ReviewCountService;
 import com.reviewduck.template.domain.Template;
 import com.reviewduck.template.dto.controller.request.TemplateCreateRequest;
 import com.reviewduck.template.dto.controller.request.TemplateUpdateRequest;
@@ -31,22 +34,38 @@ import com.reviewduck.template.dto.controller.response.MemberTemplatesResponse;
 import com.reviewduck.template.dto.controller.response.TemplateIdResponse;
 import com.reviewduck.template.dto.controller.response.TemplateResponse;
 import com.reviewduck.template.dto.controller.response.TemplatesResponse;
+import com.reviewduck.template.dto.service.TemplateDetailDto;
+import com.reviewduck.template.dto.service.TemplateIdsPageDto;
+import com.reviewduck.template.dto.service.TemplateSummaryDto;
 import com.reviewduck.template.repository.TemplateRepository;
+import com.reviewduck.template.vo.TemplateSearchKey;
 import com.reviewduck.template.vo.TemplateSortType;
 
-import lombok.AllArgsConstructor;
-
 @Service
 @Transactional(readOnly = true)
-@AllArgsConstructor
 public class TemplateService {
 
     private final TemplateRepository templateRepository;
     private final ReviewFormRepository reviewFormRepository;
     private final MemberRepository memberRepository;
+    private final TemplateCountService templateCountService;
+    private final ReviewCountService reviewCountService;
+    private final TemplateListCache templateListCache;
+    private final Cache templateCache;
+
+    public TemplateService(TemplateRepository templateRepository, ReviewFormRepository reviewFormRepository,
+        MemberRepository memberRepository, TemplateCountService templateCountService,
+        ReviewCountService reviewCountService, TemplateListCache templateListCache, CacheManager cacheManager) {
+        this.templateRepository = templateRepository;
+        this.reviewFormRepository = reviewFormRepository;
+        this.memberRepository = memberRepository;
+        this.templateCountService = templateCountService;
+        this.reviewCountService = reviewCountService;
+        this.templateListCache = templateListCache;
+        this.templateCache = Objects.requireNonNull(cacheManager.getCache(CacheType.TemplateCache.getCacheName()));
+    }
 
     @Transactional
-    @CacheEvict(value = "templatesCacheStore", allEntries = true)
     public TemplateIdResponse save(long memberId, TemplateCreateRequest request) {
         Member member = getMemberByMemberId(memberId);
         Template template = new Template(
@@ -55,52 +74,79 @@ public class TemplateService {
             request.getTemplateDescription(),
             toTemplateQuestionCreateDtos(request.getQuestions())
         );
-        return TemplateIdResponse.from(templateRepository.save(template));
+        Template savedTemplate = templateRepository.save(template);
+        templateCountService.increaseTemplateCount(savedTemplate);
+        templateListCache.added(savedTemplate);
+        return TemplateIdResponse.from(savedTemplate);
     }
 
     @Transactional
     public ReviewFormCodeResponse createReviewFormByTemplate(long memberId, long templateId,
         ReviewFormCreateRequest request) {
         templateRepository.increaseUsedCount(templateId);
+        templateListCache.used(templateId);
         return ReviewFormCodeResponse.from(saveFromTemplate(memberId, request));
     }
 
     @Transactional
     public ReviewFormCodeResponse createReviewFormByTemplate(long memberId, long templateId) {
-        return ReviewFormCodeResponse.from(saveFromTemplate(memberId, templateId));
+        ReviewForm reviewForm = saveFromTemplate(memberId, templateId);
+        templateListCache.used(templateId);
+        return ReviewFormCodeResponse.from(reviewForm);
     }
 
-
-    @Cacheable(value = "templateCacheStore", key = "#templateId")
+    /**
+     * 조회하는 사용자와 무관한 정보만 템플릿 id 별로 캐싱하고, 작성자 여부는 요청마다 판단한다.
+     * 같은 템플릿을 동시에 조회해도 DB 는 한 번만 조회한다.
+     */
     public TemplateResponse find(long templateId, long memberId) {
-        Template template = findById(templateId);
+        TemplateDetailDto template = templateCache.get(templateId, () -> TemplateDetailDto.from(findById(templateId)));
         return TemplateResponse.of(template, memberId);
     }
 
-    @Cacheable(value = "templatesCacheStore", key = "#page + #size + #sort")
     public TemplatesResponse findAll(int page, int size, String sort, long memberId) {
-        String sortType = TemplateSortType.getSortBy(sort);
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortType));
-        Page<Template> templates = templateRepository.findAll(pageRequest);
-        return TemplatesResponse.of(templates, memberId);
+        TemplateSortType sortType = TemplateSortType.from(sort);
+        long numberOfTemplates = templateCountService.countAll();
+        List<Long> ids = templateListCache.getSortedIds(sortType, () -> findSortedIds(sortType));
+
+        long from = (long)page * size;
+        boolean isCachedRange = ids.size() < TemplateListCache.MAX_CACHED_IDS || from + size <= ids.size();
+        if (!isCachedRange) {
+            Slice<Template> templates = templateRepository.findAll(PageRequest.of(page, size, sortOf(sortType)));
+            return TemplatesResponse.of(templateListCache.putSummaries(templates.getContent()), templates.isLast(),
+                numberOfTemplates, memberId);
+        }
+
+        List<Long> pageIds = ids.subList((int)Math.min(from, ids.size()), (int)Math.min(from + size, ids.size()));
+        List<TemplateSummaryDto> templates = templateListCache.getSummaries(pageIds,
+            templateRepository::findAllWithMemberByIdIn);
+        boolean isLastPage = ids.size() < TemplateListCache.MAX_CACHED_IDS && from + size >= ids.size();
+        return TemplatesResponse.of(templates, isLastPage, numberOfTemplates, memberId);
     }
 
-    @Cacheable(value = "templatesCacheStore", key = "#query + #page + #size")
     public TemplatesResponse search(String query, int page, int size, long memberId) {
-        PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Template> templates = templateRepository.findByTemplateTitleContaining(pageRequest, query);
-        return TemplatesResponse.of(templates, memberId);
+        TemplateIdsPageDto searchedIds = templateListCache.getSearchIds(TemplateSearchKey.of(query, page, size),
+            () -> {
+                Slice<Template> templates = templateRepository.findByTemplateTitleContaining(
+                    PageRequest.of(page, size), query);
+                templateListCache.putSummaries(templates.getContent());
+                return TemplateIdsPageDto.from(templates);
+            });
+        List<TemplateSummaryDto> templates = templateListCache.getSummaries(searchedIds.getIds(),
+            templateRepository::findAllWithMemberByIdIn);
+        return TemplatesResponse.of(templates, searchedIds.getIsLastPage(), templateCountService.countBySearch(query),
+            memberId);
     }
 
     public MemberTemplatesResponse findAllBySocialId(String socialId, int page, int size, long memberId) {
         Member member = getMemberBySocialId(socialId);
         boolean isMine = member.isSameId(memberId);
 
-        Page<Template> templates = findAllByMember(page, size, member);
-        return MemberTemplatesResponse.of(templates, isMine);
+        Slice<Template> templates = findAllByMember(page, size, member);
+        return MemberTemplatesResponse.of(templates, templateCountService.countByMember(member), isMine);
     }
 
-    public Page<Template> findAllByMember(int page, int size, Member member) {
+    public Slice<Template> findAllByMember(int page, int size, Member member) {
         Sort sort = Sort.by(Sort.Direction.DESC, TemplateSortType.LATEST.getSortBy());
         PageRequest pageRequest = PageRequest.of(page, size, sort);
 
@@ -108,31 +154,43 @@ public class TemplateService {
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "templateCacheStore", key = "#templateId"),
-        @CacheEvict(value = "templatesCacheStore", allEntries = true)
-    })
+    @CacheEvict(value = "templateCacheStore", key = "#templateId")
     public void update(long memberId, long templateId, TemplateUpdateRequest request) {
         Template template = findById(templateId);
         validateTemplateIsMine(template, memberId, "본인이 생성한 템플릿이 아니면 수정할 수 없습니다.");
 
+        String oldTitle = template.getTemplateTitle();
         template.update(
             request.getTemplateTitle(),
             request.getTemplateDescription(),
             toTemplateQuestionUpdateDtos(request.getQuestions())
         );
+        templateListCache.updated(templateId, oldTitle, template.getTemplateTitle());
     }
 
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "templateCacheStore", key = "#templateId"),
-        @CacheEvict(value = "templatesCacheStore", allEntries = true)
-    })
+    @CacheEvict(value = "templateCacheStore", key = "#templateId")
     public void delete(long memberId, long templateId) {
         Template template = findById(templateId);
         validateTemplateIsMine(template, memberId, "본인이 생성한 템플릿이 아니면 삭제할 수 없습니다.");
 
         templateRepository.delete(template);
+        templateCountService.decreaseTemplateCount(template);
+        templateListCache.deleted(template);
+    }
+
+    private List<Long> findSortedIds(TemplateSortType sortType) {
+        return templateRepository.findIds(PageRequest.of(0, TemplateListCache.MAX_CACHED_IDS, sortOf(sortType)));
+    }
+
+    /**
+     * 같은 값을 가진 템플릿의 순서를 고정해, 캐싱된 id 목록과 캐싱 범위 밖의 페이지 조회가 같은 순서를 따르도록 한다.
+     */
+    private Sort sortOf(TemplateSortType sortType) {
+        if (sortType == TemplateSortType.LATEST) {
+            return Sort.by(Sort.Direction.DESC, sortType.getSortBy()).and(Sort.by(Sort.Direction.DESC, "id"));
+        }
+        return Sort.by(Sort.Direction.DESC, sortType.getSortBy()).and(Sort.by(Sort.Direction.ASC, "id"));
     }
 
     private ReviewForm saveFromTemplate(long memberId, ReviewFormCreateRequest request) {
@@ -140,7 +198,7 @@ public class TemplateService {
         List<ReviewFormQuestionCreateDto> questions = ServiceDtoConverter.toReviewFormQuestionCreateDtos(
             request.getQuestions());
         ReviewForm reviewForm = new ReviewForm(member, request.getReviewFormTitle(), questions);
-        return reviewFormRepository.save(reviewForm);
+        return saveReviewForm(reviewForm);
     }
 
     private void validateTemplateIsMine(Template template, long memberId, String message) {
@@ -158,7 +216,13 @@ public class TemplateService {
             .collect(Collectors.toUnmodifiableList());
         Member member = getMemberByMemberId(memberId);
         ReviewForm reviewForm = new ReviewForm(member, template.getTemplateTitle(), questions);
-        return reviewFormRepository.save(reviewForm);
+        return saveReviewForm(reviewForm);
+    }
+
+    private ReviewForm saveReviewForm(ReviewForm reviewForm) {
+        ReviewForm savedReviewForm = reviewFormRepository.save(reviewForm);
+        reviewCountService.increaseReviewFormCount(savedReviewForm);
+        return savedReviewForm;
     }
 
     private Template findById(long id) {
@@ -0,0 +1,78 @@
+package com.reviewduck.template.vo;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 템플릿 검색 결과를 캐싱할 때 사용하는 키
+ * 검색어에는 어떤 문자든 들어올 수 있으므로, 문자열로 변환할 때 길이가 정해진 값을 앞에 두고 검색어를 마지막에 둔다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@Getter
+public class TemplateSearchKey {
+
+    private static final String QUERY_PREFIX = ",query=";
+    // 검색에 사용하는 전문 검색 인덱스의 ngram 파서 토큰 크기(ngram_token_size 기본값)
+    private static final int NGRAM_SIZE = 2;
+
+    private final String query;
+    private final int page;
+    private final int size;
+
+    public static TemplateSearchKey of(String query, int page, int size) {
+        return new TemplateSearchKey(query, page, size);
+    }
+
+    /**
+     * 캐시 키로 변환된 문자열에서 검색어를 꺼낸다. 검색어 앞의 값은 숫자이므로 처음 나오는 구분자 뒤가 검색어이다.
+     */
+    public static Optional<String> queryOf(String cacheKey) {
+        int index = cacheKey.indexOf(QUERY_PREFIX);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(cacheKey.substring(index + QUERY_PREFIX.length()));
+    }
+
+    /**
+     * 제목이 검색어로 검색될 수 있으면 true 를 반환한다.
+     * 검색은 ngram 파서의 자연어 모드이므로, 검색어와 제목을 같은 방식으로 나눈 토큰이 하나라도 겹치면 검색된다.
+     * 불용어는 고려하지 않아 실제로 검색되지 않는 제목도 true 가 될 수 있지만, 검색되는 제목을 놓치지는 않는다.
+     * 토큰이 없는 검색어는 판단할 수 없으므로 true 를 반환한다.
+     */
+    public static boolean mayMatch(String query, String title) {
+        Set<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return true;
+        }
+        Set<String> titleTokens = tokenize(title);
+        return queryTokens.stream().anyMatch(titleTokens::contains);
+    }
+
+    /**
+     * 문자와 숫자가 아닌 문자로 단어를 나누고, 각 단어를 NGRAM_SIZE 글자씩 겹치게 잘라 대소문자 구분 없이 모은다.
+     */
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int from = 0; from + NGRAM_SIZE <= codePoints.length; from++) {
+                tokens.add(new String(codePoints, from, NGRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public String toString() {
+        return "page=" + page + ",size=" + size + QUERY_PREFIX + query;
+    }
+}
@@ -20,12 +20,15 @@ public enum TemplateSortType {
         this.sortBy = sortBy;
     }
 
-    public static String getSortBy(String input) {
+    public static TemplateSortType from(String input) {
         return Arrays.stream(values())
             .filter(it -> it.param.equals(input))
             .findAny()
-            .orElse(TREND)
-            .sortBy;
+            .orElse(TREND);
+    }
+
+    public static String getSortBy(String input) {
+        return from(input).sortBy;
     }
 
     public String getSortBy() {
@@ -0,0 +1,75 @@
+package com.reviewduck.admin.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.reviewduck.admin.repository.AdminMemberRepository;
+import com.reviewduck.admin.vo.ExportFormat;
+import com.reviewduck.member.domain.Member;
+
+@SpringBootTest
+@Sql("classpath:truncate.sql")
+@Transactional
+public class AdminExportServiceTest {
+
+    @Autowired
+    private AdminExportService adminExportService;
+
+    @Autowired
+    private AdminMemberRepository adminMemberRepository;
+
+    @BeforeEach
+    void createAndSaveMembers() {
+        adminMemberRepository.save(new Member("1", "panda", "제이슨", "testUrl"));
+        adminMemberRepository.save(new Member("2", "ariari", "=브리, \"duck\"", "testUrl2"));
+    }
+
+    @Test
+    @DisplayName("멤버를 한 줄에 하나씩 NDJSON 으로 내보낸다.")
+    void exportMembersAsNdjson() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        adminExportService.exportMembers(ExportFormat.NDJSON, outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        // then
+        assertAll(
+            () -> assertThat(lines).hasSize(2),
+            () -> assertThat(lines[0]).startsWith("{").contains("\"nickname\":\"제이슨\""),
+            () -> assertThat(lines[1]).startsWith("{").contains("\"socialNickname\":\"ariari\"")
+        );
+    }
+
+    @Test
+    @DisplayName("멤버를 헤더와 함께 CSV 로 내보내고, 특수문자가 포함된 값은 이스케이프한다.")
+    void exportMembersAsCsv() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        adminExportService.exportMembers(ExportFormat.CSV, outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        // then
+        assertAll(
+            () -> assertThat(lines).hasSize(3),
+            () -> assertThat(lines[0]).startsWith("id,socialId,socialNickname,nickname,profileUrl"),
+            () -> assertThat(lines[1]).contains(",1,panda,제이슨,testUrl,"),
+            () -> assertThat(lines[2]).contains(",2,ariari,\"'=브리, \"\"duck\"\"\",testUrl2,")
+        );
+    }
+}
@@ -14,8 +14,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.reviewduck.admin.dto.response.AdminPageResponse;
 import com.reviewduck.admin.dto.response.AdminReviewFormInfoResponse;
 import com.reviewduck.admin.dto.response.AdminReviewFormsResponse;
+import com.reviewduck.admin.vo.AdminPageCondition;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
@@ -24,6 +26,7 @@ import com.reviewduck.review.domain.ReviewForm;
 import com.reviewduck.review.dto.controller.request.ReviewFormCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormQuestionCreateRequest;
 import com.reviewduck.review.dto.controller.response.ReviewFormCodeResponse;
+import com.reviewduck.review.repository.ReviewFormRepository;
 import com.reviewduck.review.service.ReviewFormService;
 
 @SpringBootTest
@@ -37,6 +40,9 @@ public class AdminReviewFormServiceTest {
     @Autowired
     private ReviewFormService reviewFormService;
 
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
     @Autowired
     private MemberRepository memberRepository;
 
@@ -72,6 +78,29 @@ public class AdminReviewFormServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("작성자와 활성화 여부로 걸러서 회고 폼을 페이지 단위로 조회한다.")
+    void findReviewFormPage() {
+        // given
+        saveReviewForm(member1);
+        String reviewFormCode = saveReviewForm(member2).getReviewFormCode();
+        saveReviewForm(member2);
+
+        ReviewForm inactiveReviewForm = adminReviewFormService.findByCode(reviewFormCode);
+        reviewFormRepository.inactivate(inactiveReviewForm);
+
+        // when
+        AdminPageResponse<AdminReviewFormInfoResponse> page = adminReviewFormService.findReviewFormPage(
+            AdminPageCondition.of(null, 10, member2.getId(), null, null, false));
+
+        // then
+        assertAll(
+            () -> assertThat(page.getContents()).extracting(AdminReviewFormInfoResponse::getId)
+                .containsExactly(inactiveReviewForm.getId()),
+            () -> assertThat(page.getNextCursor()).isNull()
+        );
+    }
+
     @Test
     @DisplayName("회고 폼을 삭제한다.")
     void deleteReviewForm() {
@@ -92,7 +121,7 @@ public class AdminReviewFormServiceTest {
     @DisplayName("존재하지 않는 회고 폼을 삭제할 수 없다.")
     void failToDeleteReviewForm() {
         // when, then
-        assertThatThrownBy(() -> adminReviewFormService.deleteReviewForm(9999L))
+        assertThatThrownBy(() -> adminReviewFormService.deleteReviewForm(Long.MAX_VALUE))
             .isInstanceOf(NotFoundException.class)
             .hasMessageContaining("존재하지 않는 회고 폼입니다.");
     }
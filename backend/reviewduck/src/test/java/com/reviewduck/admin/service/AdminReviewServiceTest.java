@@ -3,7 +3,9 @@ package com.reviewduck.admin.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
@@ -14,8 +16,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.reviewduck.admin.dto.response.AdminPageResponse;
 import com.reviewduck.admin.dto.response.AdminReviewInfoResponse;
 import com.reviewduck.admin.dto.response.AdminReviewsResponse;
+import com.reviewduck.admin.vo.AdminPageCondition;
+import com.reviewduck.admin.exception.AdminException;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
@@ -26,6 +31,7 @@ import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormQuestionCreateRequest;
+import com.reviewduck.review.repository.ReviewFormRepository;
 import com.reviewduck.review.service.ReviewFormService;
 import com.reviewduck.review.service.ReviewService;
 
@@ -43,6 +49,9 @@ public class AdminReviewServiceTest {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
     @Autowired
     private MemberRepository memberRepository;
 
@@ -78,6 +87,83 @@ public class AdminReviewServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("회고를 최신순으로 페이지 단위로 조회하고, 다음 페이지는 커서 이후부터 조회한다.")
+    void findReviewPage() {
+        // given
+        long firstReviewId = saveReview(member1);
+        long secondReviewId = saveReview(member2);
+        long thirdReviewId = saveReview(member1);
+
+        // when
+        AdminPageResponse<AdminReviewInfoResponse> firstPage = adminReviewService.findReviewPage(
+            AdminPageCondition.of(null, 2, null, null, null, null), null);
+        AdminPageResponse<AdminReviewInfoResponse> secondPage = adminReviewService.findReviewPage(
+            AdminPageCondition.of(firstPage.getNextCursor(), 2, null, null, null, null), null);
+
+        // then
+        assertAll(
+            () -> assertThat(firstPage.getContents()).extracting(AdminReviewInfoResponse::getId)
+                .containsExactly(thirdReviewId, secondReviewId),
+            () -> assertThat(firstPage.getNextCursor()).isEqualTo(secondReviewId),
+            () -> assertThat(secondPage.getContents()).extracting(AdminReviewInfoResponse::getId)
+                .containsExactly(firstReviewId),
+            () -> assertThat(secondPage.getNextCursor()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("작성자로 걸러서 회고를 페이지 단위로 조회한다.")
+    void findReviewPageByMember() {
+        // given
+        saveReview(member1);
+        long reviewId = saveReview(member2);
+
+        // when
+        AdminPageResponse<AdminReviewInfoResponse> page = adminReviewService.findReviewPage(
+            AdminPageCondition.of(null, 10, member2.getId(), null, null, null), null);
+
+        // then
+        assertAll(
+            () -> assertThat(page.getContents()).extracting(AdminReviewInfoResponse::getId)
+                .containsExactly(reviewId),
+            () -> assertThat(page.getContents().get(0).getMemberNickname()).isEqualTo("워니"),
+            () -> assertThat(page.getNextCursor()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼으로 거르거나 작성자와 회고 폼으로 함께 걸러서 회고를 페이지 단위로 조회한다.")
+    void findReviewPageByReviewForm() {
+        // given
+        saveReview(member1);
+        long reviewId = saveReview(member2);
+        long reviewFormId = adminReviewService.findById(reviewId).getReviewForm().getId();
+
+        // when
+        AdminPageResponse<AdminReviewInfoResponse> byReviewForm = adminReviewService.findReviewPage(
+            AdminPageCondition.of(null, 10, null, null, null, null), reviewFormId);
+        AdminPageResponse<AdminReviewInfoResponse> byOtherMember = adminReviewService.findReviewPage(
+            AdminPageCondition.of(null, 10, member1.getId(), null, null, null), reviewFormId);
+
+        // then
+        assertAll(
+            () -> assertThat(byReviewForm.getContents()).extracting(AdminReviewInfoResponse::getId)
+                .containsExactly(reviewId),
+            () -> assertThat(byOtherMember.getContents()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("조회 시작일이 종료일보다 늦으면 회고를 페이지 단위로 조회할 수 없다.")
+    void failToFindReviewPageWithInvalidDateRange() {
+        // when, then
+        assertThatThrownBy(() -> AdminPageCondition.of(null, 10, null, LocalDate.of(2022, 10, 2),
+            LocalDate.of(2022, 10, 1), null))
+            .isInstanceOf(AdminException.class)
+            .hasMessageContaining("조회 시작일은 종료일보다 늦을 수 없습니다.");
+    }
+
     @Test
     @DisplayName("회고 폼을 삭제한다.")
     void deleteReviewForm() {
@@ -97,17 +183,12 @@ public class AdminReviewServiceTest {
     @DisplayName("존재하지 않는 회고 폼을 삭제할 수 없다.")
     void failToDeleteReviewForm() {
         // when, then
-        assertThatThrownBy(() -> adminReviewService.deleteReview(9999L))
+        assertThatThrownBy(() -> adminReviewService.deleteReview(Long.MAX_VALUE))
             .isInstanceOf(NotFoundException.class)
             .hasMessageContaining("존재하지 않는 회고입니다.");
     }
 
     private long saveReview(Member member) {
-        ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-            new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-            new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
-        ));
-
         String reviewTitle = "title";
         List<ReviewFormQuestionCreateRequest> questions = List.of(
             new ReviewFormQuestionCreateRequest("question1", "description1"),
@@ -115,6 +196,13 @@ public class AdminReviewServiceTest {
         ReviewFormCreateRequest reviewFormCreateRequest = new ReviewFormCreateRequest(reviewTitle, questions);
         String reviewFormCode = reviewFormService.save(member1.getId(), reviewFormCreateRequest).getReviewFormCode();
 
+        List<ReviewContentCreateRequest> contents = reviewFormRepository.findByCodeAndIsActiveTrue(reviewFormCode)
+            .orElseThrow()
+            .getQuestions().stream()
+            .map(question -> new ReviewContentCreateRequest(question.getId(), new AnswerCreateRequest("answer")))
+            .collect(Collectors.toUnmodifiableList());
+        ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", contents);
+
         return reviewService.save(member.getId(), reviewFormCode, createRequest);
     }
 }
@@ -0,0 +1,77 @@
+package com.reviewduck.auth.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class RouteClassifierTest {
+
+    private final RouteClassifier classifier = RouteClassifier.of("GET", URIPattern.values(), "member");
+
+    @ParameterizedTest
+    @CsvSource(value = {
+        "GET,/api/templates,,true",
+        "GET,/api/templates/1,,true",
+        "GET,/api/templates/search,query,true",
+        "GET,/api/templatesAll,,true",
+        "POST,/api/templates,,false",
+        "GET,/api/review-forms,member,true",
+        "GET,/api/review-forms,,false",
+        "GET,/api/review-forms/ABC123,,true",
+        "GET,/api/review-forms/abc123,,false",
+        "GET,/api/review-forms/ABC123/reviews,,false",
+        "PUT,/api/review-forms/ABC123,,false",
+        "GET,/api/reviews,,true",
+        "GET,/api/reviews,member,true",
+        "GET,/api/reviews,page,false",
+        "GET,/api/members/1,,true",
+        "GET,/api/members/me,,false",
+        "GET,/api/members/,,false",
+        "GET,/api/members/1/,,false",
+        "GET,/,,false",
+        "GET,/api,,false"
+    })
+    @DisplayName("정규식으로 판단하던 것과 같은 결과를 반환한다.")
+    void matches(String method, String uri, String paramName, boolean expected) {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (paramName != null) {
+            request.addParameter(paramName, "value");
+        }
+
+        // when
+        boolean actual = classifier.matches(request);
+
+        // then
+        assertThat(actual)
+            .isEqualTo(expected)
+            .isEqualTo(matchesByRegex(request));
+    }
+
+    /**
+     * 트라이로 바꾸기 전에 사용하던 정규식 기반 판단
+     */
+    private boolean matchesByRegex(MockHttpServletRequest request) {
+        List<Map.Entry<Pattern, BiPredicate<Map<String, String[]>, String>>> patterns = List.of(
+            Map.entry(Pattern.compile("/api/templates.*"), (params, paramName) -> true),
+            Map.entry(Pattern.compile("/api/review-forms"), Map::containsKey),
+            Map.entry(Pattern.compile("/api/reviews"),
+                (params, paramName) -> params.containsKey(paramName) || params.isEmpty()),
+            Map.entry(Pattern.compile("/api/members/[0-9]+"), (params, paramName) -> true),
+            Map.entry(Pattern.compile("/api/review-forms/[0-9A-Z]+"), (params, paramName) -> true)
+        );
+
+        return patterns.stream()
+            .anyMatch(entry -> entry.getKey().matcher(request.getRequestURI()).matches()
+                && entry.getValue().test(request.getParameterMap(), "member"))
+            && request.getMethod().equals("GET");
+    }
+}
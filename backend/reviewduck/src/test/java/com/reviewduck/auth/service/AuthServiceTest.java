@@ -0,0 +1,162 @@
+package com.reviewduck.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.auth.dto.request.LoginRequest;
+import com.reviewduck.auth.dto.service.TokensDto;
+import com.reviewduck.auth.support.GithubOAuthClient;
+import com.reviewduck.auth.support.GithubOAuthStubServer;
+import com.reviewduck.common.service.ServiceTest;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 깃허브 대신 응답을 지연시킬 수 있는 GithubOAuthStubServer 를 사용한다.
+ */
+public class AuthServiceTest extends ServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceTest.class);
+    private static final GithubOAuthStubServer stubServer = createStubServer();
+
+    @Autowired
+    private AuthService authService;
+
+    @SpyBean
+    private GithubOAuthClient githubOAuthClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("SOURCE")
+    private DataSource sourceDataSource;
+
+    private final Queue<Boolean> holdingDuringGithubCall = new ConcurrentLinkedQueue<>();
+
+    @DynamicPropertySource
+    static void githubProperties(DynamicPropertyRegistry registry) {
+        registry.add("security.oauth2.github.token-url", stubServer::getTokenUrl);
+        registry.add("security.oauth2.github.user-url", stubServer::getUserUrl);
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop();
+    }
+
+    @BeforeEach
+    void recordTransactionDuringGithubCall() {
+        doAnswer(invocation -> {
+            holdingDuringGithubCall.add(isHoldingConnection());
+            return invocation.callRealMethod();
+        }).when(githubOAuthClient).getAccessToken(anyString());
+        doAnswer(invocation -> {
+            holdingDuringGithubCall.add(isHoldingConnection());
+            return invocation.callRealMethod();
+        }).when(githubOAuthClient).getMember(anyString());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 로그인해도 깃허브와 통신하는 동안에는 트랜잭션과 DB 커넥션을 잡고 있지 않다.")
+    void releaseConnectionDuringGithubCall() {
+        // given
+        TransactionTemplate outerTransaction = new TransactionTemplate(transactionManager);
+
+        // when
+        TokensDto tokens = outerTransaction.execute(status -> {
+            jdbcTemplate.queryForObject("select 1", Integer.class);
+            return authService.createTokens(new LoginRequest("code"));
+        });
+
+        // then
+        assertAll(
+            () -> assertThat(tokens.getAccessToken()).isNotBlank(),
+            () -> assertThat(holdingDuringGithubCall).hasSize(2).containsOnly(false)
+        );
+    }
+
+    @Test
+    @DisplayName("깃허브 응답이 느려도 커넥션 풀 크기보다 많은 로그인이 동시에 깃허브를 기다린다.")
+    void loginThroughputWithSlowGithub() throws Exception {
+        // given
+        int poolSize = ((HikariDataSource)sourceDataSource).getMaximumPoolSize();
+        int loginCount = poolSize * 3;
+        long latencyMillis = 200;
+        stubServer.respondWithDistinctUsers();
+        stubServer.delayResponses(latencyMillis);
+
+        ExecutorService executor = Executors.newFixedThreadPool(loginCount);
+        List<Callable<TokensDto>> logins = IntStream.range(0, loginCount)
+            .mapToObj(i -> (Callable<TokensDto>)() -> authService.createTokens(new LoginRequest("code" + i)))
+            .collect(Collectors.toUnmodifiableList());
+
+        // when
+        long start = System.nanoTime();
+        List<Future<TokensDto>> results = executor.invokeAll(logins);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdown();
+        stubServer.delayResponses(0);
+
+        log.info("logins={}, poolSize={}, githubLatency={}ms, elapsed={}ms, throughput={}/s", loginCount, poolSize,
+            latencyMillis, elapsedMillis, loginCount * 1000L / Math.max(elapsedMillis, 1));
+
+        // then
+        for (Future<TokensDto> result : results) {
+            assertThat(result.get().getAccessToken()).isNotBlank();
+        }
+        assertAll(
+            () -> assertThat(stubServer.getPeakInFlightCount()).isGreaterThan(poolSize),
+            () -> assertThat(holdingDuringGithubCall).hasSize(loginCount * 2).containsOnly(false)
+        );
+    }
+
+    private static boolean isHoldingConnection() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.getResourceMap().isEmpty();
+    }
+
+    private static GithubOAuthStubServer createStubServer() {
+        try {
+            GithubOAuthStubServer server = new GithubOAuthStubServer();
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.reviewduck.auth.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import com.reviewduck.auth.dto.response.GithubMemberResponse;
+import com.reviewduck.auth.exception.AuthorizationException;
+import com.reviewduck.auth.exception.OAuthServerException;
+import com.reviewduck.config.WebConfig;
+
+public class GithubOAuthClientTest {
+
+    private GithubOAuthStubServer stubServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new GithubOAuthStubServer();
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop();
+    }
+
+    @Test
+    @DisplayName("인증 코드로 깃허브 토큰을 발급받고 사용자 정보를 조회한다.")
+    void login() {
+        // given
+        GithubOAuthClient client = createClient(2, 5);
+
+        // when
+        String githubAccessToken = client.getAccessToken("code");
+        GithubMemberResponse member = client.getMember(githubAccessToken);
+
+        // then
+        assertAll(
+            () -> assertThat(githubAccessToken).isEqualTo("github-access-token"),
+            () -> assertThat(member.getSocialId()).isEqualTo("100"),
+            () -> assertThat(member.getSocialNickname()).isEqualTo("duck")
+        );
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 인증 코드로는 로그인할 수 없다.")
+    void loginWithInvalidCode() {
+        // given
+        GithubOAuthClient client = createClient(2, 5);
+        stubServer.respondToTokenRequestWith("{\"error\":\"bad_verification_code\"}");
+
+        // when, then
+        assertThatThrownBy(() -> client.getAccessToken("invalid"))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("깃허브 로그인이 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회가 5xx 로 실패하면 다시 시도한다.")
+    void retryGetMember() {
+        // given
+        GithubOAuthClient client = createClient(2, 5);
+        stubServer.failNextUserRequestsWith(502, 1);
+
+        // when
+        GithubMemberResponse member = client.getMember("github-access-token");
+
+        // then
+        assertAll(
+            () -> assertThat(member.getSocialId()).isEqualTo("100"),
+            () -> assertThat(stubServer.getUserRequestCount()).isEqualTo(2),
+            () -> assertThat(client.isCircuitOpen()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("응답이 늦어 실패가 이어지면 깃허브를 호출하지 않고 바로 실패한다.")
+    void openCircuit() {
+        // given
+        GithubOAuthClient client = createClient(1, 1);
+        stubServer.delayResponses(1000);
+
+        assertThatThrownBy(() -> client.getMember("github-access-token"))
+            .isInstanceOf(OAuthServerException.class);
+        int requestCount = stubServer.getUserRequestCount();
+
+        // when, then
+        assertAll(
+            () -> assertThatThrownBy(() -> client.getMember("github-access-token"))
+                .isInstanceOf(OAuthServerException.class)
+                .hasMessageContaining("깃허브 로그인을 일시적으로 사용할 수 없습니다."),
+            () -> assertThat(client.isCircuitOpen()).isTrue(),
+            () -> assertThat(stubServer.getUserRequestCount()).isEqualTo(requestCount)
+        );
+    }
+
+    @Test
+    @DisplayName("예상하지 못한 예외로 끝난 호출도 실패로 센다.")
+    void unexpectedFailure() {
+        // given
+        RestTemplate restTemplate = new WebConfig().restTemplate(300, 300, 10);
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            throw new IllegalStateException();
+        });
+        GithubOAuthClient client = createClient(restTemplate, 1, 1);
+
+        // when, then
+        assertAll(
+            () -> assertThatThrownBy(() -> client.getMember("github-access-token"))
+                .isInstanceOf(IllegalStateException.class),
+            () -> assertThat(client.isCircuitOpen()).isTrue()
+        );
+    }
+
+    private GithubOAuthClient createClient(int maxAttempts, int failureThreshold) {
+        return createClient(new WebConfig().restTemplate(300, 300, 10), maxAttempts, failureThreshold);
+    }
+
+    private GithubOAuthClient createClient(RestTemplate restTemplate, int maxAttempts, int failureThreshold) {
+        return new GithubOAuthClient(restTemplate, "clientId", "clientSecret", stubServer.getTokenUrl(),
+            stubServer.getUserUrl(), maxAttempts, 10, failureThreshold, 60_000);
+    }
+}
@@ -0,0 +1,141 @@
+package com.reviewduck.auth.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트에서 깃허브 OAuth 서버 대신 사용하는 로컬 서버
+ * 응답 지연과 5xx 응답을 흉내 낼 수 있고, 동시에 처리 중이던 요청 수의 최댓값을 기록한다.
+ */
+public class GithubOAuthStubServer {
+
+    private static final String TOKEN_PATH = "/login/oauth/access_token";
+    private static final String USER_PATH = "/user";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Queue<Integer> userErrorStatuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tokenRequestCount = new AtomicInteger();
+    private final AtomicInteger userRequestCount = new AtomicInteger();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicInteger peakInFlightCount = new AtomicInteger();
+
+    private volatile String tokenResponse = "{\"access_token\":\"github-access-token\"}";
+    private volatile long delayMillis;
+    private volatile boolean distinctUsers;
+
+    public GithubOAuthStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(TOKEN_PATH, this::handleToken);
+        server.createContext(USER_PATH, this::handleUser);
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getTokenUrl() {
+        return getBaseUrl() + TOKEN_PATH;
+    }
+
+    public String getUserUrl() {
+        return getBaseUrl() + USER_PATH;
+    }
+
+    public void respondToTokenRequestWith(String response) {
+        this.tokenResponse = response;
+    }
+
+    public void failNextUserRequestsWith(int status, int count) {
+        for (int i = 0; i < count; i++) {
+            userErrorStatuses.add(status);
+        }
+    }
+
+    public void delayResponses(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    /**
+     * 사용자 정보 요청마다 서로 다른 사용자로 응답한다.
+     */
+    public void respondWithDistinctUsers() {
+        this.distinctUsers = true;
+    }
+
+    public int getTokenRequestCount() {
+        return tokenRequestCount.get();
+    }
+
+    public int getUserRequestCount() {
+        return userRequestCount.get();
+    }
+
+    public int getPeakInFlightCount() {
+        return peakInFlightCount.get();
+    }
+
+    private String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        tokenRequestCount.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        delay();
+        respond(exchange, 200, tokenResponse);
+    }
+
+    private void handleUser(HttpExchange exchange) throws IOException {
+        int requestCount = userRequestCount.incrementAndGet();
+        delay();
+
+        Integer errorStatus = userErrorStatuses.poll();
+        if (errorStatus != null) {
+            respond(exchange, errorStatus, "{\"message\":\"error\"}");
+            return;
+        }
+        String id = distinctUsers ? String.valueOf(100 + requestCount) : "100";
+        respond(exchange, 200, "{\"id\":\"" + id + "\",\"login\":\"duck" + (distinctUsers ? id : "")
+            + "\",\"name\":\"덕\",\"avatar_url\":\"avatarUrl\"}");
+    }
+
+    private void delay() {
+        int inFlight = inFlightCount.incrementAndGet();
+        peakInFlightCount.accumulateAndGet(inFlight, Math::max);
+        try {
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlightCount.decrementAndGet();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
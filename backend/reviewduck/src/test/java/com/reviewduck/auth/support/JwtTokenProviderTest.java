@@ -0,0 +1,67 @@
+package com.reviewduck.auth.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reviewduck.auth.exception.AuthorizationException;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "cmV2aWV3ZHVjay1hY2Nlc3MtdG9rZW4tdGVzdC1rZXk=";
+    private static final String REFRESH_SECRET_KEY = "cmV2aWV3ZHVjay1yZWZyZXNoLXRva2VuLXRlc3Qta2V5";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(60 * 60 * 1000, 60 * 60 * 1000,
+        SECRET_KEY, REFRESH_SECRET_KEY, 100);
+
+    @Test
+    @DisplayName("access token 을 검증하고 사용자 id 를 반환한다.")
+    void verifyAccessToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken("1");
+
+        // when
+        long firstMemberId = jwtTokenProvider.verifyAccessToken(token);
+        long secondMemberId = jwtTokenProvider.verifyAccessToken(token);
+
+        // then
+        assertThat(firstMemberId).isEqualTo(1L);
+        assertThat(secondMemberId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("refresh token 으로는 access token 검증을 통과할 수 없다.")
+    void verifyRefreshTokenAsAccessToken() {
+        // given
+        String token = jwtTokenProvider.createRefreshToken("1");
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.verifyAccessToken(token))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("인증되지 않은 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("만료된 access token 은 검증을 통과할 수 없다.")
+    void verifyExpiredAccessToken() {
+        // given
+        JwtTokenProvider expiredTokenProvider = new JwtTokenProvider(-1000, -1000, SECRET_KEY, REFRESH_SECRET_KEY,
+            100);
+        String token = expiredTokenProvider.createAccessToken("1");
+
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.verifyAccessToken(token))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("인증되지 않은 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 access token 은 검증을 통과할 수 없다.")
+    void verifyInvalidAccessToken() {
+        // when, then
+        assertThatThrownBy(() -> jwtTokenProvider.verifyAccessToken("invalid.token.value"))
+            .isInstanceOf(AuthorizationException.class)
+            .hasMessageContaining("인증되지 않은 사용자입니다.");
+    }
+}
@@ -18,6 +18,7 @@ import com.reviewduck.auth.service.AuthService;
 import com.reviewduck.auth.support.JwtTokenProvider;
 import com.reviewduck.member.controller.MemberController;
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.dto.MemberDto;
 import com.reviewduck.member.service.MemberService;
 import com.reviewduck.review.controller.ReviewController;
 import com.reviewduck.review.controller.ReviewFormController;
@@ -56,7 +57,8 @@ public class ControllerTest {
     @BeforeEach
     void createMemberAndGetAccessToken() {
         Optional<Member> member = Optional.of(new Member(1L, "1", "panda", "제이슨", "profileUrl"));
-        when(jwtTokenProvider.getAccessTokenPayload(anyString())).thenReturn("1");
+        when(jwtTokenProvider.verifyAccessToken(anyString())).thenReturn(1L);
         when(memberService.findById(anyLong())).thenReturn(member.get());
+        when(memberService.findPrincipal(anyLong())).thenReturn(MemberDto.from(member.get()));
     }
 }
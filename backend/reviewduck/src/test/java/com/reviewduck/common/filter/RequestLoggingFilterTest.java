@@ -0,0 +1,129 @@
+package com.reviewduck.common.filter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class RequestLoggingFilterTest {
+
+    private static final int MAX_PAYLOAD_LENGTH = 10;
+
+    private final Logger logger = (Logger)LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final RequestLoggingFilter filter = new RequestLoggingFilter(MAX_PAYLOAD_LENGTH, 1.0);
+
+    private Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        originalLevel = logger.getLevel();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(originalLevel);
+    }
+
+    @Test
+    @DisplayName("INFO 에서는 요청 요약만 남기고 본문은 남기지 않는다.")
+    void logSummary() throws ServletException, IOException {
+        // given
+        logger.setLevel(Level.INFO);
+        MockHttpServletRequest request = createRequest("/api/reviews/1", "{\"title\":\"회고\"}");
+        request.setQueryString("page=1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(201);
+
+        // when
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertAll(
+            () -> assertThat(messages()).hasSize(1),
+            () -> assertThat(messages().get(0)).contains("method=POST", "uri=/api/reviews/1", "query=page=1",
+                "status=201")
+        );
+    }
+
+    @Test
+    @DisplayName("DEBUG 에서는 애플리케이션이 읽은 본문을 최대 길이까지만 남긴다.")
+    void logTruncatedPayload() throws ServletException, IOException {
+        // given
+        logger.setLevel(Level.DEBUG);
+        MockHttpServletRequest request = createRequest("/api/reviews/1", "0123456789abcdef");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new ReadingServlet()));
+
+        // then
+        assertThat(messages()).anySatisfy(message -> assertThat(message)
+            .contains("payload=0123456789...(16 bytes)")
+            .doesNotContain("abcdef"));
+    }
+
+    @Test
+    @DisplayName("로그인 요청의 본문과 API 가 아닌 요청은 남기지 않는다.")
+    void skipSensitiveOrNonApiRequests() throws ServletException, IOException {
+        // given
+        logger.setLevel(Level.DEBUG);
+
+        // when
+        filter.doFilter(createRequest("/api/login", "{\"code\":\"secret\"}"), new MockHttpServletResponse(),
+            new MockFilterChain(new ReadingServlet()));
+        filter.doFilter(createRequest("/actuator/prometheus", ""), new MockHttpServletResponse(),
+            new MockFilterChain());
+
+        // then
+        assertAll(
+            () -> assertThat(messages()).hasSize(1),
+            () -> assertThat(messages().get(0)).contains("uri=/api/login").doesNotContain("secret")
+        );
+    }
+
+    private MockHttpServletRequest createRequest(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private List<String> messages() {
+        return appender.list.stream()
+            .map(ILoggingEvent::getFormattedMessage)
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static class ReadingServlet extends HttpServlet {
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            StreamUtils.copyToByteArray(request.getInputStream());
+        }
+    }
+}
@@ -5,9 +5,11 @@ import java.util.Objects;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.test.context.jdbc.Sql;
 
+import com.reviewduck.config.cache.TwoTierCache;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
 
@@ -38,9 +40,17 @@ public class ServiceTest {
         clearCache();
     }
 
+    /**
+     * 공유 캐시는 이 서버에서만 비워, 테스트마다 무효화 로그를 기록하지 않는다.
+     */
     private void clearCache() {
         for (String name : cacheManager.getCacheNames()) {
-            Objects.requireNonNull(cacheManager.getCache(name)).clear();
+            Cache cache = Objects.requireNonNull(cacheManager.getCache(name));
+            if (cache instanceof TwoTierCache) {
+                ((TwoTierCache)cache).evictLocally(null);
+                continue;
+            }
+            cache.clear();
         }
     }
 }
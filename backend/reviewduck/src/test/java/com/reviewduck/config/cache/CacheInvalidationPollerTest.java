@@ -0,0 +1,129 @@
+package com.reviewduck.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.reviewduck.common.service.ServiceTest;
+
+public class CacheInvalidationPollerTest extends ServiceTest {
+
+    @Autowired
+    private CacheInvalidationPoller cacheInvalidationPoller;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheInvalidationLog cacheInvalidationLog;
+
+    @Autowired
+    private ObjectProvider<CacheInvalidationListener> listeners;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("다른 서버에서 기록한 무효화를 읽어 이 서버의 캐시에서 제거한다.")
+    void poll() {
+        // given
+        cacheInvalidationPoller.poll();
+        Cache cache = cacheManager.getCache(CacheType.MemberCache.getCacheName());
+        cache.put(1L, "member1");
+        cache.put(2L, "member2");
+
+        jdbcTemplate.update("insert into cache_invalidation (cache_name, cache_key, created_at) values (?, ?, now(3))",
+            CacheType.MemberCache.getCacheName(), "Long:1");
+
+        // when
+        cacheInvalidationPoller.poll();
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get(1L)).isNull(),
+            () -> assertThat(cache.get(2L, String.class)).isEqualTo("member2")
+        );
+    }
+
+    @Test
+    @DisplayName("최근 기록이 한 번에 읽는 개수보다 많아도 그 이후의 새 기록을 읽는다.")
+    void pollAfterManyRecentInvalidations() {
+        // given
+        cacheInvalidationPoller.poll();
+        Cache cache = cacheManager.getCache(CacheType.MemberCache.getCacheName());
+        jdbcTemplate.batchUpdate("insert into cache_invalidation (cache_name, cache_key, created_at) "
+                + "values (?, ?, now(3))",
+            IntStream.range(0, 600)
+                .mapToObj(i -> new Object[] {CacheType.MemberCache.getCacheName(), "Long:999"})
+                .collect(Collectors.toList()));
+        cacheInvalidationPoller.poll();
+
+        cache.put(1L, "member1");
+        insert("Long:1");
+
+        // when
+        cacheInvalidationPoller.poll();
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 읽은 id 보다 작은 id 로 늦게 커밋된 기록도 읽는다.")
+    void pollLateCommit() {
+        // given
+        cacheInvalidationPoller.poll();
+        Cache cache = cacheManager.getCache(CacheType.MemberCache.getCacheName());
+        insert("Long:999");
+        long lateId = jdbcTemplate.queryForObject("select max(id) from cache_invalidation", Long.class);
+        jdbcTemplate.update("delete from cache_invalidation where id = ?", lateId);
+        insert("Long:999");
+        cacheInvalidationPoller.poll();
+
+        cache.put(1L, "member1");
+        jdbcTemplate.update("insert into cache_invalidation (id, cache_name, cache_key, created_at) "
+            + "values (?, ?, ?, now(3))", lateId, CacheType.MemberCache.getCacheName(), "Long:1");
+
+        // when
+        cacheInvalidationPoller.poll();
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 직후 레플리카의 이전 값으로 다시 채워진 캐시도 지연 시간이 지나면 한 번 더 제거한다.")
+    void replayAfterReplicaLag() {
+        // given
+        CacheInvalidationPoller poller = new CacheInvalidationPoller(cacheInvalidationLog, cacheManager, listeners,
+            5, 60, 0);
+        poller.start();
+        Cache cache = cacheManager.getCache(CacheType.MemberCache.getCacheName());
+        cache.put(1L, "member1");
+        insert("Long:1");
+        poller.poll();
+
+        cache.put(1L, "staleMember1");
+
+        // when
+        poller.poll();
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private void insert(String key) {
+        jdbcTemplate.update("insert into cache_invalidation (cache_name, cache_key, created_at) values (?, ?, now(3))",
+            CacheType.MemberCache.getCacheName(), key);
+    }
+}
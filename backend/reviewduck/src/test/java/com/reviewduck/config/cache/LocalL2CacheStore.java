@@ -0,0 +1,52 @@
+package com.reviewduck.config.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * TwoTierCache 테스트에서 공유 L2 저장소 대신 사용하는 프로세스 내부 저장소
+ */
+public class LocalL2CacheStore implements L2CacheStore {
+
+    private static final long MAX_SIZE_PER_CACHE = 10_000;
+
+    private final Map<String, Cache<String, Object>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get(String cacheName, String key) {
+        Cache<String, Object> cache = caches.get(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration timeToLive) {
+        caches.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumSize(MAX_SIZE_PER_CACHE)
+                .build())
+            .put(key, value);
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        Cache<String, Object> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        Cache<String, Object> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.reviewduck.config.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "testCacheStore";
+
+    private LocalL2CacheStore l2CacheStore;
+    private List<String> publishedKeys;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        l2CacheStore = new LocalL2CacheStore();
+        publishedKeys = new ArrayList<>();
+        cache = new TwoTierCache(new CaffeineCache(CACHE_NAME, Caffeine.newBuilder().recordStats().build()),
+            l2CacheStore, (cacheName, key) -> publishedKeys.add(key), Duration.ofMinutes(1), Duration.ZERO,
+            Runnable::run);
+    }
+
+    @Test
+    @DisplayName("L1 에 없는 값은 L2 에서 조회하고 L1 에 다시 저장한다.")
+    void getFromL2() {
+        // given
+        l2CacheStore.put(CACHE_NAME, "Long:1", "value", Duration.ofMinutes(1));
+
+        // when
+        String first = cache.get(1L, String.class);
+        String second = cache.get(1L, String.class);
+
+        // then
+        TwoTierCache.TwoTierCacheStats stats = cache.getStats();
+        assertAll(
+            () -> assertThat(first).isEqualTo("value"),
+            () -> assertThat(second).isEqualTo("value"),
+            () -> assertThat(stats.getL1HitCount()).isEqualTo(1),
+            () -> assertThat(stats.getL2HitCount()).isEqualTo(1),
+            () -> assertThat(stats.getMissCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("두 계층에 모두 없는 값은 불러와서 두 계층에 저장한다.")
+    void getWithValueLoader() {
+        // when
+        String loaded = cache.get(1L, () -> "value");
+
+        // then
+        assertAll(
+            () -> assertThat(loaded).isEqualTo("value"),
+            () -> assertThat(l2CacheStore.get(CACHE_NAME, "Long:1")).isEqualTo("value"),
+            () -> assertThat(cache.getStats().getMissCount()).isEqualTo(1),
+            () -> assertThat(cache.getStats().getL2HitRate()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("조회가 없었던 계층의 적중률은 0 이다.")
+    void hitRateWithoutRequests() {
+        // when
+        TwoTierCache.TwoTierCacheStats stats = cache.getStats();
+
+        // then
+        assertAll(
+            () -> assertThat(stats.getL1HitRate()).isZero(),
+            () -> assertThat(stats.getL2HitRate()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("값을 제거하면 두 계층에서 모두 제거하고 다른 서버에 전파한다.")
+    void evict() {
+        // given
+        cache.put(1L, "value");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get(1L)).isNull(),
+            () -> assertThat(l2CacheStore.get(CACHE_NAME, "Long:1")).isNull(),
+            () -> assertThat(publishedKeys).containsExactly("Long:1")
+        );
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 키만 두 계층에서 제거하고 다시 전파하지 않는다.")
+    void evictLocallyIf() {
+        // given
+        cache.put(1L, "value1");
+        cache.put(2L, "value2");
+
+        // when
+        cache.evictLocallyIf("Long:1"::equals);
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get(1L)).isNull(),
+            () -> assertThat(l2CacheStore.get(CACHE_NAME, "Long:1")).isNull(),
+            () -> assertThat(cache.get(2L, String.class)).isEqualTo("value2"),
+            () -> assertThat(publishedKeys).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 전파된 무효화는 L2 키가 같은 값만 제거하고 다시 전파하지 않는다.")
+    void evictLocally() {
+        // given
+        cache.put(1L, "value1");
+        cache.put(2L, "value2");
+
+        // when
+        cache.evictLocally("Long:1");
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get(1L)).isNull(),
+            () -> assertThat(cache.get(2L, String.class)).isEqualTo("value2"),
+            () -> assertThat(publishedKeys).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("캐시를 비우면 전체 무효화를 전파한다.")
+    void clear() {
+        // given
+        cache.put(1L, "value");
+
+        // when
+        cache.clear();
+
+        // then
+        assertAll(
+            () -> assertThat(cache.get(1L)).isNull(),
+            () -> assertThat(publishedKeys).containsExactly((String)null)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 불러오면 한 번만 불러온다.")
+    void getWithValueLoaderConcurrently() throws Exception {
+        // given
+        int threadCount = 10;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                ready.await();
+                return cache.get(1L, () -> {
+                    loadCount.incrementAndGet();
+                    Thread.sleep(100);
+                    return "value";
+                });
+            }));
+        }
+        ready.countDown();
+
+        List<String> values = new ArrayList<>();
+        for (Future<String> result : results) {
+            values.add(result.get(5, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // then
+        assertAll(
+            () -> assertThat(values).hasSize(threadCount).containsOnly("value"),
+            () -> assertThat(loadCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("갱신 시간이 지난 값은 기존 값을 반환하고 백그라운드에서 갱신한다.")
+    void refreshAhead() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        List<Runnable> refreshTasks = new ArrayList<>();
+        TwoTierCache refreshingCache = createRefreshingCache(nanos, refreshTasks);
+
+        refreshingCache.get(1L, () -> "old");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // when
+        String value = refreshingCache.get(1L, () -> "new");
+        refreshingCache.get(1L, () -> "new");
+        refreshTasks.forEach(Runnable::run);
+
+        // then
+        assertAll(
+            () -> assertThat(value).isEqualTo("old"),
+            () -> assertThat(refreshTasks).hasSize(1),
+            () -> assertThat(refreshingCache.get(1L, String.class)).isEqualTo("new"),
+            () -> assertThat(l2CacheStore.get(CACHE_NAME, "Long:1")).isEqualTo("new"),
+            () -> assertThat(refreshingCache.getStats().getRefreshCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("갱신하는 동안 값이 제거되면 갱신한 값을 저장하지 않는다.")
+    void refreshAfterEvict() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        List<Runnable> refreshTasks = new ArrayList<>();
+        TwoTierCache refreshingCache = createRefreshingCache(nanos, refreshTasks);
+
+        refreshingCache.get(1L, () -> "old");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        refreshingCache.get(1L, () -> "new");
+
+        // when
+        refreshingCache.evict(1L);
+        refreshTasks.forEach(Runnable::run);
+
+        // then
+        assertAll(
+            () -> assertThat(refreshingCache.get(1L)).isNull(),
+            () -> assertThat(refreshingCache.getStats().getRefreshCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("갱신하는 동안 값을 직접 저장하면 갱신한 값으로 덮어쓰지 않는다.")
+    void refreshAfterPut() {
+        // given
+        AtomicLong nanos = new AtomicLong();
+        List<Runnable> refreshTasks = new ArrayList<>();
+        TwoTierCache refreshingCache = createRefreshingCache(nanos, refreshTasks);
+
+        refreshingCache.get(1L, () -> "old");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        refreshingCache.get(1L, () -> "stale");
+
+        // when
+        refreshingCache.put(1L, "patched");
+        refreshTasks.forEach(Runnable::run);
+
+        // then
+        assertAll(
+            () -> assertThat(refreshingCache.get(1L, String.class)).isEqualTo("patched"),
+            () -> assertThat(l2CacheStore.get(CACHE_NAME, "Long:1")).isEqualTo("patched"),
+            () -> assertThat(refreshingCache.getStats().getRefreshCount()).isZero()
+        );
+    }
+
+    private TwoTierCache createRefreshingCache(AtomicLong nanos, List<Runnable> refreshTasks) {
+        CaffeineCache local = new CaffeineCache(CACHE_NAME, Caffeine.newBuilder()
+            .ticker(nanos::get)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build());
+        return new TwoTierCache(local, l2CacheStore, (cacheName, key) -> publishedKeys.add(key),
+            Duration.ofMinutes(10), Duration.ofMinutes(1), refreshTasks::add);
+    }
+}
@@ -3,6 +3,17 @@ package com.reviewduck.config.datasource;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +34,30 @@ class DataSourceSelectorTest {
             () -> assertThat(dataSourceSelector.getOne()).isEqualTo(firstValue)
         );
     }
+
+    @Test
+    @DisplayName("동시에 호출해도 범위를 벗어나지 않고 고르게 나온다.")
+    void getOneConcurrently() throws Exception {
+        // given
+        DataSourceSelector dataSourceSelector = new DataSourceSelector("first", "second", "third");
+        Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = IntStream.range(0, 3000)
+            .mapToObj(i -> executorService.submit(() ->
+                counts.computeIfAbsent(dataSourceSelector.getOne(), key -> new AtomicInteger()).incrementAndGet()))
+            .collect(Collectors.toUnmodifiableList());
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+            () -> assertThat(counts).containsOnlyKeys("first", "second", "third"),
+            () -> assertThat(counts.values()).allMatch(count -> count.get() == 1000)
+        );
+    }
 }
@@ -0,0 +1,111 @@
+package com.reviewduck.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 소스 풀과 예비 풀 대신 H2 메모리 DB 커넥션 풀을 사용한다.
+ */
+class NestedConnectionDataSourceTest {
+
+    private HikariDataSource main;
+    private HikariDataSource reserve;
+    private NestedConnectionDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        main = pool("main", 2);
+        reserve = pool("reserve", 1);
+        dataSource = new NestedConnectionDataSource(main, reserve);
+    }
+
+    @AfterEach
+    void tearDown() {
+        main.close();
+        reserve.close();
+    }
+
+    @Test
+    @DisplayName("id 를 할당하는 동안 얻는 커넥션은 예비 풀에서 얻는다.")
+    void allocateIdsFromReserve() throws SQLException {
+        // given
+        try (Connection outer = dataSource.getConnection()) {
+
+            // when
+            try (Connection allocation = NestedConnectionDataSource.allocateIds(this::getConnection)) {
+
+                // then
+                assertAll(
+                    () -> assertThat(allocation.isValid(1)).isTrue(),
+                    () -> assertThat(main.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1),
+                    () -> assertThat(reserve.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1)
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("id 할당이 아니면 커넥션을 쥔 채로 하나 더 얻어도 원래 풀에서 얻는다.")
+    void nestedConnectionFromMain() throws SQLException {
+        // given
+        try (Connection outer = dataSource.getConnection()) {
+
+            // when
+            try (Connection nested = dataSource.getConnection()) {
+
+                // then
+                assertAll(
+                    () -> assertThat(main.getHikariPoolMXBean().getActiveConnections()).isEqualTo(2),
+                    () -> assertThat(reserve.getHikariPoolMXBean().getActiveConnections()).isZero()
+                );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("id 할당에서 얻은 커넥션을 닫지 않아도 다음 커넥션은 원래 풀에서 얻는다.")
+    void backToMainAfterAllocation() throws SQLException {
+        // given
+        Connection leaked = NestedConnectionDataSource.allocateIds(this::getConnection);
+
+        // when
+        try (Connection next = dataSource.getConnection()) {
+
+            // then
+            assertAll(
+                () -> assertThat(main.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1),
+                () -> assertThat(reserve.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1)
+            );
+        } finally {
+            leaked.close();
+        }
+    }
+
+    private Connection getConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HikariDataSource pool(String name, int maximumPoolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setConnectionTimeout(250);
+        return pool;
+    }
+}
@@ -0,0 +1,280 @@
+package com.reviewduck.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 소스와 레플리카 대신 H2 메모리 DB 를 사용한다.
+ */
+class ReplicaLoadBalancerTest {
+
+    private static final long MAX_LAG_SECONDS = 5;
+    private static final Tags ENDPOINT = Tags.of("uri", "/api/reviews/{reviewId}", "method", "GET");
+
+    private final Map<String, Long> lags = new HashMap<>();
+    private final ReplicationLagProbe lagProbe = dataSource -> {
+        Long lag = lags.get(((DriverManagerDataSource)dataSource).getUrl());
+        if (lag == null) {
+            throw new SQLException("replica is down");
+        }
+        return lag;
+    };
+
+    private MeterRegistry meterRegistry;
+    private DataSource source;
+    private DataSource replica1;
+    private DataSource replica2;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        source = h2("source");
+        replica1 = h2("replica1");
+        replica2 = h2("replica2");
+        lags.put(((DriverManagerDataSource)replica1).getUrl(), 0L);
+        lags.put(((DriverManagerDataSource)replica2).getUrl(), 0L);
+    }
+
+    @Test
+    @DisplayName("사용 중인 커넥션이 가장 적은 레플리카로 보낸다.")
+    void leastOutstanding() throws SQLException {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.LEAST_OUTSTANDING);
+        String firstTarget = loadBalancer.select();
+
+        // when
+        try (Connection ignored = loadBalancer.getConnection(firstTarget, DataSource::getConnection)) {
+            String secondTarget = loadBalancer.select();
+
+            // then
+            assertAll(
+                () -> assertThat(firstTarget).startsWith("REPLICA"),
+                () -> assertThat(secondTarget).startsWith("REPLICA").isNotEqualTo(firstTarget)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 사용 중인 커넥션 수가 줄고 사용 시간이 기록된다.")
+    void trackConnection() throws SQLException {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.EWMA_LATENCY);
+
+        // when
+        Connection connection = loadBalancer.getConnection("REPLICA1", DataSource::getConnection);
+        double outstandingWhileOpen = outstanding("REPLICA1");
+        connection.close();
+
+        // then
+        assertAll(
+            () -> assertThat(outstandingWhileOpen).isEqualTo(1),
+            () -> assertThat(outstanding("REPLICA1")).isZero(),
+            () -> assertThat(meterRegistry.get("datasource.routing.latency.ewma").tag("target", "REPLICA1")
+                .gauge().value()).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("커넥션을 얻기까지 기다린 시간, 쥐고 있던 시간과 쿼리 실행 시간을 대상과 엔드포인트별로 기록한다.")
+    void recordConnectionMetrics() throws SQLException {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.LEAST_OUTSTANDING);
+
+        // when
+        try (Connection connection = loadBalancer.getConnection("REPLICA2", DataSource::getConnection);
+             PreparedStatement statement = connection.prepareStatement("SELECT 1");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+        }
+
+        // then
+        assertAll(
+            () -> assertThat(timer("datasource.connection.acquire", "REPLICA2").count()).isEqualTo(1),
+            () -> assertThat(timer("datasource.connection.hold", "REPLICA2").count()).isEqualTo(1),
+            () -> assertThat(timer("datasource.statement", "REPLICA2").count()).isEqualTo(1),
+            () -> assertThat(meterRegistry.find("datasource.statement").tag("target", "REPLICA1").timer()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 소스로 보내고, 읽기와 구분해 보낸 횟수를 기록한다.")
+    void selectForWrite() {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.LEAST_OUTSTANDING);
+
+        // when
+        String target = loadBalancer.selectForWrite();
+
+        // then
+        assertAll(
+            () -> assertThat(target).isEqualTo("SOURCE"),
+            () -> assertThat(meterRegistry.get("datasource.routing.selections")
+                .tags(ENDPOINT)
+                .tag("target", "SOURCE")
+                .tag("transaction", "read-write")
+                .counter().count()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("복제 지연이 기준을 넘은 레플리카로는 보내지 않고, 지연이 줄면 다시 보낸다.")
+    void evictLaggingReplica() {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.LEAST_OUTSTANDING);
+        lags.put(((DriverManagerDataSource)replica1).getUrl(), MAX_LAG_SECONDS + 1);
+
+        // when
+        loadBalancer.probe();
+        List<String> whileLagging = selectMany(loadBalancer);
+        lags.put(((DriverManagerDataSource)replica1).getUrl(), 0L);
+        loadBalancer.probe();
+        List<String> afterRecovery = selectMany(loadBalancer);
+
+        // then
+        assertAll(
+            () -> assertThat(whileLagging).doesNotContain("REPLICA1").contains("REPLICA2"),
+            () -> assertThat(afterRecovery).contains("REPLICA1")
+        );
+    }
+
+    @Test
+    @DisplayName("쓰기 시각까지 따라잡은 레플리카가 없으면 소스로 보낸다.")
+    void pinToSourceUntilCaughtUp() {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.LEAST_OUTSTANDING);
+        lags.put(((DriverManagerDataSource)replica2).getUrl(), 3L);
+        loadBalancer.probe();
+        long now = System.currentTimeMillis();
+
+        // when
+        List<String> afterRecentWrite = selectMany(loadBalancer, now);
+        List<String> afterOldWrite = selectMany(loadBalancer, now - 2_500);
+
+        // then
+        assertAll(
+            () -> assertThat(afterRecentWrite).containsOnly("SOURCE"),
+            () -> assertThat(afterOldWrite).contains("REPLICA1").doesNotContain("REPLICA2")
+        );
+    }
+
+    @Test
+    @DisplayName("복제 지연을 확인하기 전의 레플리카는 쓰기를 따라잡은 것으로 보지 않는다.")
+    void pinToSourceBeforeProbe() {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.ROUND_ROBIN);
+
+        // when
+        List<String> targets = selectMany(loadBalancer, System.currentTimeMillis() - 60_000);
+
+        // then
+        assertThat(targets).containsOnly("SOURCE");
+    }
+
+    @Test
+    @DisplayName("사용할 수 있는 레플리카가 없으면 소스로 보낸다.")
+    void fallbackToSource() {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.EWMA_LATENCY);
+        lags.clear();
+
+        // when
+        loadBalancer.probe();
+
+        // then
+        assertThat(selectMany(loadBalancer)).containsOnly("SOURCE");
+    }
+
+    @Test
+    @DisplayName("레플리카에 연결하지 못하면 그 레플리카를 제외하고 소스의 커넥션을 반환한다.")
+    void fallbackWhenConnectionFails() throws SQLException {
+        // given
+        DataSource brokenReplica = new DriverManagerDataSource("jdbc:unknown:broken");
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(new RoutingTarget("SOURCE", source, 1),
+            List.of(new RoutingTarget("REPLICA1", brokenReplica, 2)), RoutingStrategy.LEAST_OUTSTANDING,
+            lagProbe, MAX_LAG_SECONDS, new DataSourceMetrics(meterRegistry, () -> ENDPOINT));
+
+        // when
+        try (Connection connection = loadBalancer.getConnection("REPLICA1", DataSource::getConnection)) {
+            String url = connection.getMetaData().getURL();
+
+            // then
+            assertAll(
+                () -> assertThat(url).contains("source"),
+                () -> assertThat(selectMany(loadBalancer)).containsOnly("SOURCE"),
+                () -> assertThat(meterRegistry.get("datasource.routing.fallbacks").tag("target", "REPLICA1")
+                    .counter().count()).isEqualTo(1)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("가중치 비율대로 차례로 보내고, 보낸 횟수를 대상별로 기록한다.")
+    void roundRobin() {
+        // given
+        ReplicaLoadBalancer loadBalancer = createLoadBalancer(RoutingStrategy.ROUND_ROBIN);
+
+        // when
+        Map<String, Long> counts = IntStream.range(0, 50)
+            .mapToObj(i -> loadBalancer.select())
+            .collect(Collectors.groupingBy(target -> target, Collectors.counting()));
+
+        // then
+        assertAll(
+            () -> assertThat(counts).containsEntry("REPLICA1", 20L)
+                .containsEntry("REPLICA2", 20L)
+                .containsEntry("SOURCE", 10L),
+            () -> assertThat(meterRegistry.get("datasource.routing.selections").tag("target", "SOURCE")
+                .counter().count()).isEqualTo(10)
+        );
+    }
+
+    private ReplicaLoadBalancer createLoadBalancer(RoutingStrategy strategy) {
+        return new ReplicaLoadBalancer(new RoutingTarget("SOURCE", source, 1),
+            List.of(new RoutingTarget("REPLICA1", replica1, 2), new RoutingTarget("REPLICA2", replica2, 2)),
+            strategy, lagProbe, MAX_LAG_SECONDS, new DataSourceMetrics(meterRegistry, () -> ENDPOINT));
+    }
+
+    private List<String> selectMany(ReplicaLoadBalancer loadBalancer) {
+        return selectMany(loadBalancer, Long.MIN_VALUE);
+    }
+
+    private List<String> selectMany(ReplicaLoadBalancer loadBalancer, long writtenAt) {
+        return IntStream.range(0, 20)
+            .mapToObj(i -> loadBalancer.select(writtenAt))
+            .collect(Collectors.toUnmodifiableList());
+    }
+
+    private Timer timer(String name, String target) {
+        return meterRegistry.get(name).tags(ENDPOINT).tag("target", target).timer();
+    }
+
+    private double outstanding(String target) {
+        return meterRegistry.get("datasource.routing.outstanding").tag("target", target).gauge().value();
+    }
+
+    private DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,134 @@
+package com.reviewduck.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class SessionWriteTrackerTest {
+
+    private static final long WINDOW_MILLIS = 10_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final AtomicReference<Long> currentMemberId = new AtomicReference<>();
+    private final Map<Long, Long> carriedWrites = new HashMap<>();
+
+    private SessionWriteTracker sessionWriteTracker;
+
+    @BeforeEach
+    void setUp() {
+        sessionWriteTracker = createTracker(ReadConsistency.READ_YOUR_WRITES);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 커밋된 뒤에 회원의 마지막 쓰기 시각을 기록한다.")
+    void recordWriteOnCommit() {
+        // given
+        currentMemberId.set(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            sessionWriteTracker.recordWriteOnCommit();
+            Optional<Long> beforeCommit = sessionWriteTracker.findLastWrite();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertAll(
+                () -> assertThat(beforeCommit).isEmpty(),
+                () -> assertThat(sessionWriteTracker.findLastWrite()).contains(now.get())
+            );
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 회원의 쓰기는 현재 회원의 읽기에 영향을 주지 않는다.")
+    void isolateMembers() {
+        // given
+        currentMemberId.set(1L);
+        sessionWriteTracker.recordWriteOnCommit();
+
+        // when
+        currentMemberId.set(2L);
+
+        // then
+        assertThat(sessionWriteTracker.findLastWrite()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("window 가 지난 기록은 반환하지 않는다.")
+    void expire() {
+        // given
+        currentMemberId.set(1L);
+        sessionWriteTracker.recordWriteOnCommit();
+
+        // when
+        now.addAndGet(WINDOW_MILLIS);
+
+        // then
+        assertThat(sessionWriteTracker.findLastWrite()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 기록한 쓰기도 같은 곳에 보관된 기록으로 읽는다.")
+    void readWriteRecordedByOtherServer() {
+        // given
+        currentMemberId.set(1L);
+        SessionWriteTracker otherServer = createTracker(ReadConsistency.READ_YOUR_WRITES);
+        otherServer.recordWriteOnCommit();
+
+        // when
+        Optional<Long> lastWrite = sessionWriteTracker.findLastWrite();
+
+        // then
+        assertThat(lastWrite).contains(now.get());
+    }
+
+    @Test
+    @DisplayName("회원을 알 수 없는 쓰기나 EVENTUAL 모드의 쓰기는 기록하지 않는다.")
+    void skipRecording() {
+        // given
+        SessionWriteTracker eventualTracker = createTracker(ReadConsistency.EVENTUAL);
+
+        // when
+        sessionWriteTracker.recordWriteOnCommit();
+        currentMemberId.set(1L);
+        eventualTracker.recordWriteOnCommit();
+
+        // then
+        assertAll(
+            () -> assertThat(carriedWrites).isEmpty(),
+            () -> assertThat(eventualTracker.findLastWrite()).isEmpty()
+        );
+    }
+
+    private SessionWriteTracker createTracker(ReadConsistency consistency) {
+        return new SessionWriteTracker(consistency, () -> Optional.ofNullable(currentMemberId.get()),
+            new MapCarrier(), WINDOW_MILLIS, now::get);
+    }
+
+    private class MapCarrier implements WritePositionCarrier {
+
+        @Override
+        public void write(long sessionKey, long writtenAt) {
+            carriedWrites.merge(sessionKey, writtenAt, Math::max);
+        }
+
+        @Override
+        public Optional<Long> read(long sessionKey) {
+            return Optional.ofNullable(carriedWrites.get(sessionKey));
+        }
+    }
+}
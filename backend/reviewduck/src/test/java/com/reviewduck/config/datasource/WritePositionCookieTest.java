@@ -0,0 +1,81 @@
+package com.reviewduck.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.servlet.http.Cookie;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class WritePositionCookieTest {
+
+    private static final long WRITTEN_AT = 1_000_000L;
+
+    private final WritePositionCookie writePositionCookie = new WritePositionCookie("secret", 10_000);
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("기록한 쓰기 시각을 같은 요청과 쿠키를 보낸 다음 요청에서 읽는다.")
+    void readAfterWrite() {
+        // given
+        MockHttpServletResponse response = bind(new MockHttpServletRequest());
+        writePositionCookie.write(1L, WRITTEN_AT);
+        Cookie cookie = response.getCookie(WritePositionCookie.COOKIE_NAME);
+        Long inSameRequest = writePositionCookie.read(1L).orElseThrow();
+
+        // when
+        MockHttpServletRequest nextRequest = new MockHttpServletRequest();
+        nextRequest.setCookies(cookie);
+        bind(nextRequest);
+
+        // then
+        assertAll(
+            () -> assertThat(inSameRequest).isEqualTo(WRITTEN_AT),
+            () -> assertThat(cookie.getMaxAge()).isEqualTo(10),
+            () -> assertThat(writePositionCookie.read(1L)).contains(WRITTEN_AT)
+        );
+    }
+
+    @Test
+    @DisplayName("다른 회원의 쿠키나 서명이 맞지 않는 쿠키는 무시한다.")
+    void ignoreInvalidCookie() {
+        // given
+        MockHttpServletResponse response = bind(new MockHttpServletRequest());
+        writePositionCookie.write(1L, WRITTEN_AT);
+        String value = response.getCookie(WritePositionCookie.COOKIE_NAME).getValue();
+        String forged = value.replace(String.valueOf(WRITTEN_AT), String.valueOf(WRITTEN_AT + 60_000));
+
+        // when
+        MockHttpServletRequest otherMemberRequest = new MockHttpServletRequest();
+        otherMemberRequest.setCookies(new Cookie(WritePositionCookie.COOKIE_NAME, value));
+        bind(otherMemberRequest);
+        boolean readByOtherMember = writePositionCookie.read(2L).isPresent();
+
+        MockHttpServletRequest forgedRequest = new MockHttpServletRequest();
+        forgedRequest.setCookies(new Cookie(WritePositionCookie.COOKIE_NAME, forged));
+        bind(forgedRequest);
+        boolean readForged = writePositionCookie.read(1L).isPresent();
+
+        // then
+        assertAll(
+            () -> assertThat(readByOtherMember).isFalse(),
+            () -> assertThat(readForged).isFalse()
+        );
+    }
+
+    private MockHttpServletResponse bind(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
@@ -0,0 +1,78 @@
+package com.reviewduck.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 소스 커넥션 대신 H2 메모리 DB 커넥션을 사용한다.
+ */
+class WriteRecordingConnectionTest {
+
+    private final AtomicInteger writes = new AtomicInteger();
+
+    private HikariDataSource pool;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:write-recording;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(1);
+        try (Connection raw = pool.getConnection(); Statement statement = raw.createStatement()) {
+            statement.execute("create table if not exists item (id bigint primary key)");
+            statement.execute("delete from item");
+        }
+        connection = WriteRecordingConnection.wrap(pool.getConnection(), writes::incrementAndGet);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("조회만 실행한 커넥션은 쓰기로 기록하지 않는다.")
+    void readOnly() throws SQLException {
+        // when
+        try (PreparedStatement statement = connection.prepareStatement("select id from item")) {
+            statement.executeQuery().close();
+            statement.execute();
+        }
+
+        // then
+        assertThat(writes.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기 쿼리를 여러 번 실행해도 한 번만 기록한다.")
+    void recordOnce() throws SQLException {
+        // when
+        try (PreparedStatement statement = connection.prepareStatement("insert into item (id) values (?)")) {
+            statement.setLong(1, 1L);
+            statement.executeUpdate();
+            statement.setLong(1, 2L);
+            statement.addBatch();
+            statement.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("delete from item");
+        }
+
+        // then
+        assertThat(writes.get()).isEqualTo(1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.reviewduck.member.service;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +9,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.reviewduck.admin.service.AdminMemberService;
 import com.reviewduck.common.service.ServiceTest;
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.dto.MemberDto;
+import com.reviewduck.member.dto.response.MemberResponse;
 import com.reviewduck.member.exception.MemberException;
 
 public class MemberServiceTest extends ServiceTest {
@@ -17,6 +21,9 @@ public class MemberServiceTest extends ServiceTest {
     @Autowired
     private MemberService memberService;
 
+    @Autowired
+    private AdminMemberService adminMemberService;
+
     @Test
     @DisplayName("아이디로 멤버를 조회한다.")
     void findMemberById() {
@@ -29,6 +36,38 @@ public class MemberServiceTest extends ServiceTest {
             .isEqualTo(member1);
     }
 
+    @Test
+    @DisplayName("캐싱된 사용자 정보를 조회해도 본인 여부는 조회하는 사용자에 따라 판단한다.")
+    void findCachedMemberInfoByOtherMember() {
+        // when
+        MemberResponse myResponse = memberService.findMemberInfo(member1.getSocialId(), memberId1);
+        MemberResponse otherResponse = memberService.findMemberInfo(member1.getSocialId(), memberId2);
+
+        // then
+        assertAll(
+            () -> assertThat(myResponse.getIsMine()).isTrue(),
+            () -> assertThat(otherResponse.getIsMine()).isFalse(),
+            () -> assertThat(otherResponse.getNickname()).isEqualTo(member1.getNickname())
+        );
+    }
+
+    @Test
+    @DisplayName("사용자 정보가 삭제되면 캐싱된 인증 사용자 정보도 제거된다.")
+    void findPrincipalAfterDelete() {
+        // given
+        MemberDto cached = memberService.findPrincipal(memberId1);
+
+        // when
+        adminMemberService.deleteMember(memberId1);
+        MemberDto principal = memberService.findPrincipal(memberId1);
+
+        // then
+        assertAll(
+            () -> assertThat(cached.getSocialId()).isEqualTo(member1.getSocialId()),
+            () -> assertThat(principal.getSocialId()).isNotEqualTo(member1.getSocialId())
+        );
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     @DisplayName("올바르지 않은 닉네임으로 변경할 수 없다.")
@@ -44,26 +44,28 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
                 new ReviewFormQuestionCreateRequest("question2", "description2"),
                 new ReviewFormQuestionCreateRequest("question3", "description3"));
             String code = createReviewFormAndGetCode(accessToken1, reviewTitle, questions);
+            List<Long> questionIds = findQuestionIds(code, accessToken1);
 
             // save review
             ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-                new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-                new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2")),
-                new ReviewContentCreateRequest(3L, new AnswerCreateRequest("answer3"))
+                new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+                new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2")),
+                new ReviewContentCreateRequest(questionIds.get(2), new AnswerCreateRequest("answer3"))
             ));
 
             post("/api/review-forms/" + code, createRequest, accessToken2);
+            long reviewId = findReviewId(code, accessToken2);
 
             // delete question2 and add question4 of reviewForm
             List<ReviewFormQuestionUpdateRequest> updateQuestions = List.of(
-                new ReviewFormQuestionUpdateRequest(1L, "new question1", "new description1"),
-                new ReviewFormQuestionUpdateRequest(3L, "new question3", "new description3"),
+                new ReviewFormQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"),
+                new ReviewFormQuestionUpdateRequest(questionIds.get(2), "new question3", "new description3"),
                 new ReviewFormQuestionUpdateRequest(null, "new question4", "new description4"));
             ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(reviewTitle, updateQuestions);
             put("/api/review-forms/" + code, updateRequest, accessToken1);
 
             //when
-            List<ReviewContentResponse> actual = get("/api/reviews/1", accessToken1)
+            List<ReviewContentResponse> actual = get("/api/reviews/" + reviewId, accessToken1)
                 .statusCode(HttpStatus.OK.value())
                 .extract()
                 .as(ReviewSynchronizedResponse.class)
@@ -73,9 +75,9 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
             assertAll(
                 () -> assertThat(actual.size()).isEqualTo(3),
                 () -> assertThat(actual.get(0).getQuestion().getValue()).isEqualTo("new question1"),
-                () -> assertThat(actual.get(0).getAnswer().getId()).isEqualTo(1L),
+                () -> assertThat(actual.get(0).getAnswer().getValue()).isEqualTo("answer1"),
                 () -> assertThat(actual.get(1).getQuestion().getValue()).isEqualTo("new question3"),
-                () -> assertThat(actual.get(1).getAnswer().getId()).isEqualTo(3L),
+                () -> assertThat(actual.get(1).getAnswer().getValue()).isEqualTo("answer3"),
                 () -> assertThat(actual.get(2).getQuestion().getValue()).isEqualTo("new question4"),
                 () -> assertThat(actual.get(2).getAnswer()).isEqualTo(null)
             );
@@ -95,7 +97,7 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
         @DisplayName("존재하지 않는 회고를 조회할 수 없다.")
         void invalidReview() {
             // when, then
-            get("/api/reviews/999999", accessToken1)
+            get("/api/reviews/" + INVALID_REVIEW_ID, accessToken1)
                 .statusCode(HttpStatus.NOT_FOUND.value());
         }
 
@@ -109,23 +111,24 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
         @DisplayName("파라미터가 없는 경우 페이지 기본값으로 조회한다.")
         void findPage() {
             // given
-            // id 1~15 저장되고 6~15 최신 순으로 6~15 불러온다.
+            // 15개 저장되고 최신 순으로 마지막에 저장한 회고부터 불러온다.
+            long lastReviewId = 0;
             for (int i = 0; i < DEFAULT_SIZE + 5; i++) {
-                saveReviewAndGetId(accessToken1, false);
+                lastReviewId = saveReviewAndGetId(accessToken1, false);
             }
             saveReviewAndGetId(accessToken2, false);
 
             // when, then
             get("/api/reviews?member=1", accessToken1).statusCode(HttpStatus.OK.value())
                 .assertThat().body("reviews", hasSize(DEFAULT_SIZE))
-                .assertThat().body("reviews[0].id", equalTo(15));
+                .assertThat().body("reviews[0].id", equalTo((int)lastReviewId));
         }
 
         @Test
         @DisplayName("자신이 작성한 회고중 최신순으로 특정 페이지를 조회한다.")
         void findPageOfMyReviews() {
             // given
-            saveReviewAndGetId(accessToken1, false);
+            long firstReviewId = saveReviewAndGetId(accessToken1, false);
             saveReviewAndGetId(accessToken1, false);
 
             get("/api/reviews?member=1&page=2&size=1", accessToken1)
@@ -134,7 +137,7 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
                 .body("isMine", equalTo(true))
                 .body("reviews", hasSize(1))
                 .body("numberOfReviews", equalTo(2))
-                .body("reviews[0].id", equalTo(1))
+                .body("reviews[0].id", equalTo((int)firstReviewId))
                 .body("isLastPage", equalTo(true));
 
         }
@@ -143,10 +146,10 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
         @DisplayName("타인이 작성한 회고중 비공개 회고가 아닌 것만 최신순으로 특정 페이지를 조회한다.")
         void findPageOfOtherReviews() {
             // given
-            // id 1~3 저장. 2~3을 불러온다.
+            // 3개 저장. 공개한 2개를 불러온다.
             saveReviewAndGetId(accessToken1, true);
             saveReviewAndGetId(accessToken1, false);
-            saveReviewAndGetId(accessToken1, false);
+            long lastReviewId = saveReviewAndGetId(accessToken1, false);
 
             get("/api/reviews?member=1&page=1&size=3", accessToken2)
                 .statusCode(HttpStatus.OK.value())
@@ -154,7 +157,7 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
                 .body("isMine", equalTo(false))
                 .body("reviews", hasSize(2))
                 .body("numberOfReviews", equalTo(2))
-                .body("reviews[0].id", equalTo(3))
+                .body("reviews[0].id", equalTo((int)lastReviewId))
                 .body("isLastPage", equalTo(true));
         }
 
@@ -167,11 +170,12 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
                 new ReviewFormQuestionCreateRequest("question1", "description1"),
                 new ReviewFormQuestionCreateRequest("question2", "description2"));
             String reviewFormCode = createReviewFormAndGetCode(accessToken1, "title", questions);
+            List<Long> questionIds = findQuestionIds(reviewFormCode, accessToken1);
 
             // 회고 등록
             ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-                new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-                new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+                new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+                new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2"))
             ));
             post("/api/review-forms/" + reviewFormCode, createRequest, accessToken1);
 
@@ -262,6 +266,31 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
             get("/api/reviews/public").statusCode(HttpStatus.OK.value());
         }
 
+        @Test
+        @DisplayName("커서 기반으로 이어서 조회한다.")
+        void findByCursor() {
+            long firstReviewId = saveReviewAndGetId(accessToken1, false);
+            long secondReviewId = saveReviewAndGetId(accessToken2, false);
+            saveReviewAndGetId(accessToken2, true);
+
+            String nextCursor = get("/api/reviews/public/timeline?size=1&sort=latest")
+                .statusCode(HttpStatus.OK.value())
+                .assertThat()
+                .body("reviews", hasSize(1))
+                .body("reviews[0].id", equalTo((int)secondReviewId))
+                .extract()
+                .body()
+                .jsonPath()
+                .getString("nextCursor");
+
+            get("/api/reviews/public/timeline?size=1&sort=latest&cursor=" + nextCursor)
+                .statusCode(HttpStatus.OK.value())
+                .assertThat()
+                .body("reviews", hasSize(1))
+                .body("reviews[0].id", equalTo((int)firstReviewId))
+                .body("nextCursor", nullValue());
+        }
+
     }
 
     @Nested
@@ -272,11 +301,12 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
         @DisplayName("회고를 수정한다.")
         void updateReview() {
             long reviewId = saveReviewAndGetId(accessToken1, false);
+            List<Long> questionIds = findAnsweredQuestionIds(reviewId, accessToken1);
 
             //when, then
             ReviewUpdateRequest updateRequest = new ReviewUpdateRequest(false, "title", List.of(
-                new ReviewContentUpdateRequest(1L, new AnswerUpdateRequest("editedAnswer1")),
-                new ReviewContentUpdateRequest(2L, new AnswerUpdateRequest("editedAnswer2"))
+                new ReviewContentUpdateRequest(questionIds.get(0), new AnswerUpdateRequest("editedAnswer1")),
+                new ReviewContentUpdateRequest(questionIds.get(1), new AnswerUpdateRequest("editedAnswer2"))
             ));
 
             put("/api/reviews/" + reviewId, updateRequest, accessToken1)
@@ -287,11 +317,12 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
         @DisplayName("로그인하지 않은 상태로 회고를 수정할 수 없다")
         void withoutLogin() {
             long reviewId = saveReviewAndGetId(accessToken1, false);
+            List<Long> questionIds = findAnsweredQuestionIds(reviewId, accessToken1);
 
             //when, then
             ReviewUpdateRequest updateRequest = new ReviewUpdateRequest(false, "title", List.of(
-                new ReviewContentUpdateRequest(1L, new AnswerUpdateRequest("editedAnswer1")),
-                new ReviewContentUpdateRequest(2L, new AnswerUpdateRequest("editedAnswer2"))
+                new ReviewContentUpdateRequest(questionIds.get(0), new AnswerUpdateRequest("editedAnswer1")),
+                new ReviewContentUpdateRequest(questionIds.get(1), new AnswerUpdateRequest("editedAnswer2"))
             ));
 
             put("/api/reviews/" + reviewId, updateRequest)
@@ -315,11 +346,12 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
         @DisplayName("본인이 생성한 회고가 아니면 수정할 수 없다.")
         void notMine() {
             long reviewId = saveReviewAndGetId(accessToken1, false);
+            List<Long> questionIds = findAnsweredQuestionIds(reviewId, accessToken1);
 
             //when, then
             ReviewUpdateRequest updateRequest = new ReviewUpdateRequest(false, "title", List.of(
-                new ReviewContentUpdateRequest(1L, new AnswerUpdateRequest("editedAnswer1")),
-                new ReviewContentUpdateRequest(2L, new AnswerUpdateRequest("editedAnswer2"))
+                new ReviewContentUpdateRequest(questionIds.get(0), new AnswerUpdateRequest("editedAnswer1")),
+                new ReviewContentUpdateRequest(questionIds.get(1), new AnswerUpdateRequest("editedAnswer2"))
             ));
 
             put("/api/reviews/" + reviewId, updateRequest, accessToken2)
@@ -420,13 +452,34 @@ public class ReviewAcceptanceTest extends AcceptanceTest {
         String code = createReviewFormAndGetCode(accessToken, reviewTitle, questions);
 
         // save Review
+        List<Long> questionIds = findQuestionIds(code, accessToken);
         ReviewCreateRequest createRequest = new ReviewCreateRequest(isPrivate, "title", List.of(
-            new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-            new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+            new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+            new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2"))
         ));
 
         post("/api/review-forms/" + code, createRequest, accessToken);
 
+        return findReviewId(code, accessToken);
+    }
+
+    private List<Long> findQuestionIds(String code, String accessToken) {
+        return get("/api/review-forms/" + code, accessToken)
+            .extract()
+            .body()
+            .jsonPath()
+            .getList("questions.id", Long.class);
+    }
+
+    private List<Long> findAnsweredQuestionIds(long reviewId, String accessToken) {
+        return get("/api/reviews/" + reviewId, accessToken)
+            .extract()
+            .body()
+            .jsonPath()
+            .getList("contents.question.id", Long.class);
+    }
+
+    private long findReviewId(String code, String accessToken) {
         return get("/api/review-forms/" + code + "/reviews?displayType=list",
             accessToken)
             .extract()
@@ -115,6 +115,7 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
             // given
             String reviewTitle = "title";
             String code = createReviewFormAndGetCode(reviewTitle, accessToken1);
+            List<Long> questionIds = findQuestionIds(code, accessToken1);
 
             // when, then
             // 질문조회
@@ -122,8 +123,8 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
 
             // 리뷰생성
             ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-                new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-                new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+                new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+                new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2"))
             ));
 
             post("/api/review-forms/" + code, createRequest, accessToken1)
@@ -135,11 +136,12 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         void withoutLogin() {
             // given
             String code = createReviewFormAndGetCode(accessToken1);
+            List<Long> questionIds = findQuestionIds(code, accessToken1);
 
             // 리뷰생성
             ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-                new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-                new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+                new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+                new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2"))
             ));
 
             post("/api/review-forms/" + code, createRequest)
@@ -159,8 +161,8 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
 
             // 리뷰생성
             ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-                new ReviewContentCreateRequest(888L, new AnswerCreateRequest("answer1")),
-                new ReviewContentCreateRequest(999L, new AnswerCreateRequest("answer2"))
+                new ReviewContentCreateRequest(Long.MAX_VALUE - 1, new AnswerCreateRequest("answer1")),
+                new ReviewContentCreateRequest(Long.MAX_VALUE, new AnswerCreateRequest("answer2"))
             ));
 
             post("/api/review-forms/" + code, createRequest, accessToken1)
@@ -295,17 +297,18 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         void withNoParam() {
             // given
             String code = createReviewFormAndGetCode(accessToken1);
+            List<Long> questionIds = findQuestionIds(code, accessToken1);
 
             ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-                new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-                new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+                new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+                new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2"))
             ));
 
             post("/api/review-forms/" + code, createRequest, accessToken1);
 
             String newReviewTitle = "new title";
             List<ReviewFormQuestionUpdateRequest> updateQuestions = List.of(
-                new ReviewFormQuestionUpdateRequest(1L, "new question1", "new description1"));
+                new ReviewFormQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"));
             ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(newReviewTitle, updateQuestions);
 
             put("/api/review-forms/" + code, updateRequest, accessToken1);
@@ -322,17 +325,18 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         void withInvalidParam() {
             // given
             String code = createReviewFormAndGetCode(accessToken1);
+            List<Long> questionIds = findQuestionIds(code, accessToken1);
 
             ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-                new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-                new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+                new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+                new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2"))
             ));
 
             post("/api/review-forms/" + code, createRequest, accessToken1);
 
             String newReviewTitle = "new title";
             List<ReviewFormQuestionUpdateRequest> updateQuestions = List.of(
-                new ReviewFormQuestionUpdateRequest(1L, "new question1", "new description1"));
+                new ReviewFormQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"));
             ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(newReviewTitle, updateQuestions);
 
             put("/api/review-forms/" + code, updateRequest, accessToken1);
@@ -448,13 +452,14 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         void findReviewsByCode() {
             // given
             String code = createReviewFormAndGetCode(accessToken1);
+            List<Long> questionIds = findQuestionIds(code, accessToken1);
 
             createReview(code);
             createReview(code);
 
             String newReviewTitle = "new title";
             List<ReviewFormQuestionUpdateRequest> updateQuestions = List.of(
-                new ReviewFormQuestionUpdateRequest(1L, "new question1", "new description1"));
+                new ReviewFormQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"));
             ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(newReviewTitle, updateQuestions);
 
             put("/api/review-forms/" + code, updateRequest, accessToken1);
@@ -511,11 +516,12 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         void updateReviewForm() {
             // given
             String reviewFormCode = createReviewFormAndGetCode(accessToken1);
+            List<Long> questionIds = findQuestionIds(reviewFormCode, accessToken1);
 
             // when, then
             String newReviewTitle = "new title";
             List<ReviewFormQuestionUpdateRequest> updateQuestions = List.of(
-                new ReviewFormQuestionUpdateRequest(1L, "new question1", "new description1"));
+                new ReviewFormQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"));
             ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(newReviewTitle, updateQuestions);
 
             put("/api/review-forms/" + reviewFormCode, updateRequest, accessToken1)
@@ -529,7 +535,7 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
             assertAll(
                 () -> assertThat(getResponse.getReviewFormTitle()).isEqualTo(newReviewTitle),
                 () -> assertThat(getResponse.getQuestions()).hasSize(1),
-                () -> assertThat(getResponse.getQuestions().get(0).getId()).isEqualTo(1L),
+                () -> assertThat(getResponse.getQuestions().get(0).getId()).isEqualTo(questionIds.get(0)),
                 () -> assertThat(getResponse.getQuestions().get(0).getValue()).isEqualTo("new question1"),
                 () -> assertThat(getResponse.getQuestions().get(0).getDescription()).isEqualTo("new description1")
             );
@@ -540,11 +546,12 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         void withoutLogin() {
             // given
             String createReviewFormCode = createReviewFormAndGetCode(accessToken1);
+            List<Long> questionIds = findQuestionIds(createReviewFormCode, accessToken1);
 
             // when, then
             String newReviewTitle = "new title";
             List<ReviewFormQuestionUpdateRequest> updateQuestions = List.of(
-                new ReviewFormQuestionUpdateRequest(1L, "new question1", "new description1"));
+                new ReviewFormQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"));
             ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(newReviewTitle, updateQuestions);
 
             put("/api/review-forms/" + createReviewFormCode, updateRequest)
@@ -569,11 +576,12 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
         void notMine() {
             // given
             String createReviewFormCode = createReviewFormAndGetCode(accessToken1);
+            List<Long> questionIds = findQuestionIds(createReviewFormCode, accessToken1);
 
             // when, then
             String newReviewTitle = "new title";
             List<ReviewFormQuestionUpdateRequest> updateQuestions = List.of(
-                new ReviewFormQuestionUpdateRequest(1L, "new question1", "new description1"));
+                new ReviewFormQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"));
             ReviewFormUpdateRequest updateRequest = new ReviewFormUpdateRequest(newReviewTitle, updateQuestions);
 
             // then
@@ -666,13 +674,22 @@ public class ReviewFormAcceptanceTest extends AcceptanceTest {
     }
 
     private void createReview(String reviewFormCode) {
+        List<Long> questionIds = findQuestionIds(reviewFormCode, accessToken1);
         ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title", List.of(
-            new ReviewContentCreateRequest(1L, new AnswerCreateRequest("answer1")),
-            new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+            new ReviewContentCreateRequest(questionIds.get(0), new AnswerCreateRequest("answer1")),
+            new ReviewContentCreateRequest(questionIds.get(1), new AnswerCreateRequest("answer2"))
         ));
         post("/api/review-forms/" + reviewFormCode, createRequest, accessToken1);
     }
 
+    private List<Long> findQuestionIds(String reviewFormCode, String accessToken) {
+        return get("/api/review-forms/" + reviewFormCode, accessToken)
+            .extract()
+            .body()
+            .jsonPath()
+            .getList("questions.id", Long.class);
+    }
+
     private void assertReviewTitleFromFoundReviewForm(String code, String reviewTitle, String accessToken) {
         ReviewFormResponse reviewFormResponse = get("/api/review-forms/" + code, accessToken)
             .statusCode(HttpStatus.OK.value())
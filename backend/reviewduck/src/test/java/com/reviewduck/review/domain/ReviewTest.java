@@ -16,6 +16,7 @@ import org.junit.jupiter.params.provider.NullSource;
 
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
+import com.reviewduck.review.dto.service.QuestionAnswerUpdateDto;
 import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
 import com.reviewduck.review.exception.ReviewException;
 
@@ -37,9 +38,9 @@ public class ReviewTest {
             member,
             reviewForm,
             List.of(
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer1")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer2")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer3"))
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer1"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer2"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer3")
             ),
             false));
     }
@@ -55,9 +56,9 @@ public class ReviewTest {
             member,
             reviewForm,
             List.of(
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer1")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer2")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer3"))
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer1"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer2"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer3")
             ),
             false))
             .isInstanceOf(ReviewException.class)
@@ -75,9 +76,9 @@ public class ReviewTest {
             member,
             reviewForm,
             List.of(
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer1")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer2")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer3"))
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer1"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer2"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer3")
             ),
             false))
             .isInstanceOf(ReviewException.class)
@@ -94,9 +95,9 @@ public class ReviewTest {
             member,
             reviewForm,
             List.of(
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer1")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer2")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer3"))
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer1"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer2"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer3")
             ),
             false);
 
@@ -120,9 +121,9 @@ public class ReviewTest {
             member,
             reviewForm,
             List.of(
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer1")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer2")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer3"))
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer1"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer2"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer3")
             ), false);
 
         // when
@@ -135,6 +136,27 @@ public class ReviewTest {
         assertThat(actual).isEqualTo(100);
     }
 
+    @Test
+    @DisplayName("제목과 공개 여부가 같아도 답변이 바뀌면 수정 시각을 갱신한다.")
+    void touchWhenOnlyAnswersChange() {
+        // given
+        List<ReviewFormQuestion> questions = reviewForm.getQuestions();
+        Review unchanged = new Review("title", member, reviewForm,
+            List.of(new QuestionAnswerCreateDto(questions.get(0), "answer1")), false);
+        Review edited = new Review("title", member, reviewForm,
+            List.of(new QuestionAnswerCreateDto(questions.get(0), "answer1")), false);
+
+        // when
+        unchanged.update(false, "title", List.of(new QuestionAnswerUpdateDto(questions.get(0), "answer1")));
+        edited.update(false, "title", List.of(new QuestionAnswerUpdateDto(questions.get(0), "edited")));
+
+        // then
+        assertAll(
+            () -> assertThat(unchanged.getUpdatedAt()).isNull(),
+            () -> assertThat(edited.getUpdatedAt()).isNotNull()
+        );
+    }
+
     @ParameterizedTest
     @DisplayName("회고를 생성한 회원인지 검증한다.")
     @CsvSource(value = {"1:true", "2:false"}, delimiter = ':')
@@ -146,9 +168,9 @@ public class ReviewTest {
             member,
             reviewForm,
             List.of(
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer1")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer2")),
-                new QuestionAnswerCreateDto(questionIterator.next(), new Answer("answer3"))
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer1"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer2"),
+                new QuestionAnswerCreateDto(questionIterator.next(), "answer3")
             ), false);
 
         // when, then
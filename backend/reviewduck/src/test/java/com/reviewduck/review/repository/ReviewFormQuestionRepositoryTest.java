@@ -31,7 +31,7 @@ public class ReviewFormQuestionRepositoryTest {
     @DisplayName("존재하지 않는 질문을 조회하면 빈 Optional을 반환한다.")
     void findById() {
         // when
-        Optional<ReviewFormQuestion> foundQuestion = reviewFormQuestionRepository.findById(9999L);
+        Optional<ReviewFormQuestion> foundQuestion = reviewFormQuestionRepository.findById(Long.MAX_VALUE);
 
         // then
         assertThat(foundQuestion).isEmpty();
@@ -0,0 +1,104 @@
+package com.reviewduck.review.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 회고 테이블 대신 H2 메모리 DB 에 좋아요 컬럼만 가진 테이블을 만들어 사용한다.
+ */
+class ReviewLikeBatchRepositoryTest {
+
+    private static final int REVIEW_COUNT = 501;
+
+    private HikariDataSource pool;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:review-like-batch;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        jdbcTemplate = new JdbcTemplate(pool);
+        jdbcTemplate.execute("create table if not exists review (id bigint primary key, likes bigint not null)");
+        jdbcTemplate.execute("delete from review");
+        for (long id = 1; id <= REVIEW_COUNT; id++) {
+            jdbcTemplate.update("insert into review (id, likes) values (?, 0)", id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("회고가 많으면 나누어 반영한다.")
+    void increaseLikes() {
+        // given
+        ReviewLikeBatchRepository repository = new ReviewLikeBatchRepository(jdbcTemplate,
+            new DataSourceTransactionManager(pool));
+
+        // when
+        repository.increaseLikes(likesOfAllReviews(3L));
+
+        // then
+        assertAll(
+            () -> assertThat(sumOfLikes()).isEqualTo(3L * REVIEW_COUNT),
+            () -> assertThat(likesOf(REVIEW_COUNT)).isEqualTo(3L)
+        );
+    }
+
+    @Test
+    @DisplayName("나누어 반영하다가 실패하면 앞서 실행한 쿼리도 반영하지 않는다.")
+    void rollbackWhenLaterChunkFails() {
+        // given
+        JdbcTemplate failingOnSecondUpdate = new JdbcTemplate(pool) {
+            private int updateCount;
+
+            @Override
+            public int update(String sql, Object... args) {
+                if (++updateCount == 2) {
+                    throw new IllegalStateException("second chunk failed");
+                }
+                return super.update(sql, args);
+            }
+        };
+        ReviewLikeBatchRepository repository = new ReviewLikeBatchRepository(failingOnSecondUpdate,
+            new DataSourceTransactionManager(pool));
+
+        // when
+        assertThatThrownBy(() -> repository.increaseLikes(likesOfAllReviews(3L)))
+            .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(sumOfLikes()).isZero();
+    }
+
+    private Map<Long, Long> likesOfAllReviews(long likes) {
+        Map<Long, Long> likesByReviewId = new HashMap<>();
+        for (long id = 1; id <= REVIEW_COUNT; id++) {
+            likesByReviewId.put(id, likes);
+        }
+        return likesByReviewId;
+    }
+
+    private long sumOfLikes() {
+        return jdbcTemplate.queryForObject("select sum(likes) from review", Long.class);
+    }
+
+    private long likesOf(long reviewId) {
+        return jdbcTemplate.queryForObject("select likes from review where id = ?", Long.class, reviewId);
+    }
+}
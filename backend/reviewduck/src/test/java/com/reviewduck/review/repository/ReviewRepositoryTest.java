@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.*;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import javax.persistence.EntityManager;
@@ -27,7 +26,7 @@ import com.reviewduck.config.datasource.CustomDatasourceConfig;
 import com.reviewduck.config.datasource.DataSourceConfiguration;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.repository.MemberRepository;
-import com.reviewduck.review.domain.Answer;
+import com.reviewduck.review.domain.QuestionAnswer;
 import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
@@ -76,11 +75,107 @@ public class ReviewRepositoryTest {
         assertAll(
             () -> assertThat(savedReview.getId()).isNotNull(),
             () -> assertThat(savedReview.getMember().getNickname()).isEqualTo("제이슨"),
-            () -> assertThat(savedReview.getQuestionAnswers().get(0).getAnswer().getValue())
+            () -> assertThat(savedReview.getQuestionAnswers().get(0).getAnswerValue())
                 .isEqualTo("answer1")
         );
     }
 
+    @Test
+    @DisplayName("답변은 answer 테이블에 행을 만들지 않고 question_answer 에 함께 저장한다.")
+    void saveAnswerIntoQuestionAnswer() throws InterruptedException {
+        // given
+        saveReview(savedMember, savedReviewForm, false);
+
+        // when
+        em.flush();
+        Number answerRows = (Number)em.createNativeQuery("select count(*) from answer").getSingleResult();
+        List<?> answerValues = em.createNativeQuery("select answer_value from question_answer order by position")
+            .getResultList();
+
+        // then
+        assertAll(
+            () -> assertThat(answerRows.longValue()).isZero(),
+            () -> assertThat(answerValues).containsExactly("answer1", "answer2")
+        );
+    }
+
+    @Test
+    @DisplayName("answer_value 가 비어 있는 이전 버전의 답변은 answer 테이블에서 읽는다.")
+    void readLegacyAnswer() throws InterruptedException {
+        // given
+        Review savedReview = saveReview(savedMember, savedReviewForm, false);
+        long questionAnswerId = savedReview.getQuestionAnswers().get(0).getId();
+        em.flush();
+
+        em.createNativeQuery("insert into answer (id, answer_value) values (9999, 'legacy answer')")
+            .executeUpdate();
+        em.createNativeQuery("update question_answer set answer_id = 9999, answer_value = null where id = :id")
+            .setParameter("id", questionAnswerId)
+            .executeUpdate();
+        em.clear();
+
+        // when
+        QuestionAnswer legacyAnswer = reviewRepository.findById(savedReview.getId()).orElseThrow()
+            .getQuestionAnswers().get(0);
+
+        // then
+        assertAll(
+            () -> assertThat(legacyAnswer.getAnswerId()).isEqualTo(questionAnswerId),
+            () -> assertThat(legacyAnswer.getAnswerValue()).isEqualTo("legacy answer")
+        );
+    }
+
+    @Test
+    @DisplayName("이전 버전이 answer 행만 수정한 답변은 backfill 된 answer_value 보다 answer 행의 내용을 우선해 읽는다.")
+    void readAnswerEditedByLegacyVersion() throws InterruptedException {
+        // given
+        Review savedReview = saveReview(savedMember, savedReviewForm, false);
+        long questionAnswerId = savedReview.getQuestionAnswers().get(0).getId();
+        em.flush();
+
+        em.createNativeQuery("insert into answer (id, answer_value) values (9999, 'edited by legacy')")
+            .executeUpdate();
+        em.createNativeQuery("update question_answer set answer_id = 9999, answer_value = 'backfilled' where id = :id")
+            .setParameter("id", questionAnswerId)
+            .executeUpdate();
+        em.clear();
+
+        // when
+        QuestionAnswer questionAnswer = reviewRepository.findAllWithLegacyAnswersByIdIn(List.of(savedReview.getId()))
+            .get(0).getQuestionAnswers().get(0);
+        questionAnswer.preferLegacyAnswer();
+
+        // then
+        assertThat(questionAnswer.getAnswerValue()).isEqualTo("edited by legacy");
+    }
+
+    @Test
+    @DisplayName("호환 기간이 끝나면 answer 행을 조회하지 않고 answer_value 만 읽는다.")
+    void readAnswerValueOnly() throws InterruptedException {
+        // given
+        Review savedReview = saveReview(savedMember, savedReviewForm, false);
+        long questionAnswerId = savedReview.getQuestionAnswers().get(0).getId();
+        em.flush();
+
+        em.createNativeQuery("insert into answer (id, answer_value) values (9999, 'edited by legacy')")
+            .executeUpdate();
+        em.createNativeQuery("update question_answer set answer_id = 9999, answer_value = 'backfilled' where id = :id")
+            .setParameter("id", questionAnswerId)
+            .executeUpdate();
+        em.clear();
+
+        // when
+        QuestionAnswer questionAnswer = reviewRepository.findAllWithAnswerValuesByIdIn(List.of(savedReview.getId()))
+            .get(0).getQuestionAnswers().get(0);
+
+        // then
+        assertAll(
+            () -> assertThat(questionAnswer.getAnswerValue()).isEqualTo("backfilled"),
+            () -> assertThat(em.getEntityManagerFactory().getPersistenceUnitUtil()
+                .isLoaded(questionAnswer, "answer")).isFalse()
+        );
+    }
+
     @Test
     @DisplayName("특정 회고 폼을 기반으로 작성된 회고 중 특정 페이지를 조회한다.")
     void findReviewsBySpecificReviewForm() throws InterruptedException {
@@ -177,9 +272,9 @@ public class ReviewRepositoryTest {
         Review savedReview3 = saveReview(savedMember, savedReviewForm, false);
         Review savedReview4 = saveReview(savedMember, savedReviewForm, false);
 
-        reviewRepository.increaseLikes(savedReview1, 25);
-        reviewRepository.increaseLikes(savedReview3, 20);
-        reviewRepository.increaseLikes(savedReview4, 5); // 10 이하이니 제외
+        updateLikes(savedReview1, 25);
+        updateLikes(savedReview3, 20);
+        updateLikes(savedReview4, 5); // 10 이하이니 제외
 
         //when
         Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
@@ -205,49 +300,6 @@ public class ReviewRepositoryTest {
         assertThat(reviewRepository.findById(savedReview.getId()).isEmpty()).isTrue();
     }
 
-    @Test
-    @DisplayName("좋아요 수를 입력받아 더한다.")
-    void increaseLikes() throws InterruptedException {
-        // given
-        Review savedReview = saveReview(savedMember, savedReviewForm, false);
-        long id = savedReview.getId();
-
-        // when
-        int likeCount = 50;
-        // 두 번 증가시킨다
-        reviewRepository.increaseLikes(savedReview, likeCount);
-        reviewRepository.increaseLikes(savedReview, likeCount);
-
-        Review review = reviewRepository.findById(id).orElseThrow();
-        int actual = review.getLikes();
-
-        // then
-        assertThat(actual).isEqualTo(100);
-    }
-
-    @Test
-    @DisplayName("좋아요 수를 더해도 수정 시간이 갱신되지 않는다.")
-    void increaseLikesWithNotUpdatedAt() throws InterruptedException {
-        // given
-        Review savedReview = saveReview(savedMember, savedReviewForm, false);
-        long id = savedReview.getId();
-
-        // when
-        // 초기 수정 시간
-        // DB에 들어가서 뒷 자리수가 반올림 된 결과로 비교해야 하기 때문에 조회한다.
-        em.clear();
-        LocalDateTime updatedAt = reviewRepository.findById(id).orElseThrow()
-            .getUpdatedAt();
-
-        reviewRepository.increaseLikes(savedReview, 50);
-
-        // 좋아요 더한 후 수정 시간
-        LocalDateTime updatedAtAfterIncreaseLikes = reviewRepository.findById(id).orElseThrow()
-            .getUpdatedAt();
-        // then
-        assertThat(updatedAtAfterIncreaseLikes.isEqual(updatedAt)).isTrue();
-    }
-
     @Test
     @DisplayName("특정 회고 질문지로 만든 회고가 존재한다.")
     void existsByReviewForm_true() throws InterruptedException {
@@ -276,12 +328,20 @@ public class ReviewRepositoryTest {
         Thread.sleep(1);
         Review review = new Review("title", member, savedReviewForm,
             List.of(
-                new QuestionAnswerCreateDto(savedReviewForm.getQuestions().get(0), new Answer("answer1")),
-                new QuestionAnswerCreateDto(savedReviewForm.getQuestions().get(1), new Answer("answer2"))
+                new QuestionAnswerCreateDto(savedReviewForm.getQuestions().get(0), "answer1"),
+                new QuestionAnswerCreateDto(savedReviewForm.getQuestions().get(1), "answer2")
             ),
             isPrivate
         );
 
         return reviewRepository.save(review);
     }
+
+    private void updateLikes(Review review, int likes) {
+        em.flush();
+        em.createNativeQuery("update review set likes = :likes where id = :id")
+            .setParameter("likes", likes)
+            .setParameter("id", review.getId())
+            .executeUpdate();
+    }
 }
@@ -0,0 +1,163 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
+import com.reviewduck.review.dto.controller.request.AnswerUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.repository.ReviewFormRepository;
+
+/**
+ * 같은 데이터를 answer 테이블에 함께 기록할 때와 question_answer 테이블에만 기록할 때의
+ * 행 수, 답변 바이트 수, 실행한 SQL 개수를 비교한다.
+ */
+public class AnswerStorageMeasurementTest extends ServiceTest {
+
+    private static final int REVIEW_COUNT = 30;
+    private static final int QUESTION_COUNT = 10;
+    private static final String ANSWER = "a".repeat(200);
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
+    @Autowired
+    private LegacyAnswerWriter legacyAnswerWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void restore() {
+        statistics.setStatisticsEnabled(false);
+        ReflectionTestUtils.setField(legacyAnswerWriter, "enabled", false);
+    }
+
+    @Test
+    @DisplayName("answer 테이블 기록을 끄면 answer 행과 그만큼의 저장 공간, insert 문이 줄고 목록 조회 SQL 개수는 같다.")
+    void compareLegacyWrite() {
+        // when
+        Measurement legacy = measure(true);
+        Measurement questionAnswerOnly = measure(false);
+
+        // then
+        assertAll(
+            () -> assertThat(legacy.answerRows).isEqualTo(REVIEW_COUNT * QUESTION_COUNT),
+            () -> assertThat(questionAnswerOnly.answerRows).isZero(),
+            () -> assertThat(legacy.questionAnswerRows).isEqualTo(questionAnswerOnly.questionAnswerRows),
+            () -> assertThat(questionAnswerOnly.answerBytes * 2).isEqualTo(legacy.answerBytes),
+            () -> assertThat(questionAnswerOnly.writeStatements).isLessThan(legacy.writeStatements),
+            () -> assertThat(questionAnswerOnly.listStatements).isEqualTo(legacy.listStatements)
+        );
+    }
+
+    private Measurement measure(boolean legacyWrite) {
+        ReflectionTestUtils.setField(legacyAnswerWriter, "enabled", legacyWrite);
+        ReviewForm reviewForm = saveReviewForm();
+
+        statistics.clear();
+        List<Long> reviewIds = IntStream.range(0, REVIEW_COUNT)
+            .mapToObj(i -> saveReview(reviewForm))
+            .collect(Collectors.toUnmodifiableList());
+        reviewIds.forEach(id -> updateReview(reviewForm, id));
+        long writeStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        reviewService.findAllByCode(reviewForm.getCode(), 0, REVIEW_COUNT, "list", memberId1);
+        long listStatements = statistics.getPrepareStatementCount();
+
+        return new Measurement(
+            count("select count(*) from answer a join question_answer qa on qa.answer_id = a.id "
+                + "join review r on r.id = qa.review_id where r.review_form_id = ?", reviewForm.getId()),
+            count("select count(*) from question_answer qa "
+                + "join review r on r.id = qa.review_id where r.review_form_id = ?", reviewForm.getId()),
+            count("select coalesce(sum(length(qa.answer_value)), 0) + coalesce(sum(length(a.answer_value)), 0) "
+                + "from question_answer qa left join answer a on a.id = qa.answer_id "
+                + "join review r on r.id = qa.review_id where r.review_form_id = ?", reviewForm.getId()),
+            writeStatements,
+            listStatements);
+    }
+
+    private long count(String sql, long reviewFormId) {
+        Number result = jdbcTemplate.queryForObject(sql, Number.class, reviewFormId);
+        return result == null ? 0 : result.longValue();
+    }
+
+    private ReviewForm saveReviewForm() {
+        List<ReviewFormQuestionCreateDto> questions = IntStream.range(0, QUESTION_COUNT)
+            .mapToObj(i -> new ReviewFormQuestionCreateDto("question" + i, "description" + i))
+            .collect(Collectors.toUnmodifiableList());
+
+        return reviewFormRepository.save(new ReviewForm(member1, "title", questions));
+    }
+
+    private long saveReview(ReviewForm reviewForm) {
+        List<ReviewContentCreateRequest> contents = reviewForm.getQuestions().stream()
+            .map(question -> new ReviewContentCreateRequest(question.getId(), new AnswerCreateRequest("answer")))
+            .collect(Collectors.toUnmodifiableList());
+
+        return reviewService.save(memberId1, reviewForm.getCode(), new ReviewCreateRequest(false, "title", contents));
+    }
+
+    private void updateReview(ReviewForm reviewForm, long reviewId) {
+        List<ReviewContentUpdateRequest> contents = reviewForm.getQuestions().stream()
+            .map(question -> new ReviewContentUpdateRequest(question.getId(), new AnswerUpdateRequest(ANSWER)))
+            .collect(Collectors.toUnmodifiableList());
+
+        reviewService.update(memberId1, reviewId, new ReviewUpdateRequest(false, "title", contents));
+    }
+
+    private static class Measurement {
+
+        private final long answerRows;
+        private final long questionAnswerRows;
+        private final long answerBytes;
+        private final long writeStatements;
+        private final long listStatements;
+
+        private Measurement(long answerRows, long questionAnswerRows, long answerBytes, long writeStatements,
+            long listStatements) {
+            this.answerRows = answerRows;
+            this.questionAnswerRows = questionAnswerRows;
+            this.answerBytes = answerBytes;
+            this.writeStatements = writeStatements;
+            this.listStatements = listStatements;
+        }
+    }
+}
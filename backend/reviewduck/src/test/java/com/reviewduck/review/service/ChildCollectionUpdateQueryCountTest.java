@@ -0,0 +1,218 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.review.domain.QuestionAnswer;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.domain.ReviewFormQuestion;
+import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
+import com.reviewduck.review.dto.controller.request.AnswerUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewFormQuestionUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewFormUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.repository.ReviewFormRepository;
+
+/**
+ * 회고 폼 질문, 회고 답변을 수정할 때 바뀐 행에만 INSERT, UPDATE, DELETE 가 실행되는지 확인한다.
+ */
+public class ChildCollectionUpdateQueryCountTest extends ServiceTest {
+
+    @Autowired
+    private ReviewFormService reviewFormService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ReviewForm reviewForm;
+
+    @BeforeEach
+    void setUpReviewForm() {
+        reviewForm = reviewFormRepository.save(new ReviewForm(member1, "title", List.of(
+            new ReviewFormQuestionCreateDto("question1", "description1"),
+            new ReviewFormQuestionCreateDto("question2", "description2"),
+            new ReviewFormQuestionCreateDto("question3", "description3"))));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Nested
+    @DisplayName("회고 폼 질문 수정")
+    class UpdateReviewFormQuestions {
+
+        @Test
+        @DisplayName("바뀐 내용이 없으면 질문에 대한 SQL 을 실행하지 않는다.")
+        void noChange() {
+            // when
+            reviewFormService.update(memberId1, reviewForm.getCode(), toUpdateRequest(currentQuestions()));
+
+            // then
+            assertDml(ReviewFormQuestion.class, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("두 질문의 순서를 바꾸면 두 질문의 position 만 수정한다.")
+        void swap() {
+            // given
+            List<ReviewFormQuestionUpdateRequest> questions = currentQuestions();
+            questions.add(0, questions.remove(1));
+
+            // when
+            reviewFormService.update(memberId1, reviewForm.getCode(), toUpdateRequest(questions));
+
+            // then
+            assertDml(ReviewFormQuestion.class, 0, 2, 0);
+        }
+
+        @Test
+        @DisplayName("질문 하나의 내용을 바꾸면 그 질문만 수정한다.")
+        void editOne() {
+            // given
+            List<ReviewFormQuestionUpdateRequest> questions = currentQuestions();
+            ReviewFormQuestionUpdateRequest target = questions.get(1);
+            questions.set(1, new ReviewFormQuestionUpdateRequest(target.getId(), "edited", target.getDescription()));
+
+            // when
+            reviewFormService.update(memberId1, reviewForm.getCode(), toUpdateRequest(questions));
+
+            // then
+            assertDml(ReviewFormQuestion.class, 0, 1, 0);
+        }
+
+        @Test
+        @DisplayName("질문을 하나 추가하고 하나 삭제하면 각각 한 번씩만 실행한다.")
+        void addAndRemove() {
+            // given
+            List<ReviewFormQuestionUpdateRequest> questions = currentQuestions();
+            questions.remove(2);
+            questions.add(new ReviewFormQuestionUpdateRequest(null, "question4", "description4"));
+
+            // when
+            reviewFormService.update(memberId1, reviewForm.getCode(), toUpdateRequest(questions));
+
+            // then
+            assertDml(ReviewFormQuestion.class, 1, 0, 1);
+        }
+
+        private List<ReviewFormQuestionUpdateRequest> currentQuestions() {
+            return reviewForm.getQuestions().stream()
+                .map(it -> new ReviewFormQuestionUpdateRequest(it.getId(), it.getValue(), it.getDescription()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        private ReviewFormUpdateRequest toUpdateRequest(List<ReviewFormQuestionUpdateRequest> questions) {
+            return new ReviewFormUpdateRequest("title", questions);
+        }
+    }
+
+    @Nested
+    @DisplayName("회고 답변 수정")
+    class UpdateReviewAnswers {
+
+        private long reviewId;
+
+        @BeforeEach
+        void saveReview() {
+            List<ReviewContentCreateRequest> contents = reviewForm.getQuestions().stream()
+                .map(it -> new ReviewContentCreateRequest(it.getId(), new AnswerCreateRequest("answer" + it.getId())))
+                .collect(Collectors.toUnmodifiableList());
+            reviewId = reviewService.save(memberId1, reviewForm.getCode(),
+                new ReviewCreateRequest(false, "title", contents));
+            statistics.clear();
+        }
+
+        @Test
+        @DisplayName("바뀐 답변이 없으면 답변에 대한 SQL 을 실행하지 않는다.")
+        void noChange() {
+            // when
+            reviewService.update(memberId1, reviewId, toUpdateRequest(currentAnswers()));
+
+            // then
+            assertDml(QuestionAnswer.class, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("두 답변의 순서를 바꾸면 두 답변의 position 만 수정한다.")
+        void swap() {
+            // given
+            List<ReviewContentUpdateRequest> contents = currentAnswers();
+            contents.add(0, contents.remove(1));
+
+            // when
+            reviewService.update(memberId1, reviewId, toUpdateRequest(contents));
+
+            // then
+            assertDml(QuestionAnswer.class, 0, 2, 0);
+        }
+
+        @Test
+        @DisplayName("답변 하나를 바꾸면 그 답변만 수정한다.")
+        void editOne() {
+            // given
+            List<ReviewContentUpdateRequest> contents = currentAnswers();
+            long questionId = contents.get(1).getQuestionId();
+            contents.set(1, new ReviewContentUpdateRequest(questionId, new AnswerUpdateRequest("edited")));
+
+            // when
+            reviewService.update(memberId1, reviewId, toUpdateRequest(contents));
+
+            // then
+            assertDml(QuestionAnswer.class, 0, 1, 0);
+        }
+
+        private List<ReviewContentUpdateRequest> currentAnswers() {
+            return reviewForm.getQuestions().stream()
+                .map(it -> new ReviewContentUpdateRequest(it.getId(), new AnswerUpdateRequest("answer" + it.getId())))
+                .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        private ReviewUpdateRequest toUpdateRequest(List<ReviewContentUpdateRequest> contents) {
+            return new ReviewUpdateRequest(false, "title", contents);
+        }
+    }
+
+    private void assertDml(Class<?> entityClass, long inserts, long updates, long deletes) {
+        EntityStatistics entityStatistics = statistics.getEntityStatistics(entityClass.getName());
+
+        assertAll(
+            () -> assertThat(entityStatistics.getInsertCount()).isEqualTo(inserts),
+            () -> assertThat(entityStatistics.getUpdateCount()).isEqualTo(updates),
+            () -> assertThat(entityStatistics.getDeleteCount()).isEqualTo(deletes)
+        );
+    }
+}
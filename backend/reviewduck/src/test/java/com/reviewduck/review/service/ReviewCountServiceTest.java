@@ -0,0 +1,147 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
+import com.reviewduck.review.dto.controller.request.AnswerUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewFormCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewFormQuestionCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.repository.ReviewFormRepository;
+
+public class ReviewCountServiceTest extends ServiceTest {
+
+    @Autowired
+    private ReviewCountService reviewCountService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFormService reviewFormService;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
+    private ReviewForm reviewForm;
+
+    @BeforeEach
+    void createReviewForm() {
+        List<ReviewFormQuestionCreateDto> questions = List.of(
+            new ReviewFormQuestionCreateDto("question", "description"));
+
+        reviewForm = reviewFormRepository.save(new ReviewForm(member1, "title", questions));
+    }
+
+    @Nested
+    @DisplayName("회고 개수")
+    class countReviews {
+
+        @Test
+        @DisplayName("캐싱된 회고 개수는 회고를 작성하면 함께 증가한다.")
+        void increaseAfterSave() {
+            // given
+            reviewCountService.countByMember(member2);
+            reviewCountService.countPublicByMember(member2);
+            reviewCountService.countByReviewForm(reviewForm);
+
+            // when
+            saveReview(false);
+            saveReview(true);
+
+            // then
+            assertAll(
+                () -> assertThat(reviewCountService.countByMember(member2)).isEqualTo(2),
+                () -> assertThat(reviewCountService.countPublicByMember(member2)).isEqualTo(1),
+                () -> assertThat(reviewCountService.countByReviewForm(reviewForm)).isEqualTo(2)
+            );
+        }
+
+        @Test
+        @DisplayName("캐싱된 공개 회고 개수는 회고를 비공개로 수정하면 감소한다.")
+        void decreaseAfterUpdateToPrivate() {
+            // given
+            long reviewId = saveReview(false);
+            reviewCountService.countPublicByMember(member2);
+
+            long questionId = reviewForm.getQuestions().get(0).getId();
+            ReviewUpdateRequest request = new ReviewUpdateRequest(true, "new title",
+                List.of(new ReviewContentUpdateRequest(questionId, new AnswerUpdateRequest("new answer"))));
+
+            // when
+            reviewService.update(memberId2, reviewId, request);
+
+            // then
+            assertThat(reviewCountService.countPublicByMember(member2)).isZero();
+        }
+
+        @Test
+        @DisplayName("캐싱된 회고 개수는 회고를 삭제하면 함께 감소한다.")
+        void decreaseAfterDelete() {
+            // given
+            long reviewId = saveReview(false);
+            reviewCountService.countByMember(member2);
+            reviewCountService.countByReviewForm(reviewForm);
+
+            // when
+            reviewService.delete(memberId2, reviewId);
+
+            // then
+            assertAll(
+                () -> assertThat(reviewCountService.countByMember(member2)).isZero(),
+                () -> assertThat(reviewCountService.countByReviewForm(reviewForm)).isZero()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("회고 폼 개수")
+    class countReviewForms {
+
+        @Test
+        @DisplayName("캐싱된 회고 폼 개수는 회고 폼을 생성하고 삭제하면 함께 변경된다.")
+        void changeAfterSaveAndDelete() {
+            // given
+            reviewCountService.countReviewFormsByMember(member1);
+
+            ReviewFormCreateRequest request = new ReviewFormCreateRequest("title",
+                List.of(new ReviewFormQuestionCreateRequest("question", "description")));
+
+            // when
+            String code = reviewFormService.save(memberId1, request).getReviewFormCode();
+            long countAfterSave = reviewCountService.countReviewFormsByMember(member1);
+
+            reviewFormService.deleteByCode(memberId1, code);
+            long countAfterDelete = reviewCountService.countReviewFormsByMember(member1);
+
+            // then
+            assertAll(
+                () -> assertThat(countAfterSave).isEqualTo(2),
+                () -> assertThat(countAfterDelete).isEqualTo(1)
+            );
+        }
+    }
+
+    private long saveReview(boolean isPrivate) {
+        long questionId = reviewForm.getQuestions().get(0).getId();
+        ReviewCreateRequest request = new ReviewCreateRequest(isPrivate, "title",
+            List.of(new ReviewContentCreateRequest(questionId, new AnswerCreateRequest("answer"))));
+
+        return reviewService.save(memberId2, reviewForm.getCode(), request);
+    }
+}
@@ -14,21 +14,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.reviewduck.admin.service.AdminMemberService;
 import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.common.service.ServiceTest;
 import com.reviewduck.member.domain.Member;
 import com.reviewduck.member.dto.MemberDto;
-import com.reviewduck.review.domain.Answer;
+import com.reviewduck.member.service.MemberService;
 import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
 import com.reviewduck.review.domain.ReviewFormQuestion;
+import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormQuestionCreateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormQuestionUpdateRequest;
 import com.reviewduck.review.dto.controller.request.ReviewFormUpdateRequest;
 import com.reviewduck.review.dto.controller.response.MemberReviewFormsResponse;
 import com.reviewduck.review.dto.controller.response.ReviewFormCodeResponse;
+import com.reviewduck.review.dto.controller.response.ReviewFormParticipantsResponse;
 import com.reviewduck.review.dto.controller.response.ReviewFormResponse;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
 import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
@@ -43,6 +48,15 @@ public class ReviewFormServiceTest extends ServiceTest {
     @Autowired
     private ReviewFormService reviewFormService;
 
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private AdminMemberService adminMemberService;
+
     @Autowired
     private ReviewFormRepository reviewFormRepository;
 
@@ -115,6 +129,151 @@ public class ReviewFormServiceTest extends ServiceTest {
                 .hasMessageContaining("존재하지 않는 회고 폼입니다.");
         }
 
+        @Test
+        @DisplayName("캐싱된 회고 폼을 조회해도 작성자 여부는 요청한 사용자 기준으로 응답한다.")
+        void findCachedReviewFormByAnotherMember() throws InterruptedException {
+            // given
+            ReviewForm reviewForm = saveReviewForm(member1);
+            reviewFormService.findByCode(reviewForm.getCode(), memberId1);
+
+            // when
+            ReviewFormResponse creatorResponse = reviewFormService.findByCode(reviewForm.getCode(), memberId1);
+            ReviewFormResponse otherResponse = reviewFormService.findByCode(reviewForm.getCode(), memberId2);
+
+            // then
+            assertAll(
+                () -> assertThat(creatorResponse.getIsCreator()).isTrue(),
+                () -> assertThat(otherResponse.getIsCreator()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("회고를 작성하면 캐싱된 회고 폼의 참여자 목록이 갱신된다.")
+        void findReviewFormAfterReviewSaved() throws InterruptedException {
+            // given
+            ReviewForm reviewForm = saveReviewForm(member1);
+            String code = reviewForm.getCode();
+            ReviewFormResponse before = reviewFormService.findByCode(code, memberId1);
+
+            long questionId = reviewForm.getQuestions().get(0).getId();
+            ReviewCreateRequest createRequest = new ReviewCreateRequest(false, "title",
+                List.of(new ReviewContentCreateRequest(questionId, new AnswerCreateRequest("answer"))));
+
+            // when
+            reviewService.save(memberId2, code, createRequest);
+            ReviewFormResponse after = reviewFormService.findByCode(code, memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(before.getParticipants()).isEmpty(),
+                () -> assertThat(after.getParticipants()).hasSize(1),
+                () -> assertThat(after.getParticipants().get(0).getNickname()).isEqualTo(member2.getNickname())
+            );
+        }
+
+        @Test
+        @DisplayName("작성자나 참여자가 닉네임을 바꾸면 캐싱된 회고 폼에도 바뀐 닉네임이 보인다.")
+        void findReviewFormAfterNicknameUpdated() throws InterruptedException {
+            // given
+            ReviewForm reviewForm = saveReviewForm(member1);
+            String code = reviewForm.getCode();
+            long questionId = reviewForm.getQuestions().get(0).getId();
+            reviewService.save(memberId2, code, new ReviewCreateRequest(false, "title",
+                List.of(new ReviewContentCreateRequest(questionId, new AnswerCreateRequest("answer")))));
+            reviewFormService.findByCode(code, memberId1);
+
+            // when
+            memberService.updateNickname(memberId1, "creator");
+            memberService.updateNickname(memberId2, "participant");
+            ReviewFormResponse after = reviewFormService.findByCode(code, memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(after.getCreator().getNickname()).isEqualTo("creator"),
+                () -> assertThat(after.getParticipants().get(0).getNickname()).isEqualTo("participant")
+            );
+        }
+
+        @Test
+        @DisplayName("관리자가 참여자를 삭제하면 캐싱된 회고 폼에도 삭제된 사용자로 보인다.")
+        void findReviewFormAfterParticipantDeleted() throws InterruptedException {
+            // given
+            ReviewForm reviewForm = saveReviewForm(member1);
+            String code = reviewForm.getCode();
+            long questionId = reviewForm.getQuestions().get(0).getId();
+            reviewService.save(memberId2, code, new ReviewCreateRequest(false, "title",
+                List.of(new ReviewContentCreateRequest(questionId, new AnswerCreateRequest("answer")))));
+            reviewFormService.findByCode(code, memberId1);
+
+            // when
+            adminMemberService.deleteMember(memberId2);
+            ReviewFormResponse after = reviewFormService.findByCode(code, memberId1);
+
+            // then
+            assertThat(after.getParticipants().get(0).getNickname()).isEqualTo("탈퇴한 회원입니다.");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("회고 폼 참여자 조회")
+    class findParticipantsByCode {
+
+        @Test
+        @DisplayName("회고를 작성한 사용자를 참여 순서대로 페이지 단위로 조회한다.")
+        void findPageOfParticipants() throws InterruptedException {
+            // given
+            ReviewForm reviewForm = saveReviewForm(member1);
+            String code = reviewForm.getCode();
+            reviewService.save(memberId1, code, createReviewRequest(reviewForm));
+            reviewService.save(memberId2, code, createReviewRequest(reviewForm));
+            reviewService.save(memberId2, code, createReviewRequest(reviewForm));
+
+            // when
+            ReviewFormParticipantsResponse firstPage = reviewFormService.findParticipantsByCode(code, 0, 1);
+            ReviewFormParticipantsResponse lastPage = reviewFormService.findParticipantsByCode(code, 1, 1);
+
+            // then
+            assertAll(
+                () -> assertThat(firstPage.getIsLastPage()).isFalse(),
+                () -> assertThat(firstPage.getParticipants()).hasSize(1),
+                () -> assertThat(firstPage.getParticipants().get(0).getNickname()).isEqualTo(member1.getNickname()),
+                () -> assertThat(lastPage.getIsLastPage()).isTrue(),
+                () -> assertThat(lastPage.getParticipants().get(0).getNickname()).isEqualTo(member2.getNickname())
+            );
+        }
+
+        @Test
+        @DisplayName("회고를 모두 삭제한 사용자는 참여자 목록에서 제외된다.")
+        void findParticipantsAfterReviewDeleted() throws InterruptedException {
+            // given
+            ReviewForm reviewForm = saveReviewForm(member1);
+            String code = reviewForm.getCode();
+            long firstReviewId = reviewService.save(memberId2, code, createReviewRequest(reviewForm));
+            long secondReviewId = reviewService.save(memberId2, code, createReviewRequest(reviewForm));
+
+            // when
+            reviewService.delete(memberId2, firstReviewId);
+            ReviewFormParticipantsResponse remained = reviewFormService.findParticipantsByCode(code, 0, 10);
+            reviewService.delete(memberId2, secondReviewId);
+            ReviewFormParticipantsResponse left = reviewFormService.findParticipantsByCode(code, 0, 10);
+
+            // then
+            assertAll(
+                () -> assertThat(remained.getParticipants()).hasSize(1),
+                () -> assertThat(left.getParticipants()).isEmpty()
+            );
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 회고 폼의 참여자를 조회할 수 없다.")
+        void findParticipantsByInvalidCode() {
+            // when, then
+            assertThatThrownBy(() -> reviewFormService.findParticipantsByCode(invalidCode, 0, 10))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 회고 폼입니다.");
+        }
+
     }
 
     @Nested
@@ -256,7 +415,7 @@ public class ReviewFormServiceTest extends ServiceTest {
 
             // when, then
             List<ReviewFormQuestionUpdateRequest> updateRequests = List.of(
-                new ReviewFormQuestionUpdateRequest(9999999L, "new question", "new description"));
+                new ReviewFormQuestionUpdateRequest(Long.MAX_VALUE, "new question", "new description"));
 
             assertThatThrownBy(
                 () -> reviewFormService.update(memberId1, code,
@@ -340,9 +499,16 @@ public class ReviewFormServiceTest extends ServiceTest {
         return reviewFormRepository.save(reviewForm);
     }
 
+    private ReviewCreateRequest createReviewRequest(ReviewForm reviewForm) {
+        List<ReviewContentCreateRequest> contents = reviewForm.getQuestions().stream()
+            .map(question -> new ReviewContentCreateRequest(question.getId(), new AnswerCreateRequest("answer")))
+            .collect(Collectors.toUnmodifiableList());
+        return new ReviewCreateRequest(false, "title", contents);
+    }
+
     private void saveReview(Member member, ReviewForm reviewForm) {
         List<QuestionAnswerCreateDto> questionAnswers = reviewForm.getQuestions().stream()
-            .map(it -> new QuestionAnswerCreateDto(it, new Answer("answer")))
+            .map(it -> new QuestionAnswerCreateDto(it, "answer"))
             .collect(Collectors.toUnmodifiableList());
 
         Review review = new Review("title", member, reviewForm, questionAnswers, false);
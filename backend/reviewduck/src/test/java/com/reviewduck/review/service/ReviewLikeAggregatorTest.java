@@ -0,0 +1,142 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reviewduck.review.repository.ReviewLikeBatchRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReviewLikeAggregatorTest {
+
+    private FakeReviewLikeBatchRepository reviewLikeBatchRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> publishedKeys;
+    private ReviewLikeAggregator reviewLikeAggregator;
+
+    @BeforeEach
+    void setUp() {
+        reviewLikeBatchRepository = new FakeReviewLikeBatchRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        publishedKeys = new ArrayList<>();
+        reviewLikeAggregator = new ReviewLikeAggregator(reviewLikeBatchRepository,
+            (cacheName, key) -> publishedKeys.add(key), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("반영되지 않은 좋아요 수를 누적해서 반환한다.")
+    void add() {
+        // when
+        reviewLikeAggregator.add(1L, 50);
+        long pendingLikes = reviewLikeAggregator.add(1L, 50);
+
+        // then
+        assertAll(
+            () -> assertThat(pendingLikes).isEqualTo(100),
+            () -> assertThat(meterRegistry.get("review.likes.pending").gauge().value()).isEqualTo(100),
+            () -> assertThat(meterRegistry.get("review.likes.pending.reviews").gauge().value()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("누적된 좋아요를 회고 별로 합쳐 한 번에 반영한다.")
+    void flush() {
+        // given
+        reviewLikeAggregator.add(1L, 50);
+        reviewLikeAggregator.add(1L, 30);
+        reviewLikeAggregator.add(2L, 10);
+
+        // when
+        reviewLikeAggregator.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(reviewLikeBatchRepository.flushCount).isEqualTo(1),
+            () -> assertThat(reviewLikeBatchRepository.likes).containsEntry(1L, 80L).containsEntry(2L, 10L),
+            () -> assertThat(publishedKeys).containsExactly("1,2"),
+            () -> assertThat(reviewLikeAggregator.add(1L, 0)).isZero(),
+            () -> assertThat(meterRegistry.get("review.likes.pending").gauge().value()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("반영할 좋아요가 없으면 쿼리를 실행하지 않는다.")
+    void flushWithoutLikes() {
+        // when
+        reviewLikeAggregator.flush();
+
+        // then
+        assertThat(reviewLikeBatchRepository.flushCount).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 좋아요는 다음 주기에 다시 반영한다.")
+    void restoreAfterFailure() {
+        // given
+        reviewLikeAggregator.add(1L, 50);
+        reviewLikeBatchRepository.fail = true;
+
+        // when
+        reviewLikeAggregator.flush();
+        List<String> publishedBeforeRetry = List.copyOf(publishedKeys);
+        long pendingLikes = reviewLikeAggregator.add(1L, 10);
+
+        reviewLikeBatchRepository.fail = false;
+        reviewLikeAggregator.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(pendingLikes).isEqualTo(60),
+            () -> assertThat(publishedBeforeRetry).isEmpty(),
+            () -> assertThat(reviewLikeBatchRepository.likes).containsEntry(1L, 60L)
+        );
+    }
+
+    @Test
+    @DisplayName("반영한 회고 id 가 많으면 기록 하나의 길이를 넘지 않도록 나누어 알린다.")
+    void publishFlushedIdsInChunks() {
+        // given
+        for (long reviewId = 1_000_000_000L; reviewId < 1_000_000_200L; reviewId++) {
+            reviewLikeAggregator.add(reviewId, 1);
+        }
+
+        // when
+        reviewLikeAggregator.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(publishedKeys).hasSizeGreaterThan(1)
+                .allSatisfy(key -> assertThat(key.length()).isLessThanOrEqualTo(1000)),
+            () -> assertThat(String.join(",", publishedKeys).split(",")).hasSize(200)
+        );
+    }
+
+    private static class FakeReviewLikeBatchRepository extends ReviewLikeBatchRepository {
+
+        private final Map<Long, Long> likes = new HashMap<>();
+        private int flushCount;
+        private boolean fail;
+
+        FakeReviewLikeBatchRepository() {
+            super(null, null);
+        }
+
+        @Override
+        public void increaseLikes(Map<Long, Long> likesByReviewId) {
+            if (fail) {
+                throw new IllegalStateException("flush failed");
+            }
+            flushCount++;
+            likesByReviewId.forEach((reviewId, count) -> likes.merge(reviewId, count, Long::sum));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.member.domain.Member;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.controller.response.ReviewsOfReviewFormResponse;
+import com.reviewduck.review.dto.controller.response.ReviewsResponse;
+import com.reviewduck.review.dto.controller.response.TimelineReviewsResponse;
+import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.repository.ReviewFormRepository;
+import com.reviewduck.review.repository.ReviewRepository;
+
+/**
+ * 목록 조회 한 번에 실행되는 SQL 개수가 페이지 크기와 무관하게 일정한지 확인한다.
+ */
+public class ReviewListQueryCountTest extends ServiceTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ReviewForm reviewForm;
+
+    @BeforeEach
+    void setUpReviews() {
+        List<ReviewFormQuestionCreateDto> questions = List.of(
+            new ReviewFormQuestionCreateDto("question1", "description1"),
+            new ReviewFormQuestionCreateDto("question2", "description2"),
+            new ReviewFormQuestionCreateDto("question3", "description3"));
+
+        reviewForm = reviewFormRepository.save(new ReviewForm(member1, "title", questions));
+        ReviewForm otherReviewForm = reviewFormRepository.save(new ReviewForm(member2, "title", questions));
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            saveReview(reviewForm, member1);
+            saveReview(otherReviewForm, member2);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("타임라인 한 페이지를 조회할 때 id 조회, count, 연관 Entity 조회 쿼리만 실행한다.")
+    void timeline() {
+        // when
+        TimelineReviewsResponse response = reviewService.findAllPublic(0, PAGE_SIZE, "latest", memberId1);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReviews()).hasSize(PAGE_SIZE),
+            () -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("사용자의 회고 한 페이지를 조회할 때 사용자 조회를 포함해 일정한 개수의 쿼리만 실행한다.")
+    void memberReviews() {
+        // when
+        ReviewsResponse response = reviewService.findAllBySocialId(member1.getSocialId(), memberId1, 0, PAGE_SIZE);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReviews()).hasSize(PAGE_SIZE),
+            () -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4)
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼의 회고 한 페이지를 목록 형식으로 조회할 때 일정한 개수의 쿼리만 실행한다.")
+    void reviewFormReviewsList() {
+        // when
+        ReviewsOfReviewFormResponse response = reviewService.findAllByCode(reviewForm.getCode(), 0, PAGE_SIZE,
+            "list", memberId1);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReviews()).hasSize(PAGE_SIZE),
+            () -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4)
+        );
+    }
+
+    @Test
+    @DisplayName("회고 폼의 회고 한 페이지를 시트 형식으로 조회할 때 일정한 개수의 쿼리만 실행한다.")
+    void reviewFormReviewsSheet() {
+        // when
+        ReviewsOfReviewFormResponse response = reviewService.findAllByCode(reviewForm.getCode(), 0, PAGE_SIZE,
+            "sheet", memberId1);
+
+        // then
+        assertAll(
+            () -> assertThat(response.getReviews()).hasSize(PAGE_SIZE),
+            () -> assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5)
+        );
+    }
+
+    private void saveReview(ReviewForm reviewForm, Member member) {
+        List<QuestionAnswerCreateDto> questionAnswers = reviewForm.getQuestions().stream()
+            .map(it -> new QuestionAnswerCreateDto(it, "answer"))
+            .collect(Collectors.toUnmodifiableList());
+
+        reviewRepository.save(new Review("title", member, reviewForm, questionAnswers, false));
+    }
+}
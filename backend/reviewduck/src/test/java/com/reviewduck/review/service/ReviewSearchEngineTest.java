@@ -0,0 +1,147 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.config.cache.CacheInvalidationPoller;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.repository.ReviewFormRepository;
+import com.reviewduck.review.repository.ReviewRepository;
+
+/**
+ * 테스트의 소스와 레플리카는 같은 DB 이므로, 읽기 전용 트랜잭션의 조회에서 아직 복제되지 않은 회고를 빼서 지연된 레플리카를 흉내 낸다.
+ */
+public class ReviewSearchEngineTest extends ServiceTest {
+
+    private final Set<Long> notReplicatedIds = new HashSet<>();
+
+    @Autowired
+    private ReviewSearchEngine reviewSearchEngine;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
+    @Autowired
+    private CacheInvalidationPoller cacheInvalidationPoller;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private ReviewRepository reviewRepository;
+
+    private ReviewForm reviewForm;
+
+    @BeforeEach
+    void setUpLaggingReplica() {
+        reviewForm = reviewFormRepository.save(new ReviewForm(member1, "title",
+            List.of(new ReviewFormQuestionCreateDto("question", "description"))));
+
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            List<Review> reviews = (List<Review>)invocation.callRealMethod();
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return reviews;
+            }
+            return reviews.stream()
+                .filter(review -> !notReplicatedIds.contains(review.getId()))
+                .collect(Collectors.toUnmodifiableList());
+        }).when(reviewRepository).findAllWithAnswerValuesByIdIn(anyList());
+
+        // 트랜잭션 밖에서 호출되어 항상 레플리카에서 읽는다.
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            List<Long> reviewIds = (List<Long>)invocation.callRealMethod();
+            return reviewIds.stream()
+                .filter(reviewId -> !notReplicatedIds.contains(reviewId))
+                .collect(Collectors.toUnmodifiableList());
+        }).when(reviewRepository).findAllPublicIds();
+
+        reviewSearchEngine.rebuild();
+        reviewSearchEngine.applyChanges();
+    }
+
+    @Test
+    @DisplayName("레플리카에 아직 없는 회고도 무효화 로그를 반영한 뒤 검색된다.")
+    void applyChangesWithLaggingReplica() {
+        // given
+        long reviewId = saveReview("배포 회고");
+        notReplicatedIds.add(reviewId);
+
+        // when
+        cacheInvalidationPoller.poll();
+        reviewSearchEngine.applyChanges();
+
+        // then
+        assertThat(search("배포")).containsExactly(reviewId);
+    }
+
+    @Test
+    @DisplayName("레플리카에 아직 없는 회고는 전체 색인을 다시 해도 지우지 않는다.")
+    void rebuildWithLaggingReplica() {
+        // given
+        long reviewId = saveReview("배포 회고");
+        notReplicatedIds.add(reviewId);
+
+        // when
+        reviewSearchEngine.rebuild();
+        reviewSearchEngine.applyChanges();
+
+        // then
+        assertThat(search("배포")).containsExactly(reviewId);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 비공개로 바뀐 회고는 소스에서 확인한 뒤 색인에서 지운다.")
+    void removeConfirmedBySource() {
+        // given
+        long reviewId = saveReview("배포 회고");
+        cacheInvalidationPoller.poll();
+        reviewSearchEngine.applyChanges();
+
+        jdbcTemplate.update("update review set is_private = true where id = ?", reviewId);
+        jdbcTemplate.update("insert into cache_invalidation (cache_name, cache_key, created_at) "
+            + "values (?, ?, now(3))", ReviewSearchEngine.CHANGE_FEED_NAME, String.valueOf(reviewId));
+
+        // when
+        cacheInvalidationPoller.poll();
+        reviewSearchEngine.applyChanges();
+
+        // then
+        assertThat(search("배포")).isEmpty();
+    }
+
+    private long saveReview(String title) {
+        long questionId = reviewForm.getQuestions().get(0).getId();
+        return reviewService.save(memberId1, reviewForm.getCode(), new ReviewCreateRequest(false, title,
+            List.of(new ReviewContentCreateRequest(questionId, new AnswerCreateRequest("answer")))));
+    }
+
+    private List<Long> search(String query) {
+        return reviewSearchEngine.search(query, PageRequest.of(0, 10)).getContent();
+    }
+}
@@ -0,0 +1,124 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class ReviewSearchIndexTest {
+
+    private ReviewSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReviewSearchIndex();
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 한국어 단어도 2-gram 으로 검색된다.")
+    void searchKoreanWithPostposition() {
+        // given
+        index.put(1L, terms("회고를 작성하면서 성장했다"));
+        index.put(2L, terms("점심은 김치찌개"));
+
+        // when
+        Page<Long> result = index.search("회고", PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색어가 더 많이 나오는 짧은 문서가 더 높은 순위를 가진다.")
+    void rankByScore() {
+        // given
+        index.put(1L, terms("배포 이야기와 함께 다른 여러 가지 긴 이야기를 적어 두었다"));
+        index.put(2L, terms("배포 배포 배포"));
+        index.put(3L, terms("테스트 코드"));
+
+        // when
+        Page<Long> result = index.search("배포", PageRequest.of(0, 10));
+
+        // then
+        assertAll(
+            () -> assertThat(result.getContent()).containsExactly(2L, 1L),
+            () -> assertThat(result.getTotalElements()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("순위대로 특정 페이지를 조회한다.")
+    void searchPage() {
+        // given
+        index.put(1L, terms("배포"));
+        index.put(2L, terms("배포 배포"));
+        index.put(3L, terms("배포 배포 배포"));
+
+        // when
+        Page<Long> result = index.search("배포", PageRequest.of(1, 1));
+
+        // then
+        assertAll(
+            () -> assertThat(result.getContent()).containsExactly(2L),
+            () -> assertThat(result.getTotalElements()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("다시 색인하면 이전 내용은 검색되지 않고, 삭제한 문서는 검색되지 않는다.")
+    void putAndRemove() {
+        // given
+        index.put(1L, terms("테스트 코드"));
+        index.put(2L, terms("테스트 환경"));
+
+        // when
+        index.put(1L, terms("리팩터링"));
+        index.remove(2L);
+
+        // then
+        assertAll(
+            () -> assertThat(index.search("테스트", PageRequest.of(0, 10)).getContent()).isEmpty(),
+            () -> assertThat(index.search("리팩터링", PageRequest.of(0, 10)).getContent()).containsExactly(1L),
+            () -> assertThat(index.size()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 색인을 다시 읽으면 같은 결과를 검색한다.")
+    void snapshot() throws IOException {
+        // given
+        index.put(1L, terms("회고 작성"));
+        index.put(2L, terms("회고 회고 공유"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        index.writeSnapshot(outputStream);
+
+        // when
+        ReviewSearchIndex restored = new ReviewSearchIndex();
+        boolean read = restored.readSnapshot(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        // then
+        assertAll(
+            () -> assertThat(read).isTrue(),
+            () -> assertThat(restored.search("회고", PageRequest.of(0, 10)).getContent())
+                .isEqualTo(index.search("회고", PageRequest.of(0, 10)).getContent())
+        );
+    }
+
+    private Map<String, Integer> terms(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : NgramTokenizer.tokenize(text)) {
+            terms.merge(token, 1, Integer::sum);
+        }
+        return terms;
+    }
+}
@@ -12,14 +12,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.config.cache.CacheInvalidationPoller;
 import com.reviewduck.member.domain.Member;
-import com.reviewduck.review.domain.Answer;
 import com.reviewduck.review.domain.Review;
 import com.reviewduck.review.domain.ReviewForm;
 import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
@@ -33,9 +34,11 @@ import com.reviewduck.review.dto.controller.response.ReviewResponse;
 import com.reviewduck.review.dto.controller.response.ReviewSynchronizedResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsOfReviewFormResponse;
 import com.reviewduck.review.dto.controller.response.ReviewsResponse;
+import com.reviewduck.review.dto.controller.response.TimelineReviewsCursorResponse;
 import com.reviewduck.review.dto.controller.response.TimelineReviewsResponse;
 import com.reviewduck.review.dto.service.QuestionAnswerCreateDto;
 import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.exception.ReviewException;
 import com.reviewduck.review.repository.ReviewFormRepository;
 import com.reviewduck.review.repository.ReviewRepository;
 
@@ -57,6 +60,21 @@ public class ReviewServiceTest extends ServiceTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewLikeAggregator reviewLikeAggregator;
+
+    @Autowired
+    private ReviewTrendRanking reviewTrendRanking;
+
+    @Autowired
+    private ReviewSearchEngine reviewSearchEngine;
+
+    @Autowired
+    private CacheInvalidationPoller cacheInvalidationPoller;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void createReviewForm() {
         String reviewTitle = "title";
@@ -115,8 +133,27 @@ public class ReviewServiceTest extends ServiceTest {
             //given
             ReviewCreateRequest reviewCreateRequest = new ReviewCreateRequest(false, "title",
                 List.of(
-                    new ReviewContentCreateRequest(9999L, new AnswerCreateRequest("answer1")),
-                    new ReviewContentCreateRequest(2L, new AnswerCreateRequest("answer2"))
+                    new ReviewContentCreateRequest(Long.MAX_VALUE, new AnswerCreateRequest("answer1")),
+                    new ReviewContentCreateRequest(questionIdOf(1), new AnswerCreateRequest("answer2"))
+                ));
+
+            // when, then
+            assertThatThrownBy(() -> reviewService.save(memberId1, reviewForm.getCode(), reviewCreateRequest))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("존재하지 않는 질문입니다.");
+        }
+
+        @Test
+        @DisplayName("다른 회고 폼의 질문에 답변할 수 없다.")
+        void withQuestionOfOtherReviewForm() {
+            // given
+            ReviewForm otherReviewForm = reviewFormRepository.save(new ReviewForm(member2, "other title",
+                List.of(new ReviewFormQuestionCreateDto("question", "description"))));
+            long otherQuestionId = otherReviewForm.getQuestions().get(0).getId();
+
+            ReviewCreateRequest reviewCreateRequest = new ReviewCreateRequest(false, "title",
+                List.of(
+                    new ReviewContentCreateRequest(otherQuestionId, new AnswerCreateRequest("answer1"))
                 ));
 
             // when, then
@@ -149,7 +186,7 @@ public class ReviewServiceTest extends ServiceTest {
         @DisplayName("존재하지 않는 id로 조회할 수 없다.")
         void invalidId() {
             // when, then
-            assertThatThrownBy(() -> reviewService.findById(99999L))
+            assertThatThrownBy(() -> reviewService.findById(Long.MAX_VALUE))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 회고입니다.");
         }
@@ -295,18 +332,22 @@ public class ReviewServiceTest extends ServiceTest {
         }
 
         @Test
-        @DisplayName("좋아요가 특정 개수 이상이며 생성일로 정렬된 특정 페이지를 조회한다.")
+        @DisplayName("좋아요와 작성 시점으로 계산한 인기순으로 특정 페이지를 조회한다.")
         void findAllOrderByTrend() throws InterruptedException {
             // given
             Review review1 = saveReview(reviewForm, member1, false);
             Review review2 = saveReview(reviewForm, member2, false);
             Review review3 = saveReview(reviewForm, member1, true); // 비밀글
             Review review4 = saveReview(reviewForm, member1, false);
+            reviewTrendRanking.reconcile();
 
             // when
-            reviewService.increaseLikes(review1.getId(), 500);
-            reviewService.increaseLikes(review2.getId(), 300);
-            reviewService.increaseLikes(review4.getId(), 10); // 좋아요 개수 미만
+            reviewService.increaseLikes(review1.getId(), 300);
+            reviewService.increaseLikes(review2.getId(), 500);
+            reviewService.increaseLikes(review3.getId(), 1000); // 비밀글은 제외
+            reviewService.increaseLikes(review4.getId(), 10);
+            reviewLikeAggregator.flush();
+            reviewTrendRanking.rank();
 
             int page = 0;
             int size = 1;
@@ -316,13 +357,165 @@ public class ReviewServiceTest extends ServiceTest {
 
             // then
             assertAll(
+                () -> assertThat(reviewsResponse.getNumberOfReviews()).isEqualTo(3),
                 () -> assertThat(reviewsResponse.getReviews()).hasSize(1),
                 () -> assertThat(reviewsResponse.getReviews().get(0).getId()).isEqualTo(review2.getId()),
-                () -> assertThat(reviewsResponse.getReviews().get(0).getLikes()).isEqualTo(300)
+                () -> assertThat(reviewsResponse.getReviews().get(0).getLikes()).isEqualTo(500)
             );
         }
     }
 
+    @Nested
+    @DisplayName("비밀글이 아닌 회고 답변을 커서 기반으로 조회한다.")
+    class findTimelineReviewByCursor {
+
+        @Test
+        @DisplayName("커서 없이 조회하면 첫 페이지와 다음 커서를 반환한다.")
+        void findFirstPage() throws InterruptedException {
+            // given
+            saveReview(reviewForm, member1, false);
+            Review review2 = saveReview(reviewForm, member2, false);
+            Review review3 = saveReview(reviewForm, member1, false);
+            saveReview(reviewForm, member1, true); // 비밀글
+
+            // when
+            TimelineReviewsCursorResponse response = reviewService.findAllPublicByCursor(null, 2, "latest",
+                memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(response.getReviews()).hasSize(2),
+                () -> assertThat(response.getReviews().get(0).getId()).isEqualTo(review3.getId()),
+                () -> assertThat(response.getReviews().get(1).getId()).isEqualTo(review2.getId()),
+                () -> assertThat(response.getNextCursor()).isNotNull()
+            );
+        }
+
+        @Test
+        @DisplayName("다음 커서로 이어서 조회하고, 마지막 페이지에서는 다음 커서를 반환하지 않는다.")
+        void findNextPage() throws InterruptedException {
+            // given
+            Review review1 = saveReview(reviewForm, member1, false);
+            saveReview(reviewForm, member2, false);
+            saveReview(reviewForm, member1, false);
+            saveReview(reviewForm, member1, true); // 비밀글
+
+            String cursor = reviewService.findAllPublicByCursor(null, 2, "latest", memberId1).getNextCursor();
+
+            // when
+            TimelineReviewsCursorResponse response = reviewService.findAllPublicByCursor(cursor, 2, "latest",
+                memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(response.getReviews()).hasSize(1),
+                () -> assertThat(response.getReviews().get(0).getId()).isEqualTo(review1.getId()),
+                () -> assertThat(response.getNextCursor()).isNull()
+            );
+        }
+
+        @Test
+        @DisplayName("올바르지 않은 커서로 조회할 수 없다.")
+        void invalidCursor() {
+            // when, then
+            assertThatThrownBy(() -> reviewService.findAllPublicByCursor("invalid", 2, "latest", memberId1))
+                .isInstanceOf(ReviewException.class)
+                .hasMessageContaining("올바르지 않은 커서입니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("회고 검색")
+    class searchReview {
+
+        @BeforeEach
+        void rebuildSearchIndex() {
+            reviewSearchEngine.rebuild();
+            reviewSearchEngine.applyChanges();
+        }
+
+        @Test
+        @DisplayName("제목이나 답변에 검색어가 포함된 공개 회고를 제목에 포함된 회고부터 조회한다.")
+        void searchPublicReviews() {
+            // given
+            long answerMatched = saveReview("스프린트 정리", "회고록을 작성하며 배포 과정을 돌아봤다", false);
+            long titleMatched = saveReview("배포 회고", "무난한 한 주였다", false);
+            saveReview("배포 일지", "배포가 늦어졌다", true);
+            saveReview("점심 메뉴", "김치찌개", false);
+
+            // when
+            TimelineReviewsResponse response = reviewService.search("배포", 0, 10, memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(response.getNumberOfReviews()).isEqualTo(2),
+                () -> assertThat(response.getReviews()).extracting("id").containsExactly(titleMatched, answerMatched)
+            );
+        }
+
+        @Test
+        @DisplayName("수정한 회고는 바뀐 내용으로 검색되고, 삭제한 회고는 검색되지 않는다.")
+        void searchAfterUpdateAndDelete() {
+            // given
+            long updatedReviewId = saveReview("주간 회고", "테스트 코드를 작성했다", false);
+            long deletedReviewId = saveReview("월간 회고", "테스트 환경을 정리했다", false);
+
+            long questionId = reviewForm.getQuestions().get(0).getId();
+            reviewService.update(memberId1, updatedReviewId, new ReviewUpdateRequest(false, "주간 회고",
+                List.of(new ReviewContentUpdateRequest(questionId, new AnswerUpdateRequest("리팩터링을 했다")))));
+            reviewService.delete(memberId1, deletedReviewId);
+
+            // when
+            TimelineReviewsResponse oldKeyword = reviewService.search("테스트", 0, 10, memberId1);
+            TimelineReviewsResponse newKeyword = reviewService.search("리팩터링", 0, 10, memberId1);
+
+            // then
+            assertAll(
+                () -> assertThat(oldKeyword.getReviews()).isEmpty(),
+                () -> assertThat(newKeyword.getReviews()).extracting("id").containsExactly(updatedReviewId)
+            );
+        }
+
+        @Test
+        @DisplayName("다른 서버에서 바뀐 회고도 캐시 무효화 로그를 읽어 색인에 반영한다.")
+        void searchAfterChangeOnOtherServer() {
+            // given
+            long reviewId = saveReview("주간 회고", "테스트 코드를 작성했다", false);
+            cacheInvalidationPoller.poll();
+            reviewSearchEngine.applyChanges();
+
+            jdbcTemplate.update("update review set title = ? where id = ?", "리팩터링 회고", reviewId);
+            jdbcTemplate.update("insert into cache_invalidation (cache_name, cache_key, created_at) "
+                + "values (?, ?, now(3))", ReviewSearchEngine.CHANGE_FEED_NAME, String.valueOf(reviewId));
+
+            // when
+            cacheInvalidationPoller.poll();
+            reviewSearchEngine.applyChanges();
+
+            // then
+            assertThat(reviewService.search("리팩터링", 0, 10, memberId1).getReviews())
+                .extracting("id").containsExactly(reviewId);
+        }
+
+        @Test
+        @DisplayName("검색어가 비어 있으면 검색할 수 없다.")
+        void withBlankQuery() {
+            // when, then
+            assertThatThrownBy(() -> reviewService.search(" ", 0, 10, memberId1))
+                .isInstanceOf(ReviewException.class)
+                .hasMessageContaining("검색어는 비어있을 수 없습니다.");
+        }
+
+        private long saveReview(String title, String answer, boolean isPrivate) {
+            List<ReviewContentCreateRequest> contents = reviewForm.getQuestions().stream()
+                .map(question -> new ReviewContentCreateRequest(question.getId(), new AnswerCreateRequest(answer)))
+                .collect(Collectors.toUnmodifiableList());
+
+            return reviewService.save(memberId1, reviewForm.getCode(),
+                new ReviewCreateRequest(isPrivate, title, contents));
+        }
+    }
+
     @Nested
     @DisplayName("회고 수정")
     class updateReview {
@@ -336,8 +529,8 @@ public class ReviewServiceTest extends ServiceTest {
             // when
             ReviewUpdateRequest updateRequest = new ReviewUpdateRequest(false, "title",
                 List.of(
-                    new ReviewContentUpdateRequest(1L, new AnswerUpdateRequest("editedAnswer1")),
-                    new ReviewContentUpdateRequest(2L, new AnswerUpdateRequest("editedAnswer2"))
+                    new ReviewContentUpdateRequest(questionIdOf(0), new AnswerUpdateRequest("editedAnswer1")),
+                    new ReviewContentUpdateRequest(questionIdOf(1), new AnswerUpdateRequest("editedAnswer2"))
                 ));
 
             reviewService.update(memberId1, savedReview.getId(), updateRequest);
@@ -362,8 +555,8 @@ public class ReviewServiceTest extends ServiceTest {
             // when
             ReviewUpdateRequest updateRequest = new ReviewUpdateRequest(false, "title",
                 List.of(
-                    new ReviewContentUpdateRequest(1L, new AnswerUpdateRequest("editedAnswer1")),
-                    new ReviewContentUpdateRequest(2L, new AnswerUpdateRequest("editedAnswer2"))
+                    new ReviewContentUpdateRequest(questionIdOf(0), new AnswerUpdateRequest("editedAnswer1")),
+                    new ReviewContentUpdateRequest(questionIdOf(1), new AnswerUpdateRequest("editedAnswer2"))
                 ));
 
             // then
@@ -383,7 +576,7 @@ public class ReviewServiceTest extends ServiceTest {
                 ));
 
             // when, then
-            assertThatThrownBy(() -> reviewService.update(memberId1, 99999L, updateRequest))
+            assertThatThrownBy(() -> reviewService.update(memberId1, Long.MAX_VALUE, updateRequest))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 회고입니다.");
         }
@@ -396,8 +589,8 @@ public class ReviewServiceTest extends ServiceTest {
 
             ReviewUpdateRequest updateRequest = new ReviewUpdateRequest(false, "title",
                 List.of(
-                    new ReviewContentUpdateRequest(1L, new AnswerUpdateRequest("editedAnswer1")),
-                    new ReviewContentUpdateRequest(999L, new AnswerUpdateRequest("editedAnswer2"))
+                    new ReviewContentUpdateRequest(questionIdOf(0), new AnswerUpdateRequest("editedAnswer1")),
+                    new ReviewContentUpdateRequest(Long.MAX_VALUE, new AnswerUpdateRequest("editedAnswer2"))
                 ));
 
             // when, then
@@ -441,7 +634,7 @@ public class ReviewServiceTest extends ServiceTest {
         @DisplayName("존재하지 않는 회고는 삭제할 수 없다.")
         void invalidId() {
             // when, then
-            assertThatThrownBy(() -> reviewService.delete(memberId1, 99999L))
+            assertThatThrownBy(() -> reviewService.delete(memberId1, Long.MAX_VALUE))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 회고입니다.");
         }
@@ -466,6 +659,7 @@ public class ReviewServiceTest extends ServiceTest {
             reviewService.increaseLikes(id, likeCount);
             ReviewLikesResponse likes = reviewService.increaseLikes(id, likeCount);
 
+            reviewLikeAggregator.flush();
             Review review = findById(id);
             int actual = review.getLikes();
 
@@ -481,7 +675,7 @@ public class ReviewServiceTest extends ServiceTest {
         @Transactional(propagation = Propagation.NOT_SUPPORTED)
         void withInvalidIdIncrease() {
             // given
-            long invalidId = 9999L;
+            long invalidId = Long.MAX_VALUE;
             int likeCount = 50;
 
             // when, then
@@ -515,7 +709,7 @@ public class ReviewServiceTest extends ServiceTest {
         Thread.sleep(1);
 
         List<QuestionAnswerCreateDto> questionAnswers = reviewForm.getQuestions().stream()
-            .map(it -> new QuestionAnswerCreateDto(it, new Answer("answer")))
+            .map(it -> new QuestionAnswerCreateDto(it, "answer"))
             .collect(Collectors.toUnmodifiableList());
 
         Review review = new Review("title", member, reviewForm, questionAnswers, isPrivate);
@@ -523,6 +717,10 @@ public class ReviewServiceTest extends ServiceTest {
         return reviewRepository.save(review);
     }
 
+    private long questionIdOf(int index) {
+        return reviewForm.getQuestions().get(index).getId();
+    }
+
     private Review findById(long id) {
         return reviewRepository.findById(id)
             .orElseThrow(() -> new NotFoundException("존재하지 않는 회고입니다."));
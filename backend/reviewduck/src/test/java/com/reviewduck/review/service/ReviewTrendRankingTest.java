@@ -0,0 +1,231 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.reviewduck.review.dto.service.ReviewLikesDto;
+import com.reviewduck.review.repository.ReviewRepository;
+
+class ReviewTrendRankingTest {
+
+    private static final Instant NOW = Instant.parse("2022-11-01T00:00:00Z");
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private ReviewRepository reviewRepository;
+    private ReviewTrendRanking reviewTrendRanking;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        reviewTrendRanking = createRanking();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 반영한 좋아요는 DB 에서 다시 읽어 늘어난 만큼만 반영한다.")
+    void refreshLikesFromOtherServer() {
+        // given
+        reviewTrendRanking.like(review(1L, 0, 1), 10);
+        reviewTrendRanking.like(review(2L, 0, 1), 12);
+        given(reviewRepository.findAllLikesByIdIn(any()))
+            .willReturn(List.of(review(1L, 15, 1), review(3L, 11, 1)));
+
+        // when
+        reviewTrendRanking.onInvalidation("1,3");
+        reviewTrendRanking.refreshLikes();
+        reviewTrendRanking.rank();
+        Page<Long> ranking = reviewTrendRanking.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ranking.getContent()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("같은 피드를 여러 번 받아도 좋아요를 한 번만 반영한다.")
+    void refreshLikesTwice() {
+        // given
+        ReviewTrendRanking refreshedOnce = createRanking();
+        given(reviewRepository.findAllLikesByIdIn(any()))
+            .willReturn(List.of(review(1L, 15, 1), review(2L, 16, 1)));
+        reviewTrendRanking.like(review(1L, 0, 1), 10);
+        refreshedOnce.like(review(1L, 0, 1), 10);
+
+        // when
+        reviewTrendRanking.onInvalidation("1,2");
+        reviewTrendRanking.refreshLikes();
+        reviewTrendRanking.onInvalidation("1,2");
+        reviewTrendRanking.refreshLikes();
+        refreshedOnce.onInvalidation("1,2");
+        refreshedOnce.refreshLikes();
+
+        // then
+        reviewTrendRanking.rank();
+        refreshedOnce.rank();
+        assertThat(reviewTrendRanking.findPage(PageRequest.of(0, 10)).getContent())
+            .containsExactlyElementsOf(refreshedOnce.findPage(PageRequest.of(0, 10)).getContent())
+            .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 같으면 최근에 작성된 회고가 더 높은 순위를 가진다.")
+    void recency() {
+        // given
+        reviewTrendRanking.like(review(1L, 0, 48), 10);
+        reviewTrendRanking.like(review(2L, 0, 1), 10);
+
+        // when
+        reviewTrendRanking.rank();
+        Page<Long> ranking = reviewTrendRanking.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ranking.getContent()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 수는 적어도 최근 좋아요가 몰린 회고가 더 높은 순위를 가진다.")
+    void velocity() {
+        // given
+        given(reviewRepository.findAllPublicLikesCreatedAfter(any()))
+            .willReturn(List.of(review(1L, 100, 24), review(2L, 0, 24)));
+        reviewTrendRanking.reconcile();
+
+        // when
+        reviewTrendRanking.like(review(2L, 0, 24), 60);
+        reviewTrendRanking.rank();
+        Page<Long> ranking = reviewTrendRanking.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ranking.getContent()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("비밀글과 좋아요가 없는 회고는 순위에 포함하지 않고, 상위 K개만 유지한다.")
+    void topK() {
+        // given
+        reviewTrendRanking.like(review(1L, 0, 1), 30);
+        reviewTrendRanking.like(review(2L, 0, 1), 20);
+        reviewTrendRanking.like(review(3L, 0, 1), 10);
+        reviewTrendRanking.like(new ReviewLikesDto(4L, 0, createdHoursAgo(1), true), 100);
+        reviewTrendRanking.like(review(5L, 0, 1), 0);
+
+        // when
+        reviewTrendRanking.rank();
+        Page<Long> ranking = reviewTrendRanking.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertAll(
+            () -> assertThat(ranking.getContent()).containsExactly(1L, 2L),
+            () -> assertThat(ranking.getTotalElements()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("DB 와 비교해 삭제되거나 비공개로 바뀐 회고를 순위에서 제외한다.")
+    void reconcile() {
+        // given
+        reviewTrendRanking.like(review(1L, 0, 1), 30);
+        reviewTrendRanking.like(review(2L, 0, 1), 20);
+        given(reviewRepository.findAllPublicLikesCreatedAfter(any()))
+            .willReturn(List.of(review(2L, 20, 1)));
+
+        // when
+        reviewTrendRanking.reconcile();
+        Page<Long> ranking = reviewTrendRanking.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ranking.getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("DB 와 비교하는 동안 눌린 좋아요는 잃지 않고, 삭제된 회고는 되살리지 않는다.")
+    void reconcileWhileLikingAndRemoving() {
+        // given
+        reviewTrendRanking.like(review(1L, 0, 1), 30);
+        reviewTrendRanking.like(review(2L, 0, 1), 20);
+        given(reviewRepository.findAllPublicLikesCreatedAfter(any())).willAnswer(invocation -> {
+            reviewTrendRanking.remove(1L);
+            reviewTrendRanking.like(review(3L, 0, 1), 10);
+            return List.of(review(1L, 30, 1), review(2L, 20, 1));
+        });
+
+        // when
+        reviewTrendRanking.reconcile();
+        Page<Long> ranking = reviewTrendRanking.findPage(PageRequest.of(0, 10));
+
+        // then
+        assertThat(ranking.getContent()).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("요청한 페이지에 해당하는 회고 id 만 반환한다.")
+    void findPage() {
+        // given
+        reviewTrendRanking.like(review(1L, 0, 1), 30);
+        reviewTrendRanking.like(review(2L, 0, 1), 20);
+        reviewTrendRanking.rank();
+
+        // when
+        Page<Long> ranking = reviewTrendRanking.findPage(PageRequest.of(1, 1));
+
+        // then
+        assertAll(
+            () -> assertThat(ranking.getContent()).containsExactly(2L),
+            () -> assertThat(ranking.isLast()).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("커서로 조회하면 이전 페이지의 마지막 회고 다음 순위부터 반환한다.")
+    void findSliceAfter() {
+        // given
+        ReviewTrendRanking ranking = new ReviewTrendRanking(reviewRepository, mock(PlatformTransactionManager.class),
+            Clock.fixed(NOW, ZONE), 10);
+        ranking.like(review(1L, 0, 1), 40);
+        ranking.like(review(2L, 0, 1), 30);
+        ranking.like(review(3L, 0, 1), 20);
+        ranking.like(review(4L, 0, 1), 10);
+        ranking.rank();
+
+        // when
+        Slice<Long> afterSecond = ranking.findSliceAfter(2, 2L, 1);
+        ranking.remove(2L);
+        ranking.rank();
+        Slice<Long> afterRemoved = ranking.findSliceAfter(2, 2L, 1);
+
+        // then
+        assertAll(
+            () -> assertThat(afterSecond.getContent()).containsExactly(3L),
+            () -> assertThat(afterSecond.hasNext()).isTrue(),
+            () -> assertThat(afterRemoved.getContent()).containsExactly(4L),
+            () -> assertThat(afterRemoved.hasNext()).isFalse()
+        );
+    }
+
+    private ReviewTrendRanking createRanking() {
+        return new ReviewTrendRanking(reviewRepository, mock(PlatformTransactionManager.class),
+            Clock.fixed(NOW, ZONE), 2);
+    }
+
+    private ReviewLikesDto review(long id, int likes, long hoursAgo) {
+        return new ReviewLikesDto(id, likes, createdHoursAgo(hoursAgo), false);
+    }
+
+    private LocalDateTime createdHoursAgo(long hours) {
+        return LocalDateTime.ofInstant(NOW, ZONE).minusHours(hours);
+    }
+}
@@ -0,0 +1,193 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.repository.ReviewFormRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 질문이 5, 20, 50개인 회고 폼에 회고를 작성할 때 실행하는 SQL 개수를 비교한다.
+ * measurement 태그가 붙은 테스트는 작성 지연 시간과 초당 처리량을 로그로 남기며, measurementTest 태스크에서만 실행된다.
+ */
+public class ReviewWriteMeasurementTest extends ServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewWriteMeasurementTest.class);
+
+    private static final int[] QUESTION_COUNTS = {5, 20, 50};
+    private static final int QUERY_COUNT_REPEAT = 3;
+    private static final int WARM_UP = 5;
+    private static final int REPEAT = 30;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("SOURCE")
+    private DataSource sourceDataSource;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("질문 개수와 무관하게 회고 작성의 SQL 개수는 같다.")
+    void compareQuestionCounts() {
+        // given
+        long[] queryCounts = new long[QUESTION_COUNTS.length];
+
+        // when
+        for (int i = 0; i < QUESTION_COUNTS.length; i++) {
+            ReviewForm reviewForm = saveReviewForm(QUESTION_COUNTS[i]);
+            ReviewCreateRequest request = createRequest(reviewForm);
+            save(reviewForm, request);
+
+            long[] queries = new long[QUERY_COUNT_REPEAT];
+            for (int j = 0; j < QUERY_COUNT_REPEAT; j++) {
+                statistics.clear();
+                save(reviewForm, request);
+                queries[j] = statistics.getPrepareStatementCount();
+            }
+            queryCounts[i] = median(queries);
+        }
+
+        // then
+        assertThat(queryCounts).containsOnly(queryCounts[0]);
+    }
+
+    @Test
+    @Tag("measurement")
+    @DisplayName("질문 개수별 회고 작성 지연 시간의 중앙값과 초당 처리량을 로그로 남긴다.")
+    void measureQuestionCounts() {
+        for (int questionCount : QUESTION_COUNTS) {
+            ReviewForm reviewForm = saveReviewForm(questionCount);
+            ReviewCreateRequest request = createRequest(reviewForm);
+            for (int i = 0; i < WARM_UP; i++) {
+                save(reviewForm, request);
+            }
+
+            long[] elapsed = new long[REPEAT];
+            for (int i = 0; i < REPEAT; i++) {
+                long start = System.nanoTime();
+                save(reviewForm, request);
+                elapsed[i] = (System.nanoTime() - start) / 1000;
+            }
+
+            long medianMicros = median(elapsed);
+            log.info("questions={}, median={}us, qps={}", questionCount, medianMicros,
+                1_000_000L / Math.max(medianMicros, 1));
+        }
+    }
+
+    @Test
+    @Tag("measurement")
+    @DisplayName("커넥션 풀보다 많은 회고를 동시에 작성해도 id 할당을 기다리며 멈추지 않는다.")
+    void concurrentWrites() throws Exception {
+        // given
+        // 같은 참여 기록을 동시에 갱신하지 않도록 작성자마다 다른 회고 폼에 쓴다.
+        int poolSize = ((HikariDataSource)sourceDataSource).getMaximumPoolSize();
+        int writerCount = poolSize * 2;
+        int questionCount = QUESTION_COUNTS[QUESTION_COUNTS.length - 1];
+        List<Callable<List<Long>>> writers = IntStream.range(0, writerCount)
+            .mapToObj(i -> saveReviewForm(questionCount))
+            .map(reviewForm -> (Callable<List<Long>>)() -> {
+                ReviewCreateRequest request = createRequest(reviewForm);
+                return IntStream.range(0, REPEAT)
+                    .mapToObj(j -> save(reviewForm, request))
+                    .collect(Collectors.toUnmodifiableList());
+            })
+            .collect(Collectors.toUnmodifiableList());
+        ExecutorService executor = Executors.newFixedThreadPool(writerCount);
+
+        // when
+        long start = System.nanoTime();
+        List<Future<List<Long>>> results = executor.invokeAll(writers, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdownNow();
+
+        int reviewCount = writerCount * REPEAT;
+        log.info("writers={}, poolSize={}, reviews={}, elapsed={}ms, qps={}", writerCount, poolSize, reviewCount,
+            elapsedMillis, reviewCount * 1000L / Math.max(elapsedMillis, 1));
+
+        // then
+        assertThat(results).noneMatch(Future::isCancelled);
+        List<Long> reviewIds = new ArrayList<>();
+        for (Future<List<Long>> result : results) {
+            reviewIds.addAll(result.get());
+        }
+        assertThat(reviewIds).hasSize(reviewCount).doesNotHaveDuplicates();
+    }
+
+    private ReviewForm saveReviewForm(int questionCount) {
+        List<ReviewFormQuestionCreateDto> questions = IntStream.range(0, questionCount)
+            .mapToObj(i -> new ReviewFormQuestionCreateDto("question" + i, "description" + i))
+            .collect(Collectors.toUnmodifiableList());
+
+        return reviewFormRepository.save(new ReviewForm(member1, "title", questions));
+    }
+
+    private ReviewCreateRequest createRequest(ReviewForm reviewForm) {
+        List<ReviewContentCreateRequest> contents = reviewForm.getQuestions().stream()
+            .map(question -> new ReviewContentCreateRequest(question.getId(), new AnswerCreateRequest("answer")))
+            .collect(Collectors.toUnmodifiableList());
+
+        return new ReviewCreateRequest(false, "title", contents);
+    }
+
+    private long save(ReviewForm reviewForm, ReviewCreateRequest request) {
+        return reviewService.save(memberId1, reviewForm.getCode(), request);
+    }
+
+    private long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,121 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.review.domain.ReviewForm;
+import com.reviewduck.review.dto.controller.request.AnswerCreateRequest;
+import com.reviewduck.review.dto.controller.request.AnswerUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewContentUpdateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewCreateRequest;
+import com.reviewduck.review.dto.controller.request.ReviewUpdateRequest;
+import com.reviewduck.review.dto.service.ReviewFormQuestionCreateDto;
+import com.reviewduck.review.repository.ReviewFormRepository;
+
+/**
+ * 회고 작성, 수정에서 실행되는 SQL 개수가 질문 개수와 무관하게 일정한지 확인한다.
+ * 질문 조회는 회고 폼의 질문 목록을 한 번에 불러오고, 답변 insert, update 는 JDBC 배치로 묶인다.
+ */
+public class ReviewWriteQueryCountTest extends ServiceTest {
+
+    private static final int SMALL_QUESTION_COUNT = 2;
+    private static final int LARGE_QUESTION_COUNT = 15;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewFormRepository reviewFormRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private ReviewForm smallReviewForm;
+    private ReviewForm largeReviewForm;
+
+    @BeforeEach
+    void setUpReviewForms() {
+        smallReviewForm = saveReviewForm(SMALL_QUESTION_COUNT);
+        largeReviewForm = saveReviewForm(LARGE_QUESTION_COUNT);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("회고를 작성할 때 질문 개수와 무관하게 일정한 개수의 쿼리만 실행한다.")
+    void save() {
+        // when
+        long smallFormQueryCount = countQueries(() -> saveReview(smallReviewForm));
+        long largeFormQueryCount = countQueries(() -> saveReview(largeReviewForm));
+
+        // then
+        assertThat(largeFormQueryCount).isEqualTo(smallFormQueryCount);
+    }
+
+    @Test
+    @DisplayName("회고를 수정할 때 질문 개수와 무관하게 일정한 개수의 쿼리만 실행한다.")
+    void update() {
+        // given
+        long smallReviewId = saveReview(smallReviewForm);
+        long largeReviewId = saveReview(largeReviewForm);
+
+        // when
+        long smallFormQueryCount = countQueries(() -> updateReview(smallReviewForm, smallReviewId));
+        long largeFormQueryCount = countQueries(() -> updateReview(largeReviewForm, largeReviewId));
+
+        // then
+        assertThat(largeFormQueryCount).isEqualTo(smallFormQueryCount);
+    }
+
+    private long countQueries(Runnable runnable) {
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ReviewForm saveReviewForm(int questionCount) {
+        List<ReviewFormQuestionCreateDto> questions = IntStream.range(0, questionCount)
+            .mapToObj(i -> new ReviewFormQuestionCreateDto("question" + i, "description" + i))
+            .collect(Collectors.toUnmodifiableList());
+
+        return reviewFormRepository.save(new ReviewForm(member1, "title", questions));
+    }
+
+    private long saveReview(ReviewForm reviewForm) {
+        List<ReviewContentCreateRequest> contents = reviewForm.getQuestions().stream()
+            .map(question -> new ReviewContentCreateRequest(question.getId(), new AnswerCreateRequest("answer")))
+            .collect(Collectors.toUnmodifiableList());
+
+        return reviewService.save(memberId1, reviewForm.getCode(), new ReviewCreateRequest(false, "title", contents));
+    }
+
+    private void updateReview(ReviewForm reviewForm, long reviewId) {
+        List<ReviewContentUpdateRequest> contents = reviewForm.getQuestions().stream()
+            .map(question -> new ReviewContentUpdateRequest(question.getId(), new AnswerUpdateRequest("edited")))
+            .collect(Collectors.toUnmodifiableList());
+
+        reviewService.update(memberId1, reviewId, new ReviewUpdateRequest(false, "edited title", contents));
+    }
+}
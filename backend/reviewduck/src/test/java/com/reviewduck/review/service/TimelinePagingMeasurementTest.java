@@ -0,0 +1,186 @@
+package com.reviewduck.review.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.review.domain.Review;
+import com.reviewduck.review.dto.controller.response.ReviewResponse;
+import com.reviewduck.review.repository.ReviewRepository;
+import com.reviewduck.review.vo.ReviewSortType;
+import com.reviewduck.review.vo.TimelineCursor;
+
+/**
+ * offset 기반 조회와 커서 기반 조회가 뒤 페이지에서 MySQL 이 읽는 행 수(Handler_read_*)를 비교한다.
+ * 1000 페이지까지 회고를 채워 두고 두 방식의 조회 시간을 재는 테스트는 measurement 태그로 구분해 기본 테스트에서 뺀다.
+ */
+public class TimelinePagingMeasurementTest extends ServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelinePagingMeasurementTest.class);
+
+    private static final int PAGE_SIZE = 10;
+    private static final int[] PAGES = {1, 10, 100};
+    private static final int[] MEASURED_PAGES = {1, 100, 1000};
+    private static final int REPEAT = 20;
+    private static final String SORT = "latest";
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Test
+    @DisplayName("커서 기반 조회는 offset 기반 조회와 같은 회고를 읽고, 뒤 페이지로 가도 읽는 행 수가 늘지 않는다.")
+    void comparePages() {
+        // given
+        seedReviews(PAGES[PAGES.length - 1]);
+        long[] offsetRows = new long[PAGES.length];
+        long[] cursorRows = new long[PAGES.length];
+        List<List<Long>> offsetIds = new ArrayList<>();
+        List<List<Long>> cursorIds = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < PAGES.length; i++) {
+            int page = PAGES[i];
+            String cursor = cursorOf(page);
+
+            offsetRows[i] = rowsRead(() -> offsetIds.add(ids(
+                reviewService.findAllPublic(page - 1, PAGE_SIZE, SORT, memberId1).getReviews())));
+            cursorRows[i] = rowsRead(() -> cursorIds.add(ids(
+                reviewService.findAllPublicByCursor(cursor, PAGE_SIZE, SORT, memberId1).getReviews())));
+        }
+
+        // then
+        int last = PAGES.length - 1;
+        assertAll(
+            () -> assertThat(cursorIds).isEqualTo(offsetIds),
+            () -> assertThat(cursorIds).allSatisfy(ids -> assertThat(ids).hasSize(PAGE_SIZE)),
+            () -> assertThat(cursorRows[last]).isLessThanOrEqualTo(cursorRows[0] + PAGE_SIZE),
+            () -> assertThat(cursorRows[last]).isLessThan(offsetRows[last])
+        );
+    }
+
+    @Test
+    @Tag("measurement")
+    @DisplayName("1, 100, 1000 페이지를 offset 기반과 커서 기반으로 읽는 시간의 중앙값을 로그로 남긴다.")
+    void measurePages() {
+        seedReviews(MEASURED_PAGES[MEASURED_PAGES.length - 1]);
+
+        for (int page : MEASURED_PAGES) {
+            String cursor = cursorOf(page);
+            long offsetMicros = medianMicros(
+                () -> reviewService.findAllPublic(page - 1, PAGE_SIZE, SORT, memberId1));
+            long cursorMicros = medianMicros(
+                () -> reviewService.findAllPublicByCursor(cursor, PAGE_SIZE, SORT, memberId1));
+            log.info("page={} offset: median={}us / cursor: median={}us", page, offsetMicros, cursorMicros);
+        }
+    }
+
+    private void seedReviews(int lastPage) {
+        int reviewCount = lastPage * PAGE_SIZE;
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        long firstId = reserveReviewIds(reviewCount);
+        jdbcTemplate.batchUpdate("insert into review (id, title, member_id, is_private, likes, created_at, updated_at) "
+                + "values (?, ?, ?, false, 0, ?, ?)",
+            IntStream.range(0, reviewCount)
+                .mapToObj(i -> {
+                    Timestamp time = Timestamp.valueOf(now.minusSeconds(i));
+                    return new Object[] {firstId + i, "title", memberId1, time, time};
+                })
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * 회고 id 는 review_seq 에서 할당하므로, 직접 넣는 회고도 생성기가 줄 id 와 겹치지 않도록 그만큼 미리 받아 둔다.
+     */
+    private long reserveReviewIds(int reviewCount) {
+        Long firstId = new TransactionTemplate(transactionManager).execute(status -> {
+            Long nextVal = jdbcTemplate.queryForObject("select next_val from review_seq for update", Long.class);
+            jdbcTemplate.update("update review_seq set next_val = ?", nextVal + reviewCount);
+            return nextVal;
+        });
+        return firstId == null ? 0 : firstId;
+    }
+
+    /**
+     * page 번째 페이지를 읽기 위한 커서로, 바로 앞 페이지의 마지막 회고를 가리킨다.
+     */
+    private String cursorOf(int page) {
+        if (page == 1) {
+            return null;
+        }
+        Long id = jdbcTemplate.queryForObject("select id from review where is_private = false "
+            + "order by created_at desc, id desc limit 1 offset ?", Long.class, (page - 1) * PAGE_SIZE - 1);
+        Review review = reviewRepository.findById(id).orElseThrow();
+        return TimelineCursor.encode(review, ReviewSortType.LATEST.getSortBy());
+    }
+
+    /**
+     * 조회와 상태 확인이 같은 커넥션에서 실행되도록 하나의 트랜잭션 안에서 세션 상태 값의 차이를 구한다.
+     */
+    private long rowsRead(Runnable query) {
+        Long rows = new TransactionTemplate(transactionManager).execute(status -> {
+            long before = handlerReads();
+            query.run();
+            return handlerReads() - before;
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long handlerReads() {
+        List<Object[]> rows = em.createNativeQuery("show session status like 'Handler_read%'").getResultList();
+        return rows.stream()
+            .mapToLong(row -> Long.parseLong(String.valueOf(row[1])))
+            .sum();
+    }
+
+    private long medianMicros(Supplier<?> query) {
+        long[] elapsed = new long[REPEAT];
+        for (int i = 0; i < REPEAT; i++) {
+            long start = System.nanoTime();
+            query.get();
+            elapsed[i] = (System.nanoTime() - start) / 1000;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[REPEAT / 2];
+    }
+
+    private List<Long> ids(List<ReviewResponse> reviews) {
+        return reviews.stream()
+            .map(ReviewResponse::getId)
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
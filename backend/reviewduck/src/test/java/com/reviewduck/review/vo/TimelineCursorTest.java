@@ -0,0 +1,54 @@
+package com.reviewduck.review.vo;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.reviewduck.review.exception.ReviewException;
+
+class TimelineCursorTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("빈 값을 넘기면 첫 페이지 커서를 반환한다.")
+    void firstCursor(String input) {
+        // when
+        TimelineCursor cursor = TimelineCursor.from(input);
+
+        // then
+        assertAll(
+            () -> assertThat(cursor.getId()).isEqualTo(Long.MAX_VALUE),
+            () -> assertThat(cursor.getTime().getYear()).isEqualTo(9999)
+        );
+    }
+
+    @Test
+    @DisplayName("인코딩된 커서를 시간과 id로 해석한다.")
+    void decode() {
+        // given
+        String cursor = "MjAyMi0xMC0yMFQxMDozOTozMC4wMDEsMTA";
+
+        // when
+        TimelineCursor timelineCursor = TimelineCursor.from(cursor);
+
+        // then
+        assertAll(
+            () -> assertThat(timelineCursor.getTime()).hasToString("2022-10-20T10:39:30.001"),
+            () -> assertThat(timelineCursor.getId()).isEqualTo(10L)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid", "!!!", "MjAyMi0xMC0yMA"})
+    @DisplayName("올바르지 않은 커서는 해석할 수 없다.")
+    void invalidCursor(String input) {
+        assertThatThrownBy(() -> TimelineCursor.from(input))
+            .isInstanceOf(ReviewException.class)
+            .hasMessageContaining("올바르지 않은 커서입니다.");
+    }
+}
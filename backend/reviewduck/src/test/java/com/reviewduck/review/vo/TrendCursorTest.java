@@ -0,0 +1,54 @@
+package com.reviewduck.review.vo;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.reviewduck.review.exception.ReviewException;
+
+class TrendCursorTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("빈 값을 넘기면 첫 페이지 커서를 반환한다.")
+    void firstCursor(String input) {
+        // when
+        TrendCursor cursor = TrendCursor.from(input);
+
+        // then
+        assertAll(
+            () -> assertThat(cursor.getPosition()).isZero(),
+            () -> assertThat(cursor.getId()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("다음 페이지 커서는 지금까지 보여준 회고 수와 마지막 회고 id 로 해석한다.")
+    void next() {
+        // given
+        String cursor = TrendCursor.from(null).next(10, 7L);
+
+        // when
+        TrendCursor nextCursor = TrendCursor.from(TrendCursor.from(cursor).next(5, 3L));
+
+        // then
+        assertAll(
+            () -> assertThat(nextCursor.getPosition()).isEqualTo(15),
+            () -> assertThat(nextCursor.getId()).isEqualTo(3L)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid", "!!!", "LTEsMQ"})
+    @DisplayName("올바르지 않은 커서는 해석할 수 없다.")
+    void invalidCursor(String input) {
+        assertThatThrownBy(() -> TrendCursor.from(input))
+            .isInstanceOf(ReviewException.class)
+            .hasMessageContaining("올바르지 않은 커서입니다.");
+    }
+}
@@ -86,7 +86,8 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
         @DisplayName("존재하지 않는 템플릿을 기반으로 회고 폼을 생성할 수 없다.")
         void invalidId() {
             // when, then
-            post("/api/templates/9999/review-forms", accessToken1).statusCode(HttpStatus.NOT_FOUND.value());
+            post("/api/templates/" + Long.MAX_VALUE + "/review-forms", accessToken1)
+                .statusCode(HttpStatus.NOT_FOUND.value());
         }
 
     }
@@ -236,7 +237,7 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
         @DisplayName("존재하지 않는 템플릿을 조회할 수 없다.")
         void invalidId() {
             // when, then
-            get("/api/templates/" + 9999L, accessToken1).statusCode(HttpStatus.NOT_FOUND.value());
+            get("/api/templates/" + Long.MAX_VALUE, accessToken1).statusCode(HttpStatus.NOT_FOUND.value());
         }
 
     }
@@ -249,13 +250,14 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
         void updateTemplate() {
             // given
             long templateId = saveTemplateAndGetId(accessToken1);
+            List<Long> questionIds = findQuestionIds(templateId, accessToken1);
 
             // when, then
             String newTemplateTitle = "new title";
             String newTemplateDescription = "new test description";
             List<TemplateQuestionUpdateRequest> newQuestions = List.of(
-                new TemplateQuestionUpdateRequest(1L, "new question1", "new description1"),
-                new TemplateQuestionUpdateRequest(2L, "question2", "description2"),
+                new TemplateQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"),
+                new TemplateQuestionUpdateRequest(questionIds.get(1), "question2", "description2"),
                 new TemplateQuestionUpdateRequest(null, "question3", "description3")
             );
             TemplateUpdateRequest updateRequest = new TemplateUpdateRequest(newTemplateTitle, newTemplateDescription,
@@ -269,13 +271,14 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
         void withoutLogin() {
             // given
             long templateId = saveTemplateAndGetId(accessToken1);
+            List<Long> questionIds = findQuestionIds(templateId, accessToken1);
 
             // when, then
             String newTemplateTitle = "new title";
             String newTemplateDescription = "new test description";
             List<TemplateQuestionUpdateRequest> newQuestions = List.of(
-                new TemplateQuestionUpdateRequest(1L, "new question1", "new description1"),
-                new TemplateQuestionUpdateRequest(2L, "question2", "description2"),
+                new TemplateQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"),
+                new TemplateQuestionUpdateRequest(questionIds.get(1), "question2", "description2"),
                 new TemplateQuestionUpdateRequest(null, "question3", "description3")
             );
             TemplateUpdateRequest updateRequest = new TemplateUpdateRequest(newTemplateTitle, newTemplateDescription,
@@ -290,13 +293,14 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
         void notMine() {
             // given
             long templateId = saveTemplateAndGetId(accessToken1);
+            List<Long> questionIds = findQuestionIds(templateId, accessToken1);
 
             // when, then
             String newTemplateTitle = "new title";
             String newTemplateDescription = "new test description";
             List<TemplateQuestionUpdateRequest> newQuestions = List.of(
-                new TemplateQuestionUpdateRequest(1L, "new question1", "new description1"),
-                new TemplateQuestionUpdateRequest(2L, "question2", "description2"),
+                new TemplateQuestionUpdateRequest(questionIds.get(0), "new question1", "new description1"),
+                new TemplateQuestionUpdateRequest(questionIds.get(1), "question2", "description2"),
                 new TemplateQuestionUpdateRequest(null, "question3", "description3")
             );
             TemplateUpdateRequest updateRequest = new TemplateUpdateRequest(newTemplateTitle, newTemplateDescription,
@@ -310,7 +314,8 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
         @DisplayName("존재하지 않는 템플릿을 수정할 수 없다.")
         void invalidId() {
             // when, then
-            put("/api/templates/" + 9999L, new TemplateUpdateRequest("title", "description", List.of()), accessToken1)
+            TemplateUpdateRequest request = new TemplateUpdateRequest("title", "description", List.of());
+            put("/api/templates/" + Long.MAX_VALUE, request, accessToken1)
                 .statusCode(HttpStatus.NOT_FOUND.value());
         }
 
@@ -354,7 +359,7 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
         @DisplayName("존재하지 않는 템플릿을 삭제할 수 없다.")
         void invalidId() {
             // when, then
-            delete("/api/templates/" + 9999L, accessToken1).statusCode(HttpStatus.NOT_FOUND.value());
+            delete("/api/templates/" + Long.MAX_VALUE, accessToken1).statusCode(HttpStatus.NOT_FOUND.value());
         }
     }
 
@@ -374,4 +379,12 @@ public class TemplateAcceptanceTest extends AcceptanceTest {
     private long saveTemplateAndGetId(String accessToken) {
         return saveTemplateAndGetId(accessToken, "title");
     }
+
+    private List<Long> findQuestionIds(long templateId, String accessToken) {
+        return get("/api/templates/" + templateId, accessToken)
+            .extract()
+            .body()
+            .jsonPath()
+            .getList("questions.id", Long.class);
+    }
 }
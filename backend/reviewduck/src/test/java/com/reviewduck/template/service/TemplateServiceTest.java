@@ -10,11 +10,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 
+import com.reviewduck.admin.service.AdminMemberService;
 import com.reviewduck.auth.exception.AuthorizationException;
 import com.reviewduck.common.exception.NotFoundException;
 import com.reviewduck.common.service.ServiceTest;
+import com.reviewduck.config.cache.CacheType;
 import com.reviewduck.member.domain.Member;
+import com.reviewduck.member.service.MemberService;
 import com.reviewduck.template.domain.Template;
 import com.reviewduck.template.domain.TemplateQuestion;
 import com.reviewduck.template.dto.controller.request.TemplateCreateRequest;
@@ -22,8 +26,10 @@ import com.reviewduck.template.dto.controller.request.TemplateQuestionCreateRequ
 import com.reviewduck.template.dto.controller.request.TemplateQuestionUpdateRequest;
 import com.reviewduck.template.dto.controller.request.TemplateUpdateRequest;
 import com.reviewduck.template.dto.controller.response.TemplateInfoResponse;
+import com.reviewduck.template.dto.controller.response.TemplateQuestionResponse;
 import com.reviewduck.template.dto.controller.response.TemplateResponse;
 import com.reviewduck.template.dto.controller.response.TemplateSummaryResponse;
+import com.reviewduck.template.vo.TemplateSortType;
 
 public class TemplateServiceTest extends ServiceTest {
 
@@ -38,6 +44,15 @@ public class TemplateServiceTest extends ServiceTest {
     @Autowired
     private TemplateService templateService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private AdminMemberService adminMemberService;
+
     @Nested
     @DisplayName("템플릿 생성")
     class createTemplate {
@@ -111,11 +126,29 @@ public class TemplateServiceTest extends ServiceTest {
             );
         }
 
+        @Test
+        @DisplayName("캐싱된 템플릿을 조회해도 작성자 여부는 조회하는 사용자에 따라 판단한다.")
+        void findCachedTemplateByOtherMember() throws InterruptedException {
+            // given
+            long templateId = saveTemplate(member1, "title", "description", questions1).getInfo().getId();
+
+            // when
+            TemplateResponse creatorResponse = templateService.find(templateId, memberId1);
+            TemplateResponse otherResponse = templateService.find(templateId, memberId2);
+
+            // then
+            assertAll(
+                () -> assertThat(creatorResponse.getIsCreator()).isTrue(),
+                () -> assertThat(otherResponse.getIsCreator()).isFalse(),
+                () -> assertThat(otherResponse.getInfo().getTitle()).isEqualTo("title")
+            );
+        }
+
         @Test
         @DisplayName("존재하지 않는 템플릿을 조회할 수 없다.")
         void findTemplateWithInvalidId() {
             // when, then
-            assertThatThrownBy(() -> templateService.find(9999L, memberId1))
+            assertThatThrownBy(() -> templateService.find(Long.MAX_VALUE, memberId1))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 템플릿입니다.");
         }
@@ -178,6 +211,116 @@ public class TemplateServiceTest extends ServiceTest {
                 () -> assertThat(firstTemplate.getTitle()).isEqualTo(template2.getTitle())
             );
         }
+
+        @Test
+        @DisplayName("템플릿을 생성하면 캐싱된 최신순 목록을 비우지 않고 맨 앞에 추가한다.")
+        void findAllAfterSave() throws InterruptedException {
+            // given
+            saveTemplate(member1, "title1", "description1", questions1);
+            templateService.findAll(0, 10, "latest", memberId1);
+
+            // when
+            long templateId = saveTemplate(member2, "title2", "description2", questions2).getInfo().getId();
+            List<Long> cachedIds = getCachedIds(TemplateSortType.LATEST);
+            List<TemplateSummaryResponse> templates = templateService.findAll(0, 10, "latest", memberId1)
+                .getTemplates();
+
+            // then
+            assertAll(
+                () -> assertThat(cachedIds).hasSize(2),
+                () -> assertThat(cachedIds.get(0)).isEqualTo(templateId),
+                () -> assertThat(templates.get(0).getInfo().getId()).isEqualTo(templateId),
+                () -> assertThat(templates.get(0).getIsCreator()).isFalse(),
+                () -> assertThat(templates.get(1).getIsCreator()).isTrue()
+            );
+        }
+
+        @Test
+        @DisplayName("작성자가 닉네임을 바꾸면 캐싱된 템플릿 목록과 템플릿에도 바뀐 닉네임이 보인다.")
+        void findAllAfterNicknameUpdated() throws InterruptedException {
+            // given
+            long templateId = saveTemplate(member1, "title", "description", questions1).getInfo().getId();
+            templateService.findAll(0, 10, "latest", memberId2);
+
+            // when
+            memberService.updateNickname(memberId1, "creator");
+            List<TemplateSummaryResponse> templates = templateService.findAll(0, 10, "latest", memberId2)
+                .getTemplates();
+            TemplateResponse template = templateService.find(templateId, memberId2);
+
+            // then
+            assertAll(
+                () -> assertThat(templates.get(0).getCreator().getNickname()).isEqualTo("creator"),
+                () -> assertThat(template.getCreator().getNickname()).isEqualTo("creator")
+            );
+        }
+
+        @Test
+        @DisplayName("관리자가 작성자를 삭제하면 캐싱된 템플릿 목록과 템플릿에도 삭제된 사용자로 보인다.")
+        void findAllAfterCreatorDeleted() throws InterruptedException {
+            // given
+            long templateId = saveTemplate(member1, "title", "description", questions1).getInfo().getId();
+            templateService.findAll(0, 10, "latest", memberId2);
+            templateService.find(templateId, memberId2);
+
+            // when
+            adminMemberService.deleteMember(memberId1);
+            List<TemplateSummaryResponse> templates = templateService.findAll(0, 10, "latest", memberId2)
+                .getTemplates();
+            TemplateResponse template = templateService.find(templateId, memberId2);
+
+            // then
+            assertAll(
+                () -> assertThat(templates.get(0).getCreator().getNickname()).isEqualTo("탈퇴한 회원입니다."),
+                () -> assertThat(template.getCreator().getNickname()).isEqualTo("탈퇴한 회원입니다.")
+            );
+        }
+
+        @Test
+        @DisplayName("템플릿을 삭제하면 캐싱된 목록에서 제거한다.")
+        void findAllAfterDelete() throws InterruptedException {
+            // given
+            long templateId = saveTemplate(member1, "title1", "description1", questions1).getInfo().getId();
+            saveTemplate(member1, "title2", "description2", questions2);
+            templateService.findAll(0, 10, "trend", memberId1);
+
+            // when
+            templateService.delete(memberId1, templateId);
+            List<TemplateSummaryResponse> templates = templateService.findAll(0, 10, "trend", memberId1)
+                .getTemplates();
+
+            // then
+            assertAll(
+                () -> assertThat(getCachedIds(TemplateSortType.TREND)).doesNotContain(templateId),
+                () -> assertThat(templates).hasSize(1),
+                () -> assertThat(templates.get(0).getInfo().getTitle()).isEqualTo("title2")
+            );
+        }
+
+        @Test
+        @DisplayName("템플릿이 사용되면 인기순 목록을 다시 불러온다.")
+        void findAllAfterUsed() throws InterruptedException {
+            // given
+            saveTemplate(member1, "title1", "description1", questions1);
+            long templateId = saveTemplate(member1, "title2", "description2", questions2).getInfo().getId();
+            templateService.findAll(0, 10, "trend", memberId1);
+
+            // when
+            templateService.createReviewFormByTemplate(memberId1, templateId);
+            TemplateInfoResponse firstTemplate = templateService.findAll(0, 10, "trend", memberId1)
+                .getTemplates().get(0).getInfo();
+
+            // then
+            assertAll(
+                () -> assertThat(firstTemplate.getId()).isEqualTo(templateId),
+                () -> assertThat(firstTemplate.getUsedCount()).isEqualTo(1)
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Long> getCachedIds(TemplateSortType sortType) {
+            return cacheManager.getCache(CacheType.TemplatesCache.getCacheName()).get(sortType, List.class);
+        }
     }
 
     @Nested
@@ -223,13 +366,14 @@ public class TemplateServiceTest extends ServiceTest {
             String templateTitle = "title";
             String templateDescription = "description";
 
-            long templateId = saveTemplate(member1, templateTitle, templateDescription, questions1).getInfo()
-                .getId();
+            TemplateResponse savedTemplate = saveTemplate(member1, templateTitle, templateDescription, questions1);
+            long templateId = savedTemplate.getInfo().getId();
+            List<TemplateQuestionResponse> savedQuestions = savedTemplate.getQuestions();
 
             // when
             List<TemplateQuestionUpdateRequest> newQuestions = List.of(
-                new TemplateQuestionUpdateRequest(1L, "new question1", "new description1"),
-                new TemplateQuestionUpdateRequest(2L, "question2", "description2"),
+                new TemplateQuestionUpdateRequest(savedQuestions.get(0).getId(), "new question1", "new description1"),
+                new TemplateQuestionUpdateRequest(savedQuestions.get(1).getId(), "question2", "description2"),
                 new TemplateQuestionUpdateRequest(null, "question3", "description3"));
 
             templateService.update(memberId1, templateId,
@@ -270,13 +414,14 @@ public class TemplateServiceTest extends ServiceTest {
             String templateTitle = "title";
             String templateDescription = "description";
 
-            long templateId = saveTemplate(member1, templateTitle, templateDescription, questions1).getInfo()
-                .getId();
+            TemplateResponse savedTemplate = saveTemplate(member1, templateTitle, templateDescription, questions1);
+            long templateId = savedTemplate.getInfo().getId();
+            List<TemplateQuestionResponse> savedQuestions = savedTemplate.getQuestions();
 
             // when
             List<TemplateQuestionUpdateRequest> newQuestions = List.of(
-                new TemplateQuestionUpdateRequest(1L, "new question1", "new description1"),
-                new TemplateQuestionUpdateRequest(2L, "question2", "description2"),
+                new TemplateQuestionUpdateRequest(savedQuestions.get(0).getId(), "new question1", "new description1"),
+                new TemplateQuestionUpdateRequest(savedQuestions.get(1).getId(), "question2", "description2"),
                 new TemplateQuestionUpdateRequest(null, "question3", "description3"));
             TemplateUpdateRequest updateRequest = new TemplateUpdateRequest("new title", "new description",
                 newQuestions);
@@ -293,7 +438,7 @@ public class TemplateServiceTest extends ServiceTest {
             // given
             TemplateUpdateRequest request = new TemplateUpdateRequest("title", "description", List.of());
             // when, then
-            assertThatThrownBy(() -> templateService.update(memberId1, 9999L, request))
+            assertThatThrownBy(() -> templateService.update(memberId1, Long.MAX_VALUE, request))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 템플릿입니다.");
         }
@@ -344,7 +489,7 @@ public class TemplateServiceTest extends ServiceTest {
         @DisplayName("존재하지 않는 템플릿을 삭제할 수 없다.")
         void invalidId() {
             // when, then
-            assertThatThrownBy(() -> templateService.delete(memberId1, 9999L))
+            assertThatThrownBy(() -> templateService.delete(memberId1, Long.MAX_VALUE))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("존재하지 않는 템플릿입니다.");
         }
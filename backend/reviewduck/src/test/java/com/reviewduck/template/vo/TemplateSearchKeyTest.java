@@ -0,0 +1,42 @@
+package com.reviewduck.template.vo;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TemplateSearchKeyTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"회고 템플릿:회고", "회고:주간 회고", "Spring Boot:spring 회고", "스프린트회고:프린트"},
+        delimiter = ':')
+    @DisplayName("검색어와 제목이 두 글자 토큰을 하나라도 공유하면 검색될 수 있다.")
+    void mayMatch(String query, String title) {
+        assertThat(TemplateSearchKey.mayMatch(query, title)).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"회고 템플릿:스프링", "kpt:keep problem try"}, delimiter = ':')
+    @DisplayName("검색어와 제목이 공유하는 토큰이 없으면 검색되지 않는다.")
+    void mayNotMatch(String query, String title) {
+        assertThat(TemplateSearchKey.mayMatch(query, title)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰을 만들 수 없는 검색어는 검색될 수 있다고 본다.")
+    void mayMatchWithoutTokens() {
+        assertThat(TemplateSearchKey.mayMatch("회", "스프링")).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시 키에서 검색어를 꺼낸다.")
+    void queryOf() {
+        // given
+        String cacheKey = TemplateSearchKey.of("회고,query=템플릿", 1, 10).toString();
+
+        // when, then
+        assertThat(TemplateSearchKey.queryOf(cacheKey)).hasValue("회고,query=템플릿");
+    }
+}
@@ -15,6 +15,7 @@ truncate table answer;
 alter table answer AUTO_INCREMENT = 1;
 truncate table question_answer;
 alter table question_answer AUTO_INCREMENT = 1;
+truncate table review_form_participant;
 truncate table member;
 alter table member AUTO_INCREMENT = 1;
 